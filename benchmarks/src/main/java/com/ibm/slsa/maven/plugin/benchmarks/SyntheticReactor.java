@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * A reactor of modules whose dependencies are drawn from a shared pool of third-party libraries, so that modules have
+ * dependencies in common as they do in real multi-module builds. Every module except the first also depends on the module
+ * before it. The same arguments always produce the same reactor.
+ */
+public class SyntheticReactor {
+
+    private static final String GROUP_ID = "com.example.reactor";
+    private static final String VERSION = "1.0-SNAPSHOT";
+
+    private final List<MavenProject> projects;
+    private final MavenSession mavenSession;
+
+    /**
+     * @param modules The number of modules of the reactor.
+     * @param dependenciesPerModule The number of third-party dependencies of each module, including transitive dependencies.
+     * @param libraries The number of distinct third-party libraries the dependencies are drawn from.
+     * @param resolved Whether the dependencies are resolved artifacts, as after dependency resolution, or only declared.
+     */
+    public SyntheticReactor(int modules, int dependenciesPerModule, int libraries, boolean resolved) {
+        Random random = new Random(modules * 31L + dependenciesPerModule);
+        List<MavenProject> reactor = new ArrayList<>(modules);
+        for (int i = 0; i < modules; i++) {
+            Set<Integer> picked = new LinkedHashSet<>();
+            while (picked.size() < Math.min(dependenciesPerModule, libraries)) {
+                picked.add(random.nextInt(libraries));
+            }
+            reactor.add(createProject(i, picked, resolved));
+        }
+        this.projects = Collections.unmodifiableList(reactor);
+        this.mavenSession = createSession(projects);
+    }
+
+    public List<MavenProject> getProjects() {
+        return projects;
+    }
+
+    public MavenSession getMavenSession() {
+        return mavenSession;
+    }
+
+    private static MavenProject createProject(int index, Set<Integer> libraries, boolean resolved) {
+        Model model = new Model();
+        model.setGroupId(GROUP_ID);
+        model.setArtifactId("module-" + index);
+        model.setVersion(VERSION);
+        model.setPackaging("jar");
+        MavenProject project = new MavenProject(model);
+        project.setArtifact(new DefaultArtifact(GROUP_ID, "module-" + index, VERSION, "compile", "jar", null, new DefaultArtifactHandler("jar")));
+
+        List<Dependency> dependencies = new ArrayList<>();
+        if (index > 0) {
+            dependencies.add(createDependency(GROUP_ID, "module-" + (index - 1), VERSION, "compile"));
+        }
+        for (int library : libraries) {
+            // A few test dependencies, which are not recorded in the provenance
+            String scope = library % 10 == 0 ? "test" : "compile";
+            dependencies.add(createDependency("com.example.library" + (library % 25), "library-" + library, "2." + (library % 7) + ".0", scope));
+        }
+        if (resolved) {
+            Set<Artifact> artifacts = new LinkedHashSet<>();
+            for (Dependency dependency : dependencies) {
+                artifacts.add(new DefaultArtifact(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), dependency.getScope(), dependency.getType(), null,
+                        new DefaultArtifactHandler(dependency.getType())));
+            }
+            project.setArtifacts(artifacts);
+        } else {
+            model.setDependencies(dependencies);
+        }
+        return project;
+    }
+
+    private static Dependency createDependency(String groupId, String artifactId, String version, String scope) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(groupId);
+        dependency.setArtifactId(artifactId);
+        dependency.setVersion(version);
+        dependency.setType("jar");
+        dependency.setScope(scope);
+        return dependency;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static MavenSession createSession(final List<MavenProject> projects) {
+        MavenSession mavenSession = new MavenSession(null, null, new DefaultMavenExecutionRequest(), new DefaultMavenExecutionResult());
+        mavenSession.setProjectDependencyGraph(new ProjectDependencyGraph() {
+
+            @Override
+            public List<MavenProject> getAllProjects() {
+                return projects;
+            }
+
+            @Override
+            public List<MavenProject> getSortedProjects() {
+                return projects;
+            }
+
+            @Override
+            public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<MavenProject> getUpstreamProjects(MavenProject project, boolean transitive) {
+                return Collections.emptyList();
+            }
+        });
+        return mavenSession;
+    }
+
+}
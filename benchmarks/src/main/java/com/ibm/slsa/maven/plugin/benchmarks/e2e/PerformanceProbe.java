@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.benchmarks.e2e;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.apache.maven.eventspy.AbstractEventSpy;
+import org.apache.maven.execution.ExecutionEvent;
+
+/**
+ * A Maven core extension, loaded with {@code -Dmaven.ext.class.path}, that records the resources used by the Maven process it
+ * runs in and writes them to the file named by the {@value #OUTPUT_PROPERTY} system property when Maven exits. It depends only
+ * on Maven and the JDK, so that it can be loaded without the rest of the benchmarks.
+ */
+@Named
+@Singleton
+public class PerformanceProbe extends AbstractEventSpy {
+
+    public static final String OUTPUT_PROPERTY = "slsa.perf.probeOutput";
+
+    public static final String KEY_BUILD_MILLIS = "buildMillis";
+    public static final String KEY_PEAK_HEAP_BYTES = "peakHeapBytes";
+    public static final String KEY_BYTES_READ = "bytesRead";
+    public static final String KEY_STORAGE_BYTES_READ = "storageBytesRead";
+
+    private long sessionStarted;
+    private long sessionEnded;
+
+    @Override
+    public void init(Context context) {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+    }
+
+    @Override
+    public void onEvent(Object event) {
+        if (!(event instanceof ExecutionEvent)) {
+            return;
+        }
+        ExecutionEvent.Type type = ((ExecutionEvent) event).getType();
+        if (type == ExecutionEvent.Type.SessionStarted) {
+            sessionStarted = System.nanoTime();
+        } else if (type == ExecutionEvent.Type.SessionEnded) {
+            sessionEnded = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        String output = System.getProperty(OUTPUT_PROPERTY);
+        if (output == null) {
+            return;
+        }
+        Properties results = new Properties();
+        results.setProperty(KEY_BUILD_MILLIS, Long.toString(sessionEnded > sessionStarted ? (sessionEnded - sessionStarted) / 1000000 : -1));
+        results.setProperty(KEY_PEAK_HEAP_BYTES, Long.toString(getPeakHeapBytes()));
+        // The process I/O counters are only available on Linux
+        Path io = Paths.get("/proc/self/io");
+        Properties counters = new Properties();
+        if (Files.isReadable(io)) {
+            for (String line : Files.readAllLines(io, StandardCharsets.US_ASCII)) {
+                int separator = line.indexOf(':');
+                if (separator > 0) {
+                    counters.setProperty(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+                }
+            }
+        }
+        // rchar counts every byte read, including from the page cache; read_bytes only those fetched from storage
+        results.setProperty(KEY_BYTES_READ, counters.getProperty("rchar", "-1"));
+        results.setProperty(KEY_STORAGE_BYTES_READ, counters.getProperty("read_bytes", "-1"));
+        try (OutputStream out = Files.newOutputStream(Paths.get(output))) {
+            results.store(out, null);
+        }
+    }
+
+    /**
+     * Returns the sum of the peak usage of the heap memory pools. The pools do not all peak at the same time, so this is an upper
+     * bound of the peak heap usage, but it is stable enough to compare runs with the same JVM options.
+     */
+    private static long getPeakHeapBytes() {
+        long peak = 0;
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+        for (MemoryPoolMXBean pool : pools) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+}
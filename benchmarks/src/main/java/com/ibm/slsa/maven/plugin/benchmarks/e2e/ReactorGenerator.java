@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.benchmarks.e2e;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.StoredConfig;
+
+/**
+ * Writes the synthetic reactor of a scenario as it is after the package phase: a committed Git repository with an aggregator
+ * POM and one jar module per module of the scenario, each with its packaged artifact in its build directory, and a local
+ * repository with the third-party libraries the modules depend on and the POMs of the modules.
+ * <p>
+ * The artifacts are sparse files, so that the gigabyte scenarios need little disk space. Their content does not affect the
+ * time it takes to digest them.
+ */
+public class ReactorGenerator {
+
+    static final String GROUP_ID = "com.example.slsa.perf";
+    static final String LIBRARY_GROUP_ID = GROUP_ID + ".library";
+    static final String VERSION = "1.0";
+
+    private static final int LIBRARIES = 500;
+    private static final int LIBRARY_SIZE = 16 * 1024;
+
+    /**
+     * Generates the reactor in the directory and its libraries in the local repository.
+     */
+    public void generate(Scenario scenario, Path reactorDirectory, Path localRepository) throws IOException, GitAPIException {
+        Files.createDirectories(reactorDirectory);
+        StringBuilder modules = new StringBuilder();
+        for (int i = 0; i < scenario.getModules(); i++) {
+            modules.append("        <module>").append(getModuleName(i)).append("</module>\n");
+            generateModule(scenario, i, reactorDirectory.resolve(getModuleName(i)), localRepository);
+        }
+        write(reactorDirectory.resolve("pom.xml"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "    <modelVersion>4.0.0</modelVersion>\n"
+                + "    <groupId>" + GROUP_ID + "</groupId>\n"
+                + "    <artifactId>" + scenario.getName() + "</artifactId>\n"
+                + "    <version>" + VERSION + "</version>\n"
+                + "    <packaging>pom</packaging>\n"
+                + "    <modules>\n" + modules
+                + "    </modules>\n"
+                + "</project>\n");
+        write(reactorDirectory.resolve(".gitignore"), "target/\n");
+        for (int i = 0; i < LIBRARIES; i++) {
+            generateLibrary(localRepository, i);
+        }
+        commit(reactorDirectory);
+    }
+
+    static String getModuleName(int module) {
+        return String.format("module-%05d", module);
+    }
+
+    private void generateModule(Scenario scenario, int module, Path moduleDirectory, Path localRepository) throws IOException {
+        StringBuilder dependencies = new StringBuilder();
+        // Each module depends on the module before it, except the first module of each chain
+        if (module % scenario.getDependencyDepth() != 0) {
+            appendDependency(dependencies, GROUP_ID, getModuleName(module - 1));
+        }
+        for (int i = 0; i < scenario.getLibrariesPerModule(); i++) {
+            appendDependency(dependencies, LIBRARY_GROUP_ID, getLibraryName((module * 7 + i * 13) % LIBRARIES));
+        }
+        String artifactId = getModuleName(module);
+        String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "    <modelVersion>4.0.0</modelVersion>\n"
+                + "    <groupId>" + GROUP_ID + "</groupId>\n"
+                + "    <artifactId>" + artifactId + "</artifactId>\n"
+                + "    <version>" + VERSION + "</version>\n"
+                + "    <packaging>jar</packaging>\n"
+                + "    <dependencies>\n" + dependencies
+                + "    </dependencies>\n"
+                + "</project>\n";
+        write(moduleDirectory.resolve("pom.xml"), pom);
+        Path buildDirectory = Files.createDirectories(moduleDirectory.resolve("target"));
+        try (RandomAccessFile artifact = new RandomAccessFile(buildDirectory.resolve(artifactId + "-" + VERSION + ".jar").toFile(), "rw")) {
+            artifact.setLength(scenario.getArtifactSize(module));
+        }
+        // When only the goal runs, Maven resolves the modules other modules depend on from the local repository, as they were
+        // installed by an earlier build. Their content is not read.
+        Path installed = localRepository.resolve(GROUP_ID.replace('.', '/')).resolve(artifactId).resolve(VERSION);
+        write(installed.resolve(artifactId + "-" + VERSION + ".pom"), pom);
+        write(installed.resolve(artifactId + "-" + VERSION + ".jar"), "");
+    }
+
+    private void appendDependency(StringBuilder dependencies, String groupId, String artifactId) {
+        dependencies.append("        <dependency>\n")
+                .append("            <groupId>").append(groupId).append("</groupId>\n")
+                .append("            <artifactId>").append(artifactId).append("</artifactId>\n")
+                .append("            <version>").append(VERSION).append("</version>\n")
+                .append("        </dependency>\n");
+    }
+
+    private static String getLibraryName(int library) {
+        return String.format("library-%03d", library);
+    }
+
+    private void generateLibrary(Path localRepository, int library) throws IOException {
+        String artifactId = getLibraryName(library);
+        Path directory = localRepository.resolve(LIBRARY_GROUP_ID.replace('.', '/')).resolve(artifactId).resolve(VERSION);
+        Path jar = directory.resolve(artifactId + "-" + VERSION + ".jar");
+        if (Files.exists(jar)) {
+            return;
+        }
+        write(directory.resolve(artifactId + "-" + VERSION + ".pom"), "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "    <modelVersion>4.0.0</modelVersion>\n"
+                + "    <groupId>" + LIBRARY_GROUP_ID + "</groupId>\n"
+                + "    <artifactId>" + artifactId + "</artifactId>\n"
+                + "    <version>" + VERSION + "</version>\n"
+                + "</project>\n");
+        byte[] content = new byte[LIBRARY_SIZE];
+        new Random(library).nextBytes(content);
+        Files.write(jar, content);
+    }
+
+    private void commit(Path reactorDirectory) throws IOException, GitAPIException {
+        try (Git git = Git.init().setDirectory(reactorDirectory.toFile()).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", ConfigConstants.CONFIG_KEY_URL, "https://github.com/example/" + reactorDirectory.getFileName() + ".git");
+            config.save();
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Synthetic reactor").setAuthor("Benchmark", "benchmark@example.com").setCommitter("Benchmark", "benchmark@example.com").setSign(false).call();
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
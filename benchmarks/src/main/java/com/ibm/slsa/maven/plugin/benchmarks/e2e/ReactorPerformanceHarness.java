@@ -0,0 +1,475 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.benchmarks.e2e;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Runs the goal on the synthetic reactor of each scenario in a separate Maven process, records the wall time, the peak heap
+ * and the bytes read by the process, and the bytes hashed by the plugin according to its metrics reports, writes them to a
+ * JSON report, and compares them against thresholds. Exits with status 1 if a build fails or a threshold is exceeded.
+ *
+ * <pre>
+ * java -cp benchmarks.jar com.ibm.slsa.maven.plugin.benchmarks.e2e.ReactorPerformanceHarness [options]
+ *
+ *   --scenarios &lt;names&gt;        comma separated scenarios to run (default: all)
+ *   --work-dir &lt;dir&gt;            where the reactors are generated (default: target/e2e)
+ *   --report &lt;file&gt;             the JSON report (default: &lt;work-dir&gt;/report.json)
+ *   --thresholds &lt;file&gt;         thresholds that replace the defaults of the same name
+ *   --maven &lt;executable&gt;        the mvn executable (default: $MAVEN_HOME/bin/mvn, or mvn on the PATH)
+ *   --local-repository &lt;dir&gt;    the local repository with the plugin (default: ~/.m2/repository)
+ *   --goal &lt;goal&gt;               the goal to run (default: generate-provenance of the benchmarked plugin version)
+ *   --threads &lt;count&gt;           passed to Maven as -T
+ *   --maven-opts &lt;options&gt;      the JVM options of Maven (default: -Xmx4g, so that the peak heap of runs is comparable)
+ *   --calibrate &lt;file&gt;          writes the measured metrics, times the margin, as thresholds instead of checking them
+ *   --calibration-margin &lt;n&gt;    the factor applied to the measured metrics when calibrating (default: 1.5)
+ * </pre>
+ */
+public class ReactorPerformanceHarness {
+
+    static final String METRIC_WALL_TIME_MILLIS = "wallTimeMillis";
+    static final String METRIC_BUILD_MILLIS = "buildMillis";
+    static final String METRIC_PEAK_HEAP_BYTES = "peakHeapBytes";
+    static final String METRIC_BYTES_READ = "bytesRead";
+    static final String METRIC_STORAGE_BYTES_READ = "storageBytesRead";
+    static final String METRIC_BYTES_HASHED = "bytesHashed";
+    static final String METRIC_READ_AMPLIFICATION = "readAmplification";
+
+    /** The metrics that are written as thresholds when calibrating. */
+    static final List<String> CALIBRATED_METRICS = Collections.unmodifiableList(Arrays.asList(METRIC_WALL_TIME_MILLIS, METRIC_PEAK_HEAP_BYTES,
+            METRIC_READ_AMPLIFICATION));
+
+    private static final String PROBE_JAR = "performance-probe.jar";
+
+    /**
+     * The metrics report of the plugin, relative to the execution root when aggregating and to each module otherwise.
+     */
+    static final String METRICS_REPORT = "target/slsa-metrics.json";
+
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private Path workDirectory = Paths.get("target", "e2e");
+    private Path report;
+    private Path thresholdsFile;
+    private String maven;
+    private Path localRepository = Paths.get(System.getProperty("user.home"), ".m2", "repository");
+    private String goal;
+    private String threads;
+    private String mavenOpts = "-Xmx4g";
+    private Path calibrationFile;
+    private double calibrationMargin = 1.5;
+
+    public static void main(String[] args) throws Exception {
+        ReactorPerformanceHarness harness = new ReactorPerformanceHarness();
+        try {
+            harness.parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+        System.exit(harness.run() ? 0 : 1);
+    }
+
+    void parseArguments(String[] args) throws IOException {
+        for (int i = 0; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("The option " + args[i] + " needs a value.");
+            }
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--scenarios":
+                    for (String name : value.split(",")) {
+                        scenarios.add(Scenario.fromName(name));
+                    }
+                    break;
+                case "--work-dir":
+                    workDirectory = Paths.get(value);
+                    break;
+                case "--report":
+                    report = Paths.get(value);
+                    break;
+                case "--thresholds":
+                    thresholdsFile = Paths.get(value);
+                    break;
+                case "--maven":
+                    maven = value;
+                    break;
+                case "--local-repository":
+                    localRepository = Paths.get(value);
+                    break;
+                case "--goal":
+                    goal = value;
+                    break;
+                case "--threads":
+                    threads = value;
+                    break;
+                case "--maven-opts":
+                    mavenOpts = value;
+                    break;
+                case "--calibrate":
+                    calibrationFile = Paths.get(value);
+                    break;
+                case "--calibration-margin":
+                    try {
+                        calibrationMargin = Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The calibration margin " + value + " is not a number.");
+                    }
+                    if (!(calibrationMargin >= 1)) {
+                        throw new IllegalArgumentException("The calibration margin must be at least 1.");
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i - 1] + ".");
+            }
+        }
+        if (scenarios.isEmpty()) {
+            scenarios.addAll(Scenario.DEFAULTS);
+        }
+        if (report == null) {
+            report = workDirectory.resolve("report.json");
+        }
+        if (maven == null) {
+            maven = getDefaultMaven();
+        }
+        if (goal == null) {
+            goal = loadResource("/e2e.properties").getProperty("plugin.goal");
+        }
+    }
+
+    /**
+     * Runs every scenario and writes the report.
+     *
+     * @return {@code true} if every build succeeded within its thresholds.
+     */
+    boolean run() throws Exception {
+        Files.createDirectories(workDirectory);
+        Properties thresholds = loadThresholds();
+        Path probe = writeProbeJar(workDirectory.resolve(PROBE_JAR));
+        List<Result> results = new ArrayList<>();
+        boolean passed = true;
+        for (Scenario scenario : scenarios) {
+            System.out.println("Generating the reactor of the " + scenario.getName() + " scenario.");
+            Path reactor = workDirectory.resolve(scenario.getName());
+            Path libraries = workDirectory.resolve(scenario.getName() + "-repository");
+            deleteRecursively(reactor);
+            deleteRecursively(libraries);
+            new ReactorGenerator().generate(scenario, reactor, libraries);
+            System.out.println("Running " + goal + " on the " + scenario.getName() + " scenario.");
+            Result result = runMaven(scenario, reactor, libraries, probe);
+            if (calibrationFile == null) {
+                result.checkThresholds(thresholds);
+            }
+            for (String violation : result.violations) {
+                System.out.println("  " + violation);
+            }
+            System.out.println("  " + result.metrics);
+            passed &= result.exitCode == 0 && result.violations.isEmpty();
+            results.add(result);
+        }
+        writeReport(results, passed);
+        if (calibrationFile != null && passed) {
+            writeCalibratedThresholds(results);
+            System.out.println("The calibrated thresholds were written to " + calibrationFile + ".");
+        }
+        System.out.println((passed ? "Passed" : "Failed") + ". The report was written to " + report + ".");
+        return passed;
+    }
+
+    private Result runMaven(Scenario scenario, Path reactor, Path libraries, Path probe) throws IOException, InterruptedException {
+        Path probeOutput = workDirectory.resolve(scenario.getName() + "-probe.properties");
+        Files.deleteIfExists(probeOutput);
+        List<String> command = new ArrayList<>();
+        command.add(maven);
+        command.add("-B");
+        command.add("-o");
+        command.add("-f");
+        command.add(reactor.resolve("pom.xml").toString());
+        // The generated repository is searched first, and the plugin is found in the tail
+        command.add("-Dmaven.repo.local=" + libraries.toAbsolutePath());
+        command.add("-Dmaven.repo.local.tail=" + localRepository.toAbsolutePath());
+        command.add("-Dmaven.ext.class.path=" + probe.toAbsolutePath());
+        command.add("-D" + PerformanceProbe.OUTPUT_PROPERTY + "=" + probeOutput.toAbsolutePath());
+        command.add("-DbuilderId=https://example.com/slsa-perf");
+        command.add("-Daggregate=" + scenario.isAggregate());
+        command.add("-DmetricsReportFile=" + METRICS_REPORT);
+        if (threads != null) {
+            command.add("-T");
+            command.add(threads);
+        }
+        command.add(goal);
+        Path log = workDirectory.resolve(scenario.getName() + ".log");
+        long start = System.nanoTime();
+        ProcessBuilder processBuilder = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile());
+        processBuilder.environment().put("MAVEN_OPTS", mavenOpts);
+        Process process = processBuilder.start();
+        int exitCode = process.waitFor();
+        long wallTimeMillis = (System.nanoTime() - start) / 1000000;
+
+        Result result = new Result(scenario, exitCode);
+        result.metrics.put(METRIC_WALL_TIME_MILLIS, wallTimeMillis);
+        Properties probeResults = Files.exists(probeOutput) ? loadFile(probeOutput) : new Properties();
+        result.metrics.put(METRIC_BUILD_MILLIS, getLong(probeResults, PerformanceProbe.KEY_BUILD_MILLIS));
+        result.metrics.put(METRIC_PEAK_HEAP_BYTES, getLong(probeResults, PerformanceProbe.KEY_PEAK_HEAP_BYTES));
+        long bytesRead = getLong(probeResults, PerformanceProbe.KEY_BYTES_READ);
+        result.metrics.put(METRIC_BYTES_READ, bytesRead);
+        result.metrics.put(METRIC_STORAGE_BYTES_READ, getLong(probeResults, PerformanceProbe.KEY_STORAGE_BYTES_READ));
+        // The process counters miss the files the plugin memory-maps, so the amplification is based on what the plugin hashed
+        long bytesHashed = getBytesHashed(reactor);
+        result.metrics.put(METRIC_BYTES_HASHED, bytesHashed);
+        result.metrics.put(METRIC_READ_AMPLIFICATION, bytesHashed < 0 ? -1.0 : (double) bytesHashed / scenario.getTotalArtifactSize());
+        if (exitCode != 0) {
+            result.violations.add("The build failed with exit code " + exitCode + ", see " + log + ".");
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sum of the bytes hashed in every metrics report the plugin wrote in the reactor, or -1 if there is none.
+     */
+    static long getBytesHashed(Path reactor) throws IOException {
+        long bytesHashed = -1;
+        try (Stream<Path> files = Files.walk(reactor)) {
+            for (Path file : (Iterable<Path>) files.filter(file -> file.endsWith(METRICS_REPORT))::iterator) {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                        JsonReader jsonReader = Json.createReader(reader)) {
+                    bytesHashed = Math.max(bytesHashed, 0) + jsonReader.readObject().getJsonNumber(ProvenanceMetrics.KEY_BYTES_HASHED).longValue();
+                }
+            }
+        }
+        return bytesHashed;
+    }
+
+    private Properties loadThresholds() throws IOException {
+        Properties thresholds = loadResource("/e2e-thresholds.properties");
+        if (thresholdsFile != null) {
+            thresholds.putAll(loadFile(thresholdsFile));
+        }
+        return thresholds;
+    }
+
+    /**
+     * Writes the metrics of every scenario, times the calibration margin and rounded up, in the format of the thresholds file.
+     */
+    private void writeCalibratedThresholds(List<Result> results) throws IOException {
+        if (calibrationFile.getParent() != null) {
+            Files.createDirectories(calibrationFile.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(calibrationFile, StandardCharsets.UTF_8)) {
+            writer.write("# Calibrated with a margin of " + calibrationMargin + " on " + System.getProperty("os.name") + ", Java "
+                    + System.getProperty("java.version") + ", " + Runtime.getRuntime().availableProcessors() + " processors, "
+                    + mavenOpts + "\n");
+            for (Result result : results) {
+                writer.write("\n");
+                for (String thresholdLine : result.getCalibratedThresholds(calibrationMargin)) {
+                    writer.write(thresholdLine + "\n");
+                }
+            }
+        }
+    }
+
+    private void writeReport(List<Result> results, boolean passed) throws IOException {
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8);
+                JsonGenerator generator = Json.createGeneratorFactory(Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)).createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.write("goal", goal);
+            generator.write("mavenOpts", mavenOpts);
+            generator.write("javaVersion", System.getProperty("java.version"));
+            generator.write("osName", System.getProperty("os.name"));
+            generator.write("availableProcessors", Runtime.getRuntime().availableProcessors());
+            generator.write("passed", passed);
+            generator.writeStartArray("results");
+            for (Result result : results) {
+                result.writeTo(generator);
+            }
+            generator.writeEnd();
+            generator.writeEnd();
+        }
+    }
+
+    /**
+     * Writes a jar with only the probe, so that Maven loads nothing else of the benchmarks into its core.
+     */
+    static Path writeProbeJar(Path jar) throws IOException {
+        String classFile = PerformanceProbe.class.getName().replace('.', '/') + ".class";
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                InputStream in = PerformanceProbe.class.getResourceAsStream("/" + classFile)) {
+            out.putNextEntry(new JarEntry(classFile));
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.closeEntry();
+            // The index Sisu uses to find the components of the extension
+            out.putNextEntry(new JarEntry("META-INF/sisu/javax.inject.Named"));
+            out.write((PerformanceProbe.class.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        return jar;
+    }
+
+    private static String getDefaultMaven() {
+        String executable = System.getProperty("os.name").toLowerCase().startsWith("windows") ? "mvn.cmd" : "mvn";
+        String mavenHome = System.getenv("MAVEN_HOME");
+        if (mavenHome != null && new File(mavenHome, "bin" + File.separator + executable).isFile()) {
+            return new File(mavenHome, "bin" + File.separator + executable).getPath();
+        }
+        return executable;
+    }
+
+    private static long getLong(Properties properties, String key) {
+        return Long.parseLong(properties.getProperty(key, "-1"));
+    }
+
+    private static Properties loadResource(String name) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = ReactorPerformanceHarness.class.getResourceAsStream(name)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    private static Properties loadFile(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * The metrics of the run of one scenario and the thresholds they exceeded.
+     */
+    static class Result {
+
+        private final Scenario scenario;
+        private final int exitCode;
+        private final Map<String, Number> metrics = new LinkedHashMap<>();
+        private final List<String> violations = new ArrayList<>();
+
+        Result(Scenario scenario, int exitCode) {
+            this.scenario = scenario;
+            this.exitCode = exitCode;
+        }
+
+        /**
+         * Compares each metric with the threshold named {@code <scenario>.<metric>}, if there is one. Metrics that could not be
+         * measured are not compared.
+         */
+        void checkThresholds(Properties thresholds) {
+            for (Entry<String, Number> metric : metrics.entrySet()) {
+                String threshold = thresholds.getProperty(scenario.getName() + "." + metric.getKey());
+                if (threshold == null || metric.getValue().doubleValue() < 0) {
+                    continue;
+                }
+                if (metric.getValue().doubleValue() > Double.parseDouble(threshold.trim())) {
+                    violations.add(metric.getKey() + " " + metric.getValue() + " exceeds the threshold of " + threshold.trim() + ".");
+                }
+            }
+        }
+
+        /**
+         * Returns the calibrated metrics as {@code <scenario>.<metric>=<maximum>} lines. Metrics that could not be measured are
+         * left out.
+         */
+        List<String> getCalibratedThresholds(double margin) {
+            List<String> lines = new ArrayList<>();
+            for (String metric : CALIBRATED_METRICS) {
+                Number value = metrics.get(metric);
+                if (value == null || value.doubleValue() < 0) {
+                    continue;
+                }
+                String threshold;
+                if (value instanceof Double) {
+                    threshold = String.valueOf(Math.ceil(value.doubleValue() * margin * 100) / 100);
+                } else {
+                    threshold = String.valueOf((long) Math.ceil(value.longValue() * margin));
+                }
+                lines.add(scenario.getName() + "." + metric + "=" + threshold);
+            }
+            return lines;
+        }
+
+        void writeTo(JsonGenerator generator) {
+            generator.writeStartObject();
+            generator.write("scenario", scenario.getName());
+            generator.write("modules", scenario.getModules());
+            generator.write("dependencyDepth", scenario.getDependencyDepth());
+            generator.write("aggregate", scenario.isAggregate());
+            generator.write("artifactBytes", scenario.getTotalArtifactSize());
+            generator.write("exitCode", exitCode);
+            generator.writeStartObject("metrics");
+            for (Entry<String, Number> metric : metrics.entrySet()) {
+                if (metric.getValue() instanceof Double) {
+                    generator.write(metric.getKey(), metric.getValue().doubleValue());
+                } else {
+                    generator.write(metric.getKey(), metric.getValue().longValue());
+                }
+            }
+            generator.writeEnd();
+            generator.writeStartArray("violations");
+            for (String violation : violations) {
+                generator.write(violation);
+            }
+            generator.writeEnd();
+            generator.writeEnd();
+        }
+    }
+
+}
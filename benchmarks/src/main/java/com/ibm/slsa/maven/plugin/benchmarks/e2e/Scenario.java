@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.benchmarks.e2e;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The shape of a synthetic reactor: how many modules it has, how large their artifacts are, and how deep their dependencies go.
+ */
+public class Scenario {
+
+    private static final long KIB = 1024;
+    private static final long MIB = 1024 * KIB;
+    private static final long GIB = 1024 * MIB;
+
+    /**
+     * The scenarios run when none are selected.
+     */
+    public static final List<Scenario> DEFAULTS = Collections.unmodifiableList(Arrays.asList(
+            new Scenario("reactor-10", 10, KIB, MIB, 5, 10, true),
+            new Scenario("reactor-500", 500, 4 * KIB, 4 * MIB, 25, 20, true),
+            new Scenario("reactor-5000", 5000, KIB, 256 * KIB, 50, 20, true),
+            new Scenario("artifacts-1g", 10, KIB, GIB, 5, 10, false)));
+
+    private final String name;
+    private final int modules;
+    private final long minArtifactSize;
+    private final long maxArtifactSize;
+    private final int dependencyDepth;
+    private final int librariesPerModule;
+    private final boolean aggregate;
+
+    /**
+     * @param modules The number of modules of the reactor.
+     * @param minArtifactSize The size of the artifact of the first module.
+     * @param maxArtifactSize The size of the artifact of the last module. The sizes of the modules in between grow
+     *            geometrically.
+     * @param dependencyDepth The length of the chains of modules that depend on the module before them, which is the depth of
+     *            the transitive dependencies of the last module of each chain.
+     * @param librariesPerModule The number of third-party libraries each module depends on.
+     * @param aggregate Whether one provenance file is generated for the whole reactor rather than one per module.
+     */
+    public Scenario(String name, int modules, long minArtifactSize, long maxArtifactSize, int dependencyDepth, int librariesPerModule, boolean aggregate) {
+        if (modules < 1 || minArtifactSize < 1 || maxArtifactSize < minArtifactSize || dependencyDepth < 1 || librariesPerModule < 0) {
+            throw new IllegalArgumentException("The scenario " + name + " is not valid.");
+        }
+        this.name = name;
+        this.modules = modules;
+        this.minArtifactSize = minArtifactSize;
+        this.maxArtifactSize = maxArtifactSize;
+        this.dependencyDepth = dependencyDepth;
+        this.librariesPerModule = librariesPerModule;
+        this.aggregate = aggregate;
+    }
+
+    /**
+     * Returns the default scenario with the given name.
+     *
+     * @throws IllegalArgumentException If there is no scenario with the name.
+     */
+    public static Scenario fromName(String name) {
+        for (Scenario scenario : DEFAULTS) {
+            if (scenario.name.equals(name.trim())) {
+                return scenario;
+            }
+        }
+        StringBuilder names = new StringBuilder();
+        for (Scenario scenario : DEFAULTS) {
+            names.append(names.length() > 0 ? ", " : "").append(scenario.name);
+        }
+        throw new IllegalArgumentException("Unknown scenario \"" + name + "\". Known scenarios are: " + names);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getModules() {
+        return modules;
+    }
+
+    public int getDependencyDepth() {
+        return dependencyDepth;
+    }
+
+    public int getLibrariesPerModule() {
+        return librariesPerModule;
+    }
+
+    public boolean isAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * Returns the size of the artifact of the module with the given index.
+     */
+    public long getArtifactSize(int module) {
+        if (modules == 1 || minArtifactSize == maxArtifactSize) {
+            return maxArtifactSize;
+        }
+        double growth = Math.pow((double) maxArtifactSize / minArtifactSize, 1.0 / (modules - 1));
+        return Math.min(maxArtifactSize, Math.round(minArtifactSize * Math.pow(growth, module)));
+    }
+
+    /**
+     * Returns the total size of the artifacts of the reactor.
+     */
+    public long getTotalArtifactSize() {
+        long total = 0;
+        for (int i = 0; i < modules; i++) {
+            total += getArtifactSize(i);
+        }
+        return total;
+    }
+
+}
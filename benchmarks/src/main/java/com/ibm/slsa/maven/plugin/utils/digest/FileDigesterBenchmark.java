@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Digests a single subject file of each size with each read strategy. The file is read from the page cache after the first
+ * iteration, so the results show the cost of the digest and of moving the bytes, not of the disk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileDigesterBenchmark {
+
+    private static final String STRATEGY_BUFFERED = "buffered";
+    private static final String STRATEGY_MAPPED = "mapped";
+    private static final String STRATEGY_STREAM = "stream";
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    @Param({ "4096", "1048576", "67108864" })
+    private int fileSize;
+
+    /**
+     * {@code buffered} reads through the per-thread direct buffer, {@code mapped} maps the file in windows, and {@code stream}
+     * reads through a {@link DigestInputStream}, as a baseline of the simplest implementation.
+     */
+    @Param({ STRATEGY_BUFFERED, STRATEGY_MAPPED, STRATEGY_STREAM })
+    private String strategy;
+
+    @Param({ "sha256", "sha256,sha512" })
+    private String algorithms;
+
+    private Path directory;
+    private File file;
+    private List<DigestAlgorithm> digestAlgorithms;
+    private FileDigester fileDigester;
+    private byte[] streamBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("slsa-digest-benchmark");
+        file = directory.resolve("subject.jar").toFile();
+        writeRandomContent(file, fileSize);
+        digestAlgorithms = new ArrayList<>();
+        for (String name : algorithms.split(",")) {
+            digestAlgorithms.add(DigestAlgorithm.fromDigestSetName(name));
+        }
+        if (STRATEGY_BUFFERED.equals(strategy)) {
+            fileDigester = new FileDigester(digestAlgorithms, Long.MAX_VALUE, FileDigester.MAPPED_WINDOW_SIZE);
+        } else if (STRATEGY_MAPPED.equals(strategy)) {
+            fileDigester = new FileDigester(digestAlgorithms, 0, FileDigester.MAPPED_WINDOW_SIZE);
+        } else {
+            streamBuffer = new byte[STREAM_BUFFER_SIZE];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void digest(Blackhole blackhole) throws IOException, NoSuchAlgorithmException {
+        if (fileDigester != null) {
+            blackhole.consume(fileDigester.digest(file));
+        } else {
+            digestStream(blackhole);
+        }
+    }
+
+    private void digestStream(Blackhole blackhole) throws IOException, NoSuchAlgorithmException {
+        MessageDigest[] messageDigests = new MessageDigest[digestAlgorithms.size()];
+        for (int i = 0; i < messageDigests.length; i++) {
+            messageDigests[i] = digestAlgorithms.get(i).newMessageDigest();
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), messageDigests[0])) {
+            int read;
+            while ((read = in.read(streamBuffer)) != -1) {
+                for (int i = 1; i < messageDigests.length; i++) {
+                    messageDigests[i].update(streamBuffer, 0, read);
+                }
+            }
+        }
+        for (MessageDigest messageDigest : messageDigests) {
+            blackhole.consume(FileDigester.toHex(messageDigest.digest()));
+        }
+    }
+
+    private static void writeRandomContent(File file, int size) throws IOException {
+        Random random = new Random(size);
+        byte[] chunk = new byte[64 * 1024];
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            for (int written = 0; written < size; written += chunk.length) {
+                random.nextBytes(chunk);
+                out.write(chunk, 0, Math.min(chunk.length, size - written));
+            }
+        }
+    }
+
+}
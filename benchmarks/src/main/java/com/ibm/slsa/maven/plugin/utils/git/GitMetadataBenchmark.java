@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
+import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+
+/**
+ * Looks up the Git metadata of a module directory nested in a repository with packed refs. These are warm measurements; see
+ * {@link GitMetadataColdStartBenchmark} for the cost of the first lookup in a fresh JVM.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GitMetadataBenchmark {
+
+    private Path directory;
+    private File moduleDirectory;
+    private GitRepositoryService sessionService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, GitAPIException {
+        directory = Files.createTempDirectory("slsa-git-benchmark");
+        try (Git git = Git.init().setDirectory(directory.toFile()).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", ConfigConstants.CONFIG_KEY_URL, "https://github.com/example/reactor.git");
+            config.save();
+            git.commit().setMessage("Initial commit").setAllowEmpty(true).setAuthor("Benchmark", "benchmark@example.com").setCommitter("Benchmark", "benchmark@example.com")
+                    .setSign(false).call();
+            git.tag().setName("v1.0").setSigned(false).call();
+            // Packs the refs as a long-lived clone has them
+            git.gc().call();
+        }
+        moduleDirectory = Files.createDirectories(directory.resolve("parent").resolve("modules").resolve("module-1")).toFile();
+        sessionService = new GitRepositoryService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        sessionService.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Looks up the repository of a module through the service shared by the session, as every project after the first does.
+     */
+    @Benchmark
+    public GitRepositoryResourceDescriptor sessionLookup() throws GitRepositoryException {
+        return new GitUtils(sessionService, moduleDirectory).getGitRepositoryResourceDescriptor();
+    }
+
+    /**
+     * Reads the metadata from the Git directory in a new service, as the first project of a session does.
+     */
+    @Benchmark
+    public GitMetadata firstLookup() throws GitRepositoryException {
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            return service.getMetadata(moduleDirectory);
+        }
+    }
+
+    /**
+     * Reads the metadata and checks the working tree in a new service, as the first project of a session does by default.
+     */
+    @Benchmark
+    public boolean firstLookupWithWorktreeCheck() throws GitRepositoryException {
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            return service.isWorkingTreeDirty(service.getMetadata(moduleDirectory), Collections.<File> emptyList());
+        }
+    }
+
+    /**
+     * Checks the working tree through the service shared by the session, as every project after the first does by default.
+     */
+    @Benchmark
+    public boolean sessionWorktreeCheck() throws GitRepositoryException {
+        return sessionService.isWorkingTreeDirty(sessionService.getMetadata(moduleDirectory), Collections.<File> emptyList());
+    }
+
+    /**
+     * Opens the repository with JGit and reads the same metadata, as the plugin did before reading the Git directory itself.
+     */
+    @Benchmark
+    public void jgitLookup(Blackhole blackhole) throws IOException {
+        try (Repository repository = new FileRepositoryBuilder().findGitDir(moduleDirectory).build()) {
+            blackhole.consume(repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", ConfigConstants.CONFIG_KEY_URL));
+            blackhole.consume(repository.getFullBranch());
+            blackhole.consume(repository.resolve("HEAD"));
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+
+/**
+ * Looks up the Git metadata of a module once in a fresh JVM, as the first project of a build does, so class loading and
+ * initialization are included. Each fork is one sample. Run with {@code -prof cl} to also see the number of classes loaded.
+ * <p>
+ * The repository is created by another JVM, and JGit is only referenced from nested classes, so JGit is not loaded before the
+ * lookups that do not use it.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(15)
+@State(Scope.Benchmark)
+public class GitMetadataColdStartBenchmark {
+
+    private Path directory;
+    private File moduleDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        directory = Files.createTempDirectory("slsa-git-cold-start");
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), RepositoryFixture.class.getName(), directory.toString())
+                .inheritIO()
+                .start();
+        if (!process.waitFor(60, TimeUnit.SECONDS) || process.exitValue() != 0) {
+            throw new IllegalStateException("The Git repository of the benchmark could not be created.");
+        }
+        moduleDirectory = directory.resolve(RepositoryFixture.MODULE_PATH).toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Reads the metadata from the Git directory, as the first project does when the working tree check is disabled.
+     */
+    @Benchmark
+    public GitMetadata firstLookup() throws GitRepositoryException {
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            return service.getMetadata(moduleDirectory);
+        }
+    }
+
+    /**
+     * Reads the metadata and checks the working tree, as the first project does by default.
+     */
+    @Benchmark
+    public boolean firstLookupWithWorktreeCheck() throws GitRepositoryException {
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            return service.isWorkingTreeDirty(service.getMetadata(moduleDirectory), Collections.<File> emptyList());
+        }
+    }
+
+    /**
+     * Opens the repository with JGit and reads the same metadata, as the plugin did before reading the Git directory itself.
+     */
+    @Benchmark
+    public String jgitLookup() throws IOException {
+        return JGitLookup.readCommit(moduleDirectory);
+    }
+
+    private static class JGitLookup {
+
+        private static String readCommit(File directory) throws IOException {
+            try (Repository repository = new FileRepositoryBuilder().findGitDir(directory.getAbsoluteFile()).readEnvironment().build()) {
+                repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", ConfigConstants.CONFIG_KEY_URL);
+                repository.getFullBranch();
+                return repository.resolve("HEAD").getName();
+            }
+        }
+    }
+
+    /**
+     * Creates a committed repository with packed refs and a tracked file in the module directory.
+     */
+    public static class RepositoryFixture {
+
+        static final String MODULE_PATH = "parent/modules/module-1";
+
+        public static void main(String[] args) throws IOException, GitAPIException {
+            File directory = new File(args[0]);
+            Path moduleDirectory = Files.createDirectories(directory.toPath().resolve(MODULE_PATH));
+            Files.write(moduleDirectory.resolve("pom.xml"), "<project/>".getBytes("UTF-8"));
+            try (Git git = Git.init().setDirectory(directory).setInitialBranch("main").call()) {
+                StoredConfig config = git.getRepository().getConfig();
+                config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", ConfigConstants.CONFIG_KEY_URL, "https://github.com/example/reactor.git");
+                config.save();
+                git.add().addFilepattern(".").call();
+                git.commit().setMessage("Initial commit").setAuthor("Benchmark", "benchmark@example.com").setCommitter("Benchmark", "benchmark@example.com").setSign(false).call();
+                git.gc().call();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.model.Dependency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.intoto.attestation.Subject;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.intoto.attestation.exceptions.StatementValueNullException;
+import com.ibm.slsa.BuildDefinition;
+import com.ibm.slsa.BuildMetadata;
+import com.ibm.slsa.Builder.BuilderBuilder;
+import com.ibm.slsa.RunDetails;
+import com.ibm.slsa.SlsaPredicate;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+/**
+ * Serializes a Statement with a SLSA provenance predicate of each number of resolved dependencies, the way each output format
+ * of the plugin does. The output is discarded, so only the model and the JSON encoding are measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatementSerializationBenchmark {
+
+    private static final int SUBJECTS = 10;
+
+    @Param({ "100", "10000" })
+    private int dependencies;
+
+    private List<ResourceDescriptor> subject;
+    private SlsaPredicate predicate;
+    private Statement statement;
+    private JsonWriterFactory prettyWriterFactory;
+    private JsonGeneratorFactory prettyGeneratorFactory;
+    private JsonGeneratorFactory compactGeneratorFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws StatementValueNullException {
+        subject = new ArrayList<>();
+        Subject.Builder subjectBuilder = new Subject.Builder();
+        for (int i = 0; i < SUBJECTS; i++) {
+            DigestSet digestSet = new DigestSet();
+            digestSet.put(DigestSet.ALG_SHA256, sha256("subject-" + i));
+            ResourceDescriptor resourceDescriptor = new ResourceDescriptor.Builder().name("module-" + i + "-1.0.jar").digest(digestSet).build();
+            subject.add(resourceDescriptor);
+            subjectBuilder.resourceDescriptor(resourceDescriptor);
+        }
+
+        JsonArrayBuilder resolvedDependencies = Json.createArrayBuilder();
+        for (int i = 0; i < dependencies; i++) {
+            Dependency dependency = new Dependency();
+            dependency.setGroupId("com.example.group" + (i % 50));
+            dependency.setArtifactId("library-" + i);
+            dependency.setVersion("1." + (i % 20) + ".0");
+            dependency.setType("jar");
+            dependency.setScope("compile");
+            JsonObject artifact = new MavenArtifactResourceDescriptor(dependency).toJson();
+            resolvedDependencies.add(Json.createObjectBuilder(artifact)
+                    .add(ResourceDescriptor.KEY_DIGEST, Json.createObjectBuilder().add(DigestSet.ALG_SHA256, sha256(dependency.getArtifactId()))));
+        }
+        JsonObject externalParameters = Json.createObjectBuilder()
+                .add("repository", "https://github.com/example/reactor")
+                .add("ref", "refs/heads/main")
+                .build();
+        BuildDefinition buildDefinition = new BuildDefinition.Builder("https://example.com/maven-build/v1", externalParameters)
+                .resolvedDependencies(resolvedDependencies.build())
+                .build();
+        RunDetails runDetails = new RunDetails.Builder(new BuilderBuilder("https://example.com/builder").build())
+                .metadata(new BuildMetadata.Builder().startedOn("2026-01-01T00:00:00Z").build())
+                .build();
+        predicate = new SlsaPredicate(buildDefinition, runDetails);
+        statement = new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subjectBuilder.build(), SlsaPredicate.PREDICATE_TYPE_SLSA_PROVENANCE_V1)
+                .predicate(predicate)
+                .build();
+        prettyWriterFactory = Json.createWriterFactory(OutputFormat.PRETTY.getGeneratorConfig());
+        prettyGeneratorFactory = Json.createGeneratorFactory(OutputFormat.PRETTY.getGeneratorConfig());
+        compactGeneratorFactory = Json.createGeneratorFactory(OutputFormat.COMPACT.getGeneratorConfig());
+    }
+
+    /**
+     * Builds the JSON object of the whole Statement, which the in-memory and canonical paths start from.
+     */
+    @Benchmark
+    public JsonObject toJson() {
+        return statement.toJson();
+    }
+
+    /**
+     * Builds the JSON object of the whole Statement and then writes it.
+     */
+    @Benchmark
+    public long writeInMemory() {
+        CountingWriter writer = new CountingWriter();
+        try (JsonWriter jsonWriter = prettyWriterFactory.createWriter(writer)) {
+            jsonWriter.writeObject(statement.toJson());
+        }
+        return writer.getCount();
+    }
+
+    /**
+     * Streams the Statement in the pretty format, as the plugin does by default.
+     */
+    @Benchmark
+    public long writeStreamingPretty() {
+        return writeStreaming(prettyGeneratorFactory);
+    }
+
+    /**
+     * Streams the Statement in the compact format.
+     */
+    @Benchmark
+    public long writeStreamingCompact() {
+        return writeStreaming(compactGeneratorFactory);
+    }
+
+    /**
+     * Writes the Statement in the canonical format.
+     */
+    @Benchmark
+    public long writeCanonical() throws IOException {
+        CountingWriter writer = new CountingWriter();
+        new CanonicalJsonWriter(writer).write(statement.toJson());
+        return writer.getCount();
+    }
+
+    private long writeStreaming(JsonGeneratorFactory generatorFactory) {
+        CountingWriter writer = new CountingWriter();
+        try (JsonGenerator generator = generatorFactory.createGenerator(writer)) {
+            new StatementWriter(generator).write(subject, predicate);
+        }
+        return writer.getCount();
+    }
+
+    private static String sha256(String seed) {
+        StringBuilder hex = new StringBuilder(64);
+        long value = seed.hashCode();
+        while (hex.length() < 64) {
+            value = value * 6364136223846793005L + 1442695040888963407L;
+            hex.append(String.format("%016x", value));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Discards the characters written to it, counting them.
+     */
+    private static class CountingWriter extends Writer {
+
+        private long count;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public void write(int c) {
+            count++;
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
+}
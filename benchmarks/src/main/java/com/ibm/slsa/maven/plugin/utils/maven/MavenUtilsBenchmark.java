@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.slsa.maven.plugin.benchmarks.SyntheticReactor;
+
+/**
+ * Collects the resolved dependencies of a synthetic reactor in aggregate mode, without digests. The reactor index of the
+ * session is built once and reused, as it is for every project of a build.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MavenUtilsBenchmark {
+
+    private static final int LIBRARIES = 2000;
+
+    @Param({ "10", "100" })
+    private int modules;
+
+    @Param({ "50", "200" })
+    private int dependenciesPerModule;
+
+    @Param({ "true", "false" })
+    private boolean resolved;
+
+    private MavenUtils mavenUtils;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticReactor reactor = new SyntheticReactor(modules, dependenciesPerModule, LIBRARIES, resolved);
+        mavenUtils = new MavenUtils(reactor.getProjects().get(0), reactor.getMavenSession(), true);
+    }
+
+    @Benchmark
+    public List<ResolvedDependency> getMavenProjectDependencies() {
+        return mavenUtils.getMavenProjectDependencies();
+    }
+
+}
@@ -16,11 +16,15 @@
 */
 package com.ibm.slsa;
 
+import java.util.List;
+
 import com.ibm.intoto.attestation.utils.Utils;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * The BuildDefinition describes all of the inputs to the build. It SHOULD contain all the information necessary and
@@ -74,11 +78,17 @@ public class BuildDefinition {
      */
     private JsonArray resolvedDependencies = null;
 
+    /**
+     * The resolved dependencies as entries that are written one at a time, instead of {@code resolvedDependencies}.
+     */
+    private List<? extends JsonWritable> resolvedDependencyEntries = null;
+
     private BuildDefinition(Builder builder) {
         this.buildType = builder.buildType;
         this.externalParameters = builder.externalParameters;
         this.internalParameters = builder.internalParameters;
         this.resolvedDependencies = builder.resolvedDependencies;
+        this.resolvedDependencyEntries = builder.resolvedDependencyEntries;
     }
 
     public JsonObject toJson() {
@@ -86,16 +96,44 @@ public class BuildDefinition {
         builder.add(KEY_BUILD_TYPE, buildType);
         Utils.addIfNonNullAndNotEmpty(externalParameters, KEY_EXTERNAL_PARAMETERS, builder);
         Utils.addIfNonNullAndNotEmpty(internalParameters, KEY_INTERNAL_PARAMETERS, builder);
-        Utils.addIfNonNullAndNotEmpty(resolvedDependencies, KEY_RESOLVED_DEPENDENCIES, builder);
+        Utils.addIfNonNullAndNotEmpty(getResolvedDependencies(), KEY_RESOLVED_DEPENDENCIES, builder);
+        return builder.build();
+    }
+
+    private JsonArray getResolvedDependencies() {
+        if (resolvedDependencyEntries == null) {
+            return resolvedDependencies;
+        }
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        for (JsonWritable entry : resolvedDependencyEntries) {
+            builder.add(entry.toJson());
+        }
         return builder.build();
     }
 
+    /**
+     * Writes the same object as {@link #toJson()} to the generator without building it in memory first.
+     */
+    public void writeTo(JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write(KEY_BUILD_TYPE, buildType);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(externalParameters, KEY_EXTERNAL_PARAMETERS, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(internalParameters, KEY_INTERNAL_PARAMETERS, generator);
+        if (resolvedDependencyEntries == null) {
+            JsonGeneratorUtils.writeIfNonNullAndNotEmpty(resolvedDependencies, KEY_RESOLVED_DEPENDENCIES, generator);
+        } else {
+            JsonGeneratorUtils.writeIfNonNullAndNotEmpty(resolvedDependencyEntries, KEY_RESOLVED_DEPENDENCIES, generator);
+        }
+        generator.writeEnd();
+    }
+
     public static class Builder {
 
         private String buildType;
         private JsonObject externalParameters = null;
         private JsonObject internalParameters = null;
         private JsonArray resolvedDependencies = null;
+        private List<? extends JsonWritable> resolvedDependencyEntries = null;
 
         public Builder(String buildType, JsonObject externalParameters) {
             this.buildType = buildType;
@@ -109,6 +147,16 @@ public class BuildDefinition {
 
         public Builder resolvedDependencies(JsonArray resolvedDependencies) {
             this.resolvedDependencies = resolvedDependencies;
+            this.resolvedDependencyEntries = null;
+            return this;
+        }
+
+        /**
+         * Sets the resolved dependencies to entries that {@link BuildDefinition#writeTo(JsonGenerator)} writes one at a time.
+         */
+        public Builder resolvedDependencies(List<? extends JsonWritable> resolvedDependencies) {
+            this.resolvedDependencyEntries = resolvedDependencies;
+            this.resolvedDependencies = null;
             return this;
         }
 
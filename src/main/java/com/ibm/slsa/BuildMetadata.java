@@ -20,6 +20,7 @@ import com.ibm.intoto.attestation.utils.Utils;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Metadata about this particular execution of the build.
@@ -63,6 +64,21 @@ public class BuildMetadata {
         return builder.build();
     }
 
+    /**
+     * Writes the same object as {@link #toJson()} to the generator without building it in memory first.
+     */
+    public void writeTo(JsonGenerator generator) {
+        generator.writeStartObject();
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(invocationId, KEY_INVOCATION_ID, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(startedOn, KEY_STARTED_ON, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(finishedOn, KEY_FINISHED_ON, generator);
+        generator.writeEnd();
+    }
+
+    boolean isEmpty() {
+        return (invocationId == null || invocationId.isEmpty()) && (startedOn == null || startedOn.isEmpty()) && (finishedOn == null || finishedOn.isEmpty());
+    }
+
     public static class Builder {
 
         private String invocationId = null;
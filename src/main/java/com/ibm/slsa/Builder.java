@@ -23,6 +23,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Identifies the build platform that executed the invocation, which is trusted to have correctly performed the operation and
@@ -78,6 +79,17 @@ public class Builder {
         return builder.build();
     }
 
+    /**
+     * Writes the same object as {@link #toJson()} to the generator without building it in memory first.
+     */
+    public void writeTo(JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write(KEY_ID, id);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(builderDependencies, KEY_BUILDER_DEPENDENCIES, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(version, KEY_VERSION, generator);
+        generator.writeEnd();
+    }
+
     /**
      * I know, I know...
      */
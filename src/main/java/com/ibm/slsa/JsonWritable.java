@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A JSON object that can be built in memory or written directly to a {@link JsonGenerator}, with the same result. Used for
+ * the entries of large collections, such as the resolved dependencies, so that they are not also built into a single
+ * {@code JsonArray} when they are streamed.
+ */
+public interface JsonWritable {
+
+    JsonObject toJson();
+
+    /**
+     * Writes the same object as {@link #toJson()} to the generator.
+     */
+    void writeTo(JsonGenerator generator);
+
+    /**
+     * Returns the object as a {@code JsonWritable}.
+     */
+    static JsonWritable of(JsonObject json) {
+        return new JsonWritable() {
+
+            @Override
+            public JsonObject toJson() {
+                return json;
+            }
+
+            @Override
+            public void writeTo(JsonGenerator generator) {
+                generator.write(json);
+            }
+        };
+    }
+
+}
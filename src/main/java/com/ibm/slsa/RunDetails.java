@@ -21,6 +21,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Details specific to this particular execution of the build.
@@ -67,6 +68,22 @@ public class RunDetails {
         return resultBuilder.build();
     }
 
+    /**
+     * Writes the same object as {@link #toJson()} to the generator without building it in memory first.
+     */
+    public void writeTo(JsonGenerator generator) {
+        generator.writeStartObject();
+        // The builder always has an id, so unlike the other entries it is never empty
+        generator.writeKey(KEY_BUILDER);
+        builder.writeTo(generator);
+        if (metadata != null && !metadata.isEmpty()) {
+            generator.writeKey(KEY_METADATA);
+            metadata.writeTo(generator);
+        }
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(byproducts, KEY_BYPRODUCTS, generator);
+        generator.writeEnd();
+    }
+
     public static class Builder {
 
         private com.ibm.slsa.Builder builder = null;
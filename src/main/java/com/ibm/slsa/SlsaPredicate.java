@@ -20,6 +20,7 @@ import com.ibm.intoto.attestation.Predicate;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Predicate type specifically for SLSA provenance.
@@ -65,4 +66,20 @@ public class SlsaPredicate extends Predicate {
         return builder.build();
     }
 
+    /**
+     * Writes the same object as {@link #getPredicateParameters()} to the generator without building it in memory first.
+     */
+    public void writeTo(JsonGenerator generator) {
+        generator.writeStartObject();
+        if (buildDefinition != null) {
+            generator.writeKey(KEY_BUILD_DEFINITION);
+            buildDefinition.writeTo(generator);
+        }
+        if (runDetails != null) {
+            generator.writeKey(KEY_RUN_DETAILS);
+            runDetails.writeTo(generator);
+        }
+        generator.writeEnd();
+    }
+
 }
@@ -16,29 +16,79 @@
 */
 package com.ibm.slsa.maven.plugin;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileWriter;
-import java.nio.charset.Charset;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
+import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
 import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestAlgorithm;
+import com.ibm.slsa.maven.plugin.utils.dsse.DsseEnvelope;
+import com.ibm.slsa.maven.plugin.utils.dsse.EnvelopeSigner;
+import com.ibm.slsa.maven.plugin.utils.dsse.SigningKey;
+import com.ibm.slsa.maven.plugin.utils.dsse.exceptions.SigningException;
+import com.ibm.slsa.maven.plugin.utils.git.GitMetadata;
+import com.ibm.slsa.maven.plugin.utils.git.GitRepositoryService;
+import com.ibm.slsa.maven.plugin.utils.git.GitUtils;
+import com.ibm.slsa.maven.plugin.utils.incremental.FingerprintStamp;
+import com.ibm.slsa.maven.plugin.utils.incremental.InputFingerprint;
+import com.ibm.slsa.maven.plugin.utils.io.AtomicFileWriter;
+import com.ibm.slsa.maven.plugin.utils.jfr.ProvenanceWriteEvent;
+import com.ibm.slsa.maven.plugin.utils.json.CanonicalJsonWriter;
+import com.ibm.slsa.maven.plugin.utils.json.OutputFormat;
+import com.ibm.slsa.maven.plugin.utils.maven.ReactorCompletion;
+import com.ibm.slsa.maven.plugin.utils.maven.ReactorIndex;
+import com.ibm.slsa.maven.plugin.utils.metrics.PrometheusTextWriter;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Phase;
+import com.ibm.slsa.maven.plugin.utils.otel.BatchSpanProcessor;
+import com.ibm.slsa.maven.plugin.utils.otel.OtlpHttpExporter;
+import com.ibm.slsa.maven.plugin.utils.otel.ProvenanceTracer;
+import com.ibm.slsa.maven.plugin.utils.war.ArtifactFilter;
+import com.ibm.slsa.maven.plugin.utils.war.PackageTypeUtils;
+import com.ibm.slsa.maven.plugin.utils.war.exceptions.PackageFileException;
 
 import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonWriter;
 import jakarta.json.stream.JsonGenerator;
 
 /**
  * This is the Javadoc for the GenerateProvenanceMojo class.
  */
-@Mojo(name = "generate-provenance")
+@Mojo(name = "generate-provenance", requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
 public class GenerateProvenanceMojo extends AbstractMojo {
 
     public static final String BUILD_TYPE_DEFAULT = "https://github.com/WASdev/slsa-maven-plugin/tree/main/v1.0";
@@ -58,6 +108,12 @@ public class GenerateProvenanceMojo extends AbstractMojo {
     @Parameter(defaultValue = "${session}", required = true, readonly = true)
     private MavenSession mavenSession;
 
+    /**
+     * The execution of this goal.
+     */
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true)
+    private MojoExecution mojoExecution;
+
     /**
      * URI indicating the transitive closure of the trusted build platform. This is intended to be the sole determiner of the SLSA
      * Build level. The {@code builder.id} URI SHOULD resolve to documentation explaining:
@@ -96,37 +152,696 @@ public class GenerateProvenanceMojo extends AbstractMojo {
     @Parameter(property = "provenanceFileName", defaultValue = PROVENANCE_FILE_DEFAULT_NAME)
     private String provenanceFileName;
 
+    /**
+     * Whether a single provenance file describing every project in the reactor is generated. When {@code true}, the provenance
+     * is generated once, after this goal has run for every project in the reactor, and relative {@code provenanceFilePath}
+     * values are resolved against the directory Maven was executed from. When {@code false}, each project generates its own
+     * provenance describing only that project's packages and dependencies, and relative {@code provenanceFilePath} values are
+     * resolved against the project's base directory.
+     */
+    @Parameter(property = "aggregate", defaultValue = "true")
+    private boolean aggregate;
+
+    /**
+     * The number of threads used to calculate the digests of the subject and dependency files. By default, the number of threads is based on
+     * the processors available to the build, shared between the projects built concurrently when {@code aggregate} is
+     * {@code false}.
+     */
+    @Parameter(property = "digestThreads", defaultValue = "0")
+    private int digestThreads;
+
+    /**
+     * Whether the digests of subject and dependency files are cached between builds. A cached digest is only reused if the size, last
+     * modified time, and file key of the file are unchanged.
+     */
+    @Parameter(property = "useDigestCache", defaultValue = "true")
+    private boolean useDigestCache;
+
+    /**
+     * The directory in which the digest cache is stored. By default, {@code slsa-cache} in the build directory of the project,
+     * or of the top-level project when {@code aggregate} is {@code true}.
+     */
+    @Parameter(property = "digestCacheDirectory")
+    private File digestCacheDirectory;
+
+    /**
+     * Comma-separated list of the algorithms of the digests recorded for each subject, using the in-toto DigestSet names, e.g.
+     * {@code sha256,sha512,sha1}. All of the digests are calculated from a single read of each subject file. The {@code sha256}
+     * digest is always recorded.
+     */
+    @Parameter(property = "digestAlgorithms", defaultValue = "sha256")
+    private String digestAlgorithms;
+
+    /**
+     * Comma-separated list of the classifiers of the attached artifacts, e.g. {@code sources} or {@code javadoc}, that are
+     * subjects of the provenance. By default, attached artifacts with any classifier are included.
+     */
+    @Parameter(property = "includeClassifiers")
+    private String includeClassifiers;
+
+    /**
+     * Comma-separated list of the classifiers of the attached artifacts that are not subjects of the provenance.
+     */
+    @Parameter(property = "excludeClassifiers")
+    private String excludeClassifiers;
+
+    /**
+     * Comma-separated list of the types of the artifacts, e.g. {@code war} or {@code java-source}, that are subjects of the
+     * provenance. By default, artifacts of any type are included.
+     */
+    @Parameter(property = "includeTypes")
+    private String includeTypes;
+
+    /**
+     * Comma-separated list of the types of the artifacts that are not subjects of the provenance.
+     */
+    @Parameter(property = "excludeTypes")
+    private String excludeTypes;
+
+    /**
+     * Whether each resolved Maven dependency is recorded with the SHA-256 digest of its file in the local repository.
+     */
+    @Parameter(property = "dependencyDigests", defaultValue = "true")
+    private boolean dependencyDigests;
+
+    /**
+     * Whether the {@code .sha256} checksum files stored next to the dependencies in the local repository are trusted in place
+     * of digesting the dependencies. The Maven resolver stores these files when it is configured to download SHA-256 checksums.
+     */
+    @Parameter(property = "useChecksumFiles", defaultValue = "true")
+    private boolean useChecksumFiles;
+
+    /**
+     * The fraction, between {@code 0} and {@code 1}, of the trusted checksum files that are verified by digesting the dependency
+     * anyway, bypassing the digest cache. When a checksum file does not match, a warning is logged, the calculated digest is
+     * recorded, and no checksum file is trusted for the remaining dependencies of the provenance file.
+     */
+    @Parameter(property = "checksumSpotCheckRate", defaultValue = "0")
+    private double checksumSpotCheckRate;
+
+    /**
+     * The format of the provenance file: {@code pretty} for indented JSON, {@code compact} for JSON without whitespace, or
+     * {@code canonical} for RFC 8785 canonical JSON. Canonical output sorts object members and the unordered subject and
+     * resolved dependency collections, so the same inputs always produce a byte-identical file. Instead of the time the build
+     * started, it records the {@code project.build.outputTimestamp} property, or else the {@code SOURCE_DATE_EPOCH}
+     * environment variable, as {@code startedOn}, and leaves it out if neither is set.
+     */
+    @Parameter(property = "outputFormat", defaultValue = "pretty")
+    private String outputFormat;
+
+    /**
+     * Whether each Git repository in the resolved dependencies is annotated with {@code dirty}, indicating whether its working
+     * tree differed from the recorded commit. Like {@code git status}, the check uses the stat data of the index and only
+     * reads the content of files whose last modified time changed; untracked files are ignored. The check needs JGit, so it
+     * is off by default and the Git metadata is otherwise read without initializing JGit.
+     */
+    @Parameter(property = "checkWorktree", defaultValue = "false")
+    private boolean checkWorktree;
+
+    /**
+     * Whether the working tree check is limited to the base directories of the projects the provenance describes, rather than
+     * the whole working tree of the repository.
+     */
+    @Parameter(property = "limitWorktreeCheckToModules", defaultValue = "false")
+    private boolean limitWorktreeCheckToModules;
+
+    /**
+     * Whether provenance generation is skipped when its inputs are unchanged since the provenance file was last generated. The
+     * inputs are fingerprinted without reading any file: the sizes and last modified times of the subjects, the Git origin URL,
+     * HEAD ref and commit, the resolved dependency coordinates, the user properties of the session, and the configuration of this
+     * plugin. When the fingerprint matches the one recorded in {@code incrementalStampFile} and the provenance file is
+     * unchanged, the existing provenance file, including its build start time, is kept.
+     */
+    @Parameter(property = "incremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * The file in which the fingerprint of the inputs of the provenance is recorded when {@code incremental} is {@code true}.
+     * By default, a stamp named after the path of the provenance file in the digest cache directory, so the projects of a
+     * reactor that share the digest cache directory have their own stamps. A configured stamp file must not be shared.
+     */
+    @Parameter(property = "incrementalStampFile")
+    private File incrementalStampFile;
+
+    /**
+     * The file to which the timings of the phases of provenance generation, and the number of files and bytes digested, are
+     * written as JSON. Relative paths are resolved like {@code provenanceFilePath}. By default, no report is written.
+     */
+    @Parameter(property = "metricsReportFile")
+    private String metricsReportFile;
+
+    /**
+     * The file to which the same metrics as {@code metricsReportFile} are written in the Prometheus text format, e.g.
+     * {@code /var/lib/node_exporter/textfile/slsa.prom} for the textfile collector of the node exporter. The file is replaced
+     * atomically. Relative paths are resolved like {@code provenanceFilePath}. By default, no file is written.
+     */
+    @Parameter(property = "prometheusMetricsFile")
+    private String prometheusMetricsFile;
+
+    /**
+     * The URL of an OTLP/HTTP traces endpoint, e.g. {@code http://localhost:4318/v1/traces} of an OpenTelemetry Collector, to
+     * which each provenance run is exported as a span with a child span for each phase. The runs of a build share one trace.
+     * Spans are exported in batches on a background thread. By default, no spans are exported.
+     */
+    @Parameter(property = "otlpEndpoint")
+    private String otlpEndpoint;
+
+    /**
+     * Comma-separated list of {@code name=value} headers sent with every request to {@code otlpEndpoint}, e.g. for
+     * authentication.
+     */
+    @Parameter(property = "otlpHeaders")
+    private String otlpHeaders;
+
+    /**
+     * The timeout, in milliseconds, of each request to {@code otlpEndpoint}. Spans still queued when the build ends are given
+     * the same time to be exported.
+     */
+    @Parameter(property = "otlpTimeout", defaultValue = "10000")
+    private int otlpTimeout;
+
+    /**
+     * The PKCS#12 key store, or PEM file with an unencrypted PKCS#8 private key, of the ECDSA or Ed25519 key that signs the
+     * provenance. When set, the bytes of the provenance file are signed, as written, into a DSSE envelope written to
+     * {@code envelopeFileName} next to the provenance file. By default, the provenance is not signed.
+     */
+    @Parameter(property = "signingKey")
+    private File signingKey;
+
+    /**
+     * The password of the PKCS#12 key store and key of {@code signingKey}.
+     */
+    @Parameter(property = "signingKeyPassword")
+    private String signingKeyPassword;
+
+    /**
+     * The alias of the signing key in the PKCS#12 key store. By default, the only key in the key store.
+     */
+    @Parameter(property = "signingKeyAlias")
+    private String signingKeyAlias;
+
+    /**
+     * The ID recorded as the key hint of the signature. By default, the hex encoded SHA-256 digest of the DER encoded public
+     * key, if the public key is in the key store or PEM file, otherwise no key ID is recorded.
+     */
+    @Parameter(property = "signingKeyId")
+    private String signingKeyId;
+
+    /**
+     * The name of the file, in the same directory as the provenance file, to which the signed DSSE envelope is written as a
+     * single line of JSON. By default, the name of the provenance file with the {@code .intoto.jsonl} extension.
+     */
+    @Parameter(property = "envelopeFileName")
+    private String envelopeFileName;
+
+    /**
+     * The version of this plugin, part of the fingerprint of the inputs of the provenance.
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String pluginVersion;
+
     public void execute() throws MojoExecutionException {
-        createProvenanceFile();
+        ReactorCompletion completion = ReactorCompletion.get(mavenSession, mojoExecution == null ? null : mojoExecution.getExecutionId(), this::executesThisGoal);
+        if (aggregate) {
+            // In a parallel build the last project in the reactor is not necessarily the last one to complete
+            if (!completion.complete(project)) {
+                getLog().info("Skipping provenance generation for " + project.getId() + ". Provenance for the reactor will be generated after the last project is built.");
+                return;
+            }
+            try {
+                generateProvenance();
+            } finally {
+                closeSessionServices();
+            }
+            return;
+        }
+        try {
+            generateProvenance();
+        } finally {
+            if (completion.complete(project)) {
+                closeSessionServices();
+            }
+        }
+    }
+
+    /**
+     * Closes the services shared by the executions of the session, unless another execution of the goal is still running.
+     */
+    private void closeSessionServices() {
+        if (ReactorCompletion.isIdle(mavenSession)) {
+            GitRepositoryService.close(mavenSession);
+            ProvenanceTracer.close(mavenSession);
+            EnvelopeSigner.close(mavenSession);
+        }
+    }
+
+    /**
+     * Returns whether this execution of the goal runs for the project in this session: for every project when it is run from
+     * the command line, otherwise for the projects that bind it to their lifecycle with the same execution ID.
+     */
+    private boolean executesThisGoal(MavenProject prj) {
+        if (mojoExecution == null || mojoExecution.getSource() == MojoExecution.Source.CLI) {
+            return true;
+        }
+        for (Object buildPlugin : prj.getBuildPlugins()) {
+            Plugin plugin = (Plugin) buildPlugin;
+            if (mojoExecution.getGroupId().equals(plugin.getGroupId()) && mojoExecution.getArtifactId().equals(plugin.getArtifactId())) {
+                for (Object execution : plugin.getExecutions()) {
+                    PluginExecution pluginExecution = (PluginExecution) execution;
+                    if (pluginExecution.getId().equals(mojoExecution.getExecutionId()) && pluginExecution.getGoals().contains(mojoExecution.getGoal())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
 
-    private void createProvenanceFile() throws MojoExecutionException {
-        new File(provenanceFilePath).mkdirs();
-        File newFile = new File(provenanceFilePath + File.separator + provenanceFileName);
-        JsonWriter jsonWriter = null;
+    private void generateProvenance() throws MojoExecutionException {
+        File provenanceFile = new File(getProvenanceDirectory(), provenanceFileName);
+        if (!incremental) {
+            createProvenanceFile(provenanceFile);
+            return;
+        }
+        FingerprintStamp stamp = incrementalStampFile != null ? new FingerprintStamp(incrementalStampFile) : FingerprintStamp.forOutput(getDigestCacheDirectory(), provenanceFile);
+        String fingerprint = getInputFingerprint(provenanceFile).getValue();
+        if (stamp.isUpToDate(fingerprint, provenanceFile) && (signingKey == null || getEnvelopeFile(provenanceFile).isFile())) {
+            getLog().info("The inputs of the provenance are unchanged. Skipping provenance generation, the provenance file " + provenanceFile + " is up to date.");
+            return;
+        }
+        createProvenanceFile(provenanceFile);
         try {
-            FileWriter writer = new FileWriter(newFile);
-            newFile.createNewFile();
+            stamp.record(fingerprint, provenanceFile);
+        } catch (IOException e) {
+            getLog().warn("Failed to record the fingerprint of the provenance inputs in " + stamp.getStampFile() + ": " + e.getMessage());
+        }
+    }
 
-            jsonWriter = Json.createWriterFactory(
-                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true))
-                .createWriter(writer);
+    private File getProvenanceDirectory() {
+        return resolveOutputFile(provenanceFilePath);
+    }
 
-            jsonWriter.writeObject(getFileContents());
+    /**
+     * Resolves a relative path against the directory Maven was executed from when aggregating, otherwise against the base
+     * directory of the project.
+     */
+    private File resolveOutputFile(String path) {
+        File file = new File(path);
+        if (file.isAbsolute()) {
+            return file;
+        }
+        File baseDirectory = aggregate ? new File(mavenSession.getExecutionRootDirectory()) : project.getBasedir();
+        return new File(baseDirectory, path);
+    }
+
+    /**
+     * Returns the digest cache directory. When aggregating, the default is in the top-level project rather than whichever
+     * project completes the reactor, so the same cache is used by every build.
+     */
+    private File getDigestCacheDirectory() {
+        if (digestCacheDirectory != null) {
+            return digestCacheDirectory;
+        }
+        MavenProject owner = aggregate && mavenSession.getTopLevelProject() != null ? mavenSession.getTopLevelProject() : project;
+        return new File(owner.getBuild().getDirectory(), "slsa-cache");
+    }
+
+    private void createProvenanceFile(File newFile) throws MojoExecutionException {
+        ProvenanceOptions options = getProvenanceOptions();
+        OutputFormat format = getOutputFormat();
+        ProvenanceTracer tracer = getTracer();
+        EnvelopeSigner signer = getSigner();
+        newFile.getParentFile().mkdirs();
+        ProvenanceMetrics metrics;
+        boolean written;
+        try (AtomicFileWriter file = new AtomicFileWriter(newFile.toPath())) {
+            ProvenanceGenerator provenanceGenerator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, getLog(), options);
+            metrics = provenanceGenerator.getMetrics();
+            writeFileContents(provenanceGenerator, format, file.getWriter());
+            ProvenanceWriteEvent event = new ProvenanceWriteEvent();
+            event.begin();
+            try (ProvenanceMetrics.Timer timer = metrics.time(Phase.WRITE)) {
+                written = file.commit();
+            }
+            if (event.shouldCommit()) {
+                event.path = newFile.getPath();
+                event.size = newFile.length();
+                event.replaced = written;
+                event.commit();
+            }
+            if (written) {
+                getLog().info("Wrote the provenance file " + newFile + ".");
+            } else {
+                getLog().info("The provenance file " + newFile + " is up to date.");
+            }
         } catch (Exception e) {
             throw new MojoExecutionException("Failed creating the provenance file or writing the provenance file contents: " + e.getMessage(), e);
-        } finally {
-            if (jsonWriter != null) {
-                try {
-                    jsonWriter.close();
-                } catch (Exception ignore) {}
+        }
+        if (signer != null) {
+            try (ProvenanceMetrics.Timer timer = metrics.time(Phase.SIGNING)) {
+                signProvenanceFile(signer, newFile, written);
+            }
+        }
+        metrics.finish();
+        getLog().info(metrics.getSummary());
+        writeMetrics(metrics);
+        if (tracer != null) {
+            tracer.record(metrics);
+        }
+    }
+
+    /**
+     * Returns the signer of the session for the signing key, or {@code null} if the provenance is not signed.
+     */
+    private EnvelopeSigner getSigner() throws MojoExecutionException {
+        if (signingKey == null) {
+            return null;
+        }
+        try {
+            return EnvelopeSigner.get(mavenSession, signingKey, signingKeyPassword == null ? null : signingKeyPassword.toCharArray(), signingKeyAlias, signingKeyId);
+        } catch (SigningException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Signs the bytes of the provenance file, exactly as they were written, and writes the envelope next to it. An unchanged
+     * provenance file is not signed again if a signature in the existing envelope verifies against the public key of the
+     * signing key. If the public key is not known, the provenance file is always signed again.
+     */
+    private void signProvenanceFile(EnvelopeSigner signer, File provenanceFile, boolean provenanceChanged) throws MojoExecutionException {
+        File envelopeFile = getEnvelopeFile(provenanceFile);
+        SigningKey signingKey = signer.getSigningKey();
+        String keyId = signingKey.getKeyId();
+        byte[] provenance;
+        try {
+            provenance = Files.readAllBytes(provenanceFile.toPath());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed signing the provenance file " + provenanceFile + ": " + e.getMessage(), e);
+        }
+        if (!provenanceChanged && signingKey.getPublicKey() != null && isEnvelopeOf(envelopeFile, provenance, signingKey)) {
+            getLog().info("The envelope " + envelopeFile + " is up to date.");
+            return;
+        }
+        try (AtomicFileWriter file = new AtomicFileWriter(envelopeFile.toPath())) {
+            DsseEnvelope envelope = signer.sign(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, provenance);
+            try (JsonGenerator generator = Json.createGenerator(file.getWriter())) {
+                generator.write(envelope.toJson());
             }
+            file.getWriter().write('\n');
+            file.commit();
+        } catch (IOException | JsonException | SigningException e) {
+            throw new MojoExecutionException("Failed signing the provenance file " + provenanceFile + ": " + e.getMessage(), e);
         }
+        getLog().info("Signed the provenance file into " + envelopeFile + (keyId == null ? "." : " with the key " + keyId + "."));
     }
 
-    private JsonObject getFileContents() throws ProvenanceGenerationException {
-        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, getLog());
-        return generator.generateProvenanceFileData();
+    /**
+     * Returns whether the envelope file holds a single in-toto envelope of the payload with a signature that verifies against
+     * the public key of the signing key, and has its key ID. A missing or unreadable envelope file is not.
+     */
+    private static boolean isEnvelopeOf(File envelopeFile, byte[] payload, SigningKey signingKey) {
+        if (!envelopeFile.isFile()) {
+            return false;
+        }
+        DsseEnvelope envelope = null;
+        try (BufferedReader reader = Files.newBufferedReader(envelopeFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                if (envelope != null) {
+                    return false;
+                }
+                try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+                    envelope = DsseEnvelope.fromJson(jsonReader.readObject());
+                }
+            }
+        } catch (IOException | JsonException e) {
+            return false;
+        }
+        if (envelope == null || !DsseEnvelope.PAYLOAD_TYPE_IN_TOTO.equals(envelope.getPayloadType()) || !Arrays.equals(payload, envelope.getPayload())) {
+            return false;
+        }
+        // The key ID is only a hint, so the signature itself has to be verified
+        byte[] pae = DsseEnvelope.pae(envelope.getPayloadType(), payload);
+        for (DsseEnvelope.Signature signature : envelope.getSignatures()) {
+            if (Objects.equals(signingKey.getKeyId(), signature.getKeyId()) && verifies(signingKey, pae, signature.getSig())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean verifies(SigningKey signingKey, byte[] pae, byte[] sig) {
+        try {
+            Signature verifier = Signature.getInstance(signingKey.getSignatureAlgorithm());
+            verifier.initVerify(signingKey.getPublicKey());
+            verifier.update(pae);
+            return verifier.verify(sig);
+        } catch (GeneralSecurityException e) {
+            // A malformed signature is not a signature of the key
+            return false;
+        }
+    }
+
+    private File getEnvelopeFile(File provenanceFile) {
+        if (envelopeFileName != null && !envelopeFileName.trim().isEmpty()) {
+            return new File(provenanceFile.getParentFile(), envelopeFileName.trim());
+        }
+        String name = provenanceFile.getName();
+        if (name.endsWith(".json")) {
+            name = name.substring(0, name.length() - ".json".length());
+        }
+        return new File(provenanceFile.getParentFile(), name + ".intoto.jsonl");
+    }
+
+    /**
+     * Returns the tracer of the session, or {@code null} if spans are not exported.
+     */
+    private ProvenanceTracer getTracer() throws MojoExecutionException {
+        if (otlpEndpoint == null || otlpEndpoint.trim().isEmpty()) {
+            return null;
+        }
+        URI endpoint;
+        try {
+            endpoint = new URI(otlpEndpoint.trim());
+        } catch (URISyntaxException e) {
+            throw new MojoExecutionException("The OTLP endpoint " + otlpEndpoint + " is not a valid URL: " + e.getMessage(), e);
+        }
+        if (!"http".equalsIgnoreCase(endpoint.getScheme()) && !"https".equalsIgnoreCase(endpoint.getScheme())) {
+            throw new MojoExecutionException("The OTLP endpoint " + otlpEndpoint + " is not an HTTP or HTTPS URL.");
+        }
+        Map<String, String> headers = getOtlpHeaders();
+        return ProvenanceTracer.get(mavenSession, () -> new BatchSpanProcessor(new OtlpHttpExporter(endpoint, headers, Duration.ofMillis(otlpTimeout)), otlpTimeout, getLog()));
+    }
+
+    private Map<String, String> getOtlpHeaders() throws MojoExecutionException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (otlpHeaders == null) {
+            return headers;
+        }
+        for (String header : otlpHeaders.split(",")) {
+            if (header.trim().isEmpty()) {
+                continue;
+            }
+            int separator = header.indexOf('=');
+            if (separator <= 0) {
+                throw new MojoExecutionException("The OTLP header " + header.trim() + " is not of the form name=value.");
+            }
+            headers.put(header.substring(0, separator).trim(), header.substring(separator + 1).trim());
+        }
+        return headers;
+    }
+
+    /**
+     * Writes the metrics of the run to the configured report files. The metrics do not affect the provenance, so failing to
+     * write them only logs a warning.
+     */
+    private void writeMetrics(ProvenanceMetrics metrics) {
+        if (metricsReportFile != null && !metricsReportFile.trim().isEmpty()) {
+            File reportFile = resolveOutputFile(metricsReportFile);
+            try (AtomicFileWriter file = newAtomicFileWriter(reportFile)) {
+                try (JsonGenerator generator = Json.createGeneratorFactory(OutputFormat.PRETTY.getGeneratorConfig()).createGenerator(file.getWriter())) {
+                    generator.write(metrics.toJson());
+                }
+                file.commit();
+            } catch (IOException | JsonException e) {
+                getLog().warn("Failed to write the provenance metrics report " + reportFile + ": " + e.getMessage());
+            }
+        }
+        if (prometheusMetricsFile != null && !prometheusMetricsFile.trim().isEmpty()) {
+            File textFile = resolveOutputFile(prometheusMetricsFile);
+            try (AtomicFileWriter file = newAtomicFileWriter(textFile)) {
+                new PrometheusTextWriter(file.getWriter()).write(metrics);
+                file.commit();
+            } catch (IOException e) {
+                getLog().warn("Failed to write the provenance metrics to " + textFile + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static AtomicFileWriter newAtomicFileWriter(File file) throws IOException {
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        return new AtomicFileWriter(file.toPath());
+    }
+
+    /**
+     * Fingerprints everything the provenance is generated from, without reading the content of any file. Settings that only
+     * affect how the provenance is generated, such as the number of digest threads, are not part of the fingerprint.
+     */
+    private InputFingerprint getInputFingerprint(File provenanceFile) throws MojoExecutionException {
+        InputFingerprint fingerprint = new InputFingerprint()
+                .put("plugin.version", pluginVersion)
+                .put("config.builderId", builderId)
+                .put("config.buildType", buildType)
+                .put("config.provenanceFile", provenanceFile.getAbsolutePath())
+                .put("config.aggregate", aggregate)
+                .put("config.digestAlgorithms", digestAlgorithms)
+                .put("config.includeClassifiers", includeClassifiers)
+                .put("config.excludeClassifiers", excludeClassifiers)
+                .put("config.includeTypes", includeTypes)
+                .put("config.excludeTypes", excludeTypes)
+                .put("config.dependencyDigests", dependencyDigests)
+                .put("config.useChecksumFiles", useChecksumFiles)
+                .put("config.checksumSpotCheckRate", String.valueOf(checksumSpotCheckRate))
+                .put("config.outputFormat", outputFormat)
+                .put("config.checkWorktree", checkWorktree)
+                .put("config.limitWorktreeCheckToModules", limitWorktreeCheckToModules)
+                .put("config.signingKeyAlias", signingKeyAlias)
+                .put("config.signingKeyId", signingKeyId)
+                .put("config.envelopeFileName", envelopeFileName)
+                .putAll("userProperty.", mavenSession.getUserProperties());
+        if (getOutputFormat() == OutputFormat.CANONICAL) {
+            // The timestamp of a reproducible build is recorded in place of the time the build started
+            MavenProject owner = aggregate && mavenSession.getTopLevelProject() != null ? mavenSession.getTopLevelProject() : project;
+            fingerprint.put("build.outputTimestamp", owner.getProperties().getProperty(ProvenanceGenerator.PROPERTY_OUTPUT_TIMESTAMP))
+                    .put("env.SOURCE_DATE_EPOCH", System.getenv(ProvenanceGenerator.ENV_SOURCE_DATE_EPOCH));
+        }
+        if (signingKey != null) {
+            fingerprint.putFile("config.signingKey", signingKey);
+        }
+        fingerprint.put("git.head", getGitHead(aggregate ? new File(mavenSession.getExecutionRootDirectory()) : project.getBasedir()));
+        try {
+            for (File subject : new PackageTypeUtils(project, mavenSession, getLog(), aggregate, getSubjectFilter()).getBuiltPackage()) {
+                fingerprint.putFile("subject." + subject.getAbsolutePath(), subject);
+            }
+        } catch (PackageFileException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+        List<MavenProject> projects = aggregate ? ReactorIndex.get(mavenSession).getProjects() : Collections.singletonList(project);
+        if (checkWorktree) {
+            // Editing a tracked file changes the provenance without changing any other input
+            fingerprint.put("git.dirty", getWorkingTreeState(projects));
+        }
+        for (MavenProject prj : projects) {
+            // Modules can belong to nested repositories
+            fingerprint.put("git.head." + prj.getId(), getGitHead(prj.getBasedir()));
+            String prefix = "dependency." + prj.getId() + ".";
+            for (Object resolved : prj.getArtifacts()) {
+                Artifact artifact = (Artifact) resolved;
+                String coordinates = artifact.getId() + ":" + artifact.getScope() + ":" + artifact.isOptional();
+                if (artifact.isSnapshot() && artifact.getFile() != null) {
+                    // A snapshot can be replaced without its coordinates changing
+                    fingerprint.putFile(prefix + coordinates, artifact.getFile());
+                } else {
+                    fingerprint.put(prefix + coordinates, "");
+                }
+            }
+            List<Dependency> dependencies = prj.getDependencies();
+            for (Dependency dependency : dependencies) {
+                fingerprint.put(prefix + "declared." + dependency.getManagementKey() + ":" + dependency.getVersion() + ":" + dependency.getScope(), "");
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns whether the working tree of each repository of the projects is dirty, or {@code null} if it cannot be checked.
+     */
+    private String getWorkingTreeState(List<MavenProject> projects) {
+        List<File> directories = new ArrayList<>();
+        for (MavenProject prj : projects) {
+            if (prj.getBasedir() != null) {
+                directories.add(prj.getBasedir());
+            }
+        }
+        GitUtils gitUtils = new GitUtils(GitRepositoryService.get(mavenSession), aggregate ? new File(mavenSession.getExecutionRootDirectory()) : project.getBasedir());
+        StringBuilder state = new StringBuilder();
+        try {
+            for (GitMetadata repository : gitUtils.getGitRepositories(directories)) {
+                boolean dirty = gitUtils.isWorkingTreeDirty(repository, limitWorktreeCheckToModules ? directories : Collections.<File> emptyList());
+                state.append(repository.getGitDir()).append('=').append(dirty).append(';');
+            }
+        } catch (GitRepositoryException e) {
+            return null;
+        }
+        return state.toString();
+    }
+
+    private String getGitHead(File directory) {
+        try {
+            return new GitUtils(GitRepositoryService.get(mavenSession), directory).getHead();
+        } catch (GitRepositoryException e) {
+            return null;
+        }
+    }
+
+    private OutputFormat getOutputFormat() throws MojoExecutionException {
+        try {
+            return OutputFormat.fromName(outputFormat);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
+
+    private ProvenanceOptions getProvenanceOptions() throws MojoExecutionException {
+        return new ProvenanceOptions.Builder()
+                .aggregate(aggregate)
+                .digestThreads(digestThreads)
+                .digestCacheDirectory(useDigestCache ? getDigestCacheDirectory() : null)
+                .digestAlgorithms(getDigestAlgorithms())
+                .subjectFilter(getSubjectFilter())
+                .dependencyDigests(dependencyDigests)
+                .useChecksumFiles(useChecksumFiles)
+                .checksumSpotCheckRate(checksumSpotCheckRate)
+                .checkWorktree(checkWorktree)
+                .limitWorktreeCheckToModules(limitWorktreeCheckToModules)
+                .build();
+    }
+
+    private ArtifactFilter getSubjectFilter() {
+        return new ArtifactFilter(includeClassifiers, excludeClassifiers, includeTypes, excludeTypes);
+    }
+
+    private List<DigestAlgorithm> getDigestAlgorithms() throws MojoExecutionException {
+        Set<DigestAlgorithm> algorithms = new LinkedHashSet<>();
+        algorithms.add(DigestAlgorithm.SHA256);
+        try {
+            for (String algorithm : digestAlgorithms.split(",")) {
+                if (!algorithm.trim().isEmpty()) {
+                    algorithms.add(DigestAlgorithm.fromDigestSetName(algorithm));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+        return new ArrayList<>(algorithms);
+    }
+
+    private void writeFileContents(ProvenanceGenerator provenanceGenerator, OutputFormat format, Writer writer) throws ProvenanceGenerationException, IOException {
+        if (format == OutputFormat.CANONICAL) {
+            // Sorting needs the whole Statement, so canonical output is written from the JSON object
+            JsonObject provenance = provenanceGenerator.generateCanonicalProvenanceFileData();
+            try (ProvenanceMetrics.Timer timer = provenanceGenerator.getMetrics().time(Phase.SERIALIZATION)) {
+                new CanonicalJsonWriter(writer).write(provenance);
+            }
+            return;
+        }
+        try (JsonGenerator generator = Json.createGeneratorFactory(format.getGeneratorConfig()).createGenerator(writer)) {
+            provenanceGenerator.writeProvenance(generator);
+        }
     }
 
 }
@@ -16,25 +16,34 @@
 */
 package com.ibm.slsa.maven.plugin;
 
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 
+import com.ibm.intoto.attestation.ResourceDescriptor;
 import com.ibm.intoto.attestation.Statement;
 import com.ibm.intoto.attestation.Subject;
-import com.ibm.intoto.attestation.custom.resource.descriptors.file.FileResourceDescriptor;
-import com.ibm.intoto.attestation.custom.resource.descriptors.file.exceptions.ResourceFileException;
 import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
-import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
 import com.ibm.intoto.attestation.exceptions.StatementValueNullException;
 import com.ibm.intoto.attestation.utils.Utils;
 import com.ibm.slsa.BuildDefinition;
 import com.ibm.slsa.BuildMetadata;
 import com.ibm.slsa.Builder.BuilderBuilder;
+import com.ibm.slsa.JsonWritable;
 import com.ibm.slsa.RunDetails;
 import com.ibm.slsa.SlsaPredicate;
 import com.ibm.slsa.maven.plugin.exceptions.BuildDefinitionGenerationException;
@@ -42,52 +51,153 @@ import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
 import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
 import com.ibm.slsa.maven.plugin.exceptions.SlsaPredicateGenerationException;
 import com.ibm.slsa.maven.plugin.exceptions.StatementException;
+import com.ibm.slsa.maven.plugin.utils.digest.DependencyDigester;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestCache;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+import com.ibm.slsa.maven.plugin.utils.digest.SubjectDigester;
+import com.ibm.slsa.maven.plugin.utils.digest.exceptions.SubjectDigestException;
+import com.ibm.slsa.maven.plugin.utils.git.GitMetadata;
+import com.ibm.slsa.maven.plugin.utils.git.GitRepositoryService;
 import com.ibm.slsa.maven.plugin.utils.git.GitUtils;
+import com.ibm.slsa.maven.plugin.utils.jfr.SerializationEvent;
+import com.ibm.slsa.maven.plugin.utils.json.CanonicalJsonWriter;
+import com.ibm.slsa.maven.plugin.utils.json.StatementWriter;
 import com.ibm.slsa.maven.plugin.utils.maven.MavenUtils;
+import com.ibm.slsa.maven.plugin.utils.maven.ReactorIndex;
+import com.ibm.slsa.maven.plugin.utils.maven.ResolvedDependency;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Phase;
 import com.ibm.slsa.maven.plugin.utils.war.PackageTypeUtils;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.PackageFileException;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.PackageFileNotFoundException;
 
 import jakarta.json.Json;
-import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
-import java.io.File;
+import jakarta.json.stream.JsonGenerator;
+
 /**
  * Generates provenance in the form of an in-toto attestation Statement (see https://github.com/in-toto/attestation/blob/main/spec/v1/statement.md).
  * The Statement's Predicate uses the SLSA v1 predicate format (see https://slsa.dev/provenance/v1). The subject of the statement
  * is limited to a single Resource Descriptor describing a single .war file located in the Maven project's build directory where
  * all files generated by the project are placed.
+ * <p>
+ * The time spent in each phase of the generation, and the number of files and bytes digested, are recorded in the
+ * {@link ProvenanceMetrics} returned by {@link #getMetrics()}.
  */
 public class ProvenanceGenerator {
 
     public static final String KEY_EXT_PARAMS_REPOSITORY = "repository";
     public static final String KEY_EXT_PARAMS_REF = "ref";
     public static final String KEY_EXT_PARAMS_USER_PROPERTIES = "userProperties";
+    public static final String KEY_ANNOTATION_DIRTY = "dirty";
+
+    /**
+     * The property that sets the timestamp of the build outputs of a reproducible Maven build.
+     */
+    public static final String PROPERTY_OUTPUT_TIMESTAMP = "project.build.outputTimestamp";
+
+    /**
+     * The environment variable that sets the timestamp of a reproducible build, in seconds since the epoch.
+     */
+    public static final String ENV_SOURCE_DATE_EPOCH = "SOURCE_DATE_EPOCH";
 
     private String builderId;
     private String buildType;
+    private MavenProject project;
     private MavenSession mavenSession;
+    private boolean aggregate;
+    private boolean checkWorktree;
+    private boolean limitWorktreeCheckToModules;
+    private Log log;
     private GitUtils gitUtils;
     private PackageTypeUtils packageUtils;
     private MavenUtils mavenUtils;
+    private SubjectDigester subjectDigester;
+    private DigestCache digestCache;
+    private FileDigester fileDigester;
+    private DependencyDigester dependencyDigester;
+    private ProvenanceMetrics metrics;
 
     public ProvenanceGenerator(String builderId, String buildType, MavenProject project, MavenSession mavenSession, Log log) {
+        this(builderId, buildType, project, mavenSession, log, new ProvenanceOptions.Builder().build());
+    }
+
+    public ProvenanceGenerator(String builderId, String buildType, MavenProject project, MavenSession mavenSession, Log log, ProvenanceOptions options) {
+        this.metrics = new ProvenanceMetrics(getProjectId(project, mavenSession, options.isAggregate()));
         this.builderId = builderId;
         this.buildType = buildType;
+        this.project = project;
         this.mavenSession = mavenSession;
-        this.gitUtils = new GitUtils();
-        this.packageUtils = new PackageTypeUtils(project, mavenSession, log);
-        this.mavenUtils = new MavenUtils(project, mavenSession);
+        this.aggregate = options.isAggregate();
+        this.checkWorktree = options.isCheckWorktree();
+        this.limitWorktreeCheckToModules = options.isLimitWorktreeCheckToModules();
+        this.log = log;
+        this.gitUtils = new GitUtils(GitRepositoryService.get(mavenSession), getRootDirectory());
+        this.packageUtils = new PackageTypeUtils(project, mavenSession, log, options.isAggregate(), options.getSubjectFilter());
+        int digestThreads = options.getDigestThreads() > 0 ? options.getDigestThreads() : SubjectDigester.getDefaultThreadCount(mavenSession, options.isAggregate());
+        // Subjects and dependencies share one cache, saved once the provenance has been generated
+        this.digestCache = options.getDigestCacheDirectory() == null ? null : DigestCache.load(options.getDigestCacheDirectory());
+        this.fileDigester = new FileDigester(options.getDigestAlgorithms());
+        this.subjectDigester = new SubjectDigester(digestThreads, fileDigester, digestCache);
+        this.dependencyDigester = options.isDependencyDigests() ? new DependencyDigester(digestThreads, digestCache, options.isUseChecksumFiles(), options.getChecksumSpotCheckRate(), log) : null;
+        this.mavenUtils = new MavenUtils(project, mavenSession, options.isAggregate(), dependencyDigester);
+    }
+
+    /**
+     * Returns the ID of the project the provenance describes: the top-level project when aggregating.
+     */
+    private static String getProjectId(MavenProject project, MavenSession mavenSession, boolean aggregate) {
+        MavenProject owner = getOwner(project, mavenSession, aggregate);
+        return owner.getId() == null ? "" : owner.getId();
+    }
+
+    private static MavenProject getOwner(MavenProject project, MavenSession mavenSession, boolean aggregate) {
+        return aggregate && mavenSession.getTopLevelProject() != null ? mavenSession.getTopLevelProject() : project;
+    }
+
+    /**
+     * Returns the metrics of this generator, which accumulate over every generation.
+     */
+    public ProvenanceMetrics getMetrics() {
+        return metrics;
     }
 
     public JsonObject generateProvenanceFileData() throws ProvenanceGenerationException {
+        return generateProvenanceFileData(false);
+    }
+
+    /**
+     * Generates the provenance with the subject and resolved dependencies sorted rather than in reactor order: the subject and
+     * the Git repositories by their canonical JSON text, and the Maven dependencies by their coordinates. Both are unordered
+     * collections, so sorting them does not change the meaning of the provenance, but makes it independent of the order in
+     * which the reactor visits the projects.
+     * <p>
+     * The {@code startedOn} time of the build is taken from the {@value #PROPERTY_OUTPUT_TIMESTAMP} property, or else the
+     * {@value #ENV_SOURCE_DATE_EPOCH} environment variable, and is left out if neither is set, so that the same inputs always
+     * produce the same provenance.
+     */
+    public JsonObject generateCanonicalProvenanceFileData() throws ProvenanceGenerationException {
+        return generateProvenanceFileData(true);
+    }
+
+    private JsonObject generateProvenanceFileData(boolean canonicalOrder) throws ProvenanceGenerationException {
         try {
-            Subject subject = buildSubject();
-            SlsaPredicate predicate = buildSlsaPredicate();
-            Statement statement = buildStatement(subject, predicate);
-            return statement.toJson();
+            List<ResourceDescriptor> subject = digestSubject();
+            SlsaPredicate predicate = buildSlsaPredicate(canonicalOrder);
+            recordDigestCounts();
+            saveDigestCache();
+            SerializationEvent event = new SerializationEvent();
+            event.begin();
+            JsonObject statement;
+            try (ProvenanceMetrics.Timer timer = metrics.time(Phase.SERIALIZATION)) {
+                if (canonicalOrder) {
+                    subject = sortByCanonicalJson(subject);
+                }
+                statement = buildStatement(subject, predicate).toJson();
+            }
+            commitSerializationEvent(event, false, subject.size());
+            return statement;
         } catch (PackageFileNotFoundException e) {
             // Allow for now
             return JsonObject.EMPTY_JSON_OBJECT;
@@ -96,34 +206,142 @@ public class ProvenanceGenerator {
         }
     }
 
-    private Subject buildSubject() throws DigestCalculationException, PackageFileException, ResourceFileException {
-        // Subject reflects only a single .war file located in the Maven project's build directory
-        Subject.Builder subjectBuilder = new Subject.Builder();
-        for (File file : packageUtils.getBuiltPackage()) {
-            FileResourceDescriptor fileResourceDescriptor = new FileResourceDescriptor(file);
-            subjectBuilder.resourceDescriptor(fileResourceDescriptor);
+    /**
+     * Writes the same provenance as {@link #generateProvenanceFileData()} to the generator, streaming the predicate, and each
+     * resolved dependency, instead of building the Statement in memory. Nothing is written until all of the provenance data
+     * has been gathered.
+     */
+    public void writeProvenance(JsonGenerator generator) throws ProvenanceGenerationException {
+        List<ResourceDescriptor> subject;
+        SlsaPredicate predicate;
+        SerializationEvent event = new SerializationEvent();
+        try {
+            subject = digestSubject();
+            predicate = buildSlsaPredicate(false);
+            recordDigestCounts();
+            saveDigestCache();
+        } catch (PackageFileNotFoundException e) {
+            // Allow for now
+            generator.write(JsonObject.EMPTY_JSON_OBJECT);
+            return;
+        } catch (Exception e) {
+            throw new ProvenanceGenerationException(e.getMessage(), e);
+        }
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.SERIALIZATION)) {
+            event.begin();
+            new StatementWriter(generator).write(subject, predicate);
+        }
+        commitSerializationEvent(event, true, subject.size());
+    }
+
+    private void commitSerializationEvent(SerializationEvent event, boolean streaming, int subjects) {
+        if (event.shouldCommit()) {
+            event.project = metrics.getProject();
+            event.streaming = streaming;
+            event.subjects = subjects;
+            event.commit();
+        }
+    }
+
+    private List<ResourceDescriptor> digestSubject() throws PackageFileException, SubjectDigestException {
+        List<File> packageFiles;
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.SUBJECT_DISCOVERY)) {
+            packageFiles = packageUtils.getBuiltPackage();
+        }
+        // Subject reflects the package files built by the projects, digested concurrently but kept in project order
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.DIGESTING)) {
+            return subjectDigester.digest(packageFiles);
+        }
+    }
+
+    /**
+     * Records the files digested, and the digests reused, by the digesters of this generator.
+     */
+    private void recordDigestCounts() {
+        long files = fileDigester.getFilesDigested();
+        long bytes = fileDigester.getBytesDigested();
+        long checksumFileHits = 0;
+        if (dependencyDigester != null) {
+            files += dependencyDigester.getFileDigester().getFilesDigested();
+            bytes += dependencyDigester.getFileDigester().getBytesDigested();
+            checksumFileHits = dependencyDigester.getChecksumFileHits();
+        }
+        metrics.recordDigests(files, bytes, digestCache == null ? 0 : digestCache.getHits(), checksumFileHits);
+        metrics.recordSubjectDigests(fileDigester.getFilesDigested(), fileDigester.getBytesDigested());
+    }
+
+    private void saveDigestCache() {
+        if (digestCache == null) {
+            return;
+        }
+        int lookups = digestCache.getHits() + digestCache.getMisses();
+        log.info(String.format("Digest cache hit rate: %d/%d files (%.0f%%)", digestCache.getHits(), lookups, lookups == 0 ? 0.0 : 100.0 * digestCache.getHits() / lookups));
+        try {
+            digestCache.save();
+        } catch (IOException e) {
+            log.warn("Failed to save the digest cache to " + digestCache.getCacheFile() + ": " + e.getMessage());
         }
-        return subjectBuilder.build();
     }
 
-    private SlsaPredicate buildSlsaPredicate() throws SlsaPredicateGenerationException {
+    private List<ResourceDescriptor> sortByCanonicalJson(List<ResourceDescriptor> resourceDescriptors) {
+        List<ResourceDescriptor> sorted = new ArrayList<>(resourceDescriptors);
+        sorted.sort(Comparator.comparing(resourceDescriptor -> CanonicalJsonWriter.toCanonicalString(resourceDescriptor.toJson())));
+        return sorted;
+    }
+
+    private SlsaPredicate buildSlsaPredicate(boolean canonicalOrder) throws SlsaPredicateGenerationException {
         try {
-            BuildDefinition buildDefinition = buildBuildDefinition();
-            RunDetails runDetails = buildRunDetails();
+            BuildDefinition buildDefinition = buildBuildDefinition(canonicalOrder);
+            RunDetails runDetails = buildRunDetails(canonicalOrder);
             return new SlsaPredicate(buildDefinition, runDetails);
         } catch (BuildDefinitionGenerationException e) {
             throw new SlsaPredicateGenerationException(e.getMessage(), e);
         }
     }
 
-    private BuildDefinition buildBuildDefinition() throws BuildDefinitionGenerationException {
+    /**
+     * Returns the directory whose Git repository is the source of the build: the directory Maven was executed from when
+     * aggregating, otherwise the base directory of the project.
+     */
+    private File getRootDirectory() {
+        if (aggregate && mavenSession.getExecutionRootDirectory() != null) {
+            return new File(mavenSession.getExecutionRootDirectory());
+        }
+        if (!aggregate && project.getBasedir() != null) {
+            return project.getBasedir();
+        }
+        return new File(".");
+    }
+
+    /**
+     * Returns the base directories of the projects of the reactor when aggregating, whose repositories can differ from the
+     * repository of the root directory when the reactor contains nested repositories.
+     */
+    private List<File> getModuleDirectories() {
+        List<File> directories = new ArrayList<>();
+        if (aggregate) {
+            for (MavenProject prj : ReactorIndex.get(mavenSession).getProjects()) {
+                if (prj.getBasedir() != null) {
+                    directories.add(prj.getBasedir());
+                }
+            }
+        }
+        return directories;
+    }
+
+    private BuildDefinition buildBuildDefinition(boolean canonicalOrder) throws BuildDefinitionGenerationException {
         try {
-            GitRepositoryResourceDescriptor gitRepositoryResourceDescriptor = gitUtils.getGitRepositoryResourceDescriptor();
-            JsonObject externalParameters = populateExternalParameters(gitRepositoryResourceDescriptor);
+            List<GitMetadata> gitRepositories;
+            GitRepositoryResourceDescriptor repoResourceDescriptor;
+            try (ProvenanceMetrics.Timer timer = metrics.time(Phase.GIT_METADATA)) {
+                // The first repository is the one containing the root directory
+                gitRepositories = gitUtils.getGitRepositories(getModuleDirectories());
+                repoResourceDescriptor = gitUtils.getGitRepositoryResourceDescriptor(gitRepositories.get(0));
+            }
+            JsonObject externalParameters = populateExternalParameters(repoResourceDescriptor);
 
             BuildDefinition.Builder buildDefinitionBuilder = new BuildDefinition.Builder(buildType, externalParameters);
-            JsonArray resolvedDependencies = populateResolvedDependencies(gitRepositoryResourceDescriptor);
-            buildDefinitionBuilder.resolvedDependencies(resolvedDependencies);
+            buildDefinitionBuilder.resolvedDependencies(populateResolvedDependencies(gitRepositories, canonicalOrder));
             return buildDefinitionBuilder.build();
         } catch (GitRepositoryException e) {
             throw new BuildDefinitionGenerationException(e.getMessage(), e);
@@ -138,29 +356,124 @@ public class ProvenanceGenerator {
         return builder.build();
     }
 
-    private JsonArray populateResolvedDependencies(GitRepositoryResourceDescriptor repoResourceDescriptor) {
-        JsonArrayBuilder builder = Json.createArrayBuilder();
-        builder.add(repoResourceDescriptor.toJson());
-        mavenUtils.addMavenProjectDependencies(builder);
-        return builder.build();
+    /**
+     * Returns the Git repositories followed by the Maven dependencies. In canonical order, the few repositories are sorted by
+     * their canonical JSON text and the dependencies by their coordinates, so the dependencies are not serialized to be sorted.
+     */
+    private List<JsonWritable> populateResolvedDependencies(List<GitMetadata> gitRepositories, boolean canonicalOrder) throws GitRepositoryException {
+        List<JsonObject> repositories = new ArrayList<>(gitRepositories.size());
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.GIT_METADATA)) {
+            for (GitMetadata gitRepository : gitRepositories) {
+                repositories.add(populateGitRepositoryDependency(gitRepository));
+            }
+        }
+        List<ResolvedDependency> dependencies;
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.DEPENDENCY_COLLECTION)) {
+            dependencies = mavenUtils.getMavenProjectDependencies();
+        }
+        if (canonicalOrder) {
+            repositories.sort(Comparator.comparing(CanonicalJsonWriter::toCanonicalString));
+            dependencies.sort(ResolvedDependency.COORDINATE_ORDER);
+        }
+        List<JsonWritable> resolvedDependencies = new ArrayList<>(repositories.size() + dependencies.size());
+        for (JsonObject repository : repositories) {
+            resolvedDependencies.add(JsonWritable.of(repository));
+        }
+        resolvedDependencies.addAll(dependencies);
+        return resolvedDependencies;
+    }
+
+    /**
+     * Returns the resolved dependency of the repository, annotated with whether its working tree differed from the recorded
+     * commit when the working tree check is enabled.
+     */
+    private JsonObject populateGitRepositoryDependency(GitMetadata gitRepository) throws GitRepositoryException {
+        JsonObject json = gitUtils.getGitRepositoryResourceDescriptor(gitRepository).toJson();
+        if (!checkWorktree) {
+            return json;
+        }
+        boolean dirty;
+        try {
+            dirty = gitUtils.isWorkingTreeDirty(gitRepository, limitWorktreeCheckToModules ? getProjectDirectories() : Collections.<File> emptyList());
+        } catch (GitRepositoryException e) {
+            log.warn("Failed to check the working tree of the Git repository " + gitRepository.getGitDir() + ": " + e.getMessage());
+            return json;
+        }
+        if (dirty) {
+            log.warn("The working tree of the Git repository " + gitRepository.getGitDir() + " differs from commit " + gitRepository.getCommit() + ".");
+        }
+        JsonObject annotations = Json.createObjectBuilder().add(KEY_ANNOTATION_DIRTY, dirty).build();
+        return Json.createObjectBuilder(json).add(ResourceDescriptor.KEY_ANNOTATIONS, annotations).build();
     }
 
-    private RunDetails buildRunDetails() {
-        BuildMetadata.Builder buildMetadataBuilder = new BuildMetadata.Builder();
-        buildMetadataBuilder.startedOn(getStartTime().toString());
+    /**
+     * Returns the base directories of the projects the provenance describes.
+     */
+    private List<File> getProjectDirectories() {
+        if (aggregate) {
+            return getModuleDirectories();
+        }
+        return project.getBasedir() == null ? Collections.<File> emptyList() : Collections.singletonList(project.getBasedir());
+    }
 
+    private RunDetails buildRunDetails(boolean reproducible) {
         BuilderBuilder builderBuilder = new BuilderBuilder(builderId);
 
         RunDetails.Builder runDetailsBuilder = new RunDetails.Builder(builderBuilder.build());
-        runDetailsBuilder.metadata(buildMetadataBuilder.build());
+        Instant startTime = reproducible ? getReproducibleTime() : mavenSession.getStartTime().toInstant();
+        if (startTime != null) {
+            BuildMetadata.Builder buildMetadataBuilder = new BuildMetadata.Builder();
+            buildMetadataBuilder.startedOn(ZonedDateTime.ofInstant(startTime, ZoneId.of(ZoneOffset.UTC.getId())).toString());
+            runDetailsBuilder.metadata(buildMetadataBuilder.build());
+        }
         return runDetailsBuilder.build();
     }
 
-    private ZonedDateTime getStartTime() {
-        return ZonedDateTime.ofInstant(mavenSession.getStartTime().toInstant(), ZoneId.of(ZoneOffset.UTC.getId()));
+    /**
+     * Returns the timestamp of a reproducible build, or {@code null} if the build does not set one. When aggregating, the
+     * timestamp of the top-level project is used.
+     */
+    private Instant getReproducibleTime() {
+        Properties properties = getOwner(project, mavenSession, aggregate).getProperties();
+        String outputTimestamp = properties == null ? null : properties.getProperty(PROPERTY_OUTPUT_TIMESTAMP);
+        if (outputTimestamp != null) {
+            return parseTimestamp(outputTimestamp, PROPERTY_OUTPUT_TIMESTAMP);
+        }
+        // Maven exposes the environment variables as "env." system properties
+        String sourceDateEpoch = mavenSession.getSystemProperties() == null ? null : mavenSession.getSystemProperties().getProperty("env." + ENV_SOURCE_DATE_EPOCH);
+        if (sourceDateEpoch == null) {
+            sourceDateEpoch = System.getenv(ENV_SOURCE_DATE_EPOCH);
+        }
+        return sourceDateEpoch == null ? null : parseTimestamp(sourceDateEpoch, ENV_SOURCE_DATE_EPOCH);
     }
 
-    private Statement buildStatement(Subject subject, SlsaPredicate predicate) throws StatementException {
+    /**
+     * Parses a timestamp given either in seconds since the epoch or as an ISO-8601 date and time with an offset, as accepted by
+     * the Maven plugins for {@value #PROPERTY_OUTPUT_TIMESTAMP}. A single non-digit character, such as the {@code "a"} used to
+     * disable reproducible builds in a child project, is treated as not set.
+     */
+    private Instant parseTimestamp(String value, String source) {
+        String timestamp = value.trim();
+        if (timestamp.isEmpty() || (timestamp.length() == 1 && !Character.isDigit(timestamp.charAt(0)))) {
+            return null;
+        }
+        try {
+            if (timestamp.chars().allMatch(Character::isDigit)) {
+                return Instant.ofEpochSecond(Long.parseLong(timestamp));
+            }
+            return OffsetDateTime.parse(timestamp).toInstant();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            log.warn("Ignoring the invalid timestamp \"" + value + "\" of " + source + ". The startedOn time is left out of the provenance.");
+            return null;
+        }
+    }
+
+    private Statement buildStatement(List<ResourceDescriptor> subjectResourceDescriptors, SlsaPredicate predicate) throws StatementException {
+        Subject.Builder subjectBuilder = new Subject.Builder();
+        for (ResourceDescriptor resourceDescriptor : subjectResourceDescriptors) {
+            subjectBuilder.resourceDescriptor(resourceDescriptor);
+        }
+        Subject subject = subjectBuilder.build();
         Statement.Builder statementBuilder;
         try {
             statementBuilder = new Statement.Builder(Statement.TYPE_IN_TOTO_STATEMENT, subject, SlsaPredicate.PREDICATE_TYPE_SLSA_PROVENANCE_V1);
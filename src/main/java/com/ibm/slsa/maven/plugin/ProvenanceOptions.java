@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestAlgorithm;
+import com.ibm.slsa.maven.plugin.utils.war.ArtifactFilter;
+
+/**
+ * Options that control how the {@link ProvenanceGenerator} collects the data for the provenance.
+ */
+public class ProvenanceOptions {
+
+    /**
+     * Whether the provenance describes every project in the reactor ({@code true}) or only the project executing the plugin.
+     */
+    private boolean aggregate;
+
+    /**
+     * Number of threads used to calculate the digests of the subjects. A value less than 1 sizes the pool automatically.
+     */
+    private int digestThreads;
+
+    /**
+     * Directory of the cache of subject and dependency digests, or {@code null} if every file is digested.
+     */
+    private File digestCacheDirectory;
+
+    /**
+     * Algorithms of the digests calculated for each subject, all calculated from a single read of the subject file.
+     */
+    private List<DigestAlgorithm> digestAlgorithms;
+
+    /**
+     * Selects which of the main and attached artifacts of the projects are subjects of the provenance.
+     */
+    private ArtifactFilter subjectFilter;
+
+    /**
+     * Whether the resolved Maven dependencies are recorded with the SHA-256 digests of their files in the local repository.
+     */
+    private boolean dependencyDigests;
+
+    /**
+     * Whether {@code .sha256} checksum files next to the dependencies in the local repository are trusted in place of digesting
+     * the dependencies.
+     */
+    private boolean useChecksumFiles;
+
+    /**
+     * Fraction, between 0 and 1, of the trusted checksum files that are verified by digesting the dependency anyway.
+     */
+    private double checksumSpotCheckRate;
+
+    /**
+     * Whether each Git repository is annotated with whether its working tree differs from the recorded commit.
+     */
+    private boolean checkWorktree;
+
+    /**
+     * Whether the working tree check is limited to the base directories of the projects the provenance describes.
+     */
+    private boolean limitWorktreeCheckToModules;
+
+    private ProvenanceOptions(Builder builder) {
+        this.aggregate = builder.aggregate;
+        this.digestThreads = builder.digestThreads;
+        this.digestCacheDirectory = builder.digestCacheDirectory;
+        this.digestAlgorithms = builder.digestAlgorithms;
+        this.subjectFilter = builder.subjectFilter;
+        this.dependencyDigests = builder.dependencyDigests;
+        this.useChecksumFiles = builder.useChecksumFiles;
+        this.checksumSpotCheckRate = builder.checksumSpotCheckRate;
+        this.checkWorktree = builder.checkWorktree;
+        this.limitWorktreeCheckToModules = builder.limitWorktreeCheckToModules;
+    }
+
+    public boolean isAggregate() {
+        return aggregate;
+    }
+
+    public int getDigestThreads() {
+        return digestThreads;
+    }
+
+    public File getDigestCacheDirectory() {
+        return digestCacheDirectory;
+    }
+
+    public List<DigestAlgorithm> getDigestAlgorithms() {
+        return digestAlgorithms;
+    }
+
+    public ArtifactFilter getSubjectFilter() {
+        return subjectFilter;
+    }
+
+    public boolean isDependencyDigests() {
+        return dependencyDigests;
+    }
+
+    public boolean isUseChecksumFiles() {
+        return useChecksumFiles;
+    }
+
+    public double getChecksumSpotCheckRate() {
+        return checksumSpotCheckRate;
+    }
+
+    public boolean isCheckWorktree() {
+        return checkWorktree;
+    }
+
+    public boolean isLimitWorktreeCheckToModules() {
+        return limitWorktreeCheckToModules;
+    }
+
+    public static class Builder {
+
+        private boolean aggregate = true;
+        private int digestThreads = 0;
+        private File digestCacheDirectory = null;
+        private List<DigestAlgorithm> digestAlgorithms = Collections.singletonList(DigestAlgorithm.SHA256);
+        private ArtifactFilter subjectFilter = ArtifactFilter.ALL;
+        private boolean dependencyDigests = false;
+        private boolean useChecksumFiles = true;
+        private double checksumSpotCheckRate = 0.0;
+        private boolean checkWorktree = false;
+        private boolean limitWorktreeCheckToModules = false;
+
+        public Builder aggregate(boolean aggregate) {
+            this.aggregate = aggregate;
+            return this;
+        }
+
+        public Builder digestThreads(int digestThreads) {
+            this.digestThreads = digestThreads;
+            return this;
+        }
+
+        public Builder digestCacheDirectory(File digestCacheDirectory) {
+            this.digestCacheDirectory = digestCacheDirectory;
+            return this;
+        }
+
+        public Builder digestAlgorithms(List<DigestAlgorithm> digestAlgorithms) {
+            this.digestAlgorithms = digestAlgorithms;
+            return this;
+        }
+
+        public Builder subjectFilter(ArtifactFilter subjectFilter) {
+            this.subjectFilter = subjectFilter;
+            return this;
+        }
+
+        public Builder dependencyDigests(boolean dependencyDigests) {
+            this.dependencyDigests = dependencyDigests;
+            return this;
+        }
+
+        public Builder useChecksumFiles(boolean useChecksumFiles) {
+            this.useChecksumFiles = useChecksumFiles;
+            return this;
+        }
+
+        public Builder checksumSpotCheckRate(double checksumSpotCheckRate) {
+            this.checksumSpotCheckRate = checksumSpotCheckRate;
+            return this;
+        }
+
+        public Builder checkWorktree(boolean checkWorktree) {
+            this.checkWorktree = checkWorktree;
+            return this;
+        }
+
+        public Builder limitWorktreeCheckToModules(boolean limitWorktreeCheckToModules) {
+            this.limitWorktreeCheckToModules = limitWorktreeCheckToModules;
+            return this;
+        }
+
+        public ProvenanceOptions build() {
+            return new ProvenanceOptions(this);
+        }
+    }
+
+}
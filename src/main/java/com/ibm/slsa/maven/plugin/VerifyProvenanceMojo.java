@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestCache;
+import com.ibm.slsa.maven.plugin.utils.digest.SubjectDigester;
+import com.ibm.slsa.maven.plugin.utils.digest.SubjectVerifier;
+import com.ibm.slsa.maven.plugin.utils.digest.SubjectVerifier.Result;
+import com.ibm.slsa.maven.plugin.utils.json.StatementSubjectReader;
+import com.ibm.slsa.maven.plugin.utils.json.StatementSubjectReader.Subject;
+
+import jakarta.json.JsonException;
+
+/**
+ * Verifies an existing provenance file by re-hashing each of its subjects on disk and comparing the digests with the recorded
+ * ones. The build fails if any subject is missing or does not match.
+ */
+@Mojo(name = "verify-provenance", defaultPhase = LifecyclePhase.VERIFY, aggregator = true, requiresProject = false, threadSafe = true)
+public class VerifyProvenanceMojo extends AbstractMojo {
+
+    /**
+     * The Maven session executing this plugin.
+     */
+    @Parameter(defaultValue = "${session}", required = true, readonly = true)
+    private MavenSession mavenSession;
+
+    /**
+     * The provenance file to verify. Relative paths are resolved against the directory Maven was executed from. By default,
+     * the aggregate provenance file written by the {@code generate-provenance} goal.
+     */
+    @Parameter(property = "provenanceFile")
+    private File provenanceFile;
+
+    /**
+     * Comma-separated list of the directories in which the subject files are looked up by name, in order. Relative paths are
+     * resolved against the directory Maven was executed from. By default, the build directories of the projects in the
+     * reactor.
+     */
+    @Parameter(property = "subjectDirectories")
+    private String subjectDirectories;
+
+    /**
+     * The number of threads used to re-hash the subject files. By default, the number of processors available to the build.
+     */
+    @Parameter(property = "digestThreads", defaultValue = "0")
+    private int digestThreads;
+
+    /**
+     * Whether digests recorded in the digest cache are reused for files whose size, last modified time, and file key are
+     * unchanged, rather than re-hashing every subject. Only enable this when the cache is as trusted as the build that
+     * generated the provenance. The cache is only read, so verification never changes the cache of the
+     * {@code generate-provenance} goal.
+     */
+    @Parameter(property = "useDigestCache", defaultValue = "false")
+    private boolean useDigestCache;
+
+    /**
+     * The directory in which the digest cache is stored. By default, {@code slsa-cache} in the build directory of the
+     * top-level project, as used by the {@code generate-provenance} goal.
+     */
+    @Parameter(property = "digestCacheDirectory")
+    private File digestCacheDirectory;
+
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        File file = getProvenanceFile();
+        if (!file.isFile()) {
+            throw new MojoExecutionException("The provenance file " + file + " does not exist.");
+        }
+        List<Subject> subjects;
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            subjects = new StatementSubjectReader(reader).read();
+        } catch (IOException | JsonException e) {
+            throw new MojoExecutionException("Failed reading the provenance file " + file + ": " + e.getMessage(), e);
+        }
+        if (subjects.isEmpty()) {
+            throw new MojoFailureException("The provenance file " + file + " has no subjects to verify.");
+        }
+
+        long start = System.nanoTime();
+        DigestCache digestCache = useDigestCache ? DigestCache.load(getDigestCacheDirectory()) : null;
+        int threads = digestThreads > 0 ? digestThreads : SubjectDigester.getDefaultThreadCount(mavenSession, true);
+        SubjectVerifier verifier = new SubjectVerifier(threads, digestCache);
+        List<Path> directories = getSubjectDirectories();
+        List<Result> results;
+        try {
+            results = verifier.verify(subjects, name -> resolveSubject(directories, name));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Verification of the provenance file " + file + " was interrupted.", e);
+        }
+
+        List<Result> failures = new ArrayList<>();
+        for (Result result : results) {
+            if (result.isVerified()) {
+                getLog().debug("Verified subject " + result.getSubject().getName() + " against " + result.getFile() + ".");
+            } else {
+                failures.add(result);
+                getLog().error("Subject " + result);
+            }
+        }
+        getLog().info(String.format("Verified %d of %d subjects of %s in %d ms (%d files re-hashed on %d threads, %d digests reused from the cache).", results.size() - failures.size(),
+                results.size(), file, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), verifier.getFilesDigested(), Math.min(threads, subjects.size()),
+                digestCache == null ? 0 : digestCache.getHits()));
+        if (!failures.isEmpty()) {
+            throw new MojoFailureException(failures.size() + " of " + results.size() + " subjects of the provenance file " + file + " could not be verified, the first being " + failures.get(0) + ".");
+        }
+    }
+
+    /**
+     * Returns the file of the subject with the given name in the first subject directory that has one, or {@code null}. Names
+     * that would resolve outside of the subject directories are never resolved.
+     */
+    static File resolveSubject(List<Path> directories, String name) {
+        for (Path directory : directories) {
+            Path file = directory.resolve(name).normalize();
+            if (file.startsWith(directory) && !file.equals(directory) && Files.isRegularFile(file)) {
+                return file.toFile();
+            }
+        }
+        return null;
+    }
+
+    private File getProvenanceFile() {
+        if (provenanceFile == null) {
+            return new File(new File(getExecutionRootDirectory(), GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH), GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_NAME);
+        }
+        return provenanceFile.isAbsolute() ? provenanceFile : new File(getExecutionRootDirectory(), provenanceFile.getPath());
+    }
+
+    private List<Path> getSubjectDirectories() {
+        Set<Path> directories = new LinkedHashSet<>();
+        if (subjectDirectories != null && !subjectDirectories.trim().isEmpty()) {
+            for (String directory : subjectDirectories.split(",")) {
+                if (!directory.trim().isEmpty()) {
+                    File file = new File(directory.trim());
+                    directories.add(normalize(file.isAbsolute() ? file : new File(getExecutionRootDirectory(), file.getPath())));
+                }
+            }
+        } else if (mavenSession != null && mavenSession.getProjects() != null) {
+            for (MavenProject project : mavenSession.getProjects()) {
+                directories.add(normalize(new File(project.getBuild().getDirectory())));
+            }
+        }
+        if (directories.isEmpty()) {
+            directories.add(normalize(getExecutionRootDirectory()));
+        }
+        return new ArrayList<>(directories);
+    }
+
+    private static Path normalize(File directory) {
+        return directory.toPath().toAbsolutePath().normalize();
+    }
+
+    private File getExecutionRootDirectory() {
+        if (mavenSession == null || mavenSession.getExecutionRootDirectory() == null) {
+            return new File(System.getProperty("user.dir"));
+        }
+        return new File(mavenSession.getExecutionRootDirectory());
+    }
+
+    private File getDigestCacheDirectory() {
+        if (digestCacheDirectory != null) {
+            return digestCacheDirectory;
+        }
+        MavenProject topLevelProject = mavenSession == null ? null : mavenSession.getTopLevelProject();
+        if (topLevelProject != null) {
+            return new File(topLevelProject.getBuild().getDirectory(), "slsa-cache");
+        }
+        return new File(getExecutionRootDirectory(), "target/slsa-cache");
+    }
+
+}
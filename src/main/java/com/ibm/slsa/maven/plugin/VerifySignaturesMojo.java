@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import com.ibm.slsa.maven.plugin.utils.dsse.EnvelopeVerifier;
+import com.ibm.slsa.maven.plugin.utils.dsse.EnvelopeVerifier.Result;
+import com.ibm.slsa.maven.plugin.utils.dsse.TrustedKeys;
+import com.ibm.slsa.maven.plugin.utils.io.AtomicFileWriter;
+import com.ibm.slsa.maven.plugin.utils.json.OutputFormat;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Verifies the DSSE signatures of provenance envelopes against a set of trusted public keys. Many envelope files, such as the
+ * envelopes of every project of a release train, are verified concurrently. The build fails if any file is not signed by a
+ * trusted key.
+ */
+@Mojo(name = "verify-signatures", defaultPhase = LifecyclePhase.VERIFY, aggregator = true, requiresProject = false, threadSafe = true)
+public class VerifySignaturesMojo extends AbstractMojo {
+
+    /**
+     * The Maven session executing this plugin.
+     */
+    @Parameter(defaultValue = "${session}", required = true, readonly = true)
+    private MavenSession mavenSession;
+
+    /**
+     * Comma-separated list of the envelope files to verify, or of directories that are searched recursively for files with
+     * the {@code .intoto.jsonl} extension. Relative paths are resolved against the directory Maven was executed from. By
+     * default, the directory to which the {@code generate-provenance} goal writes aggregate provenance.
+     */
+    @Parameter(property = "envelopes")
+    private String envelopes;
+
+    /**
+     * Comma-separated list of PEM files with the {@code PUBLIC KEY} or {@code CERTIFICATE} of each trusted key. The key ID of
+     * each key is the hex encoded SHA-256 digest of the DER encoded public key, the default key ID of the signatures of the
+     * {@code generate-provenance} goal, unless the file is given as {@code keyid=path}.
+     */
+    @Parameter(property = "trustedKeys", required = true)
+    private String trustedKeys;
+
+    /**
+     * The number of threads used to verify the envelopes. By default, the number of processors available to the build.
+     */
+    @Parameter(property = "verifyThreads", defaultValue = "0")
+    private int verifyThreads;
+
+    /**
+     * The file to which the result of verifying each envelope file is written as JSON. Relative paths are resolved against the
+     * directory Maven was executed from. By default, no report is written.
+     */
+    @Parameter(property = "signatureReportFile")
+    private File signatureReportFile;
+
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        TrustedKeys keys = loadTrustedKeys();
+        List<File> files = findEnvelopeFiles();
+        if (files.isEmpty()) {
+            throw new MojoFailureException("No envelope files were found in " + getEnvelopePaths() + ".");
+        }
+
+        long start = System.nanoTime();
+        int threads = verifyThreads > 0 ? verifyThreads : Runtime.getRuntime().availableProcessors();
+        EnvelopeVerifier verifier = new EnvelopeVerifier(threads, keys);
+        List<Result> results;
+        try {
+            results = verifier.verify(files);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Verification of the envelope signatures was interrupted.", e);
+        }
+        writeReport(results);
+
+        List<Result> failures = new ArrayList<>();
+        int envelopeCount = 0;
+        for (Result result : results) {
+            envelopeCount += result.getEnvelopes();
+            if (result.isVerified()) {
+                getLog().debug("Verified " + result.getFile() + ", signed by " + result.getKeyIds() + ".");
+            } else {
+                failures.add(result);
+                getLog().error("Envelope file " + result);
+            }
+        }
+        getLog().info(String.format("Verified the signatures of %d of %d envelope files (%d envelopes) in %d ms on %d threads.", results.size() - failures.size(), results.size(),
+                envelopeCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), Math.min(threads, files.size())));
+        if (!failures.isEmpty()) {
+            throw new MojoFailureException(failures.size() + " of " + results.size() + " envelope files could not be verified, the first being " + failures.get(0) + ".");
+        }
+    }
+
+    private TrustedKeys loadTrustedKeys() throws MojoExecutionException {
+        TrustedKeys keys = new TrustedKeys();
+        for (String entry : trustedKeys.split(",")) {
+            if (entry.trim().isEmpty()) {
+                continue;
+            }
+            String keyId = null;
+            String path = entry.trim();
+            int separator = path.indexOf('=');
+            if (separator > 0) {
+                keyId = path.substring(0, separator).trim();
+                path = path.substring(separator + 1).trim();
+            }
+            File file = resolve(path);
+            try {
+                List<String> keyIds = keys.load(file, keyId);
+                getLog().debug("Trusting the keys " + keyIds + " of " + file + ".");
+            } catch (IOException | GeneralSecurityException e) {
+                throw new MojoExecutionException("Failed loading the trusted keys of " + file + ": " + e.getMessage(), e);
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new MojoExecutionException("No trusted keys are configured.");
+        }
+        return keys;
+    }
+
+    private List<File> findEnvelopeFiles() throws MojoExecutionException {
+        Set<File> files = new LinkedHashSet<>();
+        for (File path : getEnvelopePaths()) {
+            if (path.isDirectory()) {
+                try (Stream<Path> walk = Files.walk(path.toPath())) {
+                    files.addAll(walk.filter(file -> file.getFileName().toString().endsWith(EnvelopeVerifier.ENVELOPE_FILE_EXTENSION) && Files.isRegularFile(file))
+                            .sorted()
+                            .map(Path::toFile)
+                            .collect(Collectors.toList()));
+                } catch (IOException e) {
+                    throw new MojoExecutionException("Failed searching " + path + " for envelope files: " + e.getMessage(), e);
+                }
+            } else {
+                // A missing file is reported as invalid rather than silently skipped
+                files.add(path);
+            }
+        }
+        return new ArrayList<>(files);
+    }
+
+    private List<File> getEnvelopePaths() {
+        List<File> paths = new ArrayList<>();
+        if (envelopes != null && !envelopes.trim().isEmpty()) {
+            for (String path : envelopes.split(",")) {
+                if (!path.trim().isEmpty()) {
+                    paths.add(resolve(path.trim()));
+                }
+            }
+        } else {
+            paths.add(resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH));
+        }
+        return paths;
+    }
+
+    private void writeReport(List<Result> results) throws MojoExecutionException {
+        if (signatureReportFile == null) {
+            return;
+        }
+        File reportFile = resolve(signatureReportFile.getPath());
+        reportFile.getAbsoluteFile().getParentFile().mkdirs();
+        try (AtomicFileWriter file = new AtomicFileWriter(reportFile.toPath())) {
+            try (JsonGenerator generator = Json.createGeneratorFactory(OutputFormat.PRETTY.getGeneratorConfig()).createGenerator(file.getWriter())) {
+                generator.write(EnvelopeVerifier.toJson(results));
+            }
+            file.commit();
+        } catch (IOException | JsonException e) {
+            throw new MojoExecutionException("Failed writing the signature report " + reportFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private File resolve(String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(getExecutionRootDirectory(), path);
+    }
+
+    private File getExecutionRootDirectory() {
+        if (mavenSession == null || mavenSession.getExecutionRootDirectory() == null) {
+            return new File(System.getProperty("user.dir"));
+        }
+        return new File(mavenSession.getExecutionRootDirectory());
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+
+import com.ibm.intoto.attestation.DigestSet;
+
+/**
+ * Calculates the SHA-256 digests of dependency files, typically located in the local Maven repository, concurrently on a
+ * bounded pool of threads.
+ * <p>
+ * Dependency files rarely change once they are in the local repository, so re-reading them on every build is avoided where
+ * possible. A {@code .sha256} checksum file next to the dependency, as stored by the Maven resolver when it is configured to
+ * download SHA-256 checksums, is trusted in place of reading the dependency. A configurable fraction of those checksum files can
+ * be spot-checked by reading the dependency, bypassing the {@link DigestCache}. On a mismatch the calculated digest is used, a
+ * warning is logged, and no checksum file is trusted for the remaining dependencies. Dependencies without a trusted checksum file
+ * are digested through the {@link DigestCache}, if one is given.
+ */
+public class DependencyDigester {
+
+    public static final String CHECKSUM_FILE_EXTENSION = ".sha256";
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final int threads;
+    private final FileDigester fileDigester = new FileDigester();
+    private final DigestCache digestCache;
+    private volatile boolean useChecksumFiles;
+    private final double spotCheckRate;
+    private final Log log;
+    private final AtomicInteger checksumFileHits = new AtomicInteger();
+
+    /**
+     * @param digestCache The cache of digests, or {@code null} if every dependency without a checksum file is digested.
+     * @param useChecksumFiles Whether {@code .sha256} checksum files next to the dependencies are trusted.
+     * @param spotCheckRate The fraction, between 0 and 1, of trusted checksum files that are verified by digesting the dependency.
+     */
+    public DependencyDigester(int threads, DigestCache digestCache, boolean useChecksumFiles, double spotCheckRate, Log log) {
+        this.threads = Math.max(1, threads);
+        this.digestCache = digestCache;
+        this.useChecksumFiles = useChecksumFiles;
+        this.spotCheckRate = Math.max(0, Math.min(1, spotCheckRate));
+        this.log = log;
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 digest of each file. Files that cannot be read are logged and left out of the result.
+     */
+    public Map<File, String> digest(Collection<File> files) {
+        List<File> uniqueFiles = new ArrayList<>(new LinkedHashSet<>(files));
+        Map<File, String> digests = new LinkedHashMap<>();
+        if (uniqueFiles.isEmpty()) {
+            return digests;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, uniqueFiles.size()), new DigestThreadFactory("slsa-dependency-digest-"));
+        try {
+            List<Future<String>> futures = new ArrayList<>(uniqueFiles.size());
+            for (File file : uniqueFiles) {
+                futures.add(executor.submit((Callable<String>) () -> digest(file)));
+            }
+            for (int i = 0; i < uniqueFiles.size(); i++) {
+                try {
+                    digests.put(uniqueFiles.get(i), futures.get(i).get());
+                } catch (ExecutionException e) {
+                    log.warn("Failed to calculate the digest of dependency " + uniqueFiles.get(i) + ": " + e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return digests;
+    }
+
+    private String digest(File file) throws IOException {
+        if (useChecksumFiles) {
+            String checksum = readChecksumFile(file);
+            if (checksum != null) {
+                if (spotCheckRate > 0 && ThreadLocalRandom.current().nextDouble() < spotCheckRate) {
+                    // Read the dependency itself, a cached digest would only confirm what was recorded from an earlier read
+                    String calculated = fileDigester.digest(file).get(DigestSet.ALG_SHA256);
+                    if (!checksum.equals(calculated)) {
+                        useChecksumFiles = false;
+                        log.warn("The " + CHECKSUM_FILE_EXTENSION + " checksum file of dependency " + file + " does not match its content. Using the calculated digest " + calculated
+                                + ", and no longer trusting checksum files for the remaining dependencies.");
+                    }
+                    return calculated;
+                }
+                checksumFileHits.incrementAndGet();
+                return checksum;
+            }
+        }
+        return calculate(file);
+    }
+
+    /**
+     * Returns the digester that calculates the digests of the dependencies without a trusted checksum file.
+     */
+    public FileDigester getFileDigester() {
+        return fileDigester;
+    }
+
+    /**
+     * Returns whether checksum files are still trusted, that is they are enabled and no spot check has found a mismatch.
+     */
+    public boolean isUsingChecksumFiles() {
+        return useChecksumFiles;
+    }
+
+    /**
+     * Returns the number of dependencies whose checksum file was trusted in place of digesting the dependency.
+     */
+    public int getChecksumFileHits() {
+        return checksumFileHits.get();
+    }
+
+    private String calculate(File file) throws IOException {
+        Map<String, String> digests = digestCache == null ? fileDigester.digest(file) : digestCache.getOrDigest(file, fileDigester);
+        return digests.get(DigestSet.ALG_SHA256);
+    }
+
+    /**
+     * Returns the digest in the checksum file of the dependency, or {@code null} if there is no valid checksum file.
+     */
+    private String readChecksumFile(File file) {
+        File checksumFile = new File(file.getPath() + CHECKSUM_FILE_EXTENSION);
+        if (!checksumFile.isFile()) {
+            return null;
+        }
+        try {
+            String content = new String(Files.readAllBytes(checksumFile.toPath()), StandardCharsets.US_ASCII).trim();
+            // Checksum files may contain just the digest, or the digest followed by the file name
+            String checksum = content.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+            return SHA256_HEX.matcher(checksum).matches() ? checksum : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
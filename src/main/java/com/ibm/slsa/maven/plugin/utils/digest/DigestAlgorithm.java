@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Digest algorithms that can be calculated for subjects, named as in the in-toto DigestSet specification (see
+ * https://github.com/in-toto/attestation/blob/main/spec/v1/digest_set.md).
+ */
+public enum DigestAlgorithm {
+
+    SHA1("sha1", "SHA-1"),
+    SHA224("sha224", "SHA-224"),
+    SHA256("sha256", "SHA-256"),
+    SHA384("sha384", "SHA-384"),
+    SHA512("sha512", "SHA-512"),
+    SHA512_224("sha512_224", "SHA-512/224"),
+    SHA512_256("sha512_256", "SHA-512/256"),
+    SHA3_224("sha3_224", "SHA3-224"),
+    SHA3_256("sha3_256", "SHA3-256"),
+    SHA3_384("sha3_384", "SHA3-384"),
+    SHA3_512("sha3_512", "SHA3-512"),
+    MD5("md5", "MD5");
+
+    private final String digestSetName;
+    private final String jcaName;
+
+    private DigestAlgorithm(String digestSetName, String jcaName) {
+        this.digestSetName = digestSetName;
+        this.jcaName = jcaName;
+    }
+
+    /**
+     * The name of the algorithm as used for the keys of a DigestSet, e.g. {@code sha256}.
+     */
+    public String getDigestSetName() {
+        return digestSetName;
+    }
+
+    public MessageDigest newMessageDigest() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance(jcaName);
+    }
+
+    /**
+     * Returns the algorithm with the given DigestSet name, ignoring case.
+     *
+     * @throws IllegalArgumentException If the name does not match a supported algorithm.
+     */
+    public static DigestAlgorithm fromDigestSetName(String name) {
+        for (DigestAlgorithm algorithm : values()) {
+            if (algorithm.digestSetName.equalsIgnoreCase(name.trim())) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported digest algorithm \"" + name + "\". Supported algorithms are: " + getSupportedNames());
+    }
+
+    private static String getSupportedNames() {
+        StringBuilder result = new StringBuilder();
+        for (DigestAlgorithm algorithm : values()) {
+            if (result.length() > 0) {
+                result.append(", ");
+            }
+            result.append(algorithm.digestSetName);
+        }
+        return result.toString();
+    }
+
+}
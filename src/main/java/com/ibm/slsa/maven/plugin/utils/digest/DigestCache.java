@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import com.ibm.slsa.maven.plugin.utils.io.AtomicFileWriter;
+
+/**
+ * An on-disk cache of file digests, keyed by the canonical path of the file. An entry is only used if the size, last
+ * modified time, and file key (e.g. device and inode) of the file still match the values recorded with the digests.
+ * <p>
+ * A file that is modified within the timestamp granularity of the file system, shortly after its digest was recorded, can
+ * keep the same size and last modified time. Like Git's "racy" index entries, an entry recorded less than
+ * {@link #RACY_WINDOW_MILLIS} after the file was last modified is therefore never trusted; the file is digested again and the
+ * entry is recorded anew.
+ */
+public class DigestCache {
+
+    public static final String CACHE_FILE_NAME = "digest-cache.properties";
+
+    static final long RACY_WINDOW_MILLIS = 2000;
+
+    private static final String KEY_VERSION = "cache.version";
+    private static final String VERSION = "1";
+    private static final String FIELD_SEPARATOR = "|";
+    private static final String DIGEST_SEPARATOR = ";";
+    private static final String LOCK_FILE_NAME = "digest-cache.lock";
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final File cacheFile;
+    private final Map<String, CacheEntry> loadedEntries;
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private DigestCache(File cacheFile, Map<String, CacheEntry> loadedEntries) {
+        this.cacheFile = cacheFile;
+        this.loadedEntries = loadedEntries;
+    }
+
+    /**
+     * Loads the cache stored in the given directory. A missing, unreadable, or incompatible cache file results in an empty
+     * cache.
+     */
+    public static DigestCache load(File directory) {
+        File cacheFile = new File(directory, CACHE_FILE_NAME);
+        return new DigestCache(cacheFile, read(cacheFile));
+    }
+
+    private static Map<String, CacheEntry> read(File cacheFile) {
+        Map<String, CacheEntry> loadedEntries = new ConcurrentHashMap<>();
+        if (cacheFile.isFile()) {
+            Properties properties = new Properties();
+            try (Reader in = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8)) {
+                properties.load(in);
+                if (VERSION.equals(properties.getProperty(KEY_VERSION))) {
+                    for (String path : properties.stringPropertyNames()) {
+                        CacheEntry entry = CacheEntry.parse(properties.getProperty(path));
+                        if (entry != null) {
+                            loadedEntries.put(path, entry);
+                        }
+                    }
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                loadedEntries.clear();
+            }
+        }
+        return loadedEntries;
+    }
+
+    /**
+     * Returns the cached digests of the file, or {@code null} if the file has to be digested. The digests are only returned if
+     * every one of the requested algorithms was cached, and only the requested algorithms are returned.
+     */
+    public Map<String, String> get(File file, BasicFileAttributes attributes, Iterable<String> algorithms) throws IOException {
+        String path = file.getCanonicalPath();
+        CacheEntry entry = loadedEntries.get(path);
+        if (entry != null && entry.matches(attributes) && !entry.isRacy() && entry.hasDigests(algorithms)) {
+            entries.put(path, entry);
+            hits.incrementAndGet();
+            return entry.getDigests(algorithms);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Records the digests of the file.
+     *
+     * @param attributes The attributes of the file, read before the file was digested.
+     * @param recordedAt The time, in milliseconds since the epoch, at which the file started to be digested.
+     */
+    public void put(File file, BasicFileAttributes attributes, long recordedAt, Map<String, String> digests) throws IOException {
+        entries.put(file.getCanonicalPath(), new CacheEntry(attributes, recordedAt, digests));
+    }
+
+    /**
+     * Merges the entries used or recorded since the cache was loaded into the cache file, and atomically replaces it. Saves
+     * to the same cache directory, from other threads or other builds, are serialized by a lock, so the entries saved by
+     * generators sharing the directory are kept. Entries for files that no longer exist are dropped so the cache does not
+     * grow without bound.
+     */
+    public void save() throws IOException {
+        Path directory = cacheFile.getParentFile().toPath();
+        Files.createDirectories(directory);
+        // A file lock is held by the whole JVM, so the threads of a parallel build also have to lock against each other
+        synchronized (LOCKS.computeIfAbsent(cacheFile.getCanonicalPath(), path -> new Object())) {
+            try (FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock lock = lockChannel.lock()) {
+                Map<String, CacheEntry> merged = read(cacheFile);
+                merged.keySet().removeIf(path -> !entries.containsKey(path) && !new File(path).exists());
+                merged.putAll(entries);
+                Properties properties = new Properties();
+                properties.setProperty(KEY_VERSION, VERSION);
+                for (Entry<String, CacheEntry> entry : merged.entrySet()) {
+                    properties.setProperty(entry.getKey(), entry.getValue().format());
+                }
+                try (AtomicFileWriter file = new AtomicFileWriter(cacheFile.toPath())) {
+                    properties.store(file.getWriter(), null);
+                    file.commit();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the cached digests of the file if they can be used, otherwise digests the file and records the result.
+     */
+    public Map<String, String> getOrDigest(File file, FileDigester fileDigester) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        Map<String, String> digests = get(file, attributes, fileDigester.getAlgorithms());
+        if (digests == null) {
+            long recordedAt = System.currentTimeMillis();
+            digests = fileDigester.digest(file);
+            put(file, attributes, recordedAt, digests);
+        }
+        return digests;
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    public File getCacheFile() {
+        return cacheFile;
+    }
+
+    private static class CacheEntry {
+
+        private final long size;
+        private final long lastModified;
+        private final String fileKey;
+        private final long recordedAt;
+        private final Map<String, String> digests;
+
+        private CacheEntry(long size, long lastModified, String fileKey, long recordedAt, Map<String, String> digests) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.fileKey = fileKey;
+            this.recordedAt = recordedAt;
+            this.digests = Collections.unmodifiableMap(new LinkedHashMap<>(digests));
+        }
+
+        private CacheEntry(BasicFileAttributes attributes, long recordedAt, Map<String, String> digests) {
+            this(attributes.size(), getLastModified(attributes), getFileKey(attributes), recordedAt, digests);
+        }
+
+        private boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModified == getLastModified(attributes) && fileKey.equals(getFileKey(attributes));
+        }
+
+        private boolean isRacy() {
+            return recordedAt - TimeUnit.NANOSECONDS.toMillis(lastModified) < RACY_WINDOW_MILLIS;
+        }
+
+        private boolean hasDigests(Iterable<String> algorithms) {
+            for (String algorithm : algorithms) {
+                if (!digests.containsKey(algorithm)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Map<String, String> getDigests(Iterable<String> algorithms) {
+            Map<String, String> result = new LinkedHashMap<>();
+            for (String algorithm : algorithms) {
+                result.put(algorithm, digests.get(algorithm));
+            }
+            return result;
+        }
+
+        private String format() {
+            StringBuilder result = new StringBuilder();
+            result.append(size).append(FIELD_SEPARATOR)
+                    .append(lastModified).append(FIELD_SEPARATOR)
+                    .append(fileKey).append(FIELD_SEPARATOR)
+                    .append(recordedAt).append(FIELD_SEPARATOR);
+            boolean first = true;
+            for (Entry<String, String> digest : digests.entrySet()) {
+                if (!first) {
+                    result.append(DIGEST_SEPARATOR);
+                }
+                result.append(digest.getKey()).append('=').append(digest.getValue());
+                first = false;
+            }
+            return result.toString();
+        }
+
+        private static CacheEntry parse(String value) {
+            String[] fields = value.split(Pattern.quote(FIELD_SEPARATOR), -1);
+            if (fields.length != 5) {
+                return null;
+            }
+            Map<String, String> digests = new LinkedHashMap<>();
+            for (String digest : fields[4].split(DIGEST_SEPARATOR)) {
+                int separator = digest.indexOf('=');
+                if (separator <= 0) {
+                    return null;
+                }
+                digests.put(digest.substring(0, separator), digest.substring(separator + 1));
+            }
+            return new CacheEntry(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2], Long.parseLong(fields[3]), digests);
+        }
+
+        private static long getLastModified(BasicFileAttributes attributes) {
+            return attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+        }
+
+        private static String getFileKey(BasicFileAttributes attributes) {
+            return String.valueOf(attributes.fileKey());
+        }
+    }
+
+}
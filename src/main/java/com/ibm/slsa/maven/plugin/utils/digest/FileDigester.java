@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.maven.plugin.utils.jfr.FileDigestEvent;
+
+/**
+ * Calculates file digests directly from a {@link FileChannel}, without going through an {@link java.io.InputStream}. Files
+ * up to {@link #MAPPED_READ_THRESHOLD} bytes are read through a reusable direct buffer. Larger files are mapped into memory
+ * one window of {@link #MAPPED_WINDOW_SIZE} bytes at a time, so the heap used is the same regardless of the file size.
+ * <p>
+ * Every configured algorithm is calculated from a single read of the file: each chunk is copied once into a reusable array
+ * that then updates all of the message digests.
+ * <p>
+ * The buffers are borrowed from a pool shared by every digester in the JVM for the duration of one file, rather than kept per
+ * thread, because the threads that digest the files of a project only live as long as that project's digest. At most
+ * {@link #MAX_POOLED_BUFFERS} sets of buffers are kept in the pool.
+ * <p>
+ * The number of files and bytes read are counted across all of the threads using the digester, and each read is recorded as a
+ * {@link FileDigestEvent} when a flight recording is enabled.
+ */
+public class FileDigester {
+
+    static final int DIRECT_BUFFER_SIZE = 1024 * 1024;
+    static final long MAPPED_READ_THRESHOLD = 16L * 1024 * 1024;
+    static final long MAPPED_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    static final int MAX_POOLED_BUFFERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final BlockingQueue<Buffers> BUFFER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    private final List<DigestAlgorithm> algorithms;
+    private final long mappedReadThreshold;
+    private final long mappedWindowSize;
+    private final AtomicLong filesDigested = new AtomicLong();
+    private final AtomicLong bytesDigested = new AtomicLong();
+
+    public FileDigester() {
+        this(Collections.singletonList(DigestAlgorithm.SHA256));
+    }
+
+    public FileDigester(List<DigestAlgorithm> algorithms) {
+        this(algorithms, MAPPED_READ_THRESHOLD, MAPPED_WINDOW_SIZE);
+    }
+
+    FileDigester(List<DigestAlgorithm> algorithms, long mappedReadThreshold, long mappedWindowSize) {
+        if (algorithms.isEmpty()) {
+            throw new IllegalArgumentException("At least one digest algorithm is required.");
+        }
+        this.algorithms = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(algorithms)));
+        this.mappedReadThreshold = mappedReadThreshold;
+        this.mappedWindowSize = mappedWindowSize;
+    }
+
+    /**
+     * Returns the {@link DigestSet} names of the algorithms calculated by {@link #digest(File)}.
+     */
+    public List<String> getAlgorithms() {
+        List<String> names = new ArrayList<>(algorithms.size());
+        for (DigestAlgorithm algorithm : algorithms) {
+            names.add(algorithm.getDigestSetName());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the hex encoded digests of the file, keyed by their {@link DigestSet} algorithm names.
+     */
+    public Map<String, String> digest(File file) throws IOException {
+        FileDigestEvent event = new FileDigestEvent();
+        event.begin();
+        MessageDigest[] messageDigests = new MessageDigest[algorithms.size()];
+        for (int i = 0; i < messageDigests.length; i++) {
+            messageDigests[i] = newMessageDigest(algorithms.get(i));
+        }
+        long size;
+        Buffers buffers = acquireBuffers();
+        try {
+            size = update(file, messageDigests, buffers);
+        } finally {
+            // Dropped if the pool is full
+            BUFFER_POOL.offer(buffers);
+        }
+        Map<String, String> digests = new LinkedHashMap<>();
+        for (int i = 0; i < messageDigests.length; i++) {
+            digests.put(algorithms.get(i).getDigestSetName(), toHex(messageDigests[i].digest()));
+        }
+        if (event.shouldCommit()) {
+            event.path = file.getPath();
+            event.size = size;
+            event.algorithms = String.join(",", digests.keySet());
+            event.commit();
+        }
+        return digests;
+    }
+
+    /**
+     * Updates the message digests with the content of the file, returning the size of the file.
+     */
+    private long update(File file, MessageDigest[] messageDigests, Buffers buffers) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > mappedReadThreshold) {
+                updateMapped(channel, size, messageDigests, buffers);
+            } else {
+                updateBuffered(channel, messageDigests, buffers);
+            }
+            filesDigested.incrementAndGet();
+            bytesDigested.addAndGet(size);
+            return size;
+        }
+    }
+
+    private void updateBuffered(FileChannel channel, MessageDigest[] messageDigests, Buffers buffers) throws IOException {
+        ByteBuffer buffer = buffers.getBuffer();
+        buffer.clear();
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            update(buffer, messageDigests, buffers);
+            buffer.clear();
+        }
+    }
+
+    private void updateMapped(FileChannel channel, long size, MessageDigest[] messageDigests, Buffers buffers) throws IOException {
+        for (long position = 0; position < size; position += mappedWindowSize) {
+            long windowSize = Math.min(mappedWindowSize, size - position);
+            MappedByteBuffer window = channel.map(MapMode.READ_ONLY, position, windowSize);
+            update(window, messageDigests, buffers);
+        }
+    }
+
+    private void update(ByteBuffer buffer, MessageDigest[] messageDigests, Buffers buffers) {
+        if (messageDigests.length == 1) {
+            messageDigests[0].update(buffer);
+            return;
+        }
+        byte[] chunk = buffers.getChunk();
+        while (buffer.hasRemaining()) {
+            int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            for (MessageDigest messageDigest : messageDigests) {
+                messageDigest.update(chunk, 0, length);
+            }
+        }
+    }
+
+    private static MessageDigest newMessageDigest(DigestAlgorithm algorithm) throws IOException {
+        try {
+            return algorithm.newMessageDigest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("The " + algorithm.getDigestSetName() + " digest algorithm is not available: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the number of files digested by this digester.
+     */
+    public long getFilesDigested() {
+        return filesDigested.get();
+    }
+
+    /**
+     * Returns the number of bytes read from the files digested by this digester.
+     */
+    public long getBytesDigested() {
+        return bytesDigested.get();
+    }
+
+    private static Buffers acquireBuffers() {
+        Buffers buffers = BUFFER_POOL.poll();
+        return buffers == null ? new Buffers() : buffers;
+    }
+
+    /**
+     * Returns the number of sets of buffers in the pool, waiting to be reused.
+     */
+    static int getPooledBuffers() {
+        return BUFFER_POOL.size();
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * The buffers of one read: the direct buffer a file is read into, and the array each chunk is copied into when more than
+     * one digest is calculated. Each is allocated on first use.
+     */
+    private static class Buffers {
+
+        private ByteBuffer buffer;
+        private byte[] chunk;
+
+        private ByteBuffer getBuffer() {
+            if (buffer == null) {
+                buffer = ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE);
+            }
+            return buffer;
+        }
+
+        private byte[] getChunk() {
+            if (chunk == null) {
+                chunk = new byte[DIRECT_BUFFER_SIZE];
+            }
+            return chunk;
+        }
+
+    }
+
+}
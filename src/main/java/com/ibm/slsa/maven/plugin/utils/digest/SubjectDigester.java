@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.slsa.maven.plugin.utils.digest.exceptions.SubjectDigestException;
+
+/**
+ * Calculates the digests of subject files concurrently on a bounded pool of threads. The resulting resource descriptors are
+ * always returned in the same order as the files that were given, regardless of the order in which the digests complete.
+ */
+public class SubjectDigester {
+
+    private final int threads;
+    private final FileDigester fileDigester;
+    private final DigestCache digestCache;
+
+    public SubjectDigester(int threads) {
+        this(threads, new FileDigester(), null);
+    }
+
+    /**
+     * @param fileDigester The digester that calculates the digests of each file.
+     * @param digestCache The cache consulted before, and updated after, digesting each file, or {@code null} if every file is
+     *            digested.
+     */
+    public SubjectDigester(int threads, FileDigester fileDigester, DigestCache digestCache) {
+        this.threads = Math.max(1, threads);
+        this.fileDigester = fileDigester;
+        this.digestCache = digestCache;
+    }
+
+    /**
+     * Sizes the digest pool from the processors available to the JVM, which reflects any container CPU quota, shared between
+     * the projects Maven builds concurrently ({@code -T}) when provenance is generated for each project.
+     */
+    public static int getDefaultThreadCount(MavenSession mavenSession, boolean aggregate) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int concurrentProjects = 1;
+        if (!aggregate && mavenSession != null && mavenSession.getRequest() != null) {
+            concurrentProjects = Math.max(1, mavenSession.getRequest().getDegreeOfConcurrency());
+        }
+        return Math.max(1, processors / concurrentProjects);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public List<ResourceDescriptor> digest(List<File> files) throws SubjectDigestException {
+        int poolSize = Math.min(threads, files.size());
+        if (poolSize <= 1) {
+            return digestSequentially(files);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new DigestThreadFactory("slsa-subject-digest-"));
+        try {
+            List<Future<ResourceDescriptor>> futures = new ArrayList<>(files.size());
+            for (File file : files) {
+                futures.add(executor.submit(() -> digest(file)));
+            }
+            List<ResourceDescriptor> descriptors = new ArrayList<>(files.size());
+            Map<File, Throwable> failures = new LinkedHashMap<>();
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    descriptors.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    failures.put(files.get(i), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.put(files.get(i), e);
+                    break;
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new SubjectDigestException(failures);
+            }
+            return descriptors;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<ResourceDescriptor> digestSequentially(List<File> files) throws SubjectDigestException {
+        List<ResourceDescriptor> descriptors = new ArrayList<>(files.size());
+        Map<File, Throwable> failures = new LinkedHashMap<>();
+        for (File file : files) {
+            try {
+                descriptors.add(digest(file));
+            } catch (Exception e) {
+                failures.put(file, e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new SubjectDigestException(failures);
+        }
+        return descriptors;
+    }
+
+    public DigestCache getDigestCache() {
+        return digestCache;
+    }
+
+    private ResourceDescriptor digest(File file) throws Exception {
+        DigestSet digestSet = new DigestSet();
+        for (Map.Entry<String, String> digest : getDigests(file).entrySet()) {
+            digestSet.put(digest.getKey(), digest.getValue());
+        }
+        return new ResourceDescriptor.Builder().name(file.getName()).digest(digestSet).build();
+    }
+
+    private Map<String, String> getDigests(File file) throws IOException {
+        if (digestCache == null) {
+            return fileDigester.digest(file);
+        }
+        return digestCache.getOrDigest(file, fileDigester);
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import com.ibm.slsa.maven.plugin.utils.json.StatementSubjectReader.Subject;
+
+/**
+ * Verifies the recorded digests of subjects against the files on disk, re-hashing the files concurrently on a bounded pool of
+ * threads. Every supported algorithm recorded for a subject is calculated from a single read of its file. The results are
+ * always returned in the same order as the subjects that were given.
+ */
+public class SubjectVerifier {
+
+    private final int threads;
+    private final DigestCache digestCache;
+    private final Map<List<DigestAlgorithm>, FileDigester> fileDigesters = new ConcurrentHashMap<>();
+
+    /**
+     * @param digestCache The cache consulted before digesting each file, or {@code null} if every file is digested. Digests
+     *            recorded in the cache are not saved.
+     */
+    public SubjectVerifier(int threads, DigestCache digestCache) {
+        this.threads = Math.max(1, threads);
+        this.digestCache = digestCache;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public DigestCache getDigestCache() {
+        return digestCache;
+    }
+
+    /**
+     * Verifies each subject against the file it resolves to.
+     *
+     * @param resolver Returns the file of the subject with the given name, or {@code null} if there is none.
+     */
+    public List<Result> verify(List<Subject> subjects, Function<String, File> resolver) throws InterruptedException {
+        int poolSize = Math.min(threads, subjects.size());
+        if (poolSize <= 1) {
+            List<Result> results = new ArrayList<>(subjects.size());
+            for (Subject subject : subjects) {
+                results.add(verify(subject, resolver.apply(subject.getName())));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new DigestThreadFactory("slsa-verify-digest-"));
+        try {
+            List<Future<Result>> futures = new ArrayList<>(subjects.size());
+            for (Subject subject : subjects) {
+                futures.add(executor.submit(() -> verify(subject, resolver.apply(subject.getName()))));
+            }
+            List<Result> results = new ArrayList<>(subjects.size());
+            for (int i = 0; i < subjects.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(new Result(subjects.get(i), null, Status.FAILED, String.valueOf(e.getCause())));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result verify(Subject subject, File file) {
+        if (file == null || !file.isFile()) {
+            return new Result(subject, file, Status.MISSING, "The file of the subject was not found.");
+        }
+        List<DigestAlgorithm> algorithms = new ArrayList<>();
+        for (String name : subject.getDigests().keySet()) {
+            try {
+                algorithms.add(DigestAlgorithm.fromDigestSetName(name));
+            } catch (IllegalArgumentException e) {
+                // Digests that cannot be recalculated, such as gitCommit, are not verified
+            }
+        }
+        if (algorithms.isEmpty()) {
+            return new Result(subject, file, Status.FAILED, "The subject has no digest with a supported algorithm.");
+        }
+        Map<String, String> actual;
+        try {
+            FileDigester fileDigester = fileDigesters.computeIfAbsent(algorithms, FileDigester::new);
+            actual = digestCache == null ? fileDigester.digest(file) : digestCache.getOrDigest(file, fileDigester);
+        } catch (Exception e) {
+            return new Result(subject, file, Status.FAILED, "The file could not be digested: " + e.getMessage());
+        }
+        List<String> mismatches = new ArrayList<>();
+        for (DigestAlgorithm algorithm : algorithms) {
+            String name = algorithm.getDigestSetName();
+            String expected = getRecordedDigest(subject, name);
+            if (!expected.equalsIgnoreCase(actual.get(name))) {
+                mismatches.add(name + " " + actual.get(name) + " does not match the recorded " + expected);
+            }
+        }
+        if (!mismatches.isEmpty()) {
+            return new Result(subject, file, Status.MISMATCH, String.join(", ", mismatches));
+        }
+        return new Result(subject, file, Status.VERIFIED, null);
+    }
+
+    /**
+     * Returns the recorded digest of the algorithm, whose name may differ in case from the DigestSet name.
+     */
+    private static String getRecordedDigest(Subject subject, String algorithm) {
+        for (Map.Entry<String, String> digest : subject.getDigests().entrySet()) {
+            if (digest.getKey().equalsIgnoreCase(algorithm)) {
+                return digest.getValue();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Returns the number of files digested, rather than found in the digest cache, by this verifier.
+     */
+    public long getFilesDigested() {
+        long files = 0;
+        for (FileDigester fileDigester : fileDigesters.values()) {
+            files += fileDigester.getFilesDigested();
+        }
+        return files;
+    }
+
+    /**
+     * Returns the number of bytes read from the files digested by this verifier.
+     */
+    public long getBytesDigested() {
+        long bytes = 0;
+        for (FileDigester fileDigester : fileDigesters.values()) {
+            bytes += fileDigester.getBytesDigested();
+        }
+        return bytes;
+    }
+
+    public enum Status {
+
+        /**
+         * Every supported digest of the subject matches its file.
+         */
+        VERIFIED,
+
+        /**
+         * At least one digest of the subject does not match its file.
+         */
+        MISMATCH,
+
+        /**
+         * The subject has no file.
+         */
+        MISSING,
+
+        /**
+         * The subject could not be verified, e.g. because its file could not be read.
+         */
+        FAILED
+
+    }
+
+    /**
+     * The outcome of verifying one subject.
+     */
+    public static class Result {
+
+        private final Subject subject;
+        private final File file;
+        private final Status status;
+        private final String detail;
+
+        Result(Subject subject, File file, Status status, String detail) {
+            this.subject = subject;
+            this.file = file;
+            this.status = status;
+            this.detail = detail;
+        }
+
+        public Subject getSubject() {
+            return subject;
+        }
+
+        /**
+         * Returns the file the subject resolved to, or {@code null} if there is none.
+         */
+        public File getFile() {
+            return file;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public boolean isVerified() {
+            return status == Status.VERIFIED;
+        }
+
+        /**
+         * Returns why the subject was not verified, or {@code null} if it was.
+         */
+        public String getDetail() {
+            return detail;
+        }
+
+        @Override
+        public String toString() {
+            return subject.getName() + ": " + status + (detail == null ? "" : " (" + detail + ")");
+        }
+
+    }
+
+}
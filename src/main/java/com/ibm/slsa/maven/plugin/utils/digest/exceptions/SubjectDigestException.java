@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest.exceptions;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+public class SubjectDigestException extends Exception {
+
+    private static final String ERROR_MSG = "Failed to calculate the digest of %d subject file(s): %s";
+
+    private final Map<File, Throwable> failures;
+
+    public SubjectDigestException(Map<File, Throwable> failures) {
+        super(failures.isEmpty() ? null : failures.values().iterator().next());
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * Returns the cause of the failure for each subject file that could not be digested, in subject order.
+     */
+    public Map<File, Throwable> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String getMessage() {
+        StringBuilder result = new StringBuilder();
+        for (Entry<File, Throwable> failure : failures.entrySet()) {
+            if (result.length() > 0) {
+                result.append("; ");
+            }
+            result.append(failure.getKey().getAbsolutePath()).append(": ").append(failure.getValue().getMessage());
+        }
+        return String.format(ERROR_MSG, failures.size(), result);
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+
+/**
+ * A Dead Simple Signing Envelope (see https://github.com/secure-systems-lab/dsse/blob/master/envelope.md) around a payload,
+ * such as an in-toto Statement, with the signatures of its pre-authentication encoding.
+ */
+public class DsseEnvelope {
+
+    public static final String PAYLOAD_TYPE_IN_TOTO = "application/vnd.in-toto+json";
+
+    public static final String KEY_PAYLOAD_TYPE = "payloadType";
+    public static final String KEY_PAYLOAD = "payload";
+    public static final String KEY_SIGNATURES = "signatures";
+    public static final String KEY_KEYID = "keyid";
+    public static final String KEY_SIG = "sig";
+
+    private static final byte[] PAE_PREFIX = "DSSEv1 ".getBytes(StandardCharsets.US_ASCII);
+
+    private final String payloadType;
+    private final byte[] payload;
+    private final List<Signature> signatures;
+
+    public DsseEnvelope(String payloadType, byte[] payload, List<Signature> signatures) {
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.signatures = Collections.unmodifiableList(new ArrayList<>(signatures));
+    }
+
+    /**
+     * Returns the pre-authentication encoding of the payload, which is what is signed:
+     * {@code "DSSEv1" SP LEN(type) SP type SP LEN(body) SP body}, with the lengths in bytes as ASCII decimals.
+     */
+    public static byte[] pae(String payloadType, byte[] payload) {
+        byte[] type = payloadType.getBytes(StandardCharsets.UTF_8);
+        byte[] typeLength = (type.length + " ").getBytes(StandardCharsets.US_ASCII);
+        byte[] payloadLength = (" " + payload.length + " ").getBytes(StandardCharsets.US_ASCII);
+        byte[] result = new byte[PAE_PREFIX.length + typeLength.length + type.length + payloadLength.length + payload.length];
+        int offset = 0;
+        for (byte[] part : new byte[][] { PAE_PREFIX, typeLength, type, payloadLength, payload }) {
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
+        }
+        return result;
+    }
+
+    /**
+     * Reads an envelope from its JSON form. The payload and signatures may be in either the standard or the URL-safe Base64
+     * alphabet.
+     *
+     * @throws JsonException If the JSON is not a DSSE envelope.
+     */
+    public static DsseEnvelope fromJson(JsonObject json) {
+        String payloadType = getString(json, KEY_PAYLOAD_TYPE);
+        byte[] payload = decode(getString(json, KEY_PAYLOAD), KEY_PAYLOAD);
+        JsonValue signaturesJson = json.get(KEY_SIGNATURES);
+        if (signaturesJson == null || signaturesJson.getValueType() != ValueType.ARRAY) {
+            throw new JsonException("The envelope has no " + KEY_SIGNATURES + ".");
+        }
+        List<Signature> signatures = new ArrayList<>();
+        for (JsonValue signatureJson : signaturesJson.asJsonArray()) {
+            if (signatureJson.getValueType() != ValueType.OBJECT) {
+                throw new JsonException("A signature of the envelope is not a JSON object.");
+            }
+            JsonObject signature = signatureJson.asJsonObject();
+            String keyId = signature.containsKey(KEY_KEYID) ? getString(signature, KEY_KEYID) : null;
+            signatures.add(new Signature(keyId, decode(getString(signature, KEY_SIG), KEY_SIG)));
+        }
+        return new DsseEnvelope(payloadType, payload, signatures);
+    }
+
+    private static String getString(JsonObject json, String key) {
+        JsonValue value = json.get(key);
+        if (value == null || value.getValueType() != ValueType.STRING) {
+            throw new JsonException("The envelope has no " + key + " string.");
+        }
+        return ((JsonString) value).getString();
+    }
+
+    private static byte[] decode(String base64, String key) {
+        try {
+            return Base64.getDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            try {
+                return Base64.getUrlDecoder().decode(base64);
+            } catch (IllegalArgumentException urlSafe) {
+                throw new JsonException("The " + key + " of the envelope is not Base64 encoded.", urlSafe);
+            }
+        }
+    }
+
+    public String getPayloadType() {
+        return payloadType;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public List<Signature> getSignatures() {
+        return signatures;
+    }
+
+    public JsonObject toJson() {
+        JsonArrayBuilder signaturesJson = Json.createArrayBuilder();
+        for (Signature signature : signatures) {
+            JsonObjectBuilder signatureJson = Json.createObjectBuilder();
+            if (signature.getKeyId() != null && !signature.getKeyId().isEmpty()) {
+                signatureJson.add(KEY_KEYID, signature.getKeyId());
+            }
+            signatureJson.add(KEY_SIG, Base64.getEncoder().encodeToString(signature.getSig()));
+            signaturesJson.add(signatureJson);
+        }
+        return Json.createObjectBuilder()
+                .add(KEY_PAYLOAD_TYPE, payloadType)
+                .add(KEY_PAYLOAD, Base64.getEncoder().encodeToString(payload))
+                .add(KEY_SIGNATURES, signaturesJson)
+                .build();
+    }
+
+    /**
+     * A signature of the envelope, with the unauthenticated hint of the key that made it.
+     */
+    public static class Signature {
+
+        private final String keyId;
+        private final byte[] sig;
+
+        /**
+         * @param keyId The ID of the key, or {@code null} or empty if the signature has no key hint.
+         */
+        public Signature(String keyId, byte[] sig) {
+            this.keyId = keyId;
+            this.sig = sig;
+        }
+
+        public String getKeyId() {
+            return keyId;
+        }
+
+        public byte[] getSig() {
+            return sig;
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.ibm.slsa.maven.plugin.utils.dsse.exceptions.SigningException;
+
+/**
+ * Signs payloads into DSSE envelopes with one key. The key is parsed, and its {@link Signature} initialized, once per Maven
+ * session, however many projects of the session sign their provenance; a batch of payloads is signed with a single
+ * acquisition of the initialized signature.
+ */
+public class EnvelopeSigner {
+
+    private static final Map<MavenSession, Map<String, EnvelopeSigner>> SIGNERS = new WeakHashMap<MavenSession, Map<String, EnvelopeSigner>>();
+
+    private final SigningKey signingKey;
+    // Guarded by this
+    private final Signature signature;
+
+    public EnvelopeSigner(SigningKey signingKey) throws SigningException {
+        this.signingKey = signingKey;
+        try {
+            this.signature = signingKey.newSignature();
+        } catch (GeneralSecurityException e) {
+            throw new SigningException("A " + signingKey.getSignatureAlgorithm() + " signature could not be initialized: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the signer of the key file in the session, loading the key on first use. The key is loaded again if the file
+     * changes during the session.
+     *
+     * @see SigningKey#load(File, char[], String, String)
+     */
+    public static synchronized EnvelopeSigner get(MavenSession mavenSession, File keyFile, char[] password, String alias, String keyId) throws SigningException {
+        String cacheKey;
+        try {
+            cacheKey = keyFile.getCanonicalPath() + '|' + keyFile.lastModified() + '|' + keyFile.length() + '|' + alias + '|' + keyId;
+        } catch (IOException e) {
+            throw new SigningException("The signing key " + keyFile + " could not be read: " + e.getMessage(), e);
+        }
+        Map<String, EnvelopeSigner> signers = SIGNERS.get(mavenSession);
+        if (signers == null) {
+            signers = new HashMap<>();
+            SIGNERS.put(mavenSession, signers);
+        }
+        EnvelopeSigner signer = signers.get(cacheKey);
+        if (signer == null) {
+            signer = new EnvelopeSigner(SigningKey.load(keyFile, password, alias, keyId));
+            signers.put(cacheKey, signer);
+        }
+        return signer;
+    }
+
+    /**
+     * Releases the keys loaded in the session. Later use of the session loads them again.
+     */
+    public static synchronized void close(MavenSession mavenSession) {
+        SIGNERS.remove(mavenSession);
+    }
+
+    public SigningKey getSigningKey() {
+        return signingKey;
+    }
+
+    public DsseEnvelope sign(String payloadType, byte[] payload) throws SigningException {
+        return sign(payloadType, Collections.singletonList(payload)).get(0);
+    }
+
+    /**
+     * Signs each payload, as is, into an envelope with one signature. The envelopes are returned in the order of the payloads.
+     */
+    public synchronized List<DsseEnvelope> sign(String payloadType, List<byte[]> payloads) throws SigningException {
+        List<DsseEnvelope> envelopes = new ArrayList<>(payloads.size());
+        try {
+            for (byte[] payload : payloads) {
+                signature.update(DsseEnvelope.pae(payloadType, payload));
+                DsseEnvelope.Signature sig = new DsseEnvelope.Signature(signingKey.getKeyId(), signature.sign());
+                envelopes.add(new DsseEnvelope(payloadType, payload, Collections.singletonList(sig)));
+            }
+        } catch (SignatureException e) {
+            throw new SigningException("The payload could not be signed with " + signingKey.getSignatureAlgorithm() + ": " + e.getMessage(), e);
+        }
+        return envelopes;
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestThreadFactory;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+
+/**
+ * Verifies the signatures of many envelope files concurrently on a bounded pool of threads. Each file holds one DSSE envelope
+ * per line, as in an in-toto {@code .intoto.jsonl} bundle, and is verified if every envelope in it has the expected payload
+ * type and at least one signature made by a trusted key. The results are always returned in the same order as the files
+ * that were given.
+ */
+public class EnvelopeVerifier {
+
+    public static final String ENVELOPE_FILE_EXTENSION = ".intoto.jsonl";
+
+    public static final String KEY_FILES = "files";
+    public static final String KEY_VERIFIED = "verified";
+    public static final String KEY_RESULTS = "results";
+
+    private final int threads;
+    private final TrustedKeys trustedKeys;
+    private final String payloadType;
+
+    public EnvelopeVerifier(int threads, TrustedKeys trustedKeys) {
+        this(threads, trustedKeys, DsseEnvelope.PAYLOAD_TYPE_IN_TOTO);
+    }
+
+    /**
+     * @param payloadType The payload type every envelope must have.
+     */
+    public EnvelopeVerifier(int threads, TrustedKeys trustedKeys, String payloadType) {
+        this.threads = Math.max(1, threads);
+        this.trustedKeys = trustedKeys;
+        this.payloadType = payloadType;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public List<Result> verify(List<File> files) throws InterruptedException {
+        int poolSize = Math.min(threads, files.size());
+        if (poolSize <= 1) {
+            List<Result> results = new ArrayList<>(files.size());
+            for (File file : files) {
+                results.add(verify(file));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new DigestThreadFactory("slsa-envelope-verify-"));
+        try {
+            List<Future<Result>> futures = new ArrayList<>(files.size());
+            for (File file : files) {
+                futures.add(executor.submit(() -> verify(file)));
+            }
+            List<Result> results = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(new Result(files.get(i), Status.INVALID, 0, Collections.<String> emptySet(), String.valueOf(e.getCause())));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifies the envelopes of one file.
+     */
+    public Result verify(File file) {
+        int envelopes = 0;
+        Set<String> keyIds = new LinkedHashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                envelopes++;
+                DsseEnvelope envelope;
+                try (JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+                    envelope = DsseEnvelope.fromJson(jsonReader.readObject());
+                }
+                if (!payloadType.equals(envelope.getPayloadType())) {
+                    return new Result(file, Status.UNTRUSTED, envelopes, keyIds, "Envelope " + envelopes + " has the payload type " + envelope.getPayloadType() + " rather than " + payloadType + ".");
+                }
+                String keyId = verify(envelope);
+                if (keyId == null) {
+                    return new Result(file, Status.UNTRUSTED, envelopes, keyIds, "Envelope " + envelopes + " has no signature made by a trusted key.");
+                }
+                keyIds.add(keyId);
+            }
+        } catch (IOException | JsonException e) {
+            return new Result(file, Status.INVALID, envelopes, keyIds, "The file could not be read: " + e.getMessage());
+        }
+        if (envelopes == 0) {
+            return new Result(file, Status.INVALID, 0, keyIds, "The file has no envelope.");
+        }
+        return new Result(file, Status.VERIFIED, envelopes, keyIds, null);
+    }
+
+    /**
+     * Returns the ID of the first trusted key that signed the envelope, or {@code null} if none did.
+     */
+    private String verify(DsseEnvelope envelope) {
+        byte[] pae = DsseEnvelope.pae(envelope.getPayloadType(), envelope.getPayload());
+        for (DsseEnvelope.Signature signature : envelope.getSignatures()) {
+            String keyId = trustedKeys.verify(pae, signature);
+            if (keyId != null) {
+                return keyId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the report of the results, with one entry for each file in the order of the results.
+     */
+    public static JsonObject toJson(List<Result> results) {
+        int verified = 0;
+        JsonArrayBuilder files = Json.createArrayBuilder();
+        for (Result result : results) {
+            if (result.isVerified()) {
+                verified++;
+            }
+            files.add(result.toJson());
+        }
+        return Json.createObjectBuilder()
+                .add(KEY_FILES, results.size())
+                .add(KEY_VERIFIED, verified)
+                .add(KEY_RESULTS, files)
+                .build();
+    }
+
+    public enum Status {
+
+        /**
+         * Every envelope of the file has the expected payload type and is signed by a trusted key.
+         */
+        VERIFIED,
+
+        /**
+         * An envelope of the file has an unexpected payload type, or is not signed by any trusted key.
+         */
+        UNTRUSTED,
+
+        /**
+         * The file could not be read, or is not made of DSSE envelopes.
+         */
+        INVALID
+
+    }
+
+    /**
+     * The outcome of verifying one file.
+     */
+    public static class Result {
+
+        public static final String KEY_FILE = "file";
+        public static final String KEY_STATUS = "status";
+        public static final String KEY_ENVELOPES = "envelopes";
+        public static final String KEY_KEY_IDS = "keyIds";
+        public static final String KEY_DETAIL = "detail";
+
+        private final File file;
+        private final Status status;
+        private final int envelopes;
+        private final Set<String> keyIds;
+        private final String detail;
+
+        Result(File file, Status status, int envelopes, Set<String> keyIds, String detail) {
+            this.file = file;
+            this.status = status;
+            this.envelopes = envelopes;
+            this.keyIds = Collections.unmodifiableSet(new LinkedHashSet<>(keyIds));
+            this.detail = detail;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public boolean isVerified() {
+            return status == Status.VERIFIED;
+        }
+
+        /**
+         * Returns the number of envelopes read from the file, up to and including the first that was not verified.
+         */
+        public int getEnvelopes() {
+            return envelopes;
+        }
+
+        /**
+         * Returns the IDs of the trusted keys that signed the verified envelopes.
+         */
+        public Set<String> getKeyIds() {
+            return keyIds;
+        }
+
+        /**
+         * Returns why the file was not verified, or {@code null} if it was.
+         */
+        public String getDetail() {
+            return detail;
+        }
+
+        public JsonObject toJson() {
+            JsonArrayBuilder keyIdsJson = Json.createArrayBuilder();
+            for (String keyId : keyIds) {
+                keyIdsJson.add(keyId);
+            }
+            JsonObjectBuilder json = Json.createObjectBuilder()
+                    .add(KEY_FILE, file.getPath())
+                    .add(KEY_STATUS, status.name())
+                    .add(KEY_ENVELOPES, envelopes)
+                    .add(KEY_KEY_IDS, keyIdsJson);
+            if (detail != null) {
+                json.add(KEY_DETAIL, detail);
+            }
+            return json.build();
+        }
+
+        @Override
+        public String toString() {
+            return file + ": " + status + (detail == null ? "" : " (" + detail + ")");
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.KeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestAlgorithm;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+
+/**
+ * Parsing of PEM encoded keys, and the signature algorithms of the ECDSA and Ed25519 keys that can sign envelopes.
+ */
+final class Keys {
+
+    static final String PEM_PRIVATE_KEY = "PRIVATE KEY";
+    static final String PEM_PUBLIC_KEY = "PUBLIC KEY";
+    static final String PEM_CERTIFICATE = "CERTIFICATE";
+
+    /**
+     * The key algorithms tried, in order, when parsing a key whose algorithm is not known. Ed25519 keys require Java 15 or
+     * later.
+     */
+    private static final String[] KEY_ALGORITHMS = { "EC", "Ed25519" };
+
+    private static final Pattern PEM_BLOCK = Pattern.compile("-----BEGIN ([A-Z0-9 ]+)-----([^-]*)-----END \\1-----");
+
+    private Keys() {
+    }
+
+    /**
+     * Returns whether the content is PEM encoded rather than binary, e.g. a PKCS#12 key store.
+     */
+    static boolean isPem(byte[] content) {
+        return new String(content, StandardCharsets.ISO_8859_1).contains("-----BEGIN ");
+    }
+
+    /**
+     * Returns the blocks of the PEM encoded text, in the order they appear in it.
+     */
+    static List<PemBlock> readPem(String text) {
+        List<PemBlock> blocks = new ArrayList<>();
+        Matcher matcher = PEM_BLOCK.matcher(text);
+        while (matcher.find()) {
+            blocks.add(new PemBlock(matcher.group(1), Base64.getMimeDecoder().decode(matcher.group(2))));
+        }
+        return blocks;
+    }
+
+    static PrivateKey toPrivateKey(byte[] pkcs8) throws GeneralSecurityException {
+        return (PrivateKey) generate(new PKCS8EncodedKeySpec(pkcs8), true);
+    }
+
+    static PublicKey toPublicKey(byte[] subjectPublicKeyInfo) throws GeneralSecurityException {
+        return (PublicKey) generate(new X509EncodedKeySpec(subjectPublicKeyInfo), false);
+    }
+
+    private static Key generate(KeySpec keySpec, boolean isPrivate) throws GeneralSecurityException {
+        GeneralSecurityException failure = null;
+        for (String algorithm : KEY_ALGORITHMS) {
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
+                return isPrivate ? keyFactory.generatePrivate(keySpec) : keyFactory.generatePublic(keySpec);
+            } catch (GeneralSecurityException e) {
+                failure = e;
+            }
+        }
+        throw new InvalidKeySpecException("The key is not an ECDSA or Ed25519 key.", failure);
+    }
+
+    /**
+     * Returns the JCA name of the signature algorithm of the key: ECDSA with the SHA-2 digest matching the size of the curve,
+     * or Ed25519.
+     */
+    static String getSignatureAlgorithm(Key key) throws InvalidKeyException {
+        if (key instanceof ECKey) {
+            int fieldSize = ((ECKey) key).getParams().getCurve().getField().getFieldSize();
+            if (fieldSize <= 256) {
+                return "SHA256withECDSA";
+            }
+            return fieldSize <= 384 ? "SHA384withECDSA" : "SHA512withECDSA";
+        }
+        if ("EdDSA".equals(key.getAlgorithm()) || "Ed25519".equals(key.getAlgorithm())) {
+            return "Ed25519";
+        }
+        throw new InvalidKeyException("Unsupported " + key.getAlgorithm() + " key. Only ECDSA and Ed25519 keys are supported.");
+    }
+
+    /**
+     * Returns the default ID of a key: the hex encoded SHA-256 digest of its DER encoded SubjectPublicKeyInfo.
+     */
+    static String getKeyId(PublicKey publicKey) throws GeneralSecurityException {
+        MessageDigest messageDigest = DigestAlgorithm.SHA256.newMessageDigest();
+        return FileDigester.toHex(messageDigest.digest(publicKey.getEncoded()));
+    }
+
+    static class PemBlock {
+
+        private final String type;
+        private final byte[] der;
+
+        PemBlock(String type, byte[] der) {
+            this.type = type;
+            this.der = der;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        byte[] getDer() {
+            return der;
+        }
+
+    }
+
+}
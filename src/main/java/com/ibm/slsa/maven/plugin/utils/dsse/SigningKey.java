@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.slsa.maven.plugin.utils.dsse.Keys.PemBlock;
+import com.ibm.slsa.maven.plugin.utils.dsse.exceptions.SigningException;
+
+/**
+ * An ECDSA or Ed25519 private key that signs envelopes, with the ID recorded as the key hint of its signatures.
+ * <p>
+ * A key is loaded from a PKCS#12 key store, or from a PEM file with an unencrypted PKCS#8 {@code PRIVATE KEY}. The public key,
+ * from which the default key ID is derived, is read from the certificate of the key store entry, or from a {@code PUBLIC KEY}
+ * or {@code CERTIFICATE} block of the PEM file.
+ */
+public class SigningKey {
+
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+    private final String keyId;
+    private final String signatureAlgorithm;
+
+    SigningKey(PrivateKey privateKey, PublicKey publicKey, String keyId) throws GeneralSecurityException {
+        this.privateKey = privateKey;
+        this.publicKey = publicKey;
+        this.signatureAlgorithm = Keys.getSignatureAlgorithm(privateKey);
+        if (keyId == null || keyId.trim().isEmpty()) {
+            this.keyId = publicKey == null ? null : Keys.getKeyId(publicKey);
+        } else {
+            this.keyId = keyId.trim();
+        }
+    }
+
+    /**
+     * Loads the signing key from a PKCS#12 key store or a PEM file.
+     *
+     * @param password The password of the PKCS#12 key store and key, or {@code null} for a PEM file.
+     * @param alias The alias of the key store entry, or {@code null} if the key store has exactly one key.
+     * @param keyId The ID of the key, or {@code null} for the SHA-256 digest of the public key, if it is known.
+     */
+    public static SigningKey load(File file, char[] password, String alias, String keyId) throws SigningException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw new SigningException("The signing key " + file + " could not be read: " + e.getMessage(), e);
+        }
+        try {
+            if (Keys.isPem(content)) {
+                return loadPem(new String(content, StandardCharsets.US_ASCII), keyId);
+            }
+            return loadPkcs12(content, password, alias, keyId);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new SigningException("The signing key " + file + " could not be loaded: " + e.getMessage(), e);
+        }
+    }
+
+    private static SigningKey loadPem(String text, String keyId) throws GeneralSecurityException {
+        PrivateKey privateKey = null;
+        PublicKey publicKey = null;
+        for (PemBlock block : Keys.readPem(text)) {
+            if (Keys.PEM_PRIVATE_KEY.equals(block.getType())) {
+                privateKey = Keys.toPrivateKey(block.getDer());
+            } else if (Keys.PEM_PUBLIC_KEY.equals(block.getType())) {
+                publicKey = Keys.toPublicKey(block.getDer());
+            } else if (Keys.PEM_CERTIFICATE.equals(block.getType())) {
+                publicKey = CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(block.getDer())).getPublicKey();
+            } else if (block.getType().endsWith(Keys.PEM_PRIVATE_KEY)) {
+                throw new GeneralSecurityException("A " + block.getType() + " is not supported. Convert it to an unencrypted PKCS#8 PRIVATE KEY, e.g. with openssl pkcs8 -topk8 -nocrypt.");
+            }
+        }
+        if (privateKey == null) {
+            throw new GeneralSecurityException("The PEM file has no " + Keys.PEM_PRIVATE_KEY + ".");
+        }
+        return new SigningKey(privateKey, publicKey, keyId);
+    }
+
+    private static SigningKey loadPkcs12(byte[] content, char[] password, String alias, String keyId) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(new ByteArrayInputStream(content), password);
+        if (alias == null || alias.trim().isEmpty()) {
+            List<String> keyAliases = new ArrayList<>();
+            for (String candidate : Collections.list(keyStore.aliases())) {
+                if (keyStore.isKeyEntry(candidate)) {
+                    keyAliases.add(candidate);
+                }
+            }
+            if (keyAliases.size() != 1) {
+                throw new GeneralSecurityException("The key store has " + keyAliases.size() + " keys " + keyAliases + ". The alias of the signing key must be configured.");
+            }
+            alias = keyAliases.get(0);
+        }
+        Key key = keyStore.getKey(alias.trim(), password);
+        if (!(key instanceof PrivateKey)) {
+            throw new GeneralSecurityException("The key store has no private key with the alias " + alias + ".");
+        }
+        Certificate certificate = keyStore.getCertificate(alias.trim());
+        return new SigningKey((PrivateKey) key, certificate == null ? null : certificate.getPublicKey(), keyId);
+    }
+
+    /**
+     * Returns a signature initialized with this key. A signature returns to this state after each signature it produces, so
+     * it can be reused by one thread at a time.
+     */
+    public Signature newSignature() throws GeneralSecurityException {
+        Signature signature = Signature.getInstance(signatureAlgorithm);
+        signature.initSign(privateKey);
+        return signature;
+    }
+
+    /**
+     * Returns the public key, or {@code null} if it is not known.
+     */
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * Returns the ID recorded as the key hint of the signatures, or {@code null} if there is none.
+     */
+    public String getKeyId() {
+        return keyId;
+    }
+
+    /**
+     * Returns the JCA name of the signature algorithm, e.g. {@code SHA256withECDSA} or {@code Ed25519}.
+     */
+    public String getSignatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ibm.slsa.maven.plugin.utils.dsse.Keys.PemBlock;
+
+/**
+ * The public keys trusted to sign envelopes, keyed by their key IDs. Each key is parsed once, when it is added, and each thread
+ * that verifies signatures keeps a {@link Signature} initialized for every key it has used, so verifying many envelopes does
+ * not parse keys or initialize signatures again.
+ */
+public class TrustedKeys {
+
+    private final Map<String, TrustedKey> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Trusts the key under the given ID, replacing any key with the same ID.
+     */
+    public TrustedKeys add(String keyId, PublicKey publicKey) throws InvalidKeyException {
+        keys.put(keyId, new TrustedKey(keyId, publicKey));
+        return this;
+    }
+
+    /**
+     * Trusts every {@code PUBLIC KEY} and {@code CERTIFICATE} in the PEM file.
+     *
+     * @param keyId The ID of the key, if the file has exactly one, or {@code null} to use the hex encoded SHA-256 digest of
+     *            each DER encoded public key, the default key ID of the signatures of the plugin.
+     * @return The IDs of the keys added.
+     */
+    public List<String> load(File pemFile, String keyId) throws IOException, GeneralSecurityException {
+        List<PublicKey> publicKeys = new ArrayList<>();
+        for (PemBlock block : Keys.readPem(new String(Files.readAllBytes(pemFile.toPath()), StandardCharsets.US_ASCII))) {
+            if (Keys.PEM_PUBLIC_KEY.equals(block.getType())) {
+                publicKeys.add(Keys.toPublicKey(block.getDer()));
+            } else if (Keys.PEM_CERTIFICATE.equals(block.getType())) {
+                publicKeys.add(CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(block.getDer())).getPublicKey());
+            }
+        }
+        if (publicKeys.isEmpty()) {
+            throw new GeneralSecurityException("The PEM file " + pemFile + " has no " + Keys.PEM_PUBLIC_KEY + " or " + Keys.PEM_CERTIFICATE + ".");
+        }
+        if (keyId != null && publicKeys.size() > 1) {
+            throw new GeneralSecurityException("The PEM file " + pemFile + " has " + publicKeys.size() + " keys, so they cannot all have the key ID " + keyId + ".");
+        }
+        List<String> keyIds = new ArrayList<>();
+        for (PublicKey publicKey : publicKeys) {
+            String id = keyId != null ? keyId : Keys.getKeyId(publicKey);
+            add(id, publicKey);
+            keyIds.add(id);
+        }
+        return keyIds;
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    public Collection<String> getKeyIds() {
+        return Collections.unmodifiableCollection(keys.keySet());
+    }
+
+    /**
+     * Returns the ID of the trusted key that made the signature, or {@code null} if none did. The key named by the key hint of
+     * the signature is tried first. As the hint is not authenticated, the other keys are tried if it does not match.
+     *
+     * @param pae The pre-authentication encoding of the envelope.
+     */
+    public String verify(byte[] pae, DsseEnvelope.Signature signature) {
+        TrustedKey hinted = signature.getKeyId() == null ? null : keys.get(signature.getKeyId());
+        if (hinted != null && hinted.verify(pae, signature.getSig())) {
+            return hinted.keyId;
+        }
+        for (TrustedKey key : keys.values()) {
+            if (key != hinted && key.verify(pae, signature.getSig())) {
+                return key.keyId;
+            }
+        }
+        return null;
+    }
+
+    private static class TrustedKey {
+
+        private final String keyId;
+        private final PublicKey publicKey;
+        private final String signatureAlgorithm;
+        private final ThreadLocal<Signature> signature = new ThreadLocal<>();
+
+        private TrustedKey(String keyId, PublicKey publicKey) throws InvalidKeyException {
+            this.keyId = keyId;
+            this.publicKey = publicKey;
+            this.signatureAlgorithm = Keys.getSignatureAlgorithm(publicKey);
+        }
+
+        private boolean verify(byte[] pae, byte[] sig) {
+            try {
+                Signature verifier = signature.get();
+                if (verifier == null) {
+                    verifier = Signature.getInstance(signatureAlgorithm);
+                    verifier.initVerify(publicKey);
+                    signature.set(verifier);
+                }
+                verifier.update(pae);
+                return verifier.verify(sig);
+            } catch (SignatureException e) {
+                // A malformed signature, e.g. one made by a key of another algorithm, can leave the signature in any state
+                signature.remove();
+                return false;
+            } catch (GeneralSecurityException e) {
+                return false;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the Git metadata of a repository directly from the files of its Git directory: {@code HEAD}, loose refs,
+ * {@code packed-refs}, the {@code gitdir} and {@code commondir} files of linked worktrees and submodules, and the
+ * {@code remote "origin"} section of the config. This avoids initializing JGit, which dominates the cost of reading the
+ * metadata in short builds.
+ * <p>
+ * The reader only answers for layouts it fully understands. It returns {@code null} for anything else, e.g. the reftable ref
+ * storage, repository format extensions, config includes, or Git environment variables, and the caller falls back to JGit.
+ */
+class GitDirectoryReader {
+
+    private static final String DOT_GIT = ".git";
+    private static final String GITDIR_PREFIX = "gitdir:";
+    private static final String SYMBOLIC_REF_PREFIX = "ref:";
+    private static final int MAX_SYMBOLIC_REF_DEPTH = 5;
+    private static final Pattern OBJECT_ID = Pattern.compile("[0-9a-f]{40}|[0-9a-f]{64}");
+    private static final String[] ENVIRONMENT_VARIABLES = { "GIT_DIR", "GIT_COMMON_DIR", "GIT_CEILING_DIRECTORIES", "GIT_CONFIG_PARAMETERS", "GIT_CONFIG_COUNT" };
+
+    private GitDirectoryReader() {
+    }
+
+    /**
+     * Returns the Git directory of the nearest repository containing the directory, or {@code null} if it cannot be found
+     * without JGit.
+     */
+    static File findGitDir(File directory) throws IOException {
+        for (String variable : ENVIRONMENT_VARIABLES) {
+            if (System.getenv(variable) != null) {
+                return null;
+            }
+        }
+        for (File dir = directory.getAbsoluteFile(); dir != null; dir = dir.getParentFile()) {
+            File dotGit = new File(dir, DOT_GIT);
+            if (dotGit.isDirectory()) {
+                return isGitDir(dotGit) ? normalize(dotGit) : null;
+            }
+            if (dotGit.isFile()) {
+                // Linked worktrees and submodules point to their Git directory
+                String content = readFirstLine(dotGit);
+                if (content == null || !content.startsWith(GITDIR_PREFIX)) {
+                    return null;
+                }
+                File gitDir = resolve(dir, content.substring(GITDIR_PREFIX.length()).trim());
+                return isGitDir(gitDir) ? normalize(gitDir) : null;
+            }
+            if (isGitDir(dir)) {
+                // Bare repositories are left to JGit
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the metadata of the repository with the Git directory, or {@code null} if it cannot be read without JGit.
+     */
+    static GitMetadata readMetadata(File gitDir) throws IOException {
+        File commonDir = getCommonDir(gitDir);
+        if (new File(commonDir, "reftable").exists()) {
+            return null;
+        }
+        OriginConfig config = OriginConfig.read(new File(commonDir, "config"));
+        if (config == null) {
+            return null;
+        }
+        String head = readFirstLine(new File(gitDir, "HEAD"));
+        if (head == null) {
+            return null;
+        }
+        String ref;
+        String commit;
+        if (head.startsWith(SYMBOLIC_REF_PREFIX)) {
+            ref = head.substring(SYMBOLIC_REF_PREFIX.length()).trim();
+            commit = resolveRef(gitDir, commonDir, ref, 0);
+        } else {
+            // A detached HEAD is reported by its commit, as JGit does
+            ref = head;
+            commit = OBJECT_ID.matcher(head).matches() ? head : null;
+        }
+        if (commit == null) {
+            return null;
+        }
+        return new GitMetadata(gitDir, config.url, ref, commit);
+    }
+
+    private static String resolveRef(File gitDir, File commonDir, String ref, int depth) throws IOException {
+        if (depth > MAX_SYMBOLIC_REF_DEPTH || ref.contains("..")) {
+            return null;
+        }
+        File looseRef = new File(isPerWorktreeRef(ref) ? gitDir : commonDir, ref);
+        if (looseRef.isFile()) {
+            String content = readFirstLine(looseRef);
+            if (content == null) {
+                return null;
+            }
+            if (content.startsWith(SYMBOLIC_REF_PREFIX)) {
+                return resolveRef(gitDir, commonDir, content.substring(SYMBOLIC_REF_PREFIX.length()).trim(), depth + 1);
+            }
+            return OBJECT_ID.matcher(content).matches() ? content : null;
+        }
+        return readPackedRef(new File(commonDir, "packed-refs"), ref);
+    }
+
+    private static boolean isPerWorktreeRef(String ref) {
+        return ref.startsWith("refs/bisect/") || ref.startsWith("refs/worktree/") || ref.startsWith("refs/rewritten/");
+    }
+
+    private static String readPackedRef(File packedRefs, String ref) throws IOException {
+        if (!packedRefs.isFile()) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(packedRefs.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Skip the header and the peeled values of annotated tags
+                if (line.startsWith("#") || line.startsWith("^")) {
+                    continue;
+                }
+                int space = line.indexOf(' ');
+                if (space > 0 && line.substring(space + 1).equals(ref)) {
+                    String objectId = line.substring(0, space);
+                    return OBJECT_ID.matcher(objectId).matches() ? objectId : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static File getCommonDir(File gitDir) throws IOException {
+        File commonDirFile = new File(gitDir, "commondir");
+        if (!commonDirFile.isFile()) {
+            return gitDir;
+        }
+        String commonDir = readFirstLine(commonDirFile);
+        return commonDir == null ? gitDir : normalize(resolve(gitDir, commonDir));
+    }
+
+    private static boolean isGitDir(File dir) {
+        return new File(dir, "HEAD").isFile() && (new File(dir, "objects").isDirectory() || new File(dir, "commondir").isFile());
+    }
+
+    private static File resolve(File base, String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(base, path);
+    }
+
+    private static File normalize(File file) {
+        return file.toPath().toAbsolutePath().normalize().toFile();
+    }
+
+    private static String readFirstLine(File file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            return line == null ? null : line.trim();
+        }
+    }
+
+    /**
+     * The {@code url} of the {@code remote "origin"} section of a Git config file. Only the subset of the config syntax used by
+     * Git itself when writing the file is supported.
+     */
+    private static class OriginConfig {
+
+        private String url;
+
+        /**
+         * Returns the config, or {@code null} if the file uses syntax or settings that only JGit can interpret.
+         */
+        private static OriginConfig read(File configFile) throws IOException {
+            OriginConfig config = new OriginConfig();
+            if (!configFile.isFile()) {
+                return config;
+            }
+            boolean inOrigin = false;
+            try (BufferedReader reader = Files.newBufferedReader(configFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#") || line.startsWith(";")) {
+                        continue;
+                    }
+                    if (line.startsWith("[")) {
+                        int end = line.indexOf(']');
+                        if (end < 0 || !line.substring(end + 1).trim().isEmpty()) {
+                            return null;
+                        }
+                        String section = line.substring(1, end).trim();
+                        String name = section.split("[\\s.]", 2)[0].toLowerCase(Locale.ROOT);
+                        if (name.equals("include") || name.equals("includeif") || name.equals("extensions")) {
+                            return null;
+                        }
+                        inOrigin = section.equals("remote \"origin\"") || section.equalsIgnoreCase("remote.origin");
+                        continue;
+                    }
+                    if (inOrigin) {
+                        int equals = line.indexOf('=');
+                        String key = (equals < 0 ? line : line.substring(0, equals)).trim();
+                        if (key.equalsIgnoreCase("url")) {
+                            if (equals < 0) {
+                                return null;
+                            }
+                            String value = parseValue(line.substring(equals + 1));
+                            if (value == null) {
+                                return null;
+                            }
+                            // The last value wins, as it does for JGit
+                            config.url = value;
+                        }
+                    }
+                }
+            }
+            return config;
+        }
+
+        /**
+         * Returns the value with quotes, escapes, and comments interpreted, or {@code null} if it continues on the next line or
+         * is malformed.
+         */
+        private static String parseValue(String raw) {
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int trailingSpaces = 0;
+            for (int i = 0; i < raw.length(); i++) {
+                char c = raw.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                    trailingSpaces = 0;
+                    continue;
+                }
+                if (!quoted && (c == '#' || c == ';')) {
+                    break;
+                }
+                if (c == '\\') {
+                    if (++i >= raw.length()) {
+                        return null;
+                    }
+                    char escaped = raw.charAt(i);
+                    switch (escaped) {
+                        case 'n':
+                            value.append('\n');
+                            break;
+                        case 't':
+                            value.append('\t');
+                            break;
+                        case 'b':
+                            value.append('\b');
+                            break;
+                        case '"':
+                        case '\\':
+                            value.append(escaped);
+                            break;
+                        default:
+                            return null;
+                    }
+                    trailingSpaces = 0;
+                    continue;
+                }
+                if (!quoted && Character.isWhitespace(c)) {
+                    if (value.length() == 0) {
+                        continue;
+                    }
+                    trailingSpaces++;
+                } else {
+                    trailingSpaces = 0;
+                }
+                value.append(c);
+            }
+            if (quoted) {
+                return null;
+            }
+            return value.substring(0, value.length() - trailingSpaces);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
+import com.ibm.intoto.attestation.utils.exceptions.GitRepoUrlException;
+
+/**
+ * The Git metadata recorded in the provenance: the URL of the {@code origin} remote, the full name of the checked out ref,
+ * and the commit of {@code HEAD} of a local repository.
+ */
+public class GitMetadata {
+
+    private final File gitDir;
+    private final String remoteOriginUrl;
+    private final String ref;
+    private final String commit;
+
+    public GitMetadata(File gitDir, String remoteOriginUrl, String ref, String commit) {
+        this.gitDir = gitDir;
+        this.remoteOriginUrl = remoteOriginUrl;
+        this.ref = ref;
+        this.commit = commit;
+    }
+
+    /**
+     * Returns the Git directory of the repository, which identifies the repository.
+     */
+    public File getGitDir() {
+        return gitDir;
+    }
+
+    public String getRemoteOriginUrl() {
+        return remoteOriginUrl;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    public GitRepositoryResourceDescriptor toResourceDescriptor() throws GitRepoUrlException {
+        String gitHubRepoUrl = com.ibm.intoto.attestation.utils.GitUtils.buildGitHubRepoUrl(remoteOriginUrl);
+
+        DigestSet digest = new DigestSet();
+        digest.put(DigestSet.GITCOMMIT, commit);
+
+        GitRepositoryResourceDescriptor.Builder builder = new GitRepositoryResourceDescriptor.Builder(remoteOriginUrl);
+        builder.ref(ref)
+                .digest(digest)
+                .uri("git+" + gitHubRepoUrl + "@" + ref);
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+
+import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+
+/**
+ * Access to the local Git repositories of a Maven session. The repository of a directory is the nearest repository containing
+ * it, so each module of a reactor with nested repositories gets its own repository.
+ * <p>
+ * The metadata of each repository is read once, however many modules it contains. It is read directly from the Git directory
+ * where possible, and JGit is only initialized for repositories that the {@link GitDirectoryReader} cannot read. Repositories
+ * opened with JGit stay open until the service is closed at the end of the session. The working tree check, which needs JGit,
+ * is also run once per session for each repository and set of directories.
+ */
+public class GitRepositoryService implements Closeable {
+
+    private static final Map<MavenSession, GitRepositoryService> SERVICES = new WeakHashMap<MavenSession, GitRepositoryService>();
+
+    private final Map<File, File> gitDirsByDirectory = new HashMap<>();
+    private final Map<File, Repository> repositoriesByGitDir = new HashMap<>();
+    private final Map<File, GitMetadata> metadataByGitDir = new HashMap<>();
+    private final ConcurrentMap<String, FutureTask<Boolean>> workingTreeChecks = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the service of the session, creating it on first use.
+     */
+    public static synchronized GitRepositoryService get(MavenSession mavenSession) {
+        GitRepositoryService service = SERVICES.get(mavenSession);
+        if (service == null) {
+            service = new GitRepositoryService();
+            SERVICES.put(mavenSession, service);
+        }
+        return service;
+    }
+
+    /**
+     * Closes the repositories opened in the session. Later use of the session opens them again.
+     */
+    public static void close(MavenSession mavenSession) {
+        GitRepositoryService service;
+        synchronized (GitRepositoryService.class) {
+            service = SERVICES.remove(mavenSession);
+        }
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    /**
+     * Returns the metadata of the repository containing the directory.
+     */
+    public synchronized GitMetadata getMetadata(File directory) throws GitRepositoryException {
+        File gitDir = getGitDir(directory);
+        GitMetadata metadata = metadataByGitDir.get(gitDir);
+        if (metadata == null) {
+            metadata = readMetadataFromGitDir(gitDir);
+            if (metadata == null) {
+                metadata = readMetadata(gitDir, getRepository(directory));
+            }
+            metadataByGitDir.put(gitDir, metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * Returns the open repository containing the directory. The repository is owned by this service and must not be closed
+     * by the caller.
+     */
+    public synchronized Repository getRepository(File directory) throws GitRepositoryException {
+        return getRepositoryByGitDir(getGitDir(directory));
+    }
+
+    /**
+     * Returns whether the working tree of the repository differs from its {@code HEAD} commit. Untracked files are ignored.
+     * The working tree is only checked once per set of directories, however many modules ask, so the result describes the
+     * working tree when the session first checked it.
+     *
+     * @param limitDirectories The directories of the working tree to which the check is limited. Directories outside the
+     *        working tree are ignored; if none remain, or the working tree itself is given, the whole working tree is checked.
+     */
+    public boolean isWorkingTreeDirty(GitMetadata metadata, Collection<File> limitDirectories) throws GitRepositoryException {
+        String key;
+        try {
+            key = toWorkingTreeCheckKey(metadata.getGitDir(), limitDirectories);
+        } catch (IOException e) {
+            throw new GitRepositoryException(e.getMessage(), e);
+        }
+        FutureTask<Boolean> check = new FutureTask<>(() -> {
+            Repository repository = getRepositoryByGitDir(metadata.getGitDir());
+            return new WorkingTreeChecker(repository).isDirty(toRepositoryPaths(repository.getWorkTree(), limitDirectories));
+        });
+        FutureTask<Boolean> existingCheck = workingTreeChecks.putIfAbsent(key, check);
+        if (existingCheck == null) {
+            // Concurrent callers with the same key wait for this check rather than walking the working tree again
+            check.run();
+        } else {
+            check = existingCheck;
+        }
+        try {
+            return check.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitRepositoryException("The working tree check was interrupted.", e);
+        } catch (ExecutionException e) {
+            workingTreeChecks.remove(key, check);
+            if (e.getCause() instanceof GitRepositoryException) {
+                throw (GitRepositoryException) e.getCause();
+            }
+            throw new GitRepositoryException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of working tree checks that were run rather than answered from an earlier check.
+     */
+    int getWorkingTreeCheckCount() {
+        return workingTreeChecks.size();
+    }
+
+    private static String toWorkingTreeCheckKey(File gitDir, Collection<File> limitDirectories) throws IOException {
+        List<String> paths = new ArrayList<>();
+        for (File directory : limitDirectories) {
+            paths.add(directory.getCanonicalPath());
+        }
+        Collections.sort(paths);
+        StringBuilder key = new StringBuilder(gitDir.getPath());
+        for (String path : paths) {
+            key.append(File.pathSeparatorChar).append(path);
+        }
+        return key.toString();
+    }
+
+    private static List<String> toRepositoryPaths(File workTree, Collection<File> directories) throws IOException {
+        Path root = workTree.getCanonicalFile().toPath();
+        List<String> paths = new ArrayList<>();
+        for (File directory : directories) {
+            Path path = directory.getCanonicalFile().toPath();
+            if (!path.startsWith(root)) {
+                continue;
+            }
+            if (path.equals(root)) {
+                return Collections.emptyList();
+            }
+            paths.add(root.relativize(path).toString().replace(File.separatorChar, '/'));
+        }
+        return paths;
+    }
+
+    private synchronized Repository getRepositoryByGitDir(File gitDir) throws GitRepositoryException {
+        Repository repository = repositoriesByGitDir.get(gitDir);
+        if (repository == null) {
+            try {
+                repository = new FileRepositoryBuilder().setGitDir(gitDir).readEnvironment().build();
+            } catch (IOException | IllegalArgumentException e) {
+                throw new GitRepositoryException(e.getMessage(), e);
+            }
+            repositoriesByGitDir.put(gitDir, repository);
+        }
+        return repository;
+    }
+
+    private File getGitDir(File directory) throws GitRepositoryException {
+        File absoluteDirectory = directory.getAbsoluteFile();
+        File gitDir = gitDirsByDirectory.get(absoluteDirectory);
+        if (gitDir == null) {
+            try {
+                gitDir = GitDirectoryReader.findGitDir(absoluteDirectory);
+            } catch (IOException e) {
+                gitDir = null;
+            }
+            if (gitDir == null) {
+                gitDir = findGitDir(absoluteDirectory);
+            }
+            gitDirsByDirectory.put(absoluteDirectory, gitDir);
+        }
+        return gitDir;
+    }
+
+    private File findGitDir(File directory) throws GitRepositoryException {
+        FileRepositoryBuilder builder = new FileRepositoryBuilder().readEnvironment().findGitDir(directory);
+        if (builder.getGitDir() == null) {
+            throw new GitRepositoryException("No Git repository was found containing the directory " + directory + ".");
+        }
+        return builder.getGitDir().toPath().toAbsolutePath().normalize().toFile();
+    }
+
+    private GitMetadata readMetadataFromGitDir(File gitDir) {
+        try {
+            return GitDirectoryReader.readMetadata(gitDir);
+        } catch (IOException e) {
+            // JGit reports the error if the repository cannot be read at all
+            return null;
+        }
+    }
+
+    private GitMetadata readMetadata(File gitDir, Repository repository) throws GitRepositoryException {
+        try {
+            ObjectId head = repository.resolve("HEAD");
+            if (head == null) {
+                throw new GitRepositoryException("HEAD of the repository " + gitDir + " does not point to a commit.");
+            }
+            String remoteOriginUrl = repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url");
+            return new GitMetadata(gitDir, remoteOriginUrl, repository.getFullBranch(), head.getName());
+        } catch (IOException e) {
+            throw new GitRepositoryException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Repository repository : repositoriesByGitDir.values()) {
+            repository.close();
+        }
+        repositoriesByGitDir.clear();
+        metadataByGitDir.clear();
+        gitDirsByDirectory.clear();
+        workingTreeChecks.clear();
+    }
+
+}
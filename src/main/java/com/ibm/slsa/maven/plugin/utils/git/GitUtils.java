@@ -1,50 +1,120 @@
 package com.ibm.slsa.maven.plugin.utils.git;
 
-import java.io.IOException;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
-import org.eclipse.jgit.lib.ConfigConstants;
-import org.eclipse.jgit.lib.Repository;
-import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
-
-import com.ibm.intoto.attestation.DigestSet;
 import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
-import com.ibm.intoto.attestation.utils.exceptions.GitRepoUrlException;
 import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+import com.ibm.slsa.maven.plugin.utils.jfr.GitMetadataEvent;
+import com.ibm.slsa.maven.plugin.utils.jfr.WorkingTreeCheckEvent;
 
 public class GitUtils {
 
+    private GitRepositoryService repositoryService;
+    private File directory;
+
+    /**
+     * Reads the repository containing the working directory of the process, opening it for every call.
+     */
+    public GitUtils() {
+        this(null, new File("."));
+    }
+
+    /**
+     * Reads the repository containing the directory through the service, which caches the repositories of the session.
+     */
+    public GitUtils(GitRepositoryService repositoryService, File directory) {
+        this.repositoryService = repositoryService;
+        this.directory = directory;
+    }
+
     public GitRepositoryResourceDescriptor getGitRepositoryResourceDescriptor() throws GitRepositoryException {
+        return getGitRepositoryResourceDescriptor(getMetadata(directory));
+    }
+
+    /**
+     * Returns the metadata of the distinct repositories containing the directory of this instance and the other directories,
+     * starting with the repository of this instance's directory.
+     */
+    public List<GitMetadata> getGitRepositories(Collection<File> otherDirectories) throws GitRepositoryException {
+        List<File> directories = new ArrayList<>();
+        directories.add(directory);
+        directories.addAll(otherDirectories);
+        Set<File> gitDirs = new LinkedHashSet<>();
+        List<GitMetadata> repositories = new ArrayList<>();
+        for (File dir : directories) {
+            GitMetadata metadata = getMetadata(dir);
+            if (gitDirs.add(metadata.getGitDir())) {
+                repositories.add(metadata);
+            }
+        }
+        return repositories;
+    }
+
+    public GitRepositoryResourceDescriptor getGitRepositoryResourceDescriptor(GitMetadata repository) throws GitRepositoryException {
         try {
-            Repository repository = getLocalRepository();
-            return buildGitRepositoryResourceDescriptor(repository);
+            return repository.toResourceDescriptor();
         } catch (Exception e) {
             throw new GitRepositoryException(e.getMessage(), e);
         }
     }
 
-    private Repository getLocalRepository() throws IOException {
-        FileRepositoryBuilder repoBuilder = new FileRepositoryBuilder();
-        return repoBuilder.findGitDir().readEnvironment().build();
+    /**
+     * Returns whether the working tree of the repository differs from its {@code HEAD} commit, checking only the given
+     * directories of the working tree, or the whole working tree if none are given.
+     */
+    public boolean isWorkingTreeDirty(GitMetadata repository, Collection<File> limitDirectories) throws GitRepositoryException {
+        WorkingTreeCheckEvent event = new WorkingTreeCheckEvent();
+        event.begin();
+        boolean dirty;
+        if (repositoryService != null) {
+            dirty = repositoryService.isWorkingTreeDirty(repository, limitDirectories);
+        } else {
+            try (GitRepositoryService service = new GitRepositoryService()) {
+                dirty = service.isWorkingTreeDirty(repository, limitDirectories);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.gitDirectory = repository.getGitDir().getPath();
+            event.limited = !limitDirectories.isEmpty();
+            event.dirty = dirty;
+            event.commit();
+        }
+        return dirty;
     }
 
-    private GitRepositoryResourceDescriptor buildGitRepositoryResourceDescriptor(Repository repository) throws GitRepoUrlException, IOException {
-        String gitRemoteOriginUrl = getRemoteOriginUrl(repository);
-        String gitHubRepoUrl = com.ibm.intoto.attestation.utils.GitUtils.buildGitHubRepoUrl(gitRemoteOriginUrl);
-
-        String ref = repository.getFullBranch();
-        String commit = repository.resolve("HEAD").getName();
-        DigestSet digest = new DigestSet();
-        digest.put(DigestSet.GITCOMMIT, commit);
-
-        GitRepositoryResourceDescriptor.Builder builder = new GitRepositoryResourceDescriptor.Builder(gitRemoteOriginUrl);
-        builder.ref(ref)
-                .digest(digest)
-                .uri("git+" + gitHubRepoUrl + "@" + ref);
-        return builder.build();
+    /**
+     * Returns the origin URL of the repository and the ref and commit checked out in it, in the form
+     * {@code <origin URL> <ref>@<commit>}.
+     */
+    public String getHead() throws GitRepositoryException {
+        GitMetadata metadata = getMetadata(directory);
+        return metadata.getRemoteOriginUrl() + " " + metadata.getRef() + "@" + metadata.getCommit();
     }
 
-    private String getRemoteOriginUrl(Repository repository) {
-        return repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url");
+    private GitMetadata getMetadata(File dir) throws GitRepositoryException {
+        GitMetadataEvent event = new GitMetadataEvent();
+        event.begin();
+        GitMetadata metadata;
+        if (repositoryService != null) {
+            metadata = repositoryService.getMetadata(dir);
+        } else {
+            try (GitRepositoryService service = new GitRepositoryService()) {
+                metadata = service.getMetadata(dir);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.directory = dir.getPath();
+            event.gitDirectory = metadata.getGitDir().getPath();
+            event.ref = metadata.getRef();
+            event.commitId = metadata.getCommit();
+            event.commit();
+        }
+        return metadata;
     }
 
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.dircache.DirCacheIterator;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.FileTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+/**
+ * Checks whether the working tree of a repository differs from the commit checked out at {@code HEAD}, stopping at the first
+ * difference found. Untracked files are not considered.
+ * <p>
+ * Like {@code git status}, files are compared with the stat data recorded in the index rather than by their content. A file
+ * whose size and last modified time match its index entry is unchanged, unless the entry is "racily clean": recorded no
+ * earlier than the file's last modification, so the file could have changed again within the timestamp granularity. Only
+ * files whose last modified time differs, and racily clean files, have their content compared.
+ */
+public class WorkingTreeChecker {
+
+    private final Repository repository;
+
+    public WorkingTreeChecker(Repository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Returns whether the working tree differs from {@code HEAD}.
+     *
+     * @param paths Repository-relative paths, using {@code /} as separator, to which the check is limited, or an empty
+     *        collection to check the whole working tree.
+     */
+    public boolean isDirty(Collection<String> paths) throws IOException {
+        if (repository.isBare()) {
+            throw new IOException("The repository " + repository.getDirectory() + " has no working tree.");
+        }
+        DirCache dirCache = repository.readDirCache();
+        if (dirCache.hasUnmergedPaths()) {
+            return true;
+        }
+        List<String> suspects = new ArrayList<>();
+        if (hasChangedStat(dirCache, paths, suspects)) {
+            return true;
+        }
+        return isIndexDifferentFromHead(dirCache, paths) || hasModifiedContent(dirCache, suspects);
+    }
+
+    /**
+     * Compares the stat data of the index entries with the files. Returns {@code true} as soon as a file is certainly changed;
+     * the paths of files that have to be compared by content are added to the suspects.
+     */
+    private boolean hasChangedStat(DirCache dirCache, Collection<String> paths, List<String> suspects) {
+        File workTree = repository.getWorkTree();
+        Instant indexModified = Instant.ofEpochMilli(repository.getIndexFile().lastModified());
+        for (int i = 0; i < dirCache.getEntryCount(); i++) {
+            DirCacheEntry entry = dirCache.getEntry(i);
+            String path = entry.getPathString();
+            if (entry.isAssumeValid() || entry.isSkipWorkTree() || FileMode.GITLINK.equals(entry.getFileMode()) || !isIncluded(path, paths)) {
+                continue;
+            }
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(new File(workTree, path).toPath(), BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (IOException e) {
+                // Deleted
+                return true;
+            }
+            boolean symbolicLink = FileMode.SYMLINK.equals(entry.getFileMode());
+            if (symbolicLink ? !attributes.isSymbolicLink() : !attributes.isRegularFile()) {
+                return true;
+            }
+            // A zero length entry may have been smudged to force a content check
+            if (entry.getLength() != 0 && entry.getLength() != attributes.size()) {
+                return true;
+            }
+            Instant entryModified = entry.getLastModifiedInstant();
+            boolean racilyClean = !entryModified.isBefore(indexModified);
+            if (entry.getLength() == 0 || racilyClean || !isSameTime(entryModified, attributes.lastModifiedTime().toInstant())) {
+                suspects.add(path);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Index entries written without sub-second precision only match the file's last modified time to the second.
+     */
+    private static boolean isSameTime(Instant entryModified, Instant fileModified) {
+        if (entryModified.getNano() == 0) {
+            return entryModified.getEpochSecond() == fileModified.getEpochSecond();
+        }
+        return entryModified.equals(fileModified);
+    }
+
+    /**
+     * Compares the staged content with {@code HEAD}. Subtrees recorded as unchanged in the index's cache tree are skipped
+     * without being read.
+     */
+    private boolean isIndexDifferentFromHead(DirCache dirCache, Collection<String> paths) throws IOException {
+        ObjectId headTree = repository.resolve("HEAD^{tree}");
+        if (headTree == null) {
+            return dirCache.getEntryCount() > 0;
+        }
+        try (TreeWalk walk = new TreeWalk(repository)) {
+            walk.addTree(headTree);
+            walk.addTree(new DirCacheIterator(dirCache));
+            walk.setRecursive(true);
+            walk.setFilter(paths.isEmpty() ? TreeFilter.ANY_DIFF : AndTreeFilter.create(PathFilterGroup.createFromStrings(paths), TreeFilter.ANY_DIFF));
+            return walk.next();
+        }
+    }
+
+    private boolean hasModifiedContent(DirCache dirCache, List<String> suspects) throws IOException {
+        if (suspects.isEmpty()) {
+            return false;
+        }
+        try (TreeWalk walk = new TreeWalk(repository)) {
+            int dirCacheIndex = walk.addTree(new DirCacheIterator(dirCache));
+            FileTreeIterator workingTreeIterator = new FileTreeIterator(repository);
+            int workingTreeIndex = walk.addTree(workingTreeIterator);
+            workingTreeIterator.setDirCacheIterator(walk, dirCacheIndex);
+            walk.setRecursive(true);
+            walk.setFilter(PathFilterGroup.createFromStrings(suspects));
+            while (walk.next()) {
+                DirCacheIterator dirCacheEntry = walk.getTree(dirCacheIndex, DirCacheIterator.class);
+                FileTreeIterator workingTreeEntry = walk.getTree(workingTreeIndex, FileTreeIterator.class);
+                if (dirCacheEntry == null) {
+                    continue;
+                }
+                if (workingTreeEntry == null || workingTreeEntry.isModified(dirCacheEntry.getDirCacheEntry(), true, walk.getObjectReader())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIncluded(String path, Collection<String> paths) {
+        if (paths.isEmpty()) {
+            return true;
+        }
+        for (String prefix : paths) {
+            if (path.equals(prefix) || (path.startsWith(prefix) && path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.incremental;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestAlgorithm;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+import com.ibm.slsa.maven.plugin.utils.io.AtomicFileWriter;
+
+/**
+ * A stamp file recording the {@link InputFingerprint} of the inputs from which an output file was generated, together with
+ * the size and last modified time of that output file. The output is up to date while the fingerprint of the inputs and the
+ * output file itself are unchanged.
+ */
+public class FingerprintStamp {
+
+    private static final String KEY_VERSION = "stamp.version";
+    private static final String VERSION = "1";
+    private static final String KEY_INPUTS = "inputs";
+    private static final String KEY_OUTPUT = "output";
+
+    private final File stampFile;
+
+    public FingerprintStamp(File stampFile) {
+        this.stampFile = stampFile;
+    }
+
+    /**
+     * Returns the stamp of the output file in the directory. The name of the stamp is derived from the absolute path of the
+     * output file, so outputs that share the directory, such as the provenance files of the modules of a reactor, have their
+     * own stamps.
+     */
+    public static FingerprintStamp forOutput(File directory, File outputFile) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = DigestAlgorithm.SHA256.newMessageDigest();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        String pathDigest = FileDigester.toHex(messageDigest.digest(outputFile.getAbsolutePath().getBytes(StandardCharsets.UTF_8)));
+        return new FingerprintStamp(new File(directory, outputFile.getName() + "-" + pathDigest.substring(0, 16) + ".stamp"));
+    }
+
+    /**
+     * Returns whether the output file was generated from inputs with the given fingerprint and has not changed since. A
+     * missing, unreadable, or incompatible stamp file means the output is not up to date.
+     */
+    public boolean isUpToDate(String fingerprint, File outputFile) {
+        if (!stampFile.isFile()) {
+            return false;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(stampFile.toPath(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+        String output = describe(outputFile);
+        return VERSION.equals(properties.getProperty(KEY_VERSION))
+                && fingerprint.equals(properties.getProperty(KEY_INPUTS))
+                && output != null
+                && output.equals(properties.getProperty(KEY_OUTPUT));
+    }
+
+    /**
+     * Records that the output file was generated from inputs with the given fingerprint.
+     */
+    public void record(String fingerprint, File outputFile) throws IOException {
+        String output = describe(outputFile);
+        if (output == null) {
+            throw new IOException("The output file " + outputFile + " does not exist.");
+        }
+        Properties properties = new Properties();
+        properties.setProperty(KEY_VERSION, VERSION);
+        properties.setProperty(KEY_INPUTS, fingerprint);
+        properties.setProperty(KEY_OUTPUT, output);
+        Files.createDirectories(stampFile.getAbsoluteFile().getParentFile().toPath());
+        try (AtomicFileWriter file = new AtomicFileWriter(stampFile.toPath())) {
+            properties.store(file.getWriter(), null);
+            file.commit();
+        }
+    }
+
+    public File getStampFile() {
+        return stampFile;
+    }
+
+    private static String describe(File file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.incremental;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestAlgorithm;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+
+/**
+ * A cheap fingerprint of the inputs of the provenance. Inputs are named values; files are represented by their size and last
+ * modified time rather than their content, so a fingerprint can be calculated without reading any file. The fingerprint does
+ * not depend on the order in which inputs are added.
+ */
+public class InputFingerprint {
+
+    static final String MISSING_FILE = "missing";
+
+    private final SortedMap<String, String> inputs = new TreeMap<>();
+
+    /**
+     * Adds a named input. A {@code null} value is recorded as distinct from every string value.
+     */
+    public InputFingerprint put(String name, String value) {
+        inputs.put(name, value);
+        return this;
+    }
+
+    public InputFingerprint put(String name, boolean value) {
+        return put(name, String.valueOf(value));
+    }
+
+    /**
+     * Adds every entry of the map as an input named by the prefix and the entry's key.
+     */
+    public InputFingerprint putAll(String prefix, Map<?, ?> values) {
+        for (Entry<?, ?> entry : values.entrySet()) {
+            put(prefix + entry.getKey(), entry.getValue() == null ? null : entry.getValue().toString());
+        }
+        return this;
+    }
+
+    /**
+     * Adds the size and last modified time of the file as a named input, or a marker if the file does not exist.
+     */
+    public InputFingerprint putFile(String name, File file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            return put(name, attributes.size() + ":" + attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS));
+        } catch (IOException e) {
+            return put(name, MISSING_FILE);
+        }
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 digest of the inputs.
+     */
+    public String getValue() {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = DigestAlgorithm.SHA256.newMessageDigest();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        for (Entry<String, String> input : inputs.entrySet()) {
+            update(messageDigest, input.getKey());
+            update(messageDigest, input.getValue());
+        }
+        return FileDigester.toHex(messageDigest.digest());
+    }
+
+    /**
+     * Adds the length of the string before its bytes so that distinct inputs can never produce the same digested bytes.
+     */
+    private static void update(MessageDigest messageDigest, String value) {
+        if (value == null) {
+            messageDigest.update(ByteBuffer.allocate(4).putInt(-1).array());
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        messageDigest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        messageDigest.update(bytes);
+    }
+
+}
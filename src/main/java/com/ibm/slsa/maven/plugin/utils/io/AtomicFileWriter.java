@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.io;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestAlgorithm;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+
+/**
+ * Writes UTF-8 text to a temporary file next to the target file and, on {@link #commit()}, atomically moves it into place only
+ * if its content differs from the existing target file. An unchanged target file keeps its last modified time, so steps that
+ * watch it are not triggered. Readers of the target file never see partially written content.
+ * <p>
+ * Closing the writer without committing it discards the temporary file.
+ */
+public class AtomicFileWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path target;
+    private final Path temporaryFile;
+    private final FileChannel channel;
+    private final MessageDigest messageDigest;
+    private final Writer output;
+    private final Writer writer;
+    private boolean committed = false;
+
+    public AtomicFileWriter(Path target) throws IOException {
+        this.target = target;
+        try {
+            this.messageDigest = DigestAlgorithm.SHA256.newMessageDigest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        // The temporary file must be in the same directory for the move to be atomic
+        this.temporaryFile = target.resolveSibling("." + target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        this.channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.output = new BufferedWriter(new OutputStreamWriter(new DigestOutputStream(Channels.newOutputStream(channel), messageDigest), StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.writer = new UnclosableWriter(output);
+    }
+
+    /**
+     * Returns the writer of the content. Closing the writer only flushes it, so it can be handed to APIs such as JSON
+     * generators that close their output when they are done.
+     */
+    public Writer getWriter() {
+        return writer;
+    }
+
+    /**
+     * Replaces the target file with the written content, unless the target file already has exactly that content.
+     *
+     * @return {@code true} if the target file was replaced, or {@code false} if it was unchanged.
+     */
+    public boolean commit() throws IOException {
+        output.flush();
+        long size = channel.size();
+        channel.force(false);
+        output.close();
+        String sha256 = FileDigester.toHex(messageDigest.digest());
+        boolean changed = !hasContent(target, size, sha256);
+        if (changed) {
+            try {
+                Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } else {
+            Files.delete(temporaryFile);
+        }
+        // Only marked once the temporary file is gone, so a failed commit is cleaned up on close
+        committed = true;
+        return changed;
+    }
+
+    private static boolean hasContent(Path file, long size, String sha256) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != size) {
+            return false;
+        }
+        return sha256.equals(new FileDigester().digest(file.toFile()).get(DigestSet.ALG_SHA256));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            try {
+                output.close();
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    private static class UnclosableWriter extends FilterWriter {
+
+        UnclosableWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for each project whose dependencies are collected into the resolved dependencies of the provenance.
+ */
+@Name(DependencyCollectionEvent.NAME)
+@Label("Dependency Collection")
+@Description("Collection of the dependencies of a project into the resolved dependencies")
+@Category({ "SLSA Maven Plugin", "Dependencies" })
+public class DependencyCollectionEvent extends Event {
+
+    public static final String NAME = "com.ibm.slsa.DependencyCollection";
+
+    @Label("Project")
+    public String project;
+
+    @Label("Dependencies")
+    @Description("Number of dependencies of the project, resolved or declared")
+    public int dependencies;
+
+    @Label("Resolved")
+    @Description("Whether the dependencies of the project had been resolved")
+    public boolean resolved;
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for each file read to calculate its digests, on the thread that read it. Files whose digests were reused from the
+ * digest cache or a checksum file are not read and have no event.
+ */
+@Name(FileDigestEvent.NAME)
+@Label("File Digest")
+@Description("Digests calculated from a single read of a subject or dependency file")
+@Category({ "SLSA Maven Plugin", "Digests" })
+public class FileDigestEvent extends Event {
+
+    public static final String NAME = "com.ibm.slsa.FileDigest";
+
+    @Label("Path")
+    public String path;
+
+    @Label("Size")
+    @DataAmount
+    public long size;
+
+    @Label("Algorithms")
+    @Description("Comma-separated DigestSet names of the digests calculated")
+    public String algorithms;
+
+}
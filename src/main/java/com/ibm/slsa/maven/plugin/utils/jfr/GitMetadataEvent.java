@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for each lookup of the Git repository containing a directory. Lookups answered from the repositories cached for
+ * the session are short, but still emitted, so the number of lookups can be seen.
+ */
+@Name(GitMetadataEvent.NAME)
+@Label("Git Metadata")
+@Description("Resolution of the Git repository, ref and commit of a directory")
+@Category({ "SLSA Maven Plugin", "Git" })
+public class GitMetadataEvent extends Event {
+
+    public static final String NAME = "com.ibm.slsa.GitMetadata";
+
+    @Label("Directory")
+    public String directory;
+
+    @Label("Git Directory")
+    public String gitDirectory;
+
+    @Label("Ref")
+    public String ref;
+
+    @Label("Commit")
+    public String commitId;
+
+}
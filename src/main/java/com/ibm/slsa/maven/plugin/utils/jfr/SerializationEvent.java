@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted when the provenance Statement is built and serialized, either to a JSON object or streamed to a JSON generator.
+ */
+@Name(SerializationEvent.NAME)
+@Label("Provenance Serialization")
+@Description("Building and serializing the provenance Statement")
+@Category({ "SLSA Maven Plugin", "Provenance" })
+public class SerializationEvent extends Event {
+
+    public static final String NAME = "com.ibm.slsa.Serialization";
+
+    @Label("Project")
+    public String project;
+
+    @Label("Streaming")
+    @Description("Whether the Statement was streamed rather than built as a JSON object")
+    public boolean streaming;
+
+    @Label("Subjects")
+    public int subjects;
+
+}
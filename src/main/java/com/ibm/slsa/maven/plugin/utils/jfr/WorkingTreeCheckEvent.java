@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for each check of whether the working tree of a Git repository differs from its {@code HEAD} commit.
+ */
+@Name(WorkingTreeCheckEvent.NAME)
+@Label("Working Tree Check")
+@Description("Comparison of the working tree of a Git repository with its HEAD commit")
+@Category({ "SLSA Maven Plugin", "Git" })
+public class WorkingTreeCheckEvent extends Event {
+
+    public static final String NAME = "com.ibm.slsa.WorkingTreeCheck";
+
+    @Label("Git Directory")
+    public String gitDirectory;
+
+    @Label("Limited")
+    @Description("Whether the check was limited to the directories of the projects")
+    public boolean limited;
+
+    @Label("Dirty")
+    public boolean dirty;
+
+}
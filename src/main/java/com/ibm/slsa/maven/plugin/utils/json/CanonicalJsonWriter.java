@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Writes JSON values in the JSON Canonicalization Scheme (JCS) form defined by RFC 8785: no whitespace, object members sorted
+ * by the UTF-16 code units of their names, strings with only the mandatory escapes, and numbers in the ECMAScript
+ * {@code Number.prototype.toString()} form. Equal values always produce identical text, so canonical output can be hashed or
+ * signed directly.
+ * <p>
+ * See https://www.rfc-editor.org/rfc/rfc8785.
+ */
+public class CanonicalJsonWriter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final double MAX_SAFE_INTEGER = 9007199254740992.0;
+    private static final int MAX_DOUBLE_DIGITS = 17;
+
+    private final Writer writer;
+
+    public CanonicalJsonWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Returns the canonical text of the value.
+     */
+    public static String toCanonicalString(JsonValue value) {
+        StringWriter output = new StringWriter();
+        try {
+            new CanonicalJsonWriter(output).write(value);
+        } catch (IOException e) {
+            // Not thrown by a StringWriter
+            throw new UncheckedIOException(e);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Writes the canonical text of the value.
+     *
+     * @throws IllegalArgumentException if the value cannot be canonicalized, e.g. a string containing an unpaired surrogate.
+     */
+    public void write(JsonValue value) throws IOException {
+        switch (value.getValueType()) {
+            case OBJECT:
+                writeObject((JsonObject) value);
+                break;
+            case ARRAY:
+                writeArray((JsonArray) value);
+                break;
+            case STRING:
+                writeString(((JsonString) value).getString());
+                break;
+            case NUMBER:
+                writer.write(toEcmaScriptNumber(((JsonNumber) value).doubleValue()));
+                break;
+            case TRUE:
+                writer.write("true");
+                break;
+            case FALSE:
+                writer.write("false");
+                break;
+            default:
+                writer.write("null");
+                break;
+        }
+    }
+
+    private void writeObject(JsonObject object) throws IOException {
+        List<String> names = new ArrayList<>(object.keySet());
+        // String ordering is by UTF-16 code units, as RFC 8785 requires
+        Collections.sort(names);
+        writer.write('{');
+        boolean first = true;
+        for (String name : names) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writeString(name);
+            writer.write(':');
+            write(object.get(name));
+        }
+        writer.write('}');
+    }
+
+    private void writeArray(JsonArray array) throws IOException {
+        writer.write('[');
+        for (int i = 0; i < array.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            write(array.get(i));
+        }
+        writer.write(']');
+    }
+
+    private void writeString(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\b':
+                    writer.write("\\b");
+                    break;
+                case '\f':
+                    writer.write("\\f");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write("\\u00");
+                        writer.write(HEX_DIGITS[c >> 4]);
+                        writer.write(HEX_DIGITS[c & 0xf]);
+                    } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        writer.write(c);
+                        writer.write(value.charAt(++i));
+                    } else if (Character.isSurrogate(c)) {
+                        throw new IllegalArgumentException("The string contains an unpaired surrogate at index " + i + " and cannot be canonicalized.");
+                    } else {
+                        writer.write(c);
+                    }
+                    break;
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Formats the number as ECMAScript {@code Number.prototype.toString()} does.
+     */
+    static String toEcmaScriptNumber(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("The number " + value + " cannot be canonicalized.");
+        }
+        if (value == 0) {
+            // Includes negative zero
+            return "0";
+        }
+        if (value < 0) {
+            return "-" + toEcmaScriptNumber(-value);
+        }
+        BigDecimal decimal = toShortestDecimal(value).stripTrailingZeros();
+        String digits = decimal.unscaledValue().toString();
+        int k = digits.length();
+        // The position of the decimal point relative to the start of the digits
+        int n = k - decimal.scale();
+        StringBuilder result = new StringBuilder();
+        if (k <= n && n <= 21) {
+            result.append(digits);
+            for (int i = k; i < n; i++) {
+                result.append('0');
+            }
+        } else if (0 < n && n <= 21) {
+            result.append(digits, 0, n).append('.').append(digits, n, k);
+        } else if (-6 < n && n <= 0) {
+            result.append("0.");
+            for (int i = n; i < 0; i++) {
+                result.append('0');
+            }
+            result.append(digits);
+        } else {
+            result.append(digits.charAt(0));
+            if (k > 1) {
+                result.append('.').append(digits, 1, k);
+            }
+            int exponent = n - 1;
+            result.append('e').append(exponent < 0 ? '-' : '+').append(Math.abs(exponent));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the decimal with the fewest significant digits that reads back as the positive, finite double, choosing the one
+     * closest to the exact value of the double, then the one with an even last digit. This is the number ECMAScript
+     * formats. {@link Double#toString(double)} does not always give the shortest digits before Java 19 (JDK-4511638).
+     */
+    static BigDecimal toShortestDecimal(double value) {
+        if (value < MAX_SAFE_INTEGER && value == Math.rint(value)) {
+            // Neighbouring doubles are at most 1 apart, so no integer with fewer significant digits reads back as the value
+            return BigDecimal.valueOf((long) value);
+        }
+        BigDecimal exact = new BigDecimal(value);
+        for (int precision = 1; precision < MAX_DOUBLE_DIGITS; precision++) {
+            // Any decimal of this precision that reads back as the value lies between these two, so they read back as well
+            BigDecimal below = exact.round(new MathContext(precision, RoundingMode.FLOOR));
+            BigDecimal above = exact.round(new MathContext(precision, RoundingMode.CEILING));
+            boolean belowMatches = Double.parseDouble(below.toString()) == value;
+            boolean aboveMatches = Double.parseDouble(above.toString()) == value;
+            if (belowMatches && aboveMatches) {
+                int comparison = exact.subtract(below).compareTo(above.subtract(exact));
+                if (comparison == 0) {
+                    return below.unscaledValue().testBit(0) ? above : below;
+                }
+                return comparison < 0 ? below : above;
+            } else if (belowMatches) {
+                return below;
+            } else if (aboveMatches) {
+                return above;
+            }
+        }
+        // Seventeen significant digits always read back as the double
+        return exact.round(new MathContext(MAX_DOUBLE_DIGITS, RoundingMode.HALF_EVEN));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import java.util.Collections;
+import java.util.Map;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Formats in which the provenance file can be written.
+ */
+public enum OutputFormat {
+
+    /**
+     * Indented JSON, for reading by people.
+     */
+    PRETTY("pretty", Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true)),
+
+    /**
+     * JSON without whitespace, in the same member order as the pretty format.
+     */
+    COMPACT("compact", Collections.<String, Object> emptyMap()),
+
+    /**
+     * RFC 8785 canonical JSON, with the unordered subject and resolved dependency collections sorted and the time of a
+     * reproducible build as {@code startedOn}, so that the same inputs always produce byte-identical files.
+     */
+    CANONICAL("canonical", null);
+
+    private final String name;
+    private final Map<String, ?> generatorConfig;
+
+    private OutputFormat(String name, Map<String, ?> generatorConfig) {
+        this.name = name;
+        this.generatorConfig = generatorConfig;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the configuration of the {@link JsonGenerator} that writes this format, or {@code null} if the format is written
+     * by {@link CanonicalJsonWriter}.
+     */
+    public Map<String, ?> getGeneratorConfig() {
+        return generatorConfig;
+    }
+
+    /**
+     * Returns the format with the given name, ignoring case.
+     *
+     * @throws IllegalArgumentException If the name does not match a supported format.
+     */
+    public static OutputFormat fromName(String name) {
+        for (OutputFormat format : values()) {
+            if (format.name.equalsIgnoreCase(name.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported output format \"" + name + "\". Supported formats are: pretty, compact, canonical");
+    }
+
+}
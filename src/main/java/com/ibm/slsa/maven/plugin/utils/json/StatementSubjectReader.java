@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Reads the subjects of an in-toto Statement with a streaming {@link JsonParser}, without building the Statement in memory.
+ * The predicate, including its potentially very large list of resolved dependencies, is skipped event by event when it comes
+ * before the subjects, as in the canonical format, and is not read at all when it comes after them.
+ */
+public class StatementSubjectReader {
+
+    private final Reader reader;
+
+    public StatementSubjectReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the subjects of the Statement, in the order they appear in it.
+     *
+     * @throws JsonException If the content is not valid JSON, is not an in-toto Statement, or has no subjects.
+     */
+    public List<Subject> read() {
+        try (JsonParser parser = Json.createParser(reader)) {
+            if (!parser.hasNext() || parser.next() != Event.START_OBJECT) {
+                throw new JsonException("The provenance is not a JSON object.");
+            }
+            String type = null;
+            List<Subject> subjects = null;
+            Event event;
+            // Stop as soon as both are known, so a predicate that follows the subjects is never parsed
+            while ((type == null || subjects == null) && (event = parser.next()) != Event.END_OBJECT) {
+                String key = parser.getString();
+                Event value = parser.next();
+                if (Statement.KEY_TYPE.equals(key) && value == Event.VALUE_STRING) {
+                    type = parser.getString();
+                    if (!Statement.TYPE_IN_TOTO_STATEMENT.equals(type)) {
+                        throw new JsonException("The provenance is not an in-toto Statement: its " + Statement.KEY_TYPE + " is " + type + ".");
+                    }
+                } else if (Statement.KEY_SUBJECT.equals(key) && value == Event.START_ARRAY) {
+                    subjects = readSubjects(parser);
+                } else {
+                    skipValue(parser, value);
+                }
+            }
+            if (type == null) {
+                throw new JsonException("The provenance is not an in-toto Statement: it has no " + Statement.KEY_TYPE + ".");
+            }
+            if (subjects == null) {
+                throw new JsonException("The provenance has no " + Statement.KEY_SUBJECT + ".");
+            }
+            return subjects;
+        }
+    }
+
+    private static List<Subject> readSubjects(JsonParser parser) {
+        List<Subject> subjects = new ArrayList<>();
+        Event event;
+        while ((event = parser.next()) != Event.END_ARRAY) {
+            if (event != Event.START_OBJECT) {
+                throw new JsonException("A subject of the provenance is not a JSON object.");
+            }
+            subjects.add(readSubject(parser));
+        }
+        return subjects;
+    }
+
+    private static Subject readSubject(JsonParser parser) {
+        String name = null;
+        Map<String, String> digests = new LinkedHashMap<>();
+        while (parser.next() != Event.END_OBJECT) {
+            String key = parser.getString();
+            Event value = parser.next();
+            if (ResourceDescriptor.KEY_NAME.equals(key) && value == Event.VALUE_STRING) {
+                name = parser.getString();
+            } else if (ResourceDescriptor.KEY_DIGEST.equals(key) && value == Event.START_OBJECT) {
+                while (parser.next() != Event.END_OBJECT) {
+                    String algorithm = parser.getString();
+                    Event digest = parser.next();
+                    if (digest == Event.VALUE_STRING) {
+                        digests.put(algorithm, parser.getString());
+                    } else {
+                        skipValue(parser, digest);
+                    }
+                }
+            } else {
+                skipValue(parser, value);
+            }
+        }
+        if (name == null) {
+            throw new JsonException("A subject of the provenance has no " + ResourceDescriptor.KEY_NAME + ".");
+        }
+        return new Subject(name, digests);
+    }
+
+    /**
+     * Skips the value that starts with the given event, including all of the values nested in it.
+     */
+    private static void skipValue(JsonParser parser, Event event) {
+        if (event != Event.START_OBJECT && event != Event.START_ARRAY) {
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            Event next = parser.next();
+            if (next == Event.START_OBJECT || next == Event.START_ARRAY) {
+                depth++;
+            } else if (next == Event.END_OBJECT || next == Event.END_ARRAY) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * The name of a subject and its digests, keyed by their DigestSet algorithm names.
+     */
+    public static class Subject {
+
+        private final String name;
+        private final Map<String, String> digests;
+
+        public Subject(String name, Map<String, String> digests) {
+            this.name = name;
+            this.digests = Collections.unmodifiableMap(new LinkedHashMap<>(digests));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Map<String, String> getDigests() {
+            return digests;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import java.util.List;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.slsa.SlsaPredicate;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Writes an in-toto Statement with a SLSA provenance predicate directly to a {@link JsonGenerator}, in the same form as
+ * {@link Statement#toJson()}. The predicate, including its potentially very large list of resolved dependencies, is streamed
+ * rather than first being assembled into a single {@code JsonObject}.
+ */
+public class StatementWriter {
+
+    private final JsonGenerator generator;
+
+    public StatementWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    public void write(List<ResourceDescriptor> subject, SlsaPredicate predicate) {
+        generator.writeStartObject();
+        generator.write(Statement.KEY_TYPE, Statement.TYPE_IN_TOTO_STATEMENT);
+        generator.writeStartArray(Statement.KEY_SUBJECT);
+        for (ResourceDescriptor resourceDescriptor : subject) {
+            generator.write(resourceDescriptor.toJson());
+        }
+        generator.writeEnd();
+        generator.write(Statement.KEY_PREDICATE_TYPE, predicate.getPredicateType());
+        generator.writeKey(Statement.KEY_PREDICATE);
+        predicate.writeTo(generator);
+        generator.writeEnd();
+    }
+
+}
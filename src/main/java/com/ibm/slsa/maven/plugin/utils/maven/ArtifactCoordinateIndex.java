@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A set of Maven artifact coordinates used to deduplicate the artifacts referenced by the projects of a reactor.
+ * <p>
+ * Large reactors reference the same artifacts from many projects. Each coordinate component is interned into a symbol table
+ * shared by the whole index, so each distinct artifact is held once as a small tuple of symbol ids, and checking a reference
+ * that was already seen allocates no strings or descriptors.
+ */
+public class ArtifactCoordinateIndex {
+
+    private static final int NO_VALUE = -1;
+
+    private final Map<String, Integer> symbols = new HashMap<String, Integer>();
+    private final Set<Coordinate> coordinates = new HashSet<Coordinate>();
+
+    /**
+     * Adds the coordinates to the index. Any of the components can be {@code null}.
+     *
+     * @return {@code true} if the coordinates were not already in the index.
+     */
+    public boolean add(String groupId, String artifactId, String version, String classifier, String type, String scope) {
+        return coordinates.add(new Coordinate(symbol(groupId), symbol(artifactId), symbol(version), symbol(classifier), symbol(type), symbol(scope)));
+    }
+
+    /**
+     * Returns the number of distinct coordinates in the index.
+     */
+    public int size() {
+        return coordinates.size();
+    }
+
+    /**
+     * Returns the number of distinct coordinate components in the symbol table of the index.
+     */
+    public int getSymbolCount() {
+        return symbols.size();
+    }
+
+    private int symbol(String value) {
+        if (value == null || value.isEmpty()) {
+            return NO_VALUE;
+        }
+        Integer symbol = symbols.get(value);
+        if (symbol == null) {
+            symbol = symbols.size();
+            symbols.put(value, symbol);
+        }
+        return symbol;
+    }
+
+    private static class Coordinate {
+
+        private final int[] symbols;
+        private final int hash;
+
+        Coordinate(int... symbols) {
+            this.symbols = symbols;
+            this.hash = Arrays.hashCode(symbols);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Coordinate && hash == ((Coordinate) other).hash && Arrays.equals(symbols, ((Coordinate) other).symbols);
+        }
+    }
+
+}
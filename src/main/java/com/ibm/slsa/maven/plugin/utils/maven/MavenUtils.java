@@ -16,18 +16,29 @@
 */
 package com.ibm.slsa.maven.plugin.utils.maven;
 
-import java.util.HashSet;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Stream;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.ArtifactType;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DependencyDigester;
+import com.ibm.slsa.maven.plugin.utils.jfr.DependencyCollectionEvent;
 
-import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
 import jakarta.json.Json;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
@@ -35,12 +46,33 @@ import jakarta.json.JsonObjectBuilder;
 
 public class MavenUtils {
 
+    /**
+     * The annotation recording the classifier of a dependency, which the Maven artifact resource descriptor does not include.
+     */
+    public static final String KEY_ANNOTATION_CLASSIFIER = "classifier";
+
     private MavenProject project;
     private MavenSession mavenSession;
+    private boolean aggregate;
+    private DependencyDigester dependencyDigester;
 
     public MavenUtils(MavenProject project, MavenSession mavenSession) {
+        this(project, mavenSession, true);
+    }
+
+    public MavenUtils(MavenProject project, MavenSession mavenSession, boolean aggregate) {
+        this(project, mavenSession, aggregate, null);
+    }
+
+    /**
+     * @param dependencyDigester Calculates the digests of the dependencies found in the local repository, or {@code null} if the
+     *            resolved dependencies are recorded without digests.
+     */
+    public MavenUtils(MavenProject project, MavenSession mavenSession, boolean aggregate, DependencyDigester dependencyDigester) {
         this.project = project;
         this.mavenSession = mavenSession;
+        this.aggregate = aggregate;
+        this.dependencyDigester = dependencyDigester;
     }
 
     public JsonObject getMavenSessionUserProperties() {
@@ -54,48 +86,148 @@ public class MavenUtils {
         return builder.build();
     }
 
+    /**
+     * Adds the resolved dependencies of the described projects, including transitive dependencies, to the builder.
+     *
+     * @see #getMavenProjectDependencies()
+     */
     public void addMavenProjectDependencies(JsonArrayBuilder builder) {
+        for (ResolvedDependency dependency : getMavenProjectDependencies()) {
+            builder.add(dependency.toJson());
+        }
+    }
 
-        List<MavenProject> projects = mavenSession.getProjectDependencyGraph().getSortedProjects();
-        Set<MavenArtifactResourceDescriptor> artifactsSet = new HashSet<MavenArtifactResourceDescriptor>();
-        for (MavenProject prj : projects) {
-            List<Dependency> dependencies = prj.getDependencies();
-            Stream<Dependency> dependenciesStream = dependencies.stream();
-            dependenciesStream.forEach(d -> {
-                // Submodule dependencies are not expected to have a separate entry in resolvedDependencies.
-                if (!isSubModuleDependency(projects,d)){
-                    MavenArtifactResourceDescriptor artifact = new MavenArtifactResourceDescriptor(d);
-                    String scope = d.getScope();
-                    if (!isMavenArtifactScopeToIgnore(scope)) {
-                        if (!artifactsSet.contains(artifact)){
-                            artifactsSet.add(artifact);
-                            builder.add(artifact.toJson());
-
-                        }
-                    }
+    /**
+     * Returns the resolved dependencies of the described projects, including transitive dependencies, in project order. The
+     * dependencies of a project whose dependencies have not been resolved are taken from its declared dependencies instead.
+     */
+    public List<ResolvedDependency> getMavenProjectDependencies() {
+
+        ReactorIndex reactor = ReactorIndex.get(mavenSession);
+        List<MavenProject> projectsToDescribe = aggregate ? reactor.getProjects() : Collections.singletonList(project);
+        ArtifactCoordinateIndex index = new ArtifactCoordinateIndex();
+        // Keeps the first occurrence of each artifact, in project order, along with its file
+        List<DependencyFile> artifacts = new ArrayList<DependencyFile>();
+        for (MavenProject prj : projectsToDescribe) {
+            DependencyCollectionEvent event = new DependencyCollectionEvent();
+            event.begin();
+            Set<?> resolvedArtifacts = prj.getArtifacts();
+            boolean resolved = resolvedArtifacts != null && !resolvedArtifacts.isEmpty();
+            int dependencyCount;
+            if (!resolved) {
+                List<Dependency> dependencies = prj.getDependencies();
+                for (Dependency d : dependencies) {
+                    addDependency(reactor, d, null, index, artifacts);
+                }
+                dependencyCount = dependencies.size();
+            } else {
+                for (Object resolvedArtifact : resolvedArtifacts) {
+                    Artifact artifact = (Artifact) resolvedArtifact;
+                    addDependency(reactor, toDependency(artifact), artifact.getFile(), index, artifacts);
                 }
-            });
+                dependencyCount = resolvedArtifacts.size();
+            }
+            if (event.shouldCommit()) {
+                event.project = prj.getId();
+                event.dependencies = dependencyCount;
+                event.resolved = resolved;
+                event.commit();
+            }
+        }
+
+        List<File> files = new ArrayList<File>(artifacts.size());
+        for (DependencyFile artifact : artifacts) {
+            files.add(artifact.file);
+        }
+        Map<File, String> digests = getDigests(files);
+        List<ResolvedDependency> dependencies = new ArrayList<ResolvedDependency>(artifacts.size());
+        for (DependencyFile artifact : artifacts) {
+            dependencies.add(new ResolvedDependency(artifact.dependency, artifact.file == null ? null : digests.get(artifact.file)));
+        }
+        return dependencies;
+    }
+
+    private void addDependency(ReactorIndex reactor, Dependency d, File file, ArtifactCoordinateIndex index, List<DependencyFile> artifacts) {
+        // Submodule dependencies are not expected to have a separate entry in resolvedDependencies.
+        if (isSubModuleDependency(reactor, d) || isMavenArtifactScopeToIgnore(d.getScope())) {
+            return;
+        }
+        if (index.add(d.getGroupId(), d.getArtifactId(), d.getVersion(), d.getClassifier(), d.getType(), d.getScope())) {
+            artifacts.add(new DependencyFile(d, file != null ? file : getLocalRepositoryFile(d)));
         }
     }
 
+    private Dependency toDependency(Artifact artifact) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(artifact.getGroupId());
+        dependency.setArtifactId(artifact.getArtifactId());
+        // The base version keeps snapshot dependencies consistent with their declared version
+        dependency.setVersion(artifact.getBaseVersion());
+        dependency.setClassifier(artifact.getClassifier());
+        dependency.setType(artifact.getType());
+        dependency.setScope(artifact.getScope());
+        dependency.setOptional(artifact.isOptional());
+        return dependency;
+    }
+
+    private Map<File, String> getDigests(Collection<File> files) {
+        if (dependencyDigester == null) {
+            return Collections.emptyMap();
+        }
+        List<File> existingFiles = new ArrayList<File>();
+        for (File file : files) {
+            if (file != null && file.isFile()) {
+                existingFiles.add(file);
+            }
+        }
+        return dependencyDigester.digest(existingFiles);
+    }
+
+    /**
+     * Returns the location of the dependency in the local repository of the session, or {@code null} if it cannot be determined.
+     * The file is not guaranteed to exist.
+     */
+    private File getLocalRepositoryFile(Dependency dependency) {
+        if (dependencyDigester == null || dependency.getGroupId() == null || dependency.getArtifactId() == null || dependency.getVersion() == null) {
+            return null;
+        }
+        RepositorySystemSession repositorySession = mavenSession.getRepositorySession();
+        LocalRepositoryManager localRepositoryManager = repositorySession == null ? null : repositorySession.getLocalRepositoryManager();
+        if (localRepositoryManager == null) {
+            return null;
+        }
+        String type = Objects.toString(dependency.getType(), "jar");
+        String extension = type;
+        String classifier = dependency.getClassifier();
+        ArtifactType artifactType = repositorySession.getArtifactTypeRegistry() == null ? null : repositorySession.getArtifactTypeRegistry().get(type);
+        if (artifactType != null) {
+            extension = artifactType.getExtension();
+            if (classifier == null || classifier.isEmpty()) {
+                classifier = artifactType.getClassifier();
+            }
+        }
+        DefaultArtifact artifact = new DefaultArtifact(dependency.getGroupId(), dependency.getArtifactId(), classifier, extension, dependency.getVersion());
+        return new File(localRepositoryManager.getRepository().getBasedir(), localRepositoryManager.getPathForLocalArtifact(artifact));
+    }
+
     private boolean isMavenArtifactScopeToIgnore(String scope) {
         // Only add non-test dependencies
         return scope == null || "test".equalsIgnoreCase(scope);
     }
 
-    private boolean isSubModuleDependency(List<MavenProject> projects, Dependency dependency) {
-        if (dependency == null 
-            || dependency.getGroupId() == null 
-            || dependency.getArtifactId() == null 
-            || dependency.getVersion() == null) {
-            return false;
+    private boolean isSubModuleDependency(ReactorIndex reactor, Dependency dependency) {
+        return dependency != null && reactor.contains(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
+    }
+
+    private static class DependencyFile {
+
+        private final Dependency dependency;
+        private final File file;
+
+        private DependencyFile(Dependency dependency, File file) {
+            this.dependency = dependency;
+            this.file = file;
         }
-    
-        return projects.stream().anyMatch(p -> 
-            dependency.getGroupId().equals(p.getGroupId()) &&
-            dependency.getArtifactId().equals(p.getArtifactId()) &&
-            dependency.getVersion().equals(p.getVersion())
-        );
-    }    
+    }
 
 }
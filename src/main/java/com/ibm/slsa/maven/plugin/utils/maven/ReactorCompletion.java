@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Tracks which projects of the reactor of a Maven session have completed an execution of the plugin. In a parallel build,
+ * projects do not complete in reactor order, so the last project in the reactor is not necessarily the last one to execute
+ * the plugin; the execution that completes the reactor is the one after which no expected project remains.
+ * <p>
+ * Each execution of the plugin, as identified by its execution ID, completes the reactor separately.
+ */
+public class ReactorCompletion {
+
+    private static final Map<MavenSession, Map<String, ReactorCompletion>> COMPLETIONS = new WeakHashMap<MavenSession, Map<String, ReactorCompletion>>();
+
+    private final Set<MavenProject> remainingProjects = Collections.newSetFromMap(new IdentityHashMap<MavenProject, Boolean>());
+    private boolean completed = false;
+
+    /**
+     * Returns the completion of the reactor of the session for the execution of the plugin, creating it on first use with the
+     * projects of the reactor that are expected to run the execution.
+     *
+     * @param executionId The ID of the execution, or {@code null} if it is not known.
+     */
+    public static synchronized ReactorCompletion get(MavenSession mavenSession, String executionId, Predicate<MavenProject> expected) {
+        Map<String, ReactorCompletion> completions = COMPLETIONS.computeIfAbsent(mavenSession, session -> new HashMap<>());
+        ReactorCompletion completion = completions.get(executionId);
+        if (completion == null) {
+            completion = new ReactorCompletion(ReactorIndex.get(mavenSession).getProjects(), expected);
+            completions.put(executionId, completion);
+        }
+        return completion;
+    }
+
+    /**
+     * Returns whether every execution of the plugin that has started in the session has completed the reactor, so that the
+     * resources the executions share can be released. An execution that starts later acquires them again.
+     */
+    public static synchronized boolean isIdle(MavenSession mavenSession) {
+        Map<String, ReactorCompletion> completions = COMPLETIONS.get(mavenSession);
+        if (completions != null) {
+            for (ReactorCompletion completion : completions.values()) {
+                if (!completion.isCompleted()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public ReactorCompletion(List<MavenProject> projects, Predicate<MavenProject> expected) {
+        for (MavenProject project : projects) {
+            if (expected.test(project)) {
+                remainingProjects.add(project);
+            }
+        }
+    }
+
+    /**
+     * Records that the project has completed its execution of the plugin.
+     *
+     * @return {@code true} for exactly one call: the one after which none of the expected projects remain.
+     */
+    public synchronized boolean complete(MavenProject project) {
+        remainingProjects.remove(project);
+        if (completed || !remainingProjects.isEmpty()) {
+            return false;
+        }
+        completed = true;
+        return true;
+    }
+
+    public synchronized boolean isCompleted() {
+        return completed;
+    }
+
+    public synchronized int getRemainingProjects() {
+        return remainingProjects.size();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * The projects of the reactor of a Maven session, in build order, indexed by their groupId, artifactId, and version.
+ * <p>
+ * The index is built once per session and shared by every execution of the plugin in that session, so looking up whether a
+ * dependency is built by the reactor takes constant time rather than a scan of every project.
+ */
+public class ReactorIndex {
+
+    private static final Map<MavenSession, ReactorIndex> INDEXES = new WeakHashMap<MavenSession, ReactorIndex>();
+
+    private final List<MavenProject> projects;
+    private final Map<String, MavenProject> projectsByCoordinates;
+
+    /**
+     * Returns the index of the reactor of the session, building it on first use.
+     */
+    public static synchronized ReactorIndex get(MavenSession mavenSession) {
+        ReactorIndex index = INDEXES.get(mavenSession);
+        if (index == null) {
+            index = new ReactorIndex(mavenSession.getProjectDependencyGraph().getSortedProjects());
+            INDEXES.put(mavenSession, index);
+        }
+        return index;
+    }
+
+    public ReactorIndex(List<MavenProject> projects) {
+        this.projects = Collections.unmodifiableList(projects);
+        this.projectsByCoordinates = new HashMap<String, MavenProject>(projects.size() * 4 / 3 + 1);
+        for (MavenProject project : projects) {
+            String key = toKey(project.getGroupId(), project.getArtifactId(), project.getVersion());
+            if (key != null && !projectsByCoordinates.containsKey(key)) {
+                projectsByCoordinates.put(key, project);
+            }
+        }
+    }
+
+    /**
+     * Returns the projects of the reactor in build order.
+     */
+    public List<MavenProject> getProjects() {
+        return projects;
+    }
+
+    /**
+     * Returns the project of the reactor with the coordinates, or {@code null} if the reactor does not build it.
+     */
+    public MavenProject getProject(String groupId, String artifactId, String version) {
+        String key = toKey(groupId, artifactId, version);
+        return key == null ? null : projectsByCoordinates.get(key);
+    }
+
+    public boolean contains(String groupId, String artifactId, String version) {
+        return getProject(groupId, artifactId, version) != null;
+    }
+
+    private static String toKey(String groupId, String artifactId, String version) {
+        if (groupId == null || artifactId == null || version == null) {
+            return null;
+        }
+        return groupId + ':' + artifactId + ':' + version;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.Comparator;
+import java.util.Map.Entry;
+
+import org.apache.maven.model.Dependency;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.slsa.JsonWritable;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A Maven dependency in the resolved dependencies of the provenance: its Maven artifact resource descriptor, annotated with
+ * its classifier, if it has one, and with the SHA-256 digest of its file, if it was digested.
+ */
+public class ResolvedDependency implements JsonWritable {
+
+    /**
+     * Orders the dependencies by their coordinates, scope and digest, which is the order of the canonical output format.
+     */
+    public static final Comparator<ResolvedDependency> COORDINATE_ORDER = Comparator
+            .comparing((ResolvedDependency d) -> d.dependency.getGroupId(), Comparator.nullsFirst(Comparator.<String> naturalOrder()))
+            .thenComparing(d -> d.dependency.getArtifactId(), Comparator.nullsFirst(Comparator.<String> naturalOrder()))
+            .thenComparing(d -> d.dependency.getVersion(), Comparator.nullsFirst(Comparator.<String> naturalOrder()))
+            .thenComparing(ResolvedDependency::getClassifier, Comparator.nullsFirst(Comparator.<String> naturalOrder()))
+            .thenComparing(d -> d.dependency.getType(), Comparator.nullsFirst(Comparator.<String> naturalOrder()))
+            .thenComparing(d -> d.dependency.getScope(), Comparator.nullsFirst(Comparator.<String> naturalOrder()))
+            .thenComparing(ResolvedDependency::getSha256, Comparator.nullsFirst(Comparator.<String> naturalOrder()));
+
+    private final Dependency dependency;
+    private final String sha256;
+
+    /**
+     * @param sha256 The hex encoded SHA-256 digest of the file of the dependency, or {@code null} if it was not digested.
+     */
+    public ResolvedDependency(Dependency dependency, String sha256) {
+        this.dependency = dependency;
+        this.sha256 = sha256;
+    }
+
+    public Dependency getDependency() {
+        return dependency;
+    }
+
+    /**
+     * Returns the classifier of the dependency, or {@code null} if it has none.
+     */
+    public String getClassifier() {
+        String classifier = dependency.getClassifier();
+        return classifier == null || classifier.isEmpty() ? null : classifier;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        JsonObject json = new MavenArtifactResourceDescriptor(dependency).toJson();
+        String classifier = getClassifier();
+        if (classifier == null && sha256 == null) {
+            return json;
+        }
+        JsonObjectBuilder builder = Json.createObjectBuilder(json);
+        if (classifier != null) {
+            JsonObject annotations = json.getJsonObject(ResourceDescriptor.KEY_ANNOTATIONS);
+            JsonObjectBuilder annotationsBuilder = annotations == null ? Json.createObjectBuilder() : Json.createObjectBuilder(annotations);
+            builder.add(ResourceDescriptor.KEY_ANNOTATIONS, annotationsBuilder.add(MavenUtils.KEY_ANNOTATION_CLASSIFIER, classifier));
+        }
+        if (sha256 != null) {
+            builder.add(ResourceDescriptor.KEY_DIGEST, Json.createObjectBuilder().add(DigestSet.ALG_SHA256, sha256));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes the members of the resource descriptor, with the classifier and digest set as {@link #toJson()} sets them, without
+     * copying the descriptor into a new object.
+     */
+    @Override
+    public void writeTo(JsonGenerator generator) {
+        JsonObject json = new MavenArtifactResourceDescriptor(dependency).toJson();
+        String classifier = getClassifier();
+        generator.writeStartObject();
+        for (Entry<String, JsonValue> member : json.entrySet()) {
+            if (classifier != null && ResourceDescriptor.KEY_ANNOTATIONS.equals(member.getKey())) {
+                JsonObject annotations = member.getValue().asJsonObject();
+                generator.writeStartObject(ResourceDescriptor.KEY_ANNOTATIONS);
+                for (Entry<String, JsonValue> annotation : annotations.entrySet()) {
+                    if (MavenUtils.KEY_ANNOTATION_CLASSIFIER.equals(annotation.getKey())) {
+                        generator.write(MavenUtils.KEY_ANNOTATION_CLASSIFIER, classifier);
+                    } else {
+                        generator.write(annotation.getKey(), annotation.getValue());
+                    }
+                }
+                if (!annotations.containsKey(MavenUtils.KEY_ANNOTATION_CLASSIFIER)) {
+                    generator.write(MavenUtils.KEY_ANNOTATION_CLASSIFIER, classifier);
+                }
+                generator.writeEnd();
+            } else if (sha256 != null && ResourceDescriptor.KEY_DIGEST.equals(member.getKey())) {
+                writeDigest(generator);
+            } else {
+                generator.write(member.getKey(), member.getValue());
+            }
+        }
+        if (classifier != null && !json.containsKey(ResourceDescriptor.KEY_ANNOTATIONS)) {
+            generator.writeStartObject(ResourceDescriptor.KEY_ANNOTATIONS);
+            generator.write(MavenUtils.KEY_ANNOTATION_CLASSIFIER, classifier);
+            generator.writeEnd();
+        }
+        if (sha256 != null && !json.containsKey(ResourceDescriptor.KEY_DIGEST)) {
+            writeDigest(generator);
+        }
+        generator.writeEnd();
+    }
+
+    private void writeDigest(JsonGenerator generator) {
+        generator.writeStartObject(ResourceDescriptor.KEY_DIGEST);
+        generator.write(DigestSet.ALG_SHA256, sha256);
+        generator.writeEnd();
+    }
+
+}
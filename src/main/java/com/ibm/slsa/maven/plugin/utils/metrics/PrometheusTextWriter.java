@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Phase;
+
+/**
+ * Writes {@link ProvenanceMetrics} in the Prometheus text exposition format, for the textfile collector of the node exporter
+ * (see https://github.com/prometheus/node_exporter#textfile-collector). Every metric is a gauge describing the last run, labeled
+ * with the project the provenance was generated for. The collector can read the file at any time, so the file should be
+ * replaced atomically.
+ */
+public class PrometheusTextWriter {
+
+    public static final String METRIC_PREFIX = "slsa_provenance_";
+
+    private final Writer writer;
+
+    public PrometheusTextWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void write(ProvenanceMetrics metrics) throws IOException {
+        String project = "project=\"" + escapeLabelValue(metrics.getProject()) + "\"";
+        writeHeader("last_run_timestamp_seconds", "Time at which the last provenance run started.");
+        writeSample("last_run_timestamp_seconds", project, String.valueOf(metrics.getStartedOn() / 1000.0));
+        writeHeader("duration_seconds", "Duration of the last provenance run.");
+        writeSample("duration_seconds", project, toSeconds(metrics.getDurationNanos()));
+        writeHeader("phase_duration_seconds", "Duration of each phase of the last provenance run.");
+        for (Phase phase : Phase.values()) {
+            writeSample("phase_duration_seconds", project + ",phase=\"" + phase.getLabel() + "\"", toSeconds(metrics.getPhaseNanos(phase)));
+        }
+        writeHeader("hashed_files", "Files read to calculate digests in the last provenance run.");
+        writeSample("hashed_files", project, String.valueOf(metrics.getFilesHashed()));
+        writeHeader("hashed_bytes", "Bytes read to calculate digests in the last provenance run.");
+        writeSample("hashed_bytes", project, String.valueOf(metrics.getBytesHashed()));
+        writeHeader("digest_cache_hits", "Digests reused from the digest cache in the last provenance run.");
+        writeSample("digest_cache_hits", project, String.valueOf(metrics.getDigestCacheHits()));
+        writeHeader("checksum_file_hits", "Dependency checksum files trusted in place of digests in the last provenance run.");
+        writeSample("checksum_file_hits", project, String.valueOf(metrics.getChecksumFileHits()));
+        writer.flush();
+    }
+
+    private void writeHeader(String name, String help) throws IOException {
+        writer.write("# HELP " + METRIC_PREFIX + name + " " + help + "\n");
+        writer.write("# TYPE " + METRIC_PREFIX + name + " gauge\n");
+    }
+
+    private void writeSample(String name, String labels, String value) throws IOException {
+        writer.write(METRIC_PREFIX + name + "{" + labels + "} " + value + "\n");
+    }
+
+    private static String toSeconds(long nanos) {
+        return String.valueOf(nanos / 1e9);
+    }
+
+    static String escapeLabelValue(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+            case '\\':
+                escaped.append("\\\\");
+                break;
+            case '"':
+                escaped.append("\\\"");
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Timings and I/O counts of a single provenance run. The time spent in each {@link Phase} is accumulated with a {@link Timer},
+ * and the digest counts are recorded once the digests have been calculated. Phases can be timed from any thread. Each timed
+ * interval is also kept, so the run can be reported as a trace.
+ */
+public class ProvenanceMetrics {
+
+    public static final String KEY_PROJECT = "project";
+    public static final String KEY_STARTED_ON = "startedOn";
+    public static final String KEY_DURATION_MILLIS = "durationMillis";
+    public static final String KEY_PHASES = "phases";
+    public static final String KEY_FILES_HASHED = "filesHashed";
+    public static final String KEY_BYTES_HASHED = "bytesHashed";
+    public static final String KEY_DIGEST_CACHE_HITS = "digestCacheHits";
+    public static final String KEY_CHECKSUM_FILE_HITS = "checksumFileHits";
+
+    /**
+     * The phases of a provenance run, in the order in which they run.
+     */
+    public enum Phase {
+        /** Reading the Git repositories and checking their working trees. */
+        GIT_METADATA("gitMetadata", "Git metadata"),
+        /** Finding the package files that are the subjects of the provenance. */
+        SUBJECT_DISCOVERY("subjectDiscovery", "subject discovery"),
+        /** Calculating the digests of the subjects. */
+        DIGESTING("digesting", "digesting"),
+        /** Collecting the resolved Maven dependencies, including the digests of their files. */
+        DEPENDENCY_COLLECTION("dependencyCollection", "dependency collection"),
+        /** Building the Statement and serializing it to JSON. */
+        SERIALIZATION("serialization", "serialization"),
+        /** Committing the provenance file. */
+        WRITE("write", "write"),
+        /** Signing the provenance file into a DSSE envelope and committing the envelope file. */
+        SIGNING("signing", "signing");
+
+        private final String key;
+        private final String description;
+
+        private Phase(String key, String description) {
+            this.key = key;
+            this.description = description;
+        }
+
+        /**
+         * Returns the name of the phase in the JSON report.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the name of the phase as a Prometheus label value.
+         */
+        public String getLabel() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final String project;
+    private final long startedOn;
+    private final long startNanos;
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+    private final ConcurrentLinkedQueue<Interval> intervals = new ConcurrentLinkedQueue<>();
+    private final AtomicLong durationNanos = new AtomicLong(-1);
+    private volatile long filesHashed;
+    private volatile long bytesHashed;
+    private volatile long digestCacheHits;
+    private volatile long checksumFileHits;
+    private volatile long subjectFilesHashed;
+    private volatile long subjectBytesHashed;
+
+    /**
+     * Starts the measurement of a provenance run.
+     *
+     * @param project The ID of the project the provenance is generated for.
+     */
+    public ProvenanceMetrics(String project) {
+        this.project = project;
+        this.startedOn = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts timing the phase. The time is added to the phase when the timer is closed.
+     */
+    public Timer time(Phase phase) {
+        return new Timer(phase);
+    }
+
+    /**
+     * Records the digests calculated and reused so far in the run.
+     *
+     * @param filesHashed The number of files read to calculate digests.
+     * @param bytesHashed The number of bytes read to calculate digests.
+     * @param digestCacheHits The number of digests reused from the digest cache.
+     * @param checksumFileHits The number of dependency checksum files trusted in place of digests.
+     */
+    public void recordDigests(long filesHashed, long bytesHashed, long digestCacheHits, long checksumFileHits) {
+        this.filesHashed = filesHashed;
+        this.bytesHashed = bytesHashed;
+        this.digestCacheHits = digestCacheHits;
+        this.checksumFileHits = checksumFileHits;
+    }
+
+    /**
+     * Records the part of the files and bytes hashed that were subjects rather than dependencies.
+     */
+    public void recordSubjectDigests(long filesHashed, long bytesHashed) {
+        this.subjectFilesHashed = filesHashed;
+        this.subjectBytesHashed = bytesHashed;
+    }
+
+    /**
+     * Ends the measurement of the run. Only the first call has an effect.
+     */
+    public void finish() {
+        durationNanos.compareAndSet(-1, System.nanoTime() - startNanos);
+    }
+
+    public String getProject() {
+        return project;
+    }
+
+    /**
+     * Returns the time at which the run started, in milliseconds since the epoch.
+     */
+    public long getStartedOn() {
+        return startedOn;
+    }
+
+    /**
+     * Returns the duration of the run, up to now if it has not finished.
+     */
+    public long getDurationNanos() {
+        long duration = durationNanos.get();
+        return duration < 0 ? System.nanoTime() - startNanos : duration;
+    }
+
+    /**
+     * Returns the time at which the run started, in nanoseconds since the epoch.
+     */
+    public long getStartEpochNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(startedOn);
+    }
+
+    /**
+     * Returns the time intervals in which the phases ran, in the order in which they ended.
+     */
+    public List<Interval> getIntervals() {
+        return new ArrayList<>(intervals);
+    }
+
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos.get(phase.ordinal());
+    }
+
+    public long getFilesHashed() {
+        return filesHashed;
+    }
+
+    public long getBytesHashed() {
+        return bytesHashed;
+    }
+
+    public long getSubjectFilesHashed() {
+        return subjectFilesHashed;
+    }
+
+    public long getSubjectBytesHashed() {
+        return subjectBytesHashed;
+    }
+
+    public long getDigestCacheHits() {
+        return digestCacheHits;
+    }
+
+    public long getChecksumFileHits() {
+        return checksumFileHits;
+    }
+
+    /**
+     * Returns a one-line summary of the run for the build log.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder("Provenance generated in ").append(toMillis(getDurationNanos())).append(" ms (");
+        for (Phase phase : Phase.values()) {
+            if (phase.ordinal() > 0) {
+                summary.append(", ");
+            }
+            summary.append(phase.getDescription()).append(' ').append(toMillis(getPhaseNanos(phase))).append(" ms");
+        }
+        summary.append("). Hashed ").append(getFilesHashed()).append(" files (").append(formatBytes(getBytesHashed())).append("), ")
+                .append(getDigestCacheHits()).append(" digest cache hits, ")
+                .append(getChecksumFileHits()).append(" checksum file hits.");
+        return summary.toString();
+    }
+
+    public JsonObject toJson() {
+        JsonObjectBuilder phases = Json.createObjectBuilder();
+        for (Phase phase : Phase.values()) {
+            phases.add(phase.getKey(), toMillis(getPhaseNanos(phase)));
+        }
+        return Json.createObjectBuilder()
+                .add(KEY_PROJECT, project)
+                .add(KEY_STARTED_ON, Instant.ofEpochMilli(startedOn).toString())
+                .add(KEY_DURATION_MILLIS, toMillis(getDurationNanos()))
+                .add(KEY_PHASES, phases)
+                .add(KEY_FILES_HASHED, getFilesHashed())
+                .add(KEY_BYTES_HASHED, getBytesHashed())
+                .add(KEY_DIGEST_CACHE_HITS, getDigestCacheHits())
+                .add(KEY_CHECKSUM_FILE_HITS, getChecksumFileHits())
+                .build();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = { "KiB", "MiB", "GiB", "TiB" };
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format(Locale.ROOT, "%.1f %s", value, units[unit]);
+    }
+
+    /**
+     * Times a phase from its creation until it is closed.
+     */
+    public class Timer implements AutoCloseable {
+
+        private final Phase phase;
+        private final long start = System.nanoTime();
+
+        private Timer(Phase phase) {
+            this.phase = phase;
+        }
+
+        @Override
+        public void close() {
+            long end = System.nanoTime();
+            phaseNanos.addAndGet(phase.ordinal(), end - start);
+            intervals.add(new Interval(phase, toEpochNanos(start), toEpochNanos(end)));
+        }
+    }
+
+    private long toEpochNanos(long nanoTime) {
+        return getStartEpochNanos() + nanoTime - startNanos;
+    }
+
+    /**
+     * A time interval in which a phase ran, in nanoseconds since the epoch.
+     */
+    public static class Interval {
+
+        private final Phase phase;
+        private final long startEpochNanos;
+        private final long endEpochNanos;
+
+        private Interval(Phase phase, long startEpochNanos, long endEpochNanos) {
+            this.phase = phase;
+            this.startEpochNanos = startEpochNanos;
+            this.endEpochNanos = endEpochNanos;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public long getStartEpochNanos() {
+            return startEpochNanos;
+        }
+
+        public long getEndEpochNanos() {
+            return endEpochNanos;
+        }
+    }
+
+}
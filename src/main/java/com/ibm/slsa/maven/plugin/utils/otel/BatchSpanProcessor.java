@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Queues finished spans and exports them in batches on a background thread, so recording a span never waits for the network.
+ * A batch is exported when it reaches the maximum batch size, or when the schedule delay has passed since its first span was
+ * queued. Spans added while the queue is full are dropped and counted.
+ * <p>
+ * {@link #close()} does not wait either: the background thread exports the spans that are still queued and then stops. If the
+ * JVM exits first, which Maven does as soon as the build ends, a shutdown hook gives the thread up to the export timeout to
+ * finish. The hook is removed once the thread has stopped, so a JVM that runs many builds does not keep a hook, and the
+ * processor it references, for each of them.
+ */
+public class BatchSpanProcessor implements Closeable {
+
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 2048;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 512;
+    public static final long DEFAULT_SCHEDULE_DELAY_MILLIS = 1000;
+
+    // Queued by close() to wake up the background thread
+    private static final Span END_OF_QUEUE = new Span.Builder("", "", "").build();
+
+    private final OtlpHttpExporter exporter;
+    private final BlockingQueue<Span> queue;
+    private final int maxBatchSize;
+    private final long scheduleDelayNanos;
+    private final long exitTimeoutMillis;
+    private final Log log;
+    private final Thread worker;
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean closed = false;
+    // Guarded by this
+    private Thread exitHook;
+    private boolean terminated = false;
+
+    public BatchSpanProcessor(OtlpHttpExporter exporter, long exitTimeoutMillis, Log log) {
+        this(exporter, DEFAULT_MAX_QUEUE_SIZE, DEFAULT_MAX_BATCH_SIZE, DEFAULT_SCHEDULE_DELAY_MILLIS, exitTimeoutMillis, log);
+    }
+
+    /**
+     * @param exitTimeoutMillis How long the JVM exit waits for queued spans to be exported after the processor was closed.
+     * @param log The log to which failed exports are reported.
+     */
+    public BatchSpanProcessor(OtlpHttpExporter exporter, int maxQueueSize, int maxBatchSize, long scheduleDelayMillis, long exitTimeoutMillis, Log log) {
+        this.exporter = exporter;
+        this.queue = new ArrayBlockingQueue<>(maxQueueSize);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(scheduleDelayMillis);
+        this.exitTimeoutMillis = exitTimeoutMillis;
+        this.log = log;
+        this.worker = new Thread(this::exportQueuedSpans, "slsa-otlp-export");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queues the span for export, without blocking.
+     *
+     * @return {@code false} if the span was dropped because the queue is full or the processor is closed.
+     */
+    public boolean add(Span span) {
+        if (closed || !queue.offer(span)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting spans. The spans already queued are still exported.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // When the queue is full the background thread is busy exporting and does not need waking up
+        queue.offer(END_OF_QUEUE);
+        if (terminated) {
+            return;
+        }
+        exitHook = new Thread(() -> awaitTermination(exitTimeoutMillis), "slsa-otlp-export-exit");
+        try {
+            Runtime.getRuntime().addShutdownHook(exitHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already exiting
+        }
+    }
+
+    /**
+     * Called by the background thread when it stops, to remove the shutdown hook that waits for it.
+     */
+    private synchronized void removeExitHook() {
+        terminated = true;
+        if (exitHook == null) {
+            return;
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(exitHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already exiting, and the hook is running
+        }
+    }
+
+    /**
+     * Returns the shutdown hook registered by {@link #close()}, or {@code null} if there is none.
+     */
+    synchronized Thread getExitHook() {
+        return exitHook;
+    }
+
+    /**
+     * Waits for the spans queued before the processor was closed to be exported.
+     *
+     * @return {@code true} if every queued span was exported or dropped in time.
+     */
+    public boolean awaitTermination(long timeoutMillis) {
+        try {
+            worker.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !worker.isAlive();
+    }
+
+    public long getExportedSpans() {
+        return exported.get();
+    }
+
+    /**
+     * Returns the number of spans that were not exported, because the queue was full, the processor was closed, or the export
+     * failed.
+     */
+    public long getDroppedSpans() {
+        return dropped.get() + failed.get();
+    }
+
+    private void exportQueuedSpans() {
+        try {
+            exportBatches();
+        } finally {
+            removeExitHook();
+        }
+    }
+
+    private void exportBatches() {
+        List<Span> batch = new ArrayList<>(maxBatchSize);
+        boolean endOfQueue = false;
+        while (!endOfQueue) {
+            long deadline = System.nanoTime() + scheduleDelayNanos;
+            try {
+                while (batch.size() < maxBatchSize) {
+                    Span span = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (span == END_OF_QUEUE) {
+                        // Spans queued after the marker, while close() ran, are still exported
+                        endOfQueue = true;
+                        queue.drainTo(batch);
+                        break;
+                    }
+                    if (span == null) {
+                        break;
+                    }
+                    batch.add(span);
+                }
+            } catch (InterruptedException e) {
+                endOfQueue = true;
+            }
+            // The final drain can exceed the batch size
+            for (int i = 0; i < batch.size(); i += maxBatchSize) {
+                export(batch.subList(i, Math.min(batch.size(), i + maxBatchSize)));
+            }
+            batch.clear();
+            if (closed && queue.isEmpty()) {
+                // The marker could not be queued because the queue was full
+                endOfQueue = true;
+            }
+        }
+    }
+
+    private void export(List<Span> batch) {
+        try {
+            exporter.export(batch);
+            exported.addAndGet(batch.size());
+        } catch (IOException | RuntimeException e) {
+            // Report the first failure, rather than one warning per batch when the collector is down
+            if (failed.getAndAdd(batch.size()) == 0) {
+                log.warn("Failed to export " + batch.size() + " spans to " + exporter.getEndpoint() + ": " + e.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+
+/**
+ * Exports spans to an OTLP/HTTP traces endpoint, such as {@code http://localhost:4318/v1/traces} of an OpenTelemetry
+ * Collector, using the JSON encoding of {@code ExportTraceServiceRequest}. Each call sends one request and waits for its
+ * response, so it is meant to be called from a background thread such as the one of {@link BatchSpanProcessor}.
+ */
+public class OtlpHttpExporter {
+
+    public static final String SCOPE_NAME = "com.ibm.slsa.maven.plugin";
+    public static final String ATTRIBUTE_SERVICE_NAME = "service.name";
+    public static final String SERVICE_NAME = "slsa-maven-plugin";
+
+    private final URI endpoint;
+    private final Map<String, String> headers;
+    private final Duration timeout;
+    private final Map<String, Object> resourceAttributes;
+    private final HttpClient client;
+
+    /**
+     * @param endpoint The URL of the traces endpoint, used as is.
+     * @param headers The headers sent with every request, e.g. for authentication.
+     * @param timeout The timeout of connecting and of each request.
+     */
+    public OtlpHttpExporter(URI endpoint, Map<String, String> headers, Duration timeout) {
+        this.endpoint = endpoint;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.timeout = timeout;
+        this.resourceAttributes = Collections.<String, Object> singletonMap(ATTRIBUTE_SERVICE_NAME, SERVICE_NAME);
+        // Plain HTTP/1.1, since collectors do not all accept an upgrade to HTTP/2 on an unencrypted connection
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(timeout).build();
+    }
+
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sends the spans in a single request.
+     *
+     * @throws IOException If the request fails or the endpoint does not accept the spans.
+     */
+    public void export(List<Span> spans) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofByteArray(toRequest(spans).toString().getBytes(StandardCharsets.UTF_8)));
+        for (Entry<String, String> header : headers.entrySet()) {
+            request.header(header.getKey(), header.getValue());
+        }
+        HttpResponse<Void> response;
+        try {
+            response = client.send(request.build(), BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while exporting spans to " + endpoint + ".");
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("The OTLP endpoint " + endpoint + " responded with HTTP status " + response.statusCode() + ".");
+        }
+    }
+
+    /**
+     * Returns the {@code ExportTraceServiceRequest} containing the spans.
+     */
+    JsonObject toRequest(List<Span> spans) {
+        JsonArrayBuilder jsonSpans = Json.createArrayBuilder();
+        for (Span span : spans) {
+            jsonSpans.add(span.toJson());
+        }
+        JsonObject scopeSpans = Json.createObjectBuilder()
+                .add("scope", Json.createObjectBuilder().add("name", SCOPE_NAME))
+                .add("spans", jsonSpans)
+                .build();
+        JsonObject resourceSpans = Json.createObjectBuilder()
+                .add("resource", Json.createObjectBuilder().add("attributes", Span.toJson(resourceAttributes)))
+                .add("scopeSpans", Json.createArrayBuilder().add(scopeSpans))
+                .build();
+        return Json.createObjectBuilder().add("resourceSpans", Json.createArrayBuilder().add(resourceSpans)).build();
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Interval;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Phase;
+
+/**
+ * Reports the provenance runs of a Maven session as a single trace. The root span covers the build, from the start of the
+ * session until the last run; each run is a child span, with a child span for each time interval of each of its phases. In
+ * a parallel build the run spans show which projects' provenance is on the critical path.
+ * <p>
+ * When the {@code TRACEPARENT} environment variable holds a W3C trace context, e.g. set by the CI system, the build span
+ * joins that trace as a child of its span.
+ */
+public class ProvenanceTracer {
+
+    public static final String SPAN_BUILD = "maven-session";
+    public static final String SPAN_RUN = "generate-provenance";
+
+    public static final String ATTRIBUTE_PROJECT = "maven.project.id";
+    public static final String ATTRIBUTE_THREAD = "thread.name";
+    public static final String ATTRIBUTE_RUNS = "slsa.provenance.runs";
+    public static final String ATTRIBUTE_FILES_HASHED = "slsa.files_hashed";
+    public static final String ATTRIBUTE_BYTES_HASHED = "slsa.bytes_hashed";
+    public static final String ATTRIBUTE_DIGEST_CACHE_HITS = "slsa.digest_cache_hits";
+    public static final String ATTRIBUTE_CHECKSUM_FILE_HITS = "slsa.checksum_file_hits";
+
+    private static final Pattern TRACEPARENT = Pattern.compile("[0-9a-f]{2}-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}");
+
+    private static final Map<MavenSession, ProvenanceTracer> TRACERS = new WeakHashMap<MavenSession, ProvenanceTracer>();
+
+    private final BatchSpanProcessor processor;
+    private final long startEpochNanos;
+    private final String traceId;
+    private final String buildSpanId = Span.newSpanId();
+    private final String parentSpanId;
+    private final AtomicInteger runs = new AtomicInteger();
+
+    /**
+     * @param startEpochNanos The start of the build span, in nanoseconds since the epoch.
+     * @param traceparent The W3C trace context the build span is part of, or {@code null} to start a new trace.
+     */
+    ProvenanceTracer(BatchSpanProcessor processor, long startEpochNanos, String traceparent) {
+        this.processor = processor;
+        this.startEpochNanos = startEpochNanos;
+        Matcher matcher = traceparent == null ? null : TRACEPARENT.matcher(traceparent.trim());
+        if (matcher != null && matcher.matches() && !isZero(matcher.group(1)) && !isZero(matcher.group(2))) {
+            this.traceId = matcher.group(1);
+            this.parentSpanId = matcher.group(2);
+        } else {
+            this.traceId = Span.newTraceId();
+            this.parentSpanId = null;
+        }
+    }
+
+    /**
+     * Returns the tracer of the session, creating it and its span processor on first use.
+     */
+    public static synchronized ProvenanceTracer get(MavenSession mavenSession, Supplier<BatchSpanProcessor> processorFactory) {
+        ProvenanceTracer tracer = TRACERS.get(mavenSession);
+        if (tracer == null) {
+            long start = mavenSession.getStartTime() == null ? System.currentTimeMillis() : mavenSession.getStartTime().getTime();
+            tracer = new ProvenanceTracer(processorFactory.get(), TimeUnit.MILLISECONDS.toNanos(start), System.getenv("TRACEPARENT"));
+            TRACERS.put(mavenSession, tracer);
+        }
+        return tracer;
+    }
+
+    /**
+     * Ends the trace of the session, if it has one. The spans are exported in the background.
+     */
+    public static void close(MavenSession mavenSession) {
+        ProvenanceTracer tracer;
+        synchronized (ProvenanceTracer.class) {
+            tracer = TRACERS.remove(mavenSession);
+        }
+        if (tracer != null) {
+            tracer.close();
+        }
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Queues the spans of a finished provenance run for export.
+     */
+    public void record(ProvenanceMetrics metrics) {
+        runs.incrementAndGet();
+        String runSpanId = Span.newSpanId();
+        long start = metrics.getStartEpochNanos();
+        processor.add(new Span.Builder(traceId, runSpanId, SPAN_RUN)
+                .parentSpanId(buildSpanId)
+                .time(start, start + metrics.getDurationNanos())
+                .attribute(ATTRIBUTE_PROJECT, metrics.getProject())
+                .attribute(ATTRIBUTE_THREAD, Thread.currentThread().getName())
+                .attribute(ATTRIBUTE_FILES_HASHED, metrics.getFilesHashed())
+                .attribute(ATTRIBUTE_BYTES_HASHED, metrics.getBytesHashed())
+                .attribute(ATTRIBUTE_DIGEST_CACHE_HITS, metrics.getDigestCacheHits())
+                .attribute(ATTRIBUTE_CHECKSUM_FILE_HITS, metrics.getChecksumFileHits())
+                .build());
+        for (Interval interval : metrics.getIntervals()) {
+            Span.Builder span = new Span.Builder(traceId, Span.newSpanId(), interval.getPhase().getLabel())
+                    .parentSpanId(runSpanId)
+                    .time(interval.getStartEpochNanos(), interval.getEndEpochNanos());
+            if (interval.getPhase() == Phase.DIGESTING) {
+                span.attribute(ATTRIBUTE_FILES_HASHED, metrics.getSubjectFilesHashed())
+                        .attribute(ATTRIBUTE_BYTES_HASHED, metrics.getSubjectBytesHashed());
+            } else if (interval.getPhase() == Phase.DEPENDENCY_COLLECTION) {
+                span.attribute(ATTRIBUTE_FILES_HASHED, metrics.getFilesHashed() - metrics.getSubjectFilesHashed())
+                        .attribute(ATTRIBUTE_BYTES_HASHED, metrics.getBytesHashed() - metrics.getSubjectBytesHashed())
+                        .attribute(ATTRIBUTE_CHECKSUM_FILE_HITS, metrics.getChecksumFileHits());
+            }
+            processor.add(span.build());
+        }
+    }
+
+    /**
+     * Ends the build span and closes the span processor, without waiting for the spans to be exported.
+     */
+    void close() {
+        processor.add(new Span.Builder(traceId, buildSpanId, SPAN_BUILD)
+                .parentSpanId(parentSpanId)
+                .time(startEpochNanos, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()))
+                .attribute(ATTRIBUTE_RUNS, runs.get())
+                .build());
+        processor.close();
+    }
+
+    private static boolean isZero(String hexId) {
+        return hexId.chars().allMatch(c -> c == '0');
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * A finished span of a trace, as exported with the OTLP JSON encoding (see
+ * https://opentelemetry.io/docs/specs/otlp/#json-protobuf-encoding). Trace and span IDs are lowercase hex strings, and times
+ * are in nanoseconds since the epoch.
+ */
+public class Span {
+
+    public static final String KEY_TRACE_ID = "traceId";
+    public static final String KEY_SPAN_ID = "spanId";
+    public static final String KEY_PARENT_SPAN_ID = "parentSpanId";
+    public static final String KEY_NAME = "name";
+    public static final String KEY_KIND = "kind";
+    public static final String KEY_START_TIME = "startTimeUnixNano";
+    public static final String KEY_END_TIME = "endTimeUnixNano";
+    public static final String KEY_ATTRIBUTES = "attributes";
+
+    /**
+     * The OTLP value of {@code SPAN_KIND_INTERNAL}.
+     */
+    public static final int KIND_INTERNAL = 1;
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final long startEpochNanos;
+    private final long endEpochNanos;
+    private final Map<String, Object> attributes;
+
+    private Span(Builder builder) {
+        this.traceId = builder.traceId;
+        this.spanId = builder.spanId;
+        this.parentSpanId = builder.parentSpanId;
+        this.name = builder.name;
+        this.startEpochNanos = builder.startEpochNanos;
+        this.endEpochNanos = builder.endEpochNanos;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(builder.attributes));
+    }
+
+    /**
+     * Returns a random, non-zero, 16 byte trace ID.
+     */
+    public static String newTraceId() {
+        return newId(16);
+    }
+
+    /**
+     * Returns a random, non-zero, 8 byte span ID.
+     */
+    public static String newSpanId() {
+        return newId(8);
+    }
+
+    private static String newId(int length) {
+        byte[] id = new byte[length];
+        do {
+            ThreadLocalRandom.current().nextBytes(id);
+        } while (isZero(id));
+        return FileDigester.toHex(id);
+    }
+
+    private static boolean isZero(byte[] id) {
+        for (byte b : id) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Returns the ID of the parent span, or {@code null} for a root span.
+     */
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    public JsonObject toJson() {
+        JsonObjectBuilder builder = Json.createObjectBuilder()
+                .add(KEY_TRACE_ID, traceId)
+                .add(KEY_SPAN_ID, spanId);
+        if (parentSpanId != null) {
+            builder.add(KEY_PARENT_SPAN_ID, parentSpanId);
+        }
+        // 64-bit integers are strings in the OTLP JSON encoding
+        return builder.add(KEY_NAME, name)
+                .add(KEY_KIND, KIND_INTERNAL)
+                .add(KEY_START_TIME, String.valueOf(startEpochNanos))
+                .add(KEY_END_TIME, String.valueOf(endEpochNanos))
+                .add(KEY_ATTRIBUTES, toJson(attributes))
+                .build();
+    }
+
+    /**
+     * Returns the attributes as a list of OTLP {@code KeyValue}s.
+     */
+    static JsonArrayBuilder toJson(Map<String, Object> attributes) {
+        JsonArrayBuilder array = Json.createArrayBuilder();
+        for (Entry<String, Object> attribute : attributes.entrySet()) {
+            JsonObjectBuilder value = Json.createObjectBuilder();
+            Object attributeValue = attribute.getValue();
+            if (attributeValue instanceof Long) {
+                value.add("intValue", String.valueOf(attributeValue));
+            } else if (attributeValue instanceof Boolean) {
+                value.add("boolValue", (Boolean) attributeValue);
+            } else {
+                value.add("stringValue", String.valueOf(attributeValue));
+            }
+            array.add(Json.createObjectBuilder().add("key", attribute.getKey()).add("value", value));
+        }
+        return array;
+    }
+
+    public static class Builder {
+
+        private final String traceId;
+        private final String spanId;
+        private final String name;
+        private String parentSpanId = null;
+        private long startEpochNanos;
+        private long endEpochNanos;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+        public Builder(String traceId, String spanId, String name) {
+            this.traceId = traceId;
+            this.spanId = spanId;
+            this.name = name;
+        }
+
+        public Builder parentSpanId(String parentSpanId) {
+            this.parentSpanId = parentSpanId;
+            return this;
+        }
+
+        public Builder time(long startEpochNanos, long endEpochNanos) {
+            this.startEpochNanos = startEpochNanos;
+            this.endEpochNanos = endEpochNanos;
+            return this;
+        }
+
+        public Builder attribute(String key, String value) {
+            if (value != null) {
+                attributes.put(key, value);
+            }
+            return this;
+        }
+
+        public Builder attribute(String key, long value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        public Builder attribute(String key, boolean value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        public Span build() {
+            return new Span(this);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.war;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+
+/**
+ * Selects which of the artifacts built by a project are subjects of the provenance, based only on the classifier and type of
+ * each artifact so that artifacts that are filtered out are never read.
+ * <p>
+ * An empty include set includes everything. Excludes take precedence over includes. The classifier filters only apply to
+ * artifacts that have a classifier, such as attached sources or Javadoc, so the main artifact of a project is only filtered by
+ * its type.
+ */
+public class ArtifactFilter {
+
+    public static final ArtifactFilter ALL = new ArtifactFilter(null, null, null, null);
+
+    private final Set<String> includeClassifiers;
+    private final Set<String> excludeClassifiers;
+    private final Set<String> includeTypes;
+    private final Set<String> excludeTypes;
+
+    /**
+     * Each argument is a comma-separated list, or {@code null} for an empty list.
+     */
+    public ArtifactFilter(String includeClassifiers, String excludeClassifiers, String includeTypes, String excludeTypes) {
+        this.includeClassifiers = parse(includeClassifiers);
+        this.excludeClassifiers = parse(excludeClassifiers);
+        this.includeTypes = parse(includeTypes);
+        this.excludeTypes = parse(excludeTypes);
+    }
+
+    public boolean accepts(Artifact artifact) {
+        String classifier = artifact.getClassifier();
+        if (classifier != null && !classifier.isEmpty() && !matches(classifier, includeClassifiers, excludeClassifiers)) {
+            return false;
+        }
+        return matches(artifact.getType(), includeTypes, excludeTypes);
+    }
+
+    private boolean matches(String value, Set<String> includes, Set<String> excludes) {
+        if (excludes.contains(value)) {
+            return false;
+        }
+        return includes.isEmpty() || includes.contains(value);
+    }
+
+    private static Set<String> parse(String list) {
+        if (list == null || list.trim().isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> values = new LinkedHashSet<>();
+        for (String value : list.split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+}
@@ -2,12 +2,15 @@ package com.ibm.slsa.maven.plugin.utils.war;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 
+import com.ibm.slsa.maven.plugin.utils.maven.ReactorIndex;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.PackageFileException;
 
 public class PackageTypeUtils {
@@ -15,29 +18,66 @@ public class PackageTypeUtils {
     private MavenProject project;
     private MavenSession mavenSession;
     private Log log;
+    private boolean aggregate;
+    private ArtifactFilter artifactFilter;
 
     public PackageTypeUtils(MavenProject project, MavenSession mavenSession, Log log) {
+        this(project, mavenSession, log, true);
+    }
+
+    public PackageTypeUtils(MavenProject project, MavenSession mavenSession, Log log, boolean aggregate) {
+        this(project, mavenSession, log, aggregate, ArtifactFilter.ALL);
+    }
+
+    public PackageTypeUtils(MavenProject project, MavenSession mavenSession, Log log, boolean aggregate, ArtifactFilter artifactFilter) {
         this.project = project;
         this.mavenSession = mavenSession;
         this.log = log;
+        this.aggregate = aggregate;
+        this.artifactFilter = artifactFilter;
     }
 
+    /**
+     * Returns the files of the main and attached artifacts of the projects that are accepted by the artifact filter. Artifacts
+     * are taken from the Maven model, so only files that the build actually produced are returned. If the main artifact has
+     * not been given a file, e.g. because the package phase has not run in this session, the file is expected at the default
+     * location in the project's build directory.
+     */
     public List<File> getBuiltPackage() throws PackageFileException {
 
         List<File> files = new ArrayList<>();
-        List<MavenProject> projects = mavenSession.getProjectDependencyGraph().getSortedProjects();
 
-        for (MavenProject prj : projects) {
-            if (prj.getArtifact().getArtifactHandler().getExtension().equals("pom")) {
-                continue;
+        for (MavenProject prj : getProjects()) {
+            Artifact artifact = prj.getArtifact();
+            if (!artifact.getArtifactHandler().getExtension().equals("pom") && artifactFilter.accepts(artifact)) {
+                files.add(getMainArtifactFile(prj, artifact));
+            }
+            for (Object attached : prj.getAttachedArtifacts()) {
+                Artifact attachedArtifact = (Artifact) attached;
+                if (attachedArtifact.getFile() != null && artifactFilter.accepts(attachedArtifact)) {
+                    files.add(attachedArtifact.getFile());
+                }
             }
-            File file = new File(prj.getBuild().getDirectory(),
-                    prj.getBuild().getFinalName() + "." + prj.getArtifact().getArtifactHandler().getExtension());
+        }
+        return files;
+    }
 
-            files.add(file);
+    private File getMainArtifactFile(MavenProject prj, Artifact artifact) {
+        if (artifact.getFile() != null) {
+            return artifact.getFile();
+        }
+        log.debug("No file was set for artifact " + artifact + ", expecting the package in the build directory of " + prj.getId() + ".");
+        return new File(prj.getBuild().getDirectory(), prj.getBuild().getFinalName() + "." + artifact.getArtifactHandler().getExtension());
+    }
 
+    /**
+     * Returns every project in the reactor when aggregating, otherwise only the project executing this plugin.
+     */
+    private List<MavenProject> getProjects() {
+        if (aggregate) {
+            return ReactorIndex.get(mavenSession).getProjects();
         }
-        return files;
+        return Collections.singletonList(project);
     }
 
-}
\ No newline at end of file
+}
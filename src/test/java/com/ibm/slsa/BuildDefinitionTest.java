@@ -16,6 +16,11 @@
 */
 package com.ibm.slsa;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
@@ -25,6 +30,7 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
 
 public class BuildDefinitionTest {
 
@@ -129,6 +135,45 @@ public class BuildDefinitionTest {
         testUtils.assertJsonEntryMatches("BuildDefinition", buildDefinitionJson, BuildDefinition.KEY_RESOLVED_DEPENDENCIES, resolvedDependencies);
     }
 
+    @Test
+    public void test_writeTo_allEntries() {
+        BuildDefinition.Builder buildDefinitionBuilder = new BuildDefinition.Builder(BUILD_TYPE, getExternalParameters());
+        buildDefinitionBuilder.internalParameters(getInternalParameters());
+        buildDefinitionBuilder.resolvedDependencies(getResolvedDependencies());
+        BuildDefinition buildDefinition = buildDefinitionBuilder.build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(buildDefinition::writeTo);
+
+        assertEquals(buildDefinition.toJson(), writtenJson, "Written BuildDefinition did not match its JSON object.");
+    }
+
+    @Test
+    public void test_writeTo_resolvedDependencyEntries() {
+        List<JsonWritable> entries = new ArrayList<>();
+        for (JsonValue resolvedDependency : getResolvedDependencies()) {
+            entries.add(JsonWritable.of(resolvedDependency.asJsonObject()));
+        }
+        BuildDefinition.Builder buildDefinitionBuilder = new BuildDefinition.Builder(BUILD_TYPE, getExternalParameters());
+        buildDefinitionBuilder.resolvedDependencies(entries);
+        BuildDefinition buildDefinition = buildDefinitionBuilder.build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(buildDefinition::writeTo);
+
+        testUtils.assertJsonEntryMatches("BuildDefinition", buildDefinition.toJson(), BuildDefinition.KEY_RESOLVED_DEPENDENCIES, getResolvedDependencies());
+        assertEquals(buildDefinition.toJson(), writtenJson, "Written BuildDefinition did not match its JSON object.");
+    }
+
+    @Test
+    public void test_writeTo_emptyEntries() {
+        BuildDefinition.Builder buildDefinitionBuilder = new BuildDefinition.Builder(BUILD_TYPE, JsonObject.EMPTY_JSON_OBJECT);
+        buildDefinitionBuilder.resolvedDependencies(JsonArray.EMPTY_JSON_ARRAY);
+        BuildDefinition buildDefinition = buildDefinitionBuilder.build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(buildDefinition::writeTo);
+
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("BuildDefinition", writtenJson, BuildDefinition.KEY_BUILD_TYPE, BUILD_TYPE);
+    }
+
     private JsonObject getExternalParameters() {
         JsonObjectBuilder externalParametersBuilder = Json.createObjectBuilder();
         externalParametersBuilder.add("repository", "https://github.com/octocat/hello-world.git");
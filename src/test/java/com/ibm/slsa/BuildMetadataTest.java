@@ -143,4 +143,26 @@ public class BuildMetadataTest {
         testUtils.assertJsonStringEntryMatches("BuildMetadata", buildMetadataJson, BuildMetadata.KEY_FINISHED_ON, finishedOn);
     }
 
+    @Test
+    public void test_writeTo_empty() {
+        BuildMetadata buildMetadata = new BuildMetadata.Builder().invocationId("").build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(buildMetadata::writeTo);
+
+        assertEquals(JsonObject.EMPTY_JSON_OBJECT, writtenJson, "BuildMetadata was not expected to write any entries, but it did.");
+    }
+
+    @Test
+    public void test_writeTo_allEntries() {
+        BuildMetadata.Builder buildMetadataBuilder = new BuildMetadata.Builder();
+        buildMetadataBuilder.invocationId(String.valueOf(System.currentTimeMillis()));
+        buildMetadataBuilder.startedOn("2023-01-01T00:00:00.000Z");
+        buildMetadataBuilder.finishedOn("2023-01-01T12:23:34.456Z");
+        BuildMetadata buildMetadata = buildMetadataBuilder.build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(buildMetadata::writeTo);
+
+        assertEquals(buildMetadata.toJson(), writtenJson, "Written BuildMetadata did not match its JSON object.");
+    }
+
 }
@@ -119,6 +119,27 @@ public class BuilderTest {
         }
     }
 
+    @Test
+    public void test_writeTo_allEntries() {
+        Builder.BuilderBuilder builderBuilder = new Builder.BuilderBuilder(BUILDER_ID);
+        builderBuilder.builderDependencies(getDependencies());
+        builderBuilder.version(getVersions());
+        Builder builder = builderBuilder.build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(builder::writeTo);
+
+        assertEquals(builder.toJson(), writtenJson, "Written Builder did not match its JSON object.");
+    }
+
+    @Test
+    public void test_writeTo_emptyEntries() {
+        Builder builder = new Builder.BuilderBuilder(BUILDER_ID).builderDependencies(JsonArray.EMPTY_JSON_ARRAY).version(new HashMap<>()).build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(builder::writeTo);
+
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("Builder", writtenJson, Builder.KEY_ID, BUILDER_ID);
+    }
+
     private JsonArray getDependencies() {
         JsonArrayBuilder dependenciesBuilder = Json.createArrayBuilder();
         dependenciesBuilder.add("string-dependency");
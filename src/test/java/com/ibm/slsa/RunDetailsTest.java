@@ -16,6 +16,8 @@
 */
 package com.ibm.slsa;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import org.junit.jupiter.api.Test;
 
 import com.ibm.slsa.test.CommonTestUtils;
@@ -118,6 +120,28 @@ public class RunDetailsTest {
         testUtils.assertJsonEntryMatches("RunDetails", runDetailsJson, RunDetails.KEY_BYPRODUCTS, byproducts);
     }
 
+    @Test
+    public void test_writeTo_allEntries() {
+        RunDetails.Builder runDetailsBuilder = new RunDetails.Builder(getBuilder());
+        runDetailsBuilder.metadata(getBuildMetadata());
+        runDetailsBuilder.byproducts(getByproducts());
+        RunDetails runDetails = runDetailsBuilder.build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(runDetails::writeTo);
+
+        assertEquals(runDetails.toJson(), writtenJson, "Written RunDetails did not match its JSON object.");
+    }
+
+    @Test
+    public void test_writeTo_emptyMetadata() {
+        RunDetails runDetails = new RunDetails.Builder(getBuilder()).metadata(new BuildMetadata.Builder().build()).build();
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(runDetails::writeTo);
+
+        assertEquals(runDetails.toJson(), writtenJson, "Written RunDetails did not match its JSON object.");
+        testUtils.assertJsonOnlyContainsKeys("RunDetails", writtenJson, RunDetails.KEY_BUILDER);
+    }
+
     private Builder getBuilder() {
         return new Builder.BuilderBuilder(BUILDER_ID).build();
     }
@@ -86,6 +86,25 @@ public class SlsaPredicateTest {
         assertRunDetailsMatchExpectedValues(predicateParameters);
     }
 
+    @Test
+    void test_writeTo_bothArgsNull() {
+        SlsaPredicate predicate = new SlsaPredicate(null, null);
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(predicate::writeTo);
+
+        assertEquals(JsonObject.EMPTY_JSON_OBJECT, writtenJson, "Written predicate should have been empty but wasn't.");
+    }
+
+    @Test
+    void test_writeTo() {
+        BuildDefinition buildDefinition = new BuildDefinition.Builder(BUILD_TYPE, null).build();
+        SlsaPredicate predicate = new SlsaPredicate(buildDefinition, getRunDetails());
+
+        JsonObject writtenJson = testUtils.writeToJsonObject(predicate::writeTo);
+
+        assertEquals(predicate.getPredicateParameters(), writtenJson, "Written predicate did not match its predicate parameters.");
+    }
+
     private RunDetails getRunDetails() {
         RunDetails.Builder runDetailsBuilder = new RunDetails.Builder(new Builder.BuilderBuilder(BUILDER_ID).build());
         runDetailsBuilder.metadata(getBuildMetadata());
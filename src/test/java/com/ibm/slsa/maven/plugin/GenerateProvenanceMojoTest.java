@@ -0,0 +1,446 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.slsa.maven.plugin.utils.dsse.DsseEnvelope;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Phase;
+import com.ibm.slsa.test.Constants;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+/**
+ * Runs the goal for a synthetic reactor the way a parallel build ({@code -T 16}) does: a separate mojo instance per project,
+ * executed concurrently on 16 threads.
+ */
+public class GenerateProvenanceMojoTest {
+
+    private static final int MODULES = 48;
+    private static final int THREADS = 16;
+
+    @TempDir
+    Path rootDir;
+
+    private List<MavenProject> projects = new ArrayList<>();
+    private MavenSession mavenSession;
+    private CountingLog log = new CountingLog();
+    private String metricsReportFile;
+    private String prometheusMetricsFile;
+    private File signingKey;
+    private boolean incremental;
+    private File digestCacheDirectory;
+    private String outputFormat = "pretty";
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        try (Git git = Git.init().setDirectory(rootDir.toFile()).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString("remote", "origin", "url", "https://github.com/example/reactor.git");
+            config.save();
+            git.commit().setMessage("Initial commit").setAllowEmpty(true).setAuthor("Test", "test@example.com").setCommitter("Test", "test@example.com").setSign(false).call();
+        }
+        for (int i = 0; i < MODULES; i++) {
+            projects.add(createProject("module-" + i));
+        }
+        mavenSession = createSession(new Date());
+    }
+
+    @Test
+    public void test_execute_parallelReactor() throws Exception {
+        runReactor(false);
+
+        for (MavenProject project : projects) {
+            Path provenanceDirectory = project.getBasedir().toPath().resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH);
+            JsonArray subject = readProvenance(provenanceDirectory).getJsonArray(Statement.KEY_SUBJECT);
+            assertEquals(1, subject.size(), "Provenance of " + project.getArtifactId() + " should only describe its own package.");
+            assertEquals(project.getArtifactId() + "-1.0.jar", subject.getJsonObject(0).getString(ResourceDescriptor.KEY_NAME), "Subject of " + project.getArtifactId() + " did not match.");
+        }
+        assertEquals(MODULES, log.written.get(), "Every project should have written its provenance once.");
+    }
+
+    @Test
+    public void test_execute_parallelReactor_aggregate() throws Exception {
+        runReactor(true);
+
+        JsonArray subject = readProvenance(rootDir.resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH)).getJsonArray(Statement.KEY_SUBJECT);
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < subject.size(); i++) {
+            names.add(subject.getJsonObject(i).getString(ResourceDescriptor.KEY_NAME));
+        }
+        assertEquals(MODULES, names.size(), "Aggregate provenance should describe the package of every project.");
+        assertEquals(1, log.written.get(), "Aggregate provenance should have been written exactly once.");
+        for (MavenProject project : projects) {
+            assertFalse(project.getBasedir().toPath().resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH).toFile().exists(), "No project should have its own provenance.");
+        }
+    }
+
+    @Test
+    public void test_execute_parallelReactor_aggregate_twoExecutions() throws Exception {
+        MojoExecution first = createMojoExecution("first");
+        MojoExecution second = createMojoExecution("second");
+        for (MavenProject project : projects) {
+            Plugin plugin = new Plugin();
+            plugin.setGroupId(first.getGroupId());
+            plugin.setArtifactId(first.getArtifactId());
+            for (MojoExecution execution : Arrays.asList(first, second)) {
+                PluginExecution pluginExecution = new PluginExecution();
+                pluginExecution.setId(execution.getExecutionId());
+                pluginExecution.addGoal(execution.getGoal());
+                plugin.addExecution(pluginExecution);
+            }
+            project.getBuild().addPlugin(plugin);
+        }
+        runReactor(true, first, second);
+
+        Path provenanceDirectory = rootDir.resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH);
+        assertTrue(Files.isRegularFile(provenanceDirectory.resolve("first.json")), "The first execution should have written its provenance.");
+        assertTrue(Files.isRegularFile(provenanceDirectory.resolve("second.json")), "The second execution should have written its provenance.");
+        assertEquals(2, log.written.get(), "Each execution should have written the aggregate provenance exactly once.");
+    }
+
+    @Test
+    public void test_execute_signed() throws Exception {
+        signingKey = new File(Constants.RESOURCES_DIR + "signing", "ec-p256.p12");
+        runReactor(true);
+
+        Path provenanceDirectory = rootDir.resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH);
+        byte[] statement = Files.readAllBytes(provenanceDirectory.resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_NAME));
+        List<String> lines = Files.readAllLines(provenanceDirectory.resolve("slsa_provenance.intoto.jsonl"), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size(), "The envelope should have been written as a single line.");
+        JsonObject envelope;
+        try (JsonReader jsonReader = Json.createReader(new StringReader(lines.get(0)))) {
+            envelope = jsonReader.readObject();
+        }
+        assertEquals(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, envelope.getString(DsseEnvelope.KEY_PAYLOAD_TYPE), "Payload type did not match.");
+        assertArrayEquals(statement, Base64.getDecoder().decode(envelope.getString(DsseEnvelope.KEY_PAYLOAD)), "The payload should be the bytes of the provenance file.");
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(signingKey.toPath())) {
+            keyStore.load(in, "changeit".toCharArray());
+        }
+        Signature signature = Signature.getInstance("SHA256withECDSA");
+        signature.initVerify(keyStore.getCertificate("slsa").getPublicKey());
+        signature.update(DsseEnvelope.pae(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, statement));
+        JsonObject sig = envelope.getJsonArray(DsseEnvelope.KEY_SIGNATURES).getJsonObject(0);
+        assertTrue(signature.verify(Base64.getDecoder().decode(sig.getString(DsseEnvelope.KEY_SIG))), "The signature of the provenance did not verify.");
+        assertEquals(1, log.signed.get(), "Aggregate provenance should have been signed exactly once.");
+    }
+
+    @Test
+    public void test_execute_signed_unchanged() throws Exception {
+        signingKey = new File(Constants.RESOURCES_DIR + "signing", "ec-p256.p12");
+        runReactor(false);
+        Map<MavenProject, byte[]> envelopes = new HashMap<>();
+        for (MavenProject project : projects) {
+            Path provenanceDirectory = project.getBasedir().toPath().resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH);
+            envelopes.put(project, Files.readAllBytes(provenanceDirectory.resolve("slsa_provenance.intoto.jsonl")));
+        }
+
+        runReactor(false);
+
+        assertEquals(MODULES, log.written.get(), "The unchanged provenance should not have been written again.");
+        assertEquals(MODULES, log.signed.get(), "The unchanged provenance should not have been signed again.");
+        assertEquals(MODULES, log.upToDateEnvelopes.get(), "Every envelope should have been up to date.");
+        for (MavenProject project : projects) {
+            Path provenanceDirectory = project.getBasedir().toPath().resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH);
+            assertArrayEquals(envelopes.get(project), Files.readAllBytes(provenanceDirectory.resolve("slsa_provenance.intoto.jsonl")), "The envelope of " + project.getArtifactId() + " should not have changed.");
+        }
+    }
+
+    @Test
+    public void test_execute_signed_forgedEnvelope() throws Exception {
+        signingKey = new File(Constants.RESOURCES_DIR + "signing", "ec-p256.p12");
+        runReactor(false);
+        for (MavenProject project : projects) {
+            // Keep the payload and the key hint, but not a signature the key made
+            Path envelopeFile = project.getBasedir().toPath().resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH).resolve("slsa_provenance.intoto.jsonl");
+            JsonObject envelope;
+            try (JsonReader jsonReader = Json.createReader(Files.newBufferedReader(envelopeFile, StandardCharsets.UTF_8))) {
+                envelope = jsonReader.readObject();
+            }
+            JsonObject signature = envelope.getJsonArray(DsseEnvelope.KEY_SIGNATURES).getJsonObject(0);
+            JsonObject forged = Json.createObjectBuilder(signature).add(DsseEnvelope.KEY_SIG, Base64.getEncoder().encodeToString(new byte[64])).build();
+            envelope = Json.createObjectBuilder(envelope).add(DsseEnvelope.KEY_SIGNATURES, Json.createArrayBuilder().add(forged)).build();
+            Files.write(envelopeFile, (envelope.toString() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        runReactor(false);
+
+        assertEquals(0, log.upToDateEnvelopes.get(), "No envelope with a forged signature should have been kept.");
+        assertEquals(2 * MODULES, log.signed.get(), "Every provenance file should have been signed again.");
+    }
+
+    @Test
+    public void test_execute_incremental_sharedDigestCache() throws Exception {
+        incremental = true;
+        digestCacheDirectory = rootDir.resolve("slsa-cache").toFile();
+        runReactor(false);
+        runReactor(false);
+
+        assertEquals(MODULES, log.written.get(), "Every project should have written its provenance once.");
+        assertEquals(MODULES, log.unchanged.get(), "Every project should have found its own provenance up to date.");
+    }
+
+    @Test
+    public void test_execute_canonical_reproducible() throws Exception {
+        outputFormat = "canonical";
+        for (MavenProject project : projects) {
+            project.getProperties().setProperty(ProvenanceGenerator.PROPERTY_OUTPUT_TIMESTAMP, "2026-01-01T00:00:00Z");
+        }
+        runReactor(true);
+        Path provenanceFile = rootDir.resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH).resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_NAME);
+        byte[] provenance = Files.readAllBytes(provenanceFile);
+        Files.delete(provenanceFile);
+
+        mavenSession = createSession(new Date(System.currentTimeMillis() + 3600000));
+        runReactor(true);
+
+        assertArrayEquals(provenance, Files.readAllBytes(provenanceFile), "Canonical provenance of builds started at different times should be identical.");
+    }
+
+    @Test
+    public void test_execute_metrics() throws Exception {
+        metricsReportFile = "target/slsa-metrics.json";
+        prometheusMetricsFile = "target/metrics/slsa.prom";
+        runReactor(true);
+
+        long bytes = 0;
+        for (MavenProject project : projects) {
+            bytes += project.getArtifactId().length();
+        }
+        JsonObject report;
+        try (Reader reader = Files.newBufferedReader(rootDir.resolve(metricsReportFile), StandardCharsets.UTF_8);
+                JsonReader jsonReader = Json.createReader(reader)) {
+            report = jsonReader.readObject();
+        }
+        assertEquals(projects.get(0).getId(), report.getString(ProvenanceMetrics.KEY_PROJECT), "The report should describe the top-level project.");
+        assertEquals(MODULES, report.getInt(ProvenanceMetrics.KEY_FILES_HASHED), "Every package should have been hashed once.");
+        assertEquals(bytes, report.getJsonNumber(ProvenanceMetrics.KEY_BYTES_HASHED).longValue(), "Bytes hashed did not match.");
+        assertEquals(Phase.values().length, report.getJsonObject(ProvenanceMetrics.KEY_PHASES).size(), "Every phase should have been reported.");
+
+        String text = new String(Files.readAllBytes(rootDir.resolve(prometheusMetricsFile)), StandardCharsets.UTF_8);
+        assertTrue(text.contains("slsa_provenance_hashed_files{project=\"" + projects.get(0).getId() + "\"} " + MODULES + "\n"), "Files hashed sample was missing: " + text);
+        assertEquals(1, log.summaries.get(), "The metrics summary should have been logged once.");
+    }
+
+    /**
+     * Runs the goal for every project, once for each of the executions in order, or once without an execution if none is given.
+     */
+    private void runReactor(boolean aggregate, MojoExecution... executions) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (MavenProject project : projects) {
+                List<GenerateProvenanceMojo> mojos = new ArrayList<>();
+                if (executions.length == 0) {
+                    mojos.add(createMojo(project, aggregate, null));
+                }
+                for (MojoExecution execution : executions) {
+                    mojos.add(createMojo(project, aggregate, execution));
+                }
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (GenerateProvenanceMojo mojo : mojos) {
+                        mojo.execute();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JsonObject readProvenance(Path provenanceDirectory) throws IOException {
+        try (Stream<Path> files = Files.list(provenanceDirectory)) {
+            assertEquals(1, files.count(), "Only the provenance file should be in " + provenanceDirectory + ".");
+        }
+        try (Reader reader = Files.newBufferedReader(provenanceDirectory.resolve(GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_NAME), StandardCharsets.UTF_8);
+                JsonReader jsonReader = Json.createReader(reader)) {
+            JsonObject statement = jsonReader.readObject();
+            assertTrue(statement.containsKey(Statement.KEY_PREDICATE), "Provenance in " + provenanceDirectory + " should be complete.");
+            return statement;
+        }
+    }
+
+    private MavenSession createSession(Date startTime) {
+        MavenSession session = mock(MavenSession.class);
+        ProjectDependencyGraph graph = mock(ProjectDependencyGraph.class);
+        when(graph.getSortedProjects()).thenReturn(projects);
+        when(session.getProjectDependencyGraph()).thenReturn(graph);
+        when(session.getExecutionRootDirectory()).thenReturn(rootDir.toString());
+        when(session.getTopLevelProject()).thenReturn(projects.get(0));
+        when(session.getStartTime()).thenReturn(startTime);
+        when(session.getUserProperties()).thenReturn(new Properties());
+        return session;
+    }
+
+    private static MojoExecution createMojoExecution(String executionId) {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId("com.ibm.websphere.appserver.features");
+        pluginDescriptor.setArtifactId("slsa-maven-plugin");
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal("generate-provenance");
+        mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+        return new MojoExecution(mojoDescriptor, executionId, MojoExecution.Source.LIFECYCLE);
+    }
+
+    private MavenProject createProject(String artifactId) throws IOException {
+        File basedir = Files.createDirectories(rootDir.resolve(artifactId)).toFile();
+        File buildDirectory = new File(basedir, "target");
+        File packageFile = new File(buildDirectory, artifactId + "-1.0.jar");
+        buildDirectory.mkdirs();
+        Files.write(packageFile.toPath(), artifactId.getBytes(StandardCharsets.UTF_8));
+
+        Model model = new Model();
+        model.setGroupId("com.example");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0");
+        model.setPackaging("jar");
+        Build build = new Build();
+        build.setDirectory(buildDirectory.getPath());
+        build.setFinalName(artifactId + "-1.0");
+        model.setBuild(build);
+        MavenProject project = new MavenProject(model);
+        project.setFile(new File(basedir, "pom.xml"));
+        DefaultArtifact artifact = new DefaultArtifact("com.example", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        artifact.setFile(packageFile);
+        project.setArtifact(artifact);
+        return project;
+    }
+
+    private GenerateProvenanceMojo createMojo(MavenProject project, boolean aggregate, MojoExecution execution) throws ReflectiveOperationException {
+        GenerateProvenanceMojo mojo = new GenerateProvenanceMojo();
+        mojo.setLog(log);
+        setField(mojo, "project", project);
+        setField(mojo, "mavenSession", mavenSession);
+        setField(mojo, "builderId", "https://example.com/builder");
+        setField(mojo, "buildType", GenerateProvenanceMojo.BUILD_TYPE_DEFAULT);
+        setField(mojo, "provenanceFilePath", GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_OUTPUT_PATH);
+        setField(mojo, "provenanceFileName", execution == null ? GenerateProvenanceMojo.PROVENANCE_FILE_DEFAULT_NAME : execution.getExecutionId() + ".json");
+        setField(mojo, "mojoExecution", execution);
+        setField(mojo, "aggregate", aggregate);
+        setField(mojo, "useDigestCache", true);
+        setField(mojo, "digestAlgorithms", "sha256");
+        setField(mojo, "outputFormat", outputFormat);
+        setField(mojo, "checkWorktree", true);
+        setField(mojo, "metricsReportFile", metricsReportFile);
+        setField(mojo, "prometheusMetricsFile", prometheusMetricsFile);
+        setField(mojo, "signingKey", signingKey);
+        setField(mojo, "signingKeyPassword", "changeit");
+        setField(mojo, "incremental", incremental);
+        setField(mojo, "digestCacheDirectory", digestCacheDirectory);
+        return mojo;
+    }
+
+    private static void setField(Object object, String name, Object value) throws ReflectiveOperationException {
+        Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(object, value);
+    }
+
+    private static class CountingLog extends SystemStreamLog {
+
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicInteger summaries = new AtomicInteger();
+        private final AtomicInteger signed = new AtomicInteger();
+        private final AtomicInteger upToDateEnvelopes = new AtomicInteger();
+        private final AtomicInteger unchanged = new AtomicInteger();
+
+        @Override
+        public void info(CharSequence content) {
+            if (content.toString().startsWith("Wrote the provenance file")) {
+                written.incrementAndGet();
+            } else if (content.toString().startsWith("Provenance generated in")) {
+                summaries.incrementAndGet();
+            } else if (content.toString().startsWith("Signed the provenance file")) {
+                signed.incrementAndGet();
+            } else if (content.toString().startsWith("The envelope ") && content.toString().endsWith(" is up to date.")) {
+                upToDateEnvelopes.incrementAndGet();
+            } else if (content.toString().startsWith("The inputs of the provenance are unchanged.")) {
+                unchanged.incrementAndGet();
+            }
+        }
+
+    }
+
+}
@@ -17,7 +17,9 @@
 package com.ibm.slsa.maven.plugin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +27,7 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Properties;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.execution.ProjectDependencyGraph;
@@ -45,10 +48,12 @@ import com.ibm.slsa.Builder;
 import com.ibm.slsa.RunDetails;
 import com.ibm.slsa.SlsaPredicate;
 import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
+import com.ibm.slsa.maven.plugin.utils.json.CanonicalJsonWriter;
 import com.ibm.slsa.test.CommonTestUtils;
 import com.ibm.slsa.test.Constants;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 
 import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.artifact.handler.DefaultArtifactHandler;
@@ -72,33 +77,101 @@ public class ProvenanceGeneratorTest {
     void test_generateProvenanceFileData() {
         ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
 
-        when(project.getBuild()).thenReturn(projectBuild);
-        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-package");
-        when(mavenSession.getStartTime()).thenReturn(new Date());
-        when(project.getBuild().getFinalName()).thenReturn(Constants.FINAL_NAME_APP);
+        setUpReactor();
 
-        ProjectDependencyGraph pdg = mock(ProjectDependencyGraph.class);
-        when(mavenSession.getProjectDependencyGraph()).thenReturn(pdg);
+        try {
+            JsonObject statement = generator.generateProvenanceFileData();
+            testUtils.assertJsonOnlyContainsKeys("Provenance data", statement, Statement.KEY_TYPE, Statement.KEY_SUBJECT, Statement.KEY_PREDICATE_TYPE, Statement.KEY_PREDICATE);
+            verifyStatementType(statement);
+            verifyStatementSubject(statement);
+            verifyStatementPredicateType(statement);
+            verifyStatementPredicate(statement);
+        } catch (ProvenanceGenerationException e) {
+            fail("Should not have thrown an exception but did: " + e);
+        }
+    }
 
-        MavenProject mp1 = createProjectParent();
-        MavenProject mp2 = createProjectChild1(mp1);
-        MavenProject mp3 = createProjectChild2(mp1);
+    @Test
+    void test_writeProvenance() {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
 
-        List<MavenProject> theList = Arrays.asList(mp1, mp2, mp3);
-        when(pdg.getSortedProjects()).thenReturn(theList);
+        setUpReactor();
 
         try {
-            JsonObject statement = generator.generateProvenanceFileData();
+            JsonObject statement = testUtils.writeToJsonObject(jsonGenerator -> {
+                try {
+                    generator.writeProvenance(jsonGenerator);
+                } catch (ProvenanceGenerationException e) {
+                    fail("Should not have thrown an exception but did: " + e);
+                }
+            });
             testUtils.assertJsonOnlyContainsKeys("Provenance data", statement, Statement.KEY_TYPE, Statement.KEY_SUBJECT, Statement.KEY_PREDICATE_TYPE, Statement.KEY_PREDICATE);
             verifyStatementType(statement);
             verifyStatementSubject(statement);
             verifyStatementPredicateType(statement);
             verifyStatementPredicate(statement);
+        } catch (Exception e) {
+            fail("Should not have thrown an exception but did: " + e);
+        }
+    }
+
+    @Test
+    void test_generateProvenanceFileData_checkWorktree() {
+        ProvenanceOptions options = new ProvenanceOptions.Builder().checkWorktree(true).build();
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log, options);
+
+        setUpReactor();
+
+        try {
+            JsonObject statement = generator.generateProvenanceFileData();
+            JsonObject buildDefinition = statement.getJsonObject(Statement.KEY_PREDICATE).getJsonObject(SlsaPredicate.KEY_BUILD_DEFINITION);
+            JsonObject gitRepoDependency = buildDefinition.getJsonArray(BuildDefinition.KEY_RESOLVED_DEPENDENCIES).getJsonObject(0);
+            testUtils.assertJsonOnlyContainsKeys("Git repo dependency", gitRepoDependency, ResourceDescriptor.KEY_URI, ResourceDescriptor.KEY_DIGEST, ResourceDescriptor.KEY_ANNOTATIONS);
+
+            // The working tree of the repository running the tests may or may not be dirty
+            JsonObject annotations = gitRepoDependency.getJsonObject(ResourceDescriptor.KEY_ANNOTATIONS);
+            testUtils.assertJsonOnlyContainsKeys("Git repo dependency annotations", annotations, ProvenanceGenerator.KEY_ANNOTATION_DIRTY);
+            JsonValue dirty = annotations.get(ProvenanceGenerator.KEY_ANNOTATION_DIRTY);
+            assertTrue(dirty.getValueType() == JsonValue.ValueType.TRUE || dirty.getValueType() == JsonValue.ValueType.FALSE, "The dirty annotation should be a boolean but was: " + dirty);
         } catch (ProvenanceGenerationException e) {
             fail("Should not have thrown an exception but did: " + e);
         }
     }
 
+    @Test
+    void test_generateCanonicalProvenanceFileData_reproducibleStartedOn() throws ProvenanceGenerationException {
+        setUpReactor();
+        Properties properties = new Properties();
+        properties.setProperty(ProvenanceGenerator.PROPERTY_OUTPUT_TIMESTAMP, "2026-01-01T00:00:00Z");
+        when(project.getProperties()).thenReturn(properties);
+
+        JsonObject statement = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).generateCanonicalProvenanceFileData();
+        lenient().when(mavenSession.getStartTime()).thenReturn(new Date(System.currentTimeMillis() + 3600000));
+        JsonObject laterStatement = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).generateCanonicalProvenanceFileData();
+
+        assertEquals(CanonicalJsonWriter.toCanonicalString(statement), CanonicalJsonWriter.toCanonicalString(laterStatement), "Runs started at different times should have generated identical provenance.");
+        JsonObject buildMetadata = statement.getJsonObject(Statement.KEY_PREDICATE).getJsonObject(SlsaPredicate.KEY_RUN_DETAILS).getJsonObject(RunDetails.KEY_METADATA);
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("BuildMetadata", buildMetadata, BuildMetadata.KEY_STARTED_ON, "2026-01-01T00:00Z");
+    }
+
+    private void setUpReactor() {
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-package");
+        // Not used by the canonical provenance, which only records the time of a reproducible build
+        lenient().when(mavenSession.getStartTime()).thenReturn(new Date());
+        when(project.getBuild().getFinalName()).thenReturn(Constants.FINAL_NAME_APP);
+
+        ProjectDependencyGraph pdg = mock(ProjectDependencyGraph.class);
+        when(mavenSession.getProjectDependencyGraph()).thenReturn(pdg);
+
+        MavenProject mp1 = createProjectParent();
+        MavenProject mp2 = createProjectChild1(mp1);
+        MavenProject mp3 = createProjectChild2(mp1);
+
+        List<MavenProject> theList = Arrays.asList(mp1, mp2, mp3);
+        when(pdg.getSortedProjects()).thenReturn(theList);
+    }
+
     private MavenProject createProjectParent() {
         MavenProject mp1 = mock(MavenProject.class);
         when(mp1.getBuild()).thenReturn(projectBuild);
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestCache;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+
+public class VerifyProvenanceMojoTest {
+
+    private static final int SUBJECTS = 32;
+
+    @TempDir
+    Path rootDir;
+
+    private Path provenanceFile;
+    private Path[] subjectDirectories;
+    private CountingLog log = new CountingLog();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        subjectDirectories = new Path[] { Files.createDirectories(rootDir.resolve("module-a/target")), Files.createDirectories(rootDir.resolve("module-b/target")) };
+        FileDigester fileDigester = new FileDigester();
+        StringBuilder subject = new StringBuilder();
+        for (int i = 0; i < SUBJECTS; i++) {
+            Path file = Files.write(subjectDirectories[i % 2].resolve("module-" + i + "-1.0.jar"), ("module-" + i).getBytes(StandardCharsets.UTF_8));
+            if (i > 0) {
+                subject.append(',');
+            }
+            subject.append("{\"name\":\"").append(file.getFileName()).append("\",\"digest\":{\"sha256\":\"").append(fileDigester.digest(file.toFile()).get("sha256")).append("\"}}");
+        }
+        provenanceFile = rootDir.resolve("slsa_provenance.json");
+        String statement = "{\"_type\":\"https://in-toto.io/Statement/v1\",\"subject\":[" + subject + "],\"predicateType\":\"https://slsa.dev/provenance/v1\",\"predicate\":{}}";
+        Files.write(provenanceFile, statement.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_execute() throws Exception {
+        createMojo().execute();
+
+        assertEquals(0, log.errors.get(), "No subject should have failed verification.");
+        assertTrue(log.summary.startsWith("Verified " + SUBJECTS + " of " + SUBJECTS + " subjects"), "Summary did not match: " + log.summary);
+    }
+
+    @Test
+    public void test_execute_mismatch() throws Exception {
+        Files.write(subjectDirectories[1].resolve("module-3-1.0.jar"), "tampered".getBytes(StandardCharsets.UTF_8));
+        Files.delete(subjectDirectories[0].resolve("module-4-1.0.jar"));
+
+        MojoFailureException e = assertThrows(MojoFailureException.class, () -> createMojo().execute(), "Verification should have failed.");
+
+        assertTrue(e.getMessage().startsWith("2 of " + SUBJECTS + " subjects"), "Failure message did not match: " + e.getMessage());
+        assertEquals(2, log.errors.get(), "Each failed subject should have been logged.");
+    }
+
+    @Test
+    public void test_execute_invalidProvenance() throws Exception {
+        Files.write(provenanceFile, "{\"_type\":\"https://in-toto.io/Statement/v1\",\"subject\":[".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(MojoExecutionException.class, () -> createMojo().execute(), "A truncated provenance file should not have been read.");
+    }
+
+    @Test
+    public void test_execute_digestCacheReadOnly() throws Exception {
+        Path cacheDir = rootDir.resolve("slsa-cache");
+        File dependency = Files.write(rootDir.resolve("dependency.jar"), new byte[1]).toFile();
+        DigestCache digestCache = DigestCache.load(cacheDir.toFile());
+        digestCache.put(dependency, Files.readAttributes(dependency.toPath(), BasicFileAttributes.class), System.currentTimeMillis(), Collections.singletonMap("sha256", "0123abcd"));
+        digestCache.save();
+        byte[] cacheContent = Files.readAllBytes(cacheDir.resolve(DigestCache.CACHE_FILE_NAME));
+        VerifyProvenanceMojo mojo = createMojo();
+        setField(mojo, "useDigestCache", true);
+        setField(mojo, "digestCacheDirectory", cacheDir.toFile());
+
+        mojo.execute();
+
+        assertArrayEquals(cacheContent, Files.readAllBytes(cacheDir.resolve(DigestCache.CACHE_FILE_NAME)), "Verification should not have changed the digest cache.");
+    }
+
+    @Test
+    public void test_resolveSubject() throws IOException {
+        List<Path> directories = Arrays.asList(subjectDirectories);
+        Files.write(rootDir.resolve("outside.jar"), new byte[1]);
+
+        assertEquals(subjectDirectories[1].resolve("module-1-1.0.jar").toFile(), VerifyProvenanceMojo.resolveSubject(directories, "module-1-1.0.jar"), "Subject should have been found in the second directory.");
+        assertNull(VerifyProvenanceMojo.resolveSubject(directories, "../../outside.jar"), "A subject outside of the subject directories should not have been resolved.");
+        assertNull(VerifyProvenanceMojo.resolveSubject(directories, "."), "A directory should not have been resolved.");
+    }
+
+    private VerifyProvenanceMojo createMojo() throws ReflectiveOperationException {
+        VerifyProvenanceMojo mojo = new VerifyProvenanceMojo();
+        mojo.setLog(log);
+        setField(mojo, "provenanceFile", provenanceFile.toFile());
+        setField(mojo, "subjectDirectories", subjectDirectories[0] + "," + subjectDirectories[1]);
+        setField(mojo, "digestThreads", 4);
+        return mojo;
+    }
+
+    private static void setField(Object object, String name, Object value) throws ReflectiveOperationException {
+        Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(object, value);
+    }
+
+    private static class CountingLog extends SystemStreamLog {
+
+        private final AtomicInteger errors = new AtomicInteger();
+        private volatile String summary;
+
+        @Override
+        public void info(CharSequence content) {
+            summary = content.toString();
+        }
+
+        @Override
+        public void error(CharSequence content) {
+            errors.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.utils.dsse.DsseEnvelope;
+import com.ibm.slsa.maven.plugin.utils.dsse.EnvelopeSigner;
+import com.ibm.slsa.maven.plugin.utils.dsse.EnvelopeVerifier;
+import com.ibm.slsa.maven.plugin.utils.dsse.SigningKey;
+import com.ibm.slsa.test.Constants;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+public class VerifySignaturesMojoTest {
+
+    private static final int ENVELOPES = 32;
+
+    @TempDir
+    Path rootDir;
+
+    private Path envelopeDir;
+    private Path keyFile;
+    private String keyId;
+    private CountingLog log = new CountingLog();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        SigningKey signingKey = SigningKey.load(new File(Constants.RESOURCES_DIR + "signing" + File.separator + "ec-p256.p12"), "changeit".toCharArray(), null, null);
+        keyId = signingKey.getKeyId();
+        keyFile = Files.write(rootDir.resolve("trusted.pem"), ("-----BEGIN PUBLIC KEY-----\n" + Base64.getMimeEncoder().encodeToString(signingKey.getPublicKey().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n").getBytes(StandardCharsets.US_ASCII));
+
+        EnvelopeSigner signer = new EnvelopeSigner(signingKey);
+        envelopeDir = Files.createDirectories(rootDir.resolve("release"));
+        for (int i = 0; i < ENVELOPES; i++) {
+            byte[] statement = ("{\"_type\":\"https://in-toto.io/Statement/v1\",\"subject\":[{\"name\":\"module-" + i + "-1.0.jar\"}]}").getBytes(StandardCharsets.UTF_8);
+            Path moduleDir = Files.createDirectories(envelopeDir.resolve("module-" + i % 4));
+            Files.write(moduleDir.resolve("module-" + i + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION),
+                    (signer.sign(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, statement).toJson() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        Files.write(envelopeDir.resolve("slsa_provenance.json"), "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_execute() throws Exception {
+        createMojo(keyFile.toString()).execute();
+
+        assertEquals(0, log.errors.get(), "No envelope file should have failed verification.");
+        assertTrue(log.summary.startsWith("Verified the signatures of " + ENVELOPES + " of " + ENVELOPES + " envelope files"), "Summary did not match: " + log.summary);
+    }
+
+    @Test
+    public void test_execute_report() throws Exception {
+        Path reportFile = rootDir.resolve("report/signatures.json");
+        Files.write(envelopeDir.resolve("module-0/module-0" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION), "{}\n".getBytes(StandardCharsets.UTF_8));
+        VerifySignaturesMojo mojo = createMojo(keyId + "=" + keyFile);
+        setField(mojo, "signatureReportFile", reportFile.toFile());
+
+        MojoFailureException e = assertThrows(MojoFailureException.class, () -> mojo.execute(), "Verification should have failed.");
+
+        assertTrue(e.getMessage().startsWith("1 of " + ENVELOPES + " envelope files"), "Failure message did not match: " + e.getMessage());
+        assertEquals(1, log.errors.get(), "The failed envelope file should have been logged.");
+        JsonObject report;
+        try (JsonReader reader = Json.createReader(new StringReader(new String(Files.readAllBytes(reportFile), StandardCharsets.UTF_8)))) {
+            report = reader.readObject();
+        }
+        assertEquals(ENVELOPES, report.getInt(EnvelopeVerifier.KEY_FILES), "Number of files in the report did not match.");
+        assertEquals(ENVELOPES - 1, report.getInt(EnvelopeVerifier.KEY_VERIFIED), "Number of verified files in the report did not match.");
+    }
+
+    @Test
+    public void test_execute_invalidTrustedKeys() throws Exception {
+        Path otherKeyFile = Files.write(rootDir.resolve("other.pem"), Files.readAllBytes(keyFile));
+        Files.write(keyFile, "no keys here\n".getBytes(StandardCharsets.US_ASCII));
+
+        assertThrows(MojoExecutionException.class, () -> createMojo(otherKeyFile + "," + keyFile).execute(), "A trusted key file without keys should have been rejected.");
+    }
+
+    @Test
+    public void test_execute_noEnvelopes() throws Exception {
+        Path emptyDir = Files.createDirectories(rootDir.resolve("empty"));
+        VerifySignaturesMojo mojo = createMojo(keyFile.toString());
+        setField(mojo, "envelopes", emptyDir.toString());
+
+        assertThrows(MojoFailureException.class, () -> mojo.execute(), "Verification without envelope files should have failed.");
+    }
+
+    private VerifySignaturesMojo createMojo(String trustedKeys) throws ReflectiveOperationException {
+        VerifySignaturesMojo mojo = new VerifySignaturesMojo();
+        mojo.setLog(log);
+        setField(mojo, "envelopes", envelopeDir.toString());
+        setField(mojo, "trustedKeys", trustedKeys);
+        setField(mojo, "verifyThreads", 4);
+        return mojo;
+    }
+
+    private static void setField(Object object, String name, Object value) throws ReflectiveOperationException {
+        Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(object, value);
+    }
+
+    private static class CountingLog extends SystemStreamLog {
+
+        private final AtomicInteger errors = new AtomicInteger();
+        private volatile String summary;
+
+        @Override
+        public void info(CharSequence content) {
+            summary = content.toString();
+        }
+
+        @Override
+        public void error(CharSequence content) {
+            errors.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DependencyDigesterTest {
+
+    // SHA-256 of "content"
+    private static final String CONTENT_SHA256 = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+    private static final String OTHER_SHA256 = "0000000000000000000000000000000000000000000000000000000000000000";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_digest_noChecksumFile() throws IOException {
+        File jar = createFile("lib-1.0.jar", "content");
+
+        Map<File, String> digests = new DependencyDigester(2, null, true, 0, new SystemStreamLog()).digest(Arrays.asList(jar));
+        assertEquals(CONTENT_SHA256, digests.get(jar), "Digest did not match.");
+    }
+
+    @Test
+    public void test_digest_trustedChecksumFile() throws IOException {
+        File jar = createFile("lib-1.0.jar", "content");
+        createFile("lib-1.0.jar.sha256", OTHER_SHA256 + "  lib-1.0.jar\n");
+
+        Map<File, String> digests = new DependencyDigester(2, null, true, 0, new SystemStreamLog()).digest(Arrays.asList(jar));
+        assertEquals(OTHER_SHA256, digests.get(jar), "Should have used the digest in the checksum file.");
+    }
+
+    @Test
+    public void test_digest_counts() throws IOException {
+        File trusted = createFile("lib-1.0.jar", "content");
+        createFile("lib-1.0.jar.sha256", OTHER_SHA256);
+        File digested = createFile("other-1.0.jar", "content");
+
+        DependencyDigester digester = new DependencyDigester(2, null, true, 0, new SystemStreamLog());
+        digester.digest(Arrays.asList(trusted, digested));
+        assertEquals(1, digester.getChecksumFileHits(), "Number of trusted checksum files did not match.");
+        assertEquals(1, digester.getFileDigester().getFilesDigested(), "Number of files digested did not match.");
+        assertEquals("content".length(), digester.getFileDigester().getBytesDigested(), "Number of bytes digested did not match.");
+    }
+
+    @Test
+    public void test_digest_checksumFilesDisabled() throws IOException {
+        File jar = createFile("lib-1.0.jar", "content");
+        createFile("lib-1.0.jar.sha256", OTHER_SHA256);
+
+        Map<File, String> digests = new DependencyDigester(2, null, false, 0, new SystemStreamLog()).digest(Arrays.asList(jar));
+        assertEquals(CONTENT_SHA256, digests.get(jar), "Should have ignored the checksum file.");
+    }
+
+    @Test
+    public void test_digest_invalidChecksumFile() throws IOException {
+        File jar = createFile("lib-1.0.jar", "content");
+        createFile("lib-1.0.jar.sha256", "not a digest");
+
+        Map<File, String> digests = new DependencyDigester(2, null, true, 0, new SystemStreamLog()).digest(Arrays.asList(jar));
+        assertEquals(CONTENT_SHA256, digests.get(jar), "Should have digested the file when the checksum file is not valid.");
+    }
+
+    @Test
+    public void test_digest_spotCheckMismatch() throws IOException {
+        File jar = createFile("lib-1.0.jar", "content");
+        createFile("lib-1.0.jar.sha256", OTHER_SHA256);
+
+        Map<File, String> digests = new DependencyDigester(2, null, true, 1, new SystemStreamLog()).digest(Arrays.asList(jar));
+        assertEquals(CONTENT_SHA256, digests.get(jar), "Should have used the calculated digest when the checksum file does not match.");
+    }
+
+    @Test
+    public void test_digest_spotCheckBypassesCache() throws IOException {
+        File jar = createFile("lib-1.0.jar", "content");
+        createFile("lib-1.0.jar.sha256", OTHER_SHA256);
+        jar.setLastModified(System.currentTimeMillis() - 60000);
+        DigestCache digestCache = DigestCache.load(tempDir.toFile());
+        digestCache.put(jar, Files.readAttributes(jar.toPath(), BasicFileAttributes.class), System.currentTimeMillis(), Collections.singletonMap("sha256", OTHER_SHA256));
+        File other = createFile("other-1.0.jar", "content");
+        createFile("other-1.0.jar.sha256", OTHER_SHA256);
+
+        DependencyDigester digester = new DependencyDigester(1, digestCache, true, 1, new SystemStreamLog());
+        assertEquals(CONTENT_SHA256, digester.digest(Arrays.asList(jar)).get(jar), "Spot check should have read the file instead of using the cached digest.");
+        assertFalse(digester.isUsingChecksumFiles(), "Should have stopped trusting checksum files after a mismatch.");
+        assertEquals(CONTENT_SHA256, digester.digest(Arrays.asList(other)).get(other), "Should not have trusted the checksum file after a mismatch.");
+        assertEquals(0, digester.getChecksumFileHits(), "No checksum file should have been trusted.");
+    }
+
+    @Test
+    public void test_digest_missingFile() throws IOException {
+        File jar = createFile("lib-1.0.jar", "content");
+        File missing = new File(tempDir.toFile(), "missing-1.0.jar");
+
+        Map<File, String> digests = new DependencyDigester(2, null, true, 0, new SystemStreamLog()).digest(Arrays.asList(missing, jar, jar));
+        assertFalse(digests.containsKey(missing), "Should have left out the missing file.");
+        assertEquals(1, digests.size(), "Number of digests did not match.");
+        assertEquals(CONTENT_SHA256, digests.get(jar), "Digest did not match.");
+    }
+
+    private File createFile(String name, String content) throws IOException {
+        File file = new File(tempDir.toFile(), name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DigestCacheTest {
+
+    private static final List<String> SHA256 = Collections.singletonList("sha256");
+    private static final Map<String, String> DIGESTS = Collections.singletonMap("sha256", "0123abcd");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_get_unchangedFile() throws IOException {
+        File file = createFile("app.war", "content", System.currentTimeMillis() - 60000);
+        saveEntry(file, System.currentTimeMillis());
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        assertEquals(DIGESTS, cache.get(file, readAttributes(file), SHA256), "Should have found the cached digests.");
+        assertEquals(1, cache.getHits(), "Hit count did not match.");
+        assertEquals(0, cache.getMisses(), "Miss count did not match.");
+    }
+
+    @Test
+    public void test_get_modifiedFile() throws IOException {
+        File file = createFile("app.war", "content", System.currentTimeMillis() - 60000);
+        saveEntry(file, System.currentTimeMillis());
+        createFile("app.war", "changed content", System.currentTimeMillis() - 60000);
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        assertNull(cache.get(file, readAttributes(file), SHA256), "Should not have used the digests of a file with a different size.");
+        assertEquals(1, cache.getMisses(), "Miss count did not match.");
+    }
+
+    @Test
+    public void test_get_touchedFile() throws IOException {
+        long lastModified = System.currentTimeMillis() - 60000;
+        File file = createFile("app.war", "content", lastModified);
+        saveEntry(file, System.currentTimeMillis());
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified + 1000));
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        assertNull(cache.get(file, readAttributes(file), SHA256), "Should not have used the digests of a file with a different modification time.");
+    }
+
+    @Test
+    public void test_get_racyEntry() throws IOException {
+        long now = System.currentTimeMillis();
+        File file = createFile("app.war", "content", now);
+        saveEntry(file, now);
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        assertNull(cache.get(file, readAttributes(file), SHA256), "Should not trust digests recorded within the racy window of the modification.");
+    }
+
+    @Test
+    public void test_get_missingAlgorithm() throws IOException {
+        File file = createFile("app.war", "content", System.currentTimeMillis() - 60000);
+        saveEntry(file, System.currentTimeMillis());
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        assertNull(cache.get(file, readAttributes(file), Arrays.asList("sha256", "sha512")), "Should not have used an entry without every algorithm.");
+    }
+
+    @Test
+    public void test_get_narrowedAlgorithms() throws IOException {
+        File file = createFile("app.war", "content", System.currentTimeMillis() - 60000);
+        Map<String, String> digests = new LinkedHashMap<>();
+        digests.put("sha256", "0123abcd");
+        digests.put("sha512", "4567ef01");
+        DigestCache firstRun = DigestCache.load(tempDir.toFile());
+        firstRun.put(file, readAttributes(file), System.currentTimeMillis(), digests);
+        firstRun.save();
+
+        DigestCache secondRun = DigestCache.load(tempDir.toFile());
+        assertEquals(DIGESTS, secondRun.get(file, readAttributes(file), SHA256), "Should only have returned the requested digests.");
+    }
+
+    @Test
+    public void test_load_corruptCache() throws IOException {
+        File file = createFile("app.war", "content", System.currentTimeMillis() - 60000);
+        Files.write(tempDir.resolve(DigestCache.CACHE_FILE_NAME), ("cache.version=1\n" + file.getCanonicalPath().replace("\\", "\\\\") + "=not|a|number|x|sha256\n").getBytes(StandardCharsets.ISO_8859_1));
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        assertNull(cache.get(file, readAttributes(file), SHA256), "Should have ignored the corrupt cache.");
+    }
+
+    @Test
+    public void test_save_keepsEntriesOfOtherGenerators() throws IOException {
+        File first = createFile("first.war", "content", System.currentTimeMillis() - 60000);
+        File second = createFile("second.war", "content", System.currentTimeMillis() - 60000);
+        DigestCache firstCache = DigestCache.load(tempDir.toFile());
+        DigestCache secondCache = DigestCache.load(tempDir.toFile());
+        firstCache.put(first, readAttributes(first), System.currentTimeMillis(), DIGESTS);
+        secondCache.put(second, readAttributes(second), System.currentTimeMillis(), DIGESTS);
+        firstCache.save();
+        secondCache.save();
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        assertEquals(DIGESTS, cache.get(first, readAttributes(first), SHA256), "Entry saved by the first generator should have been kept.");
+        assertEquals(DIGESTS, cache.get(second, readAttributes(second), SHA256), "Entry saved by the second generator should have been kept.");
+    }
+
+    @Test
+    public void test_save_concurrent() throws Exception {
+        int generators = 8;
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < generators; i++) {
+            files.add(createFile("module-" + i + ".war", "content", System.currentTimeMillis() - 60000));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(generators);
+        try {
+            List<Future<?>> saves = new ArrayList<>();
+            for (File file : files) {
+                saves.add(executor.submit(() -> {
+                    DigestCache cache = DigestCache.load(tempDir.toFile());
+                    cache.put(file, readAttributes(file), System.currentTimeMillis(), DIGESTS);
+                    cache.save();
+                    return null;
+                }));
+            }
+            for (Future<?> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        for (File file : files) {
+            assertEquals(DIGESTS, cache.get(file, readAttributes(file), SHA256), "Entry of " + file + " should have been kept.");
+        }
+    }
+
+    @Test
+    public void test_save_dropsDeletedFiles() throws IOException {
+        File kept = createFile("kept.war", "content", System.currentTimeMillis() - 60000);
+        File deleted = createFile("deleted.war", "content", System.currentTimeMillis() - 60000);
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        cache.put(kept, readAttributes(kept), System.currentTimeMillis(), DIGESTS);
+        cache.put(deleted, readAttributes(deleted), System.currentTimeMillis(), DIGESTS);
+        cache.save();
+        Files.delete(deleted.toPath());
+
+        DigestCache.load(tempDir.toFile()).save();
+
+        String content = new String(Files.readAllBytes(tempDir.resolve(DigestCache.CACHE_FILE_NAME)), StandardCharsets.UTF_8);
+        assertFalse(content.contains(deleted.getName()), "Entry of a deleted file should have been dropped.");
+        assertEquals(DIGESTS, DigestCache.load(tempDir.toFile()).get(kept, readAttributes(kept), SHA256), "Entry of an existing file should have been kept.");
+    }
+
+    private File createFile(String name, String content, long lastModified) throws IOException {
+        Path file = Files.write(tempDir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+        return file.toFile();
+    }
+
+    private void saveEntry(File file, long recordedAt) throws IOException {
+        DigestCache cache = DigestCache.load(tempDir.toFile());
+        cache.put(file, readAttributes(file), recordedAt, DIGESTS);
+        cache.save();
+    }
+
+    private BasicFileAttributes readAttributes(File file) throws IOException {
+        return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+    }
+
+}
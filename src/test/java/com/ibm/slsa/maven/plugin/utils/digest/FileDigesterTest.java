@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.test.Constants;
+
+public class FileDigesterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_digest_smallFile() throws IOException {
+        Map<String, String> digestSet = new FileDigester().digest(new File(Constants.FILE_PATH_SIMPLE_TXT));
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digestSet.get(DigestSet.ALG_SHA256), "Digest did not match the expected value.");
+    }
+
+    @Test
+    public void test_digest_package() throws IOException {
+        Map<String, String> digestSet = new FileDigester().digest(new File(Constants.RESOURCES_DIR + "one-package", Constants.FILE_NAME_APP_WAR));
+        assertEquals(Constants.SHA_APP_WAR, digestSet.get(DigestSet.ALG_SHA256), "Digest did not match the expected value.");
+    }
+
+    @Test
+    public void test_digest_emptyFile() throws Exception {
+        Path file = Files.createFile(tempDir.resolve("empty.jar"));
+        String expected = FileDigester.toHex(MessageDigest.getInstance("SHA-256").digest());
+        assertEquals(expected, new FileDigester().digest(file.toFile()).get(DigestSet.ALG_SHA256), "Digest of an empty file did not match the expected value.");
+    }
+
+    @Test
+    public void test_digest_mappedWindows() throws Exception {
+        byte[] content = new byte[10 * 1024 + 123];
+        new Random(42).nextBytes(content);
+        Path file = Files.write(tempDir.resolve("large.ear"), content);
+        String expected = FileDigester.toHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        // Map the file in several windows, the last of which is only partially filled
+        FileDigester digester = new FileDigester(Collections.singletonList(DigestAlgorithm.SHA256), 1024, 4096);
+        assertEquals(expected, digester.digest(file.toFile()).get(DigestSet.ALG_SHA256), "Digest of a mapped file did not match the expected value.");
+        assertEquals(expected, new FileDigester().digest(file.toFile()).get(DigestSet.ALG_SHA256), "Digest of a buffered file did not match the expected value.");
+    }
+
+    @Test
+    public void test_digest_reusesBuffersAcrossThreads() throws Exception {
+        File file = Files.write(tempDir.resolve("app.war"), new byte[4096]).toFile();
+        FileDigester digester = new FileDigester(Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512));
+        digestOnNewThreads(digester, file, 1);
+        int pooled = FileDigester.getPooledBuffers();
+        assertTrue(pooled >= 1, "The buffers should have been returned to the pool when the file was digested.");
+
+        // Like the digest of the next project, on a new pool of threads
+        digestOnNewThreads(digester, file, 1);
+        assertEquals(pooled, FileDigester.getPooledBuffers(), "A new thread should have reused the pooled buffers.");
+
+        digestOnNewThreads(digester, file, 4 * FileDigester.MAX_POOLED_BUFFERS);
+        assertTrue(FileDigester.getPooledBuffers() <= FileDigester.MAX_POOLED_BUFFERS, "The pool should not have kept more than its maximum.");
+    }
+
+    private static void digestOnNewThreads(FileDigester digester, File file, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Map<String, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> digester.digest(file)));
+            }
+            for (Future<Map<String, String>> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_digest_multipleAlgorithms() throws Exception {
+        byte[] content = new byte[10 * 1024 + 123];
+        new Random(7).nextBytes(content);
+        Path file = Files.write(tempDir.resolve("multi.jar"), content);
+        List<DigestAlgorithm> algorithms = Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512, DigestAlgorithm.SHA1);
+
+        for (FileDigester digester : Arrays.asList(new FileDigester(algorithms), new FileDigester(algorithms, 1024, 4096))) {
+            Map<String, String> digests = digester.digest(file.toFile());
+            assertEquals(Arrays.asList("sha256", "sha512", "sha1"), new ArrayList<>(digests.keySet()), "Digests were not in the configured algorithm order.");
+            assertEquals(FileDigester.toHex(MessageDigest.getInstance("SHA-256").digest(content)), digests.get("sha256"), "sha256 digest did not match.");
+            assertEquals(FileDigester.toHex(MessageDigest.getInstance("SHA-512").digest(content)), digests.get("sha512"), "sha512 digest did not match.");
+            assertEquals(FileDigester.toHex(MessageDigest.getInstance("SHA-1").digest(content)), digests.get("sha1"), "sha1 digest did not match.");
+        }
+    }
+
+    @Test
+    public void test_digest_counts() throws Exception {
+        Path small = Files.write(tempDir.resolve("small.jar"), new byte[100]);
+        Path large = Files.write(tempDir.resolve("large.jar"), new byte[5000]);
+
+        FileDigester digester = new FileDigester(Collections.singletonList(DigestAlgorithm.SHA256), 1024, 4096);
+        digester.digest(small.toFile());
+        digester.digest(large.toFile());
+        assertEquals(2, digester.getFilesDigested(), "Number of files digested did not match.");
+        assertEquals(5100, digester.getBytesDigested(), "Number of bytes digested did not match.");
+    }
+
+    @Test
+    public void test_digestAlgorithm_fromDigestSetName() {
+        assertEquals(DigestAlgorithm.SHA512, DigestAlgorithm.fromDigestSetName(" SHA512 "), "Algorithm did not match.");
+        assertThrows(IllegalArgumentException.class, () -> DigestAlgorithm.fromDigestSetName("crc32"), "Unsupported algorithm should have been rejected.");
+    }
+
+}
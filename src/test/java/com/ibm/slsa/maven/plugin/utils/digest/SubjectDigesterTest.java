@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.slsa.maven.plugin.utils.digest.exceptions.SubjectDigestException;
+import com.ibm.slsa.test.CommonTestUtils;
+import com.ibm.slsa.test.Constants;
+
+import jakarta.json.JsonObject;
+
+@ExtendWith(MockitoExtension.class)
+public class SubjectDigesterTest {
+
+    @Mock private MavenSession mavenSession;
+    @Mock private MavenExecutionRequest request;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_digest_keepsSubjectOrder() {
+        List<File> files = Arrays.asList(
+                new File(Constants.RESOURCES_DIR + "multiple-packages", "app2.ear"),
+                new File(Constants.FILE_PATH_SIMPLE_TXT),
+                new File(Constants.RESOURCES_DIR + "one-package", Constants.FILE_NAME_APP_WAR),
+                new File(Constants.RESOURCES_DIR + "multiple-packages", "app1.ear"));
+        SubjectDigester digester = new SubjectDigester(4);
+        try {
+            List<ResourceDescriptor> descriptors = digester.digest(files);
+            assertEquals(files.size(), descriptors.size(), "Did not get a resource descriptor for each file.");
+            for (int i = 0; i < files.size(); i++) {
+                JsonObject descriptorJson = descriptors.get(i).toJson();
+                testUtils.assertJsonStringEntryMatches("Subject", descriptorJson, ResourceDescriptor.KEY_NAME, files.get(i).getName());
+            }
+            JsonObject simpleDigest = descriptors.get(1).toJson().getJsonObject(ResourceDescriptor.KEY_DIGEST);
+            testUtils.assertJsonContainsOnlyExpectedStringEntry("Subject digest", simpleDigest, DigestSet.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+            JsonObject appDigest = descriptors.get(2).toJson().getJsonObject(ResourceDescriptor.KEY_DIGEST);
+            testUtils.assertJsonContainsOnlyExpectedStringEntry("Subject digest", appDigest, DigestSet.ALG_SHA256, Constants.SHA_APP_WAR);
+        } catch (SubjectDigestException e) {
+            fail("Encountered unexpected exception: " + e);
+        }
+    }
+
+    @Test
+    public void test_digest_reportsEachFailedFile() {
+        File missing1 = new File(Constants.RESOURCES_DIR, "missing1.war");
+        File missing2 = new File(Constants.RESOURCES_DIR, "missing2.war");
+        List<File> files = Arrays.asList(missing1, new File(Constants.FILE_PATH_SIMPLE_TXT), missing2);
+        SubjectDigester digester = new SubjectDigester(3);
+        try {
+            digester.digest(files);
+            fail("Should have thrown an exception for the missing files but didn't.");
+        } catch (SubjectDigestException e) {
+            assertEquals(Arrays.asList(missing1, missing2), new ArrayList<>(e.getFailures().keySet()), "Failures did not match the missing files.");
+            testUtils.assertExceptionMatchesPattern(e, "missing1\\.war.+missing2\\.war");
+        }
+    }
+
+    @Test
+    public void test_getDefaultThreadCount_sharedWithConcurrentProjects() {
+        when(mavenSession.getRequest()).thenReturn(request);
+        when(request.getDegreeOfConcurrency()).thenReturn(Integer.MAX_VALUE);
+
+        assertEquals(1, SubjectDigester.getDefaultThreadCount(mavenSession, false), "Thread count should not drop below 1.");
+    }
+
+    @Test
+    public void test_getDefaultThreadCount_aggregate() {
+        int threads = SubjectDigester.getDefaultThreadCount(mavenSession, true);
+        assertEquals(Runtime.getRuntime().availableProcessors(), threads, "Aggregated provenance should use every available processor.");
+        assertTrue(new SubjectDigester(0).getThreads() >= 1, "Digester should always use at least one thread.");
+    }
+
+}
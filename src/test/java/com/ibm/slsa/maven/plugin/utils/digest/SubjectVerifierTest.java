@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.utils.digest.SubjectVerifier.Result;
+import com.ibm.slsa.maven.plugin.utils.digest.SubjectVerifier.Status;
+import com.ibm.slsa.maven.plugin.utils.json.StatementSubjectReader.Subject;
+import com.ibm.slsa.test.Constants;
+
+public class SubjectVerifierTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_verify() throws Exception {
+        File simple = new File(Constants.FILE_PATH_SIMPLE_TXT);
+        Map<String, String> sha512 = new FileDigester(Collections.singletonList(DigestAlgorithm.SHA512)).digest(simple);
+        Map<String, String> multiple = new LinkedHashMap<>(sha512);
+        multiple.put("sha256", Constants.SHA_FILE_SIMPLT_TXT.toUpperCase());
+        multiple.put("gitCommit", "0123456789abcdef0123456789abcdef01234567");
+        List<Subject> subjects = Arrays.asList(
+                new Subject("verified", Collections.singletonMap("sha256", Constants.SHA_FILE_SIMPLT_TXT)),
+                new Subject("multiple", multiple),
+                new Subject("mismatch", Collections.singletonMap("sha256", "0000")),
+                new Subject("missing", Collections.singletonMap("sha256", Constants.SHA_FILE_SIMPLT_TXT)),
+                new Subject("unsupported", Collections.singletonMap("gitCommit", "0123456789abcdef0123456789abcdef01234567")));
+
+        List<Result> results = new SubjectVerifier(4, null).verify(subjects, name -> "missing".equals(name) ? null : simple);
+
+        assertEquals(Status.VERIFIED, results.get(0).getStatus(), "A matching digest should have been verified: " + results.get(0));
+        assertNull(results.get(0).getDetail(), "A verified subject should have no detail.");
+        assertEquals(Status.VERIFIED, results.get(1).getStatus(), "Every supported digest should have been verified, ignoring case: " + results.get(1));
+        assertEquals(Status.MISMATCH, results.get(2).getStatus(), "A different digest should not have been verified.");
+        assertTrue(results.get(2).getDetail().contains(Constants.SHA_FILE_SIMPLT_TXT), "The detail should include the calculated digest: " + results.get(2));
+        assertEquals(Status.MISSING, results.get(3).getStatus(), "A subject without a file should be missing.");
+        assertEquals(Status.FAILED, results.get(4).getStatus(), "A subject without a supported digest cannot be verified.");
+    }
+
+    @Test
+    public void test_verify_keepsSubjectOrder() throws Exception {
+        FileDigester fileDigester = new FileDigester();
+        List<Subject> subjects = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Path file = Files.write(tempDir.resolve("subject-" + i + ".jar"), new byte[i * 1024 + 1]);
+            subjects.add(new Subject(file.getFileName().toString(), fileDigester.digest(file.toFile())));
+        }
+
+        SubjectVerifier verifier = new SubjectVerifier(8, null);
+        List<Result> results = verifier.verify(subjects, name -> tempDir.resolve(name).toFile());
+
+        assertEquals(subjects.size(), results.size(), "Did not get a result for each subject.");
+        for (int i = 0; i < subjects.size(); i++) {
+            assertEquals(subjects.get(i), results.get(i).getSubject(), "Results should be in the order of the subjects.");
+            assertTrue(results.get(i).isVerified(), "Subject should have been verified: " + results.get(i));
+        }
+        assertEquals(subjects.size(), verifier.getFilesDigested(), "Every subject should have been re-hashed.");
+    }
+
+    @Test
+    public void test_verify_digestCache() throws Exception {
+        Path file = Files.write(tempDir.resolve("app.war"), "app".getBytes(StandardCharsets.UTF_8));
+        // Outside of the racy window, so the cached entry is trusted
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60000));
+        Subject subject = new Subject("app.war", new FileDigester().digest(file.toFile()));
+        File cacheDirectory = tempDir.resolve("cache").toFile();
+
+        SubjectVerifier first = new SubjectVerifier(1, DigestCache.load(cacheDirectory));
+        assertTrue(first.verify(Collections.singletonList(subject), name -> file.toFile()).get(0).isVerified(), "Subject should have been verified.");
+        first.getDigestCache().save();
+        SubjectVerifier second = new SubjectVerifier(1, DigestCache.load(cacheDirectory));
+        assertTrue(second.verify(Collections.singletonList(subject), name -> file.toFile()).get(0).isVerified(), "Subject should have been verified from the cache.");
+
+        assertEquals(1, first.getFilesDigested(), "The first verification should have re-hashed the subject.");
+        assertEquals(0, second.getFilesDigested(), "The second verification should have reused the cached digest.");
+        assertEquals(1, second.getDigestCache().getHits(), "Number of cache hits did not match.");
+    }
+
+    @Test
+    public void test_verify_directory() throws Exception {
+        Subject subject = new Subject("directory", Collections.singletonMap("sha256", Constants.SHA_FILE_SIMPLT_TXT));
+
+        List<Result> results = new SubjectVerifier(1, null).verify(Collections.singletonList(subject), name -> tempDir.toFile());
+
+        assertEquals(Status.MISSING, results.get(0).getStatus(), "A directory is not the file of a subject.");
+    }
+
+}
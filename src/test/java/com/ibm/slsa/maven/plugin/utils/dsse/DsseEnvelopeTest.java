@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+
+public class DsseEnvelopeTest {
+
+    @Test
+    public void test_pae() {
+        // The example of the DSSE protocol specification
+        byte[] pae = DsseEnvelope.pae("http://example.com/HelloWorld", "hello world".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("DSSEv1 29 http://example.com/HelloWorld 11 hello world", new String(pae, StandardCharsets.UTF_8), "Pre-authentication encoding did not match.");
+    }
+
+    @Test
+    public void test_pae_lengthsInBytes() {
+        byte[] payload = "{\"name\":\"caf\u00e9\"}".getBytes(StandardCharsets.UTF_8);
+
+        byte[] pae = DsseEnvelope.pae(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, payload);
+
+        String prefix = "DSSEv1 28 application/vnd.in-toto+json 16 ";
+        assertEquals(prefix, new String(pae, 0, prefix.length(), StandardCharsets.US_ASCII), "The lengths should be in bytes.");
+        assertArrayEquals(payload, Arrays.copyOfRange(pae, prefix.length(), pae.length), "The payload should be encoded as is.");
+    }
+
+    @Test
+    public void test_toJson() {
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+        DsseEnvelope envelope = new DsseEnvelope(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, payload, Arrays.asList(
+                new DsseEnvelope.Signature("key-1", new byte[] { 1, 2, 3 }),
+                new DsseEnvelope.Signature(null, new byte[] { 4 })));
+
+        JsonObject json = envelope.toJson();
+
+        assertEquals(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, json.getString(DsseEnvelope.KEY_PAYLOAD_TYPE), "Payload type did not match.");
+        assertArrayEquals(payload, Base64.getDecoder().decode(json.getString(DsseEnvelope.KEY_PAYLOAD)), "Payload did not match.");
+        JsonArray signatures = json.getJsonArray(DsseEnvelope.KEY_SIGNATURES);
+        assertEquals("key-1", signatures.getJsonObject(0).getString(DsseEnvelope.KEY_KEYID), "Key ID did not match.");
+        assertEquals("AQID", signatures.getJsonObject(0).getString(DsseEnvelope.KEY_SIG), "Signature did not match.");
+        assertFalse(signatures.getJsonObject(1).containsKey(DsseEnvelope.KEY_KEYID), "A signature without a key ID should have no key hint.");
+    }
+
+    @Test
+    public void test_fromJson_roundTrip() {
+        byte[] payload = "{\"_type\":\"https://in-toto.io/Statement/v1\"}".getBytes(StandardCharsets.UTF_8);
+        DsseEnvelope envelope = new DsseEnvelope(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, payload, Arrays.asList(
+                new DsseEnvelope.Signature("key-1", new byte[] { 1, 2, 3 }),
+                new DsseEnvelope.Signature(null, new byte[] { 4 })));
+
+        DsseEnvelope read = DsseEnvelope.fromJson(envelope.toJson());
+
+        assertEquals(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, read.getPayloadType(), "Payload type did not match.");
+        assertArrayEquals(payload, read.getPayload(), "Payload did not match.");
+        assertEquals(2, read.getSignatures().size(), "Number of signatures did not match.");
+        assertEquals("key-1", read.getSignatures().get(0).getKeyId(), "Key ID did not match.");
+        assertArrayEquals(new byte[] { 1, 2, 3 }, read.getSignatures().get(0).getSig(), "Signature did not match.");
+        assertNull(read.getSignatures().get(1).getKeyId(), "A signature without a key ID should have no key hint.");
+    }
+
+    @Test
+    public void test_fromJson_urlSafeBase64() {
+        byte[] sig = new byte[] { (byte) 0xfb, (byte) 0xff, (byte) 0xfe };
+        JsonObject json = Json.createObjectBuilder()
+                .add(DsseEnvelope.KEY_PAYLOAD_TYPE, DsseEnvelope.PAYLOAD_TYPE_IN_TOTO)
+                .add(DsseEnvelope.KEY_PAYLOAD, "e30")
+                .add(DsseEnvelope.KEY_SIGNATURES, Json.createArrayBuilder().add(Json.createObjectBuilder()
+                        .add(DsseEnvelope.KEY_SIG, Base64.getUrlEncoder().withoutPadding().encodeToString(sig))))
+                .build();
+
+        DsseEnvelope read = DsseEnvelope.fromJson(json);
+
+        assertArrayEquals("{}".getBytes(StandardCharsets.UTF_8), read.getPayload(), "Unpadded payload did not match.");
+        assertArrayEquals(sig, read.getSignatures().get(0).getSig(), "URL-safe signature did not match.");
+    }
+
+    @Test
+    public void test_fromJson_missingSignatures() {
+        JsonObject json = Json.createObjectBuilder()
+                .add(DsseEnvelope.KEY_PAYLOAD_TYPE, DsseEnvelope.PAYLOAD_TYPE_IN_TOTO)
+                .add(DsseEnvelope.KEY_PAYLOAD, "e30=")
+                .build();
+
+        assertThrows(JsonException.class, () -> DsseEnvelope.fromJson(json), "An envelope without signatures should be rejected.");
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.utils.dsse.EnvelopeVerifier.Result;
+import com.ibm.slsa.maven.plugin.utils.dsse.EnvelopeVerifier.Status;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class EnvelopeVerifierTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EnvelopeSigner signer;
+    private TrustedKeys trustedKeys;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        SigningKey signingKey = TrustedKeysTest.loadSigningKey();
+        signer = new EnvelopeSigner(signingKey);
+        trustedKeys = new TrustedKeys().add(signingKey.getKeyId(), signingKey.getPublicKey());
+    }
+
+    @Test
+    public void test_verify_batch() throws Exception {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            files.add(writeEnvelopes("project-" + i + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, statement(i)));
+        }
+
+        List<Result> results = new EnvelopeVerifier(4, trustedKeys).verify(files);
+
+        assertEquals(files.size(), results.size(), "Number of results did not match.");
+        for (int i = 0; i < files.size(); i++) {
+            Result result = results.get(i);
+            assertEquals(files.get(i), result.getFile(), "The results should be in the order of the files.");
+            assertEquals(Status.VERIFIED, result.getStatus(), "Status of " + result.getFile() + " did not match: " + result.getDetail());
+            assertEquals(Collections.singleton(signer.getSigningKey().getKeyId()), result.getKeyIds(), "Signing key IDs did not match.");
+        }
+    }
+
+    @Test
+    public void test_verify_bundle() throws Exception {
+        File file = writeEnvelopes("bundle" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, statement(1), statement(2), statement(3));
+
+        Result result = new EnvelopeVerifier(1, trustedKeys).verify(file);
+
+        assertTrue(result.isVerified(), "A bundle of signed envelopes should be verified: " + result.getDetail());
+        assertEquals(3, result.getEnvelopes(), "Number of envelopes did not match.");
+    }
+
+    @Test
+    public void test_verify_tamperedPayload() throws Exception {
+        JsonObject envelope = signer.sign(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, statement(1)).toJson();
+        JsonObject tampered = Json.createObjectBuilder(envelope)
+                .add(DsseEnvelope.KEY_PAYLOAD, Base64.getEncoder().encodeToString(statement(2)))
+                .build();
+        File file = write("tampered" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, envelope + "\n" + tampered + "\n");
+
+        Result result = new EnvelopeVerifier(1, trustedKeys).verify(file);
+
+        assertEquals(Status.UNTRUSTED, result.getStatus(), "A tampered envelope should not be verified.");
+        assertEquals(2, result.getEnvelopes(), "Verification should stop at the tampered envelope.");
+    }
+
+    @Test
+    public void test_verify_payloadType() throws Exception {
+        File file = write("other" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, signer.sign("text/plain", statement(1)).toJson() + "\n");
+
+        assertEquals(Status.UNTRUSTED, new EnvelopeVerifier(1, trustedKeys).verify(file).getStatus(), "An envelope of another payload type should not be verified.");
+        assertEquals(Status.VERIFIED, new EnvelopeVerifier(1, trustedKeys, "text/plain").verify(file).getStatus(), "An envelope of the expected payload type should be verified.");
+    }
+
+    @Test
+    public void test_verify_invalid() throws Exception {
+        List<File> files = Arrays.asList(
+                write("malformed" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, "{\"payloadType\":\n"),
+                write("unsigned" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, "{\"payloadType\":\"" + DsseEnvelope.PAYLOAD_TYPE_IN_TOTO + "\",\"payload\":\"e30=\"}\n"),
+                write("empty" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, "\n"),
+                tempDir.resolve("missing" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION).toFile());
+
+        List<Result> results = new EnvelopeVerifier(2, trustedKeys).verify(files);
+
+        for (Result result : results) {
+            assertEquals(Status.INVALID, result.getStatus(), "Status of " + result.getFile() + " did not match.");
+            assertFalse(result.isVerified(), result.getFile() + " should not be verified.");
+        }
+    }
+
+    @Test
+    public void test_toJson() throws Exception {
+        File verified = writeEnvelopes("verified" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, statement(1));
+        File empty = write("empty" + EnvelopeVerifier.ENVELOPE_FILE_EXTENSION, "");
+
+        JsonObject report = EnvelopeVerifier.toJson(new EnvelopeVerifier(2, trustedKeys).verify(Arrays.asList(verified, empty)));
+
+        assertEquals(2, report.getInt(EnvelopeVerifier.KEY_FILES), "Number of files did not match.");
+        assertEquals(1, report.getInt(EnvelopeVerifier.KEY_VERIFIED), "Number of verified files did not match.");
+        JsonArray results = report.getJsonArray(EnvelopeVerifier.KEY_RESULTS);
+        assertEquals(verified.getPath(), results.getJsonObject(0).getString(Result.KEY_FILE), "File of the first result did not match.");
+        assertEquals(Status.VERIFIED.name(), results.getJsonObject(0).getString(Result.KEY_STATUS), "Status of the first result did not match.");
+        assertEquals(signer.getSigningKey().getKeyId(), results.getJsonObject(0).getJsonArray(Result.KEY_KEY_IDS).getString(0), "Key ID of the first result did not match.");
+        assertEquals(Status.INVALID.name(), results.getJsonObject(1).getString(Result.KEY_STATUS), "Status of the second result did not match.");
+        assertTrue(results.getJsonObject(1).containsKey(Result.KEY_DETAIL), "A failed result should have a detail.");
+    }
+
+    private File writeEnvelopes(String name, byte[]... statements) throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (DsseEnvelope envelope : signer.sign(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, Arrays.asList(statements))) {
+            content.append(envelope.toJson()).append('\n');
+        }
+        return write(name, content.toString());
+    }
+
+    private File write(String name, String content) throws Exception {
+        return Files.write(tempDir.resolve(name), content.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+
+    private static byte[] statement(int i) {
+        return ("{\"_type\":\"https://in-toto.io/Statement/v1\",\"subject\":[{\"name\":\"artifact-" + i + ".jar\"}]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+}
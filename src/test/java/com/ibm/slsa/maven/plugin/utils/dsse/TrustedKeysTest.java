@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.dsse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TrustedKeysTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_load_publicKey() throws Exception {
+        SigningKey signingKey = loadSigningKey();
+        File pem = writePem("key.pem", EnvelopeSignerTest.toPem(Keys.PEM_PUBLIC_KEY, signingKey.getPublicKey().getEncoded()));
+
+        TrustedKeys trustedKeys = new TrustedKeys();
+
+        assertEquals(Collections.singletonList(signingKey.getKeyId()), trustedKeys.load(pem, null), "The key ID should be derived from the public key.");
+        assertEquals(signingKey.getKeyId(), trustedKeys.verify(pae(), sign(signingKey, signingKey.getKeyId())), "The signature should be verified.");
+    }
+
+    @Test
+    public void test_load_certificate() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(new File(EnvelopeSignerTest.KEY_STORE_PATH).toPath())) {
+            keyStore.load(in, EnvelopeSignerTest.KEY_STORE_PASSWORD);
+        }
+        File pem = writePem("cert.pem", EnvelopeSignerTest.toPem(Keys.PEM_CERTIFICATE, keyStore.getCertificate("slsa").getEncoded()));
+        SigningKey signingKey = loadSigningKey();
+
+        TrustedKeys trustedKeys = new TrustedKeys();
+
+        assertEquals(Collections.singletonList("release"), trustedKeys.load(pem, "release"), "The given key ID should be used.");
+        assertEquals("release", trustedKeys.verify(pae(), sign(signingKey, "release")), "The signature should be verified by the certificate key.");
+    }
+
+    @Test
+    public void test_verify_unknownHint() throws Exception {
+        SigningKey signingKey = loadSigningKey();
+        TrustedKeys trustedKeys = new TrustedKeys().add("release", signingKey.getPublicKey());
+
+        // Key IDs are unauthenticated hints, so a signature with another hint is still checked against every trusted key
+        assertEquals("release", trustedKeys.verify(pae(), sign(signingKey, "other")), "A signature with an unknown key ID should be verified.");
+        assertEquals("release", trustedKeys.verify(pae(), sign(signingKey, null)), "A signature without a key ID should be verified.");
+    }
+
+    @Test
+    public void test_verify_untrustedKey() throws Exception {
+        SigningKey signingKey = loadSigningKey();
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        PublicKey otherKey = generator.generateKeyPair().getPublic();
+        TrustedKeys trustedKeys = new TrustedKeys().add(signingKey.getKeyId(), otherKey);
+
+        assertNull(trustedKeys.verify(pae(), sign(signingKey, signingKey.getKeyId())), "A signature of an untrusted key should not be verified.");
+        assertNull(trustedKeys.verify(pae(), new DsseEnvelope.Signature(signingKey.getKeyId(), new byte[] { 1, 2, 3 })), "A malformed signature should not be verified.");
+    }
+
+    @Test
+    public void test_load_noKeys() throws Exception {
+        File pem = writePem("empty.pem", "no keys here\n");
+
+        assertThrows(GeneralSecurityException.class, () -> new TrustedKeys().load(pem, null), "A PEM file without keys should be rejected.");
+    }
+
+    @Test
+    public void test_load_keyIdOfSeveralKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        File pem = writePem("keys.pem", EnvelopeSignerTest.toPem(Keys.PEM_PUBLIC_KEY, generator.generateKeyPair().getPublic().getEncoded())
+                + EnvelopeSignerTest.toPem(Keys.PEM_PUBLIC_KEY, generator.generateKeyPair().getPublic().getEncoded()));
+
+        TrustedKeys trustedKeys = new TrustedKeys();
+
+        assertThrows(GeneralSecurityException.class, () -> trustedKeys.load(pem, "release"), "Several keys should not share one key ID.");
+        assertEquals(2, trustedKeys.load(pem, null).size(), "Every key of the file should be trusted.");
+        assertEquals(2, trustedKeys.getKeyIds().size(), "Number of trusted keys did not match.");
+    }
+
+    static SigningKey loadSigningKey() throws Exception {
+        return SigningKey.load(new File(EnvelopeSignerTest.KEY_STORE_PATH), EnvelopeSignerTest.KEY_STORE_PASSWORD, null, null);
+    }
+
+    private static byte[] pae() {
+        return DsseEnvelope.pae(DsseEnvelope.PAYLOAD_TYPE_IN_TOTO, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DsseEnvelope.Signature sign(SigningKey signingKey, String keyId) throws Exception {
+        Signature signature = signingKey.newSignature();
+        signature.update(pae());
+        return new DsseEnvelope.Signature(keyId, signature.sign());
+    }
+
+    private File writePem(String name, String content) throws Exception {
+        return Files.write(tempDir.resolve(name), content.getBytes(StandardCharsets.US_ASCII)).toFile();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GitDirectoryReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File gitDir;
+    private String commit;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        try (Git git = Git.init().setDirectory(tempDir.toFile()).setInitialBranch("main").call()) {
+            commit = git.commit().setMessage("Initial commit").setAllowEmpty(true).setAuthor("Test", "test@example.com").setCommitter("Test", "test@example.com").setSign(false).call().getName();
+        }
+        gitDir = tempDir.resolve(".git").toFile();
+        appendConfig("[remote \"origin\"]\n\turl = \"https://github.com/example/app.git\" # comment\n\tfetch = +refs/heads/*:refs/remotes/origin/*\n");
+    }
+
+    @Test
+    public void test_findGitDir() throws IOException {
+        File module = Files.createDirectories(tempDir.resolve("module").resolve("src")).toFile();
+        assertEquals(gitDir.getAbsoluteFile(), GitDirectoryReader.findGitDir(module), "Git directory did not match.");
+    }
+
+    @Test
+    public void test_readMetadata_looseRef() throws IOException {
+        assertMatchesJGit(GitDirectoryReader.readMetadata(gitDir));
+    }
+
+    @Test
+    public void test_readMetadata_packedRef() throws IOException {
+        Files.delete(gitDir.toPath().resolve("refs/heads/main"));
+        write("packed-refs", "# pack-refs with: peeled fully-peeled sorted \n" + commit + " refs/heads/main\n" + commit + " refs/tags/v1\n^" + commit + "\n");
+
+        GitMetadata metadata = GitDirectoryReader.readMetadata(gitDir);
+        assertEquals(commit, metadata.getCommit(), "Commit did not match.");
+        assertMatchesJGit(metadata);
+    }
+
+    @Test
+    public void test_readMetadata_symbolicRef() throws IOException {
+        write("refs/heads/alias", "ref: refs/heads/main\n");
+        write("HEAD", "ref: refs/heads/alias\n");
+
+        GitMetadata metadata = GitDirectoryReader.readMetadata(gitDir);
+        assertEquals("refs/heads/alias", metadata.getRef(), "Ref did not match.");
+        assertEquals(commit, metadata.getCommit(), "Commit did not match.");
+    }
+
+    @Test
+    public void test_readMetadata_detachedHead() throws IOException {
+        write("HEAD", commit + "\n");
+        GitMetadata metadata = GitDirectoryReader.readMetadata(gitDir);
+        assertEquals(commit, metadata.getRef(), "A detached HEAD should be reported by its commit.");
+        assertMatchesJGit(metadata);
+    }
+
+    @Test
+    public void test_readMetadata_linkedWorktree() throws IOException {
+        write("refs/heads/feature", commit + "\n");
+        write("worktrees/feature/HEAD", "ref: refs/heads/feature\n");
+        write("worktrees/feature/commondir", "../..\n");
+        File worktree = Files.createDirectories(tempDir.resolve("feature-worktree")).toFile();
+        write("worktrees/feature/gitdir", new File(worktree, ".git").getAbsolutePath() + "\n");
+        Files.write(new File(worktree, ".git").toPath(), ("gitdir: " + new File(gitDir, "worktrees/feature").getAbsolutePath() + "\n").getBytes(StandardCharsets.UTF_8));
+
+        File worktreeGitDir = GitDirectoryReader.findGitDir(worktree);
+        assertEquals(new File(gitDir, "worktrees/feature").getAbsoluteFile(), worktreeGitDir, "Git directory did not match.");
+        GitMetadata metadata = GitDirectoryReader.readMetadata(worktreeGitDir);
+        assertEquals("refs/heads/feature", metadata.getRef(), "Ref did not match.");
+        assertEquals(commit, metadata.getCommit(), "Commit did not match.");
+        assertEquals("https://github.com/example/app.git", metadata.getRemoteOriginUrl(), "Remote origin URL should be read from the common Git directory.");
+    }
+
+    @Test
+    public void test_readMetadata_unbornBranch() throws IOException {
+        write("HEAD", "ref: refs/heads/unborn\n");
+        assertNull(GitDirectoryReader.readMetadata(gitDir), "An unborn branch should be left to JGit.");
+    }
+
+    @Test
+    public void test_readMetadata_configInclude() throws IOException {
+        appendConfig("[include]\n\tpath = other.config\n");
+        assertNull(GitDirectoryReader.readMetadata(gitDir), "A config with includes should be left to JGit.");
+    }
+
+    @Test
+    public void test_readMetadata_extensions() throws IOException {
+        appendConfig("[extensions]\n\tobjectFormat = sha256\n");
+        assertNull(GitDirectoryReader.readMetadata(gitDir), "A repository with format extensions should be left to JGit.");
+    }
+
+    @Test
+    public void test_readMetadata_reftable() throws IOException {
+        Files.createDirectories(gitDir.toPath().resolve("reftable"));
+        assertNull(GitDirectoryReader.readMetadata(gitDir), "A reftable repository should be left to JGit.");
+    }
+
+    private void assertMatchesJGit(GitMetadata metadata) throws IOException {
+        assertNotNull(metadata, "Metadata should have been read without JGit.");
+        try (Repository repository = new FileRepositoryBuilder().setGitDir(gitDir).build()) {
+            assertEquals(repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url"), metadata.getRemoteOriginUrl(), "Remote origin URL did not match JGit.");
+            assertEquals(repository.getFullBranch(), metadata.getRef(), "Ref did not match JGit.");
+            assertEquals(repository.resolve("HEAD").getName(), metadata.getCommit(), "Commit did not match JGit.");
+        }
+    }
+
+    private void appendConfig(String content) throws IOException {
+        Files.write(gitDir.toPath().resolve("config"), content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = gitDir.toPath().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+
+public class GitRepositoryServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_getMetadata() throws Exception {
+        File root = tempDir.toFile();
+        String commit = initRepository(root, "https://github.com/example/root.git");
+        File module = Files.createDirectories(tempDir.resolve("module").resolve("src")).toFile();
+
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            GitMetadata metadata = service.getMetadata(module);
+            assertEquals(new File(root, ".git").getAbsoluteFile(), metadata.getGitDir(), "Git directory did not match.");
+            assertEquals("https://github.com/example/root.git", metadata.getRemoteOriginUrl(), "Remote origin URL did not match.");
+            assertEquals("refs/heads/main", metadata.getRef(), "Ref did not match.");
+            assertEquals(commit, metadata.getCommit(), "Commit did not match.");
+        }
+    }
+
+    @Test
+    public void test_getMetadata_cachedPerRepository() throws Exception {
+        initRepository(tempDir.toFile(), "https://github.com/example/root.git");
+        File moduleA = Files.createDirectories(tempDir.resolve("a")).toFile();
+        File moduleB = Files.createDirectories(tempDir.resolve("b")).toFile();
+
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            assertSame(service.getMetadata(moduleA), service.getMetadata(moduleB), "Modules of one repository should share its metadata.");
+            assertSame(service.getRepository(moduleA), service.getRepository(moduleB), "Modules of one repository should share the open repository.");
+        }
+    }
+
+    @Test
+    public void test_getMetadata_nestedRepository() throws Exception {
+        initRepository(tempDir.toFile(), "https://github.com/example/root.git");
+        File nested = Files.createDirectories(tempDir.resolve("nested")).toFile();
+        String nestedCommit = initRepository(nested, "https://github.com/example/nested.git");
+
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            GitMetadata rootMetadata = service.getMetadata(tempDir.toFile());
+            GitMetadata nestedMetadata = service.getMetadata(nested);
+            assertNotSame(rootMetadata, nestedMetadata, "A nested repository should have its own metadata.");
+            assertEquals("https://github.com/example/nested.git", nestedMetadata.getRemoteOriginUrl(), "Remote origin URL did not match.");
+            assertEquals(nestedCommit, nestedMetadata.getCommit(), "Commit did not match.");
+        }
+    }
+
+    @Test
+    public void test_getMetadata_unbornHead() throws Exception {
+        Git.init().setDirectory(tempDir.toFile()).setInitialBranch("main").call().close();
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            assertThrows(GitRepositoryException.class, () -> service.getMetadata(tempDir.toFile()), "A repository without commits should have no metadata.");
+        }
+    }
+
+    @Test
+    public void test_close_sessionScoped() throws Exception {
+        initRepository(tempDir.toFile(), "https://github.com/example/root.git");
+        MavenSession session = mock(MavenSession.class);
+
+        GitRepositoryService service = GitRepositoryService.get(session);
+        assertSame(service, GitRepositoryService.get(session), "The service should be shared within the session.");
+        GitMetadata metadata = service.getMetadata(tempDir.toFile());
+
+        GitRepositoryService.close(session);
+        GitRepositoryService reopened = GitRepositoryService.get(session);
+        assertNotSame(service, reopened, "A closed service should be replaced.");
+        assertEquals(metadata.getCommit(), reopened.getMetadata(tempDir.toFile()).getCommit(), "Commit did not match after reopening.");
+        GitRepositoryService.close(session);
+    }
+
+    @Test
+    public void test_isWorkingTreeDirty_checkedOncePerSession() throws Exception {
+        File module = Files.createDirectories(tempDir.resolve("module")).toFile();
+        Path source = Files.write(module.toPath().resolve("App.java"), "class App {}".getBytes(StandardCharsets.UTF_8));
+        try (Git git = Git.init().setDirectory(tempDir.toFile()).setInitialBranch("main").call()) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").setAuthor("Test", "test@example.com").setCommitter("Test", "test@example.com").setSign(false).call();
+        }
+
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            GitMetadata metadata = service.getMetadata(module);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Boolean>> checks = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    checks.add(executor.submit(() -> service.isWorkingTreeDirty(metadata, Collections.<File> emptyList())));
+                }
+                for (Future<Boolean> check : checks) {
+                    assertFalse(check.get(), "A freshly committed working tree should be clean.");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(1, service.getWorkingTreeCheckCount(), "Concurrent modules should have shared one check of the working tree.");
+
+            Files.write(source, "class App { int x; }".getBytes(StandardCharsets.UTF_8));
+            assertFalse(service.isWorkingTreeDirty(metadata, Collections.<File> emptyList()), "The first check of the session should have been reused.");
+            assertTrue(service.isWorkingTreeDirty(metadata, Collections.singletonList(module)), "A check of other directories should have been run.");
+            assertEquals(2, service.getWorkingTreeCheckCount(), "Each set of directories should have been checked once.");
+        }
+        try (GitRepositoryService service = new GitRepositoryService()) {
+            assertTrue(service.isWorkingTreeDirty(service.getMetadata(module), Collections.<File> emptyList()), "A new session should have checked the working tree again.");
+        }
+    }
+
+    private String initRepository(File directory, String remoteOriginUrl) throws GitAPIException, IOException {
+        try (Git git = Git.init().setDirectory(directory).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString("remote", "origin", "url", remoteOriginUrl);
+            config.save();
+            RevCommit commit = git.commit().setMessage("Initial commit").setAllowEmpty(true).setAuthor("Test", "test@example.com").setCommitter("Test", "test@example.com").setSign(false).call();
+            return commit.getName();
+        }
+    }
+
+}
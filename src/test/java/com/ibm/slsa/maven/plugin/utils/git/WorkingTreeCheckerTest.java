@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WorkingTreeCheckerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Git git;
+    private WorkingTreeChecker checker;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        git = Git.init().setDirectory(tempDir.toFile()).setInitialBranch("main").call();
+        write("a/App.java", "class App {}");
+        write("b/Lib.java", "class Lib {}");
+        git.add().addFilepattern(".").call();
+        git.commit().setMessage("Initial commit").setAuthor("Test", "test@example.com").setCommitter("Test", "test@example.com").setSign(false).call();
+        checker = new WorkingTreeChecker(git.getRepository());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        git.close();
+    }
+
+    @Test
+    public void test_isDirty_clean() throws IOException {
+        assertFalse(checker.isDirty(Collections.<String> emptyList()), "A freshly committed working tree should be clean.");
+    }
+
+    @Test
+    public void test_isDirty_modified() throws IOException {
+        write("b/Lib.java", "class Lib { int x; }");
+        assertTrue(checker.isDirty(Collections.<String> emptyList()), "A modified file should make the working tree dirty.");
+    }
+
+    @Test
+    public void test_isDirty_deleted() throws IOException {
+        Files.delete(tempDir.resolve("a/App.java"));
+        assertTrue(checker.isDirty(Collections.<String> emptyList()), "A deleted file should make the working tree dirty.");
+    }
+
+    @Test
+    public void test_isDirty_staged() throws Exception {
+        write("a/App.java", "class App { int x; }");
+        git.add().addFilepattern("a/App.java").call();
+        assertTrue(checker.isDirty(Collections.<String> emptyList()), "A staged change should make the working tree dirty.");
+    }
+
+    @Test
+    public void test_isDirty_untracked() throws IOException {
+        write("a/Untracked.java", "class Untracked {}");
+        assertFalse(checker.isDirty(Collections.<String> emptyList()), "Untracked files should be ignored.");
+    }
+
+    @Test
+    public void test_isDirty_racilyClean() throws IOException {
+        DirCacheEntry entry = git.getRepository().readDirCache().getEntry("a/App.java");
+        FileTime recorded = FileTime.from(entry.getLastModifiedInstant());
+        // Same size and last modified time as recorded in the index, so only the content differs
+        write("a/App.java", "class Abc {}");
+        Files.setLastModifiedTime(tempDir.resolve("a/App.java"), recorded);
+        // The index was written in the same instant as the file was last modified, so its stat data cannot be trusted
+        Files.setLastModifiedTime(git.getRepository().getIndexFile().toPath(), recorded);
+
+        assertTrue(checker.isDirty(Collections.<String> emptyList()), "A racily clean entry should have its content compared.");
+    }
+
+    @Test
+    public void test_isDirty_touched() throws IOException {
+        Files.setLastModifiedTime(tempDir.resolve("a/App.java"), FileTime.fromMillis(System.currentTimeMillis() + 60000));
+        assertFalse(checker.isDirty(Collections.<String> emptyList()), "A file with only a new last modified time should be clean.");
+    }
+
+    @Test
+    public void test_isDirty_limitedToPaths() throws IOException {
+        write("b/Lib.java", "class Lib { int x; }");
+        assertFalse(checker.isDirty(Arrays.asList("a")), "Changes outside the paths should be ignored.");
+        assertTrue(checker.isDirty(Arrays.asList("a", "b")), "Changes inside the paths should be found.");
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = tempDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
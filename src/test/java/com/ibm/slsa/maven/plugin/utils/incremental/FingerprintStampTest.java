@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FingerprintStampTest {
+
+    private static final String FINGERPRINT = "fingerprint";
+
+    @TempDir
+    Path tempDir;
+
+    private File outputFile;
+    private FingerprintStamp stamp;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        outputFile = Files.write(tempDir.resolve("slsa_provenance.json"), "{}".getBytes("UTF-8")).toFile();
+        stamp = new FingerprintStamp(tempDir.resolve("cache").resolve("provenance.stamp").toFile());
+    }
+
+    @Test
+    public void test_isUpToDate_noStampFile() {
+        assertFalse(stamp.isUpToDate(FINGERPRINT, outputFile), "Output should not be up to date without a stamp file.");
+    }
+
+    @Test
+    public void test_isUpToDate_recorded() throws IOException {
+        stamp.record(FINGERPRINT, outputFile);
+        assertTrue(stamp.isUpToDate(FINGERPRINT, outputFile), "Output should be up to date.");
+        assertTrue(new FingerprintStamp(stamp.getStampFile()).isUpToDate(FINGERPRINT, outputFile), "A new instance should read the recorded stamp.");
+    }
+
+    @Test
+    public void test_isUpToDate_inputsChanged() throws IOException {
+        stamp.record(FINGERPRINT, outputFile);
+        assertFalse(stamp.isUpToDate("other", outputFile), "Output should not be up to date when the inputs changed.");
+    }
+
+    @Test
+    public void test_isUpToDate_outputChanged() throws IOException {
+        stamp.record(FINGERPRINT, outputFile);
+        Files.setLastModifiedTime(outputFile.toPath(), FileTime.fromMillis(1000000000000L));
+        assertFalse(stamp.isUpToDate(FINGERPRINT, outputFile), "Output should not be up to date when the output file changed.");
+
+        stamp.record(FINGERPRINT, outputFile);
+        Files.delete(outputFile.toPath());
+        assertFalse(stamp.isUpToDate(FINGERPRINT, outputFile), "Output should not be up to date when the output file was deleted.");
+    }
+
+    @Test
+    public void test_isUpToDate_corruptStampFile() throws IOException {
+        stamp.record(FINGERPRINT, outputFile);
+        Files.write(stamp.getStampFile().toPath(), "inputs=\\u00zz".getBytes("UTF-8"));
+        assertFalse(stamp.isUpToDate(FINGERPRINT, outputFile), "Output should not be up to date with a corrupt stamp file.");
+    }
+
+    @Test
+    public void test_forOutput_sharedDirectory() throws IOException {
+        File cacheDirectory = tempDir.resolve("cache").toFile();
+        File otherOutputFile = Files.write(Files.createDirectories(tempDir.resolve("module")).resolve("slsa_provenance.json"), "{}".getBytes("UTF-8")).toFile();
+        FingerprintStamp first = FingerprintStamp.forOutput(cacheDirectory, outputFile);
+        FingerprintStamp second = FingerprintStamp.forOutput(cacheDirectory, otherOutputFile);
+        assertNotEquals(first.getStampFile(), second.getStampFile(), "Outputs with the same name should have their own stamps.");
+        assertEquals(first.getStampFile(), FingerprintStamp.forOutput(cacheDirectory, outputFile).getStampFile(), "The stamp of an output should not change.");
+
+        first.record(FINGERPRINT, outputFile);
+        second.record("other", otherOutputFile);
+        assertTrue(first.isUpToDate(FINGERPRINT, outputFile), "Recording the stamp of another output should not replace this one.");
+        assertTrue(second.isUpToDate("other", otherOutputFile), "Output should be up to date.");
+    }
+
+    @Test
+    public void test_record_missingOutputFile() throws IOException {
+        Files.delete(outputFile.toPath());
+        assertThrows(IOException.class, () -> stamp.record(FINGERPRINT, outputFile), "Recording a missing output file should fail.");
+    }
+
+}
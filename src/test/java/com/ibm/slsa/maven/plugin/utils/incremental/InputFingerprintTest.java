@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InputFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_getValue_orderIndependent() {
+        String first = new InputFingerprint().put("a", "1").put("b", "2").getValue();
+        String second = new InputFingerprint().put("b", "2").put("a", "1").getValue();
+        assertEquals(first, second, "Fingerprint should not depend on the order of the inputs.");
+    }
+
+    @Test
+    public void test_getValue_distinctInputs() {
+        assertNotEquals(new InputFingerprint().put("a", "1").getValue(), new InputFingerprint().put("a", "2").getValue(), "Different values should have different fingerprints.");
+        assertNotEquals(new InputFingerprint().put("ab", "c").getValue(), new InputFingerprint().put("a", "bc").getValue(), "Names and values should not run into each other.");
+        assertNotEquals(new InputFingerprint().put("a", "").getValue(), new InputFingerprint().put("a", null).getValue(), "A null value should differ from an empty value.");
+        assertNotEquals(new InputFingerprint().put("a", "1").getValue(), new InputFingerprint().put("a", "1").put("b", "2").getValue(), "An added input should change the fingerprint.");
+    }
+
+    @Test
+    public void test_putAll() {
+        Properties properties = new Properties();
+        properties.setProperty("skipTests", "true");
+        String expected = new InputFingerprint().put("userProperty.skipTests", "true").getValue();
+        assertEquals(expected, new InputFingerprint().putAll("userProperty.", properties).getValue(), "Fingerprint did not match.");
+    }
+
+    @Test
+    public void test_putFile() throws IOException {
+        File file = Files.write(tempDir.resolve("app.jar"), new byte[] { 1, 2, 3 }).toFile();
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(1000000000000L));
+        String original = new InputFingerprint().putFile("subject", file).getValue();
+        assertEquals(original, new InputFingerprint().putFile("subject", file).getValue(), "An unchanged file should have the same fingerprint.");
+
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(1000000001000L));
+        String touched = new InputFingerprint().putFile("subject", file).getValue();
+        assertNotEquals(original, touched, "A modified file should change the fingerprint.");
+
+        Files.write(file.toPath(), new byte[] { 1, 2, 3, 4 });
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(1000000001000L));
+        assertNotEquals(touched, new InputFingerprint().putFile("subject", file).getValue(), "A resized file should change the fingerprint.");
+
+        Files.delete(file.toPath());
+        assertEquals(new InputFingerprint().put("subject", InputFingerprint.MISSING_FILE).getValue(), new InputFingerprint().putFile("subject", file).getValue(), "A missing file should be recorded as missing.");
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AtomicFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_commit_newFile() throws IOException {
+        Path target = tempDir.resolve("provenance.json");
+
+        assertTrue(write(target, "{\"caf\u00e9\":1}"), "A new file should have been written.");
+        assertEquals("{\"caf\u00e9\":1}", new String(Files.readAllBytes(target), StandardCharsets.UTF_8), "File content did not match.");
+        assertOnlyTargetFileExists(target);
+    }
+
+    @Test
+    public void test_commit_unchangedContent() throws IOException {
+        Path target = tempDir.resolve("provenance.json");
+        write(target, "{\"a\":1}");
+        FileTime lastModified = FileTime.fromMillis(1000000000000L);
+        Files.setLastModifiedTime(target, lastModified);
+
+        assertFalse(write(target, "{\"a\":1}"), "An unchanged file should not have been written.");
+        assertEquals(lastModified, Files.getLastModifiedTime(target), "An unchanged file should keep its last modified time.");
+        assertOnlyTargetFileExists(target);
+    }
+
+    @Test
+    public void test_commit_changedContent() throws IOException {
+        Path target = tempDir.resolve("provenance.json");
+        write(target, "{\"a\":1}");
+
+        assertTrue(write(target, "{\"a\":2}"), "A changed file should have been written.");
+        assertEquals("{\"a\":2}", new String(Files.readAllBytes(target), StandardCharsets.UTF_8), "File content did not match.");
+        assertOnlyTargetFileExists(target);
+    }
+
+    @Test
+    public void test_commit_writerClosed() throws IOException {
+        Path target = tempDir.resolve("provenance.json");
+
+        try (AtomicFileWriter file = new AtomicFileWriter(target)) {
+            file.getWriter().write("{\"a\":1}");
+            file.getWriter().close();
+            assertTrue(file.commit(), "A new file should have been written after the writer was closed.");
+        }
+        assertEquals("{\"a\":1}", new String(Files.readAllBytes(target), StandardCharsets.UTF_8), "File content did not match.");
+        assertOnlyTargetFileExists(target);
+    }
+
+    @Test
+    public void test_close_withoutCommit() throws IOException {
+        Path target = tempDir.resolve("provenance.json");
+        write(target, "{\"a\":1}");
+
+        try (AtomicFileWriter file = new AtomicFileWriter(target)) {
+            file.getWriter().write("{\"a\":");
+        }
+        assertEquals("{\"a\":1}", new String(Files.readAllBytes(target), StandardCharsets.UTF_8), "An uncommitted write should not change the file.");
+        assertOnlyTargetFileExists(target);
+    }
+
+    @Test
+    public void test_commit_failedMove() throws IOException {
+        // A non-empty directory cannot be replaced by the temporary file
+        Path target = Files.createDirectory(tempDir.resolve("provenance.json"));
+        Files.write(target.resolve("other.json"), new byte[1]);
+
+        assertThrows(IOException.class, () -> write(target, "{\"a\":1}"), "Replacing a non-empty directory should have failed.");
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count(), "The temporary file of a failed commit should have been removed.");
+        }
+    }
+
+    private boolean write(Path target, String content) throws IOException {
+        try (AtomicFileWriter file = new AtomicFileWriter(target)) {
+            file.getWriter().write(content);
+            return file.commit();
+        }
+    }
+
+    private void assertOnlyTargetFileExists(Path target) throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count(), "Temporary files should have been removed.");
+        }
+        assertTrue(Files.isRegularFile(target), "The target file should exist.");
+    }
+
+}
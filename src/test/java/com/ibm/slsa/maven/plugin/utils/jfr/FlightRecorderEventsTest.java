@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestAlgorithm;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
+import com.ibm.slsa.maven.plugin.utils.git.GitMetadata;
+import com.ibm.slsa.maven.plugin.utils.git.GitUtils;
+
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void test_fileDigestEvent() throws Exception {
+        Path file = Files.write(tempDir.resolve("app.war"), new byte[10000]);
+        FileDigester digester = new FileDigester(Arrays.asList(DigestAlgorithm.SHA256, DigestAlgorithm.SHA512));
+
+        List<RecordedEvent> events = record(FileDigestEvent.class, () -> digester.digest(file.toFile()));
+        assertEquals(1, events.size(), "One event should have been recorded for the file.");
+        RecordedEvent event = events.get(0);
+        assertEquals(file.toString(), event.getString("path"), "Path did not match.");
+        assertEquals(10000, event.getLong("size"), "Size did not match.");
+        assertEquals("sha256,sha512", event.getString("algorithms"), "Algorithms did not match.");
+    }
+
+    @Test
+    public void test_gitEvents() throws Exception {
+        RevCommit commit;
+        try (Git git = Git.init().setDirectory(tempDir.toFile()).setInitialBranch("main").call()) {
+            Files.write(tempDir.resolve("pom.xml"), new byte[0]);
+            git.add().addFilepattern(".").call();
+            commit = git.commit().setMessage("Initial commit").setAuthor("Test", "test@example.com").setCommitter("Test", "test@example.com").setSign(false).call();
+        }
+        GitUtils gitUtils = new GitUtils(null, tempDir.toFile());
+
+        List<RecordedEvent> metadataEvents = record(GitMetadataEvent.class, gitUtils::getHead);
+        assertEquals(1, metadataEvents.size(), "One event should have been recorded for the lookup.");
+        assertEquals(tempDir.toFile().getPath(), metadataEvents.get(0).getString("directory"), "Directory did not match.");
+        assertEquals(commit.getName(), metadataEvents.get(0).getString("commitId"), "Commit did not match.");
+
+        GitMetadata repository = gitUtils.getGitRepositories(Collections.<File> emptyList()).get(0);
+        List<RecordedEvent> checkEvents = record(WorkingTreeCheckEvent.class, () -> gitUtils.isWorkingTreeDirty(repository, Collections.<File> emptyList()));
+        assertEquals(1, checkEvents.size(), "One event should have been recorded for the check.");
+        assertFalse(checkEvents.get(0).getBoolean("dirty"), "A freshly committed working tree should be clean.");
+        assertFalse(checkEvents.get(0).getBoolean("limited"), "The whole working tree should have been checked.");
+    }
+
+    private List<RecordedEvent> record(Class<? extends Event> eventType, Action action) throws Exception {
+        Path recordingFile = tempDir.resolve("recording-" + System.nanoTime() + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventType).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        // Settings events are recorded along with the enabled event
+        String name = eventType.getAnnotation(Name.class).value();
+        List<RecordedEvent> events = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+            if (event.getEventType().getName().equals(name)) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+public class CanonicalJsonWriterTest {
+
+    @Test
+    public void test_toCanonicalString_rfc8785Example() {
+        // Example from section 3.2.2 of RFC 8785
+        String json = "{\"numbers\": [333333333.33333329, 1E30, 4.50, 2e-3, 0.000000000000000000000000001],"
+                + " \"string\": \"\\u20ac$\\u000F\\u000aA'\\u0042\\u0022\\u005c\\\\\\\"\\/\","
+                + " \"literals\": [null, true, false]}";
+        String expected = "{\"literals\":[null,true,false],\"numbers\":[333333333.3333333,1e+30,4.5,0.002,1e-27],"
+                + "\"string\":\"\u20ac$\\u000f\\nA'B\\\"\\\\\\\\\\\"/\"}";
+
+        assertEquals(expected, CanonicalJsonWriter.toCanonicalString(read(json)), "Canonical text did not match.");
+    }
+
+    @Test
+    public void test_toCanonicalString_sortsByUtf16CodeUnits() {
+        // Example from section 3.2.3 of RFC 8785
+        String json = "{\"\\u20ac\": \"Euro Sign\", \"\\r\": \"Carriage Return\", \"\\ufb33\": \"Hebrew Letter Dalet With Dagesh\","
+                + " \"1\": \"One\", \"\\ud83d\\ude00\": \"Emoji: Grinning Face\", \"\\u0080\": \"Control\","
+                + " \"\\u00f6\": \"Latin Small Letter O With Diaeresis\"}";
+        String expected = "{\"\\r\":\"Carriage Return\",\"1\":\"One\",\"\u0080\":\"Control\",\"\u00f6\":\"Latin Small Letter O With Diaeresis\","
+                + "\"\u20ac\":\"Euro Sign\",\"\ud83d\ude00\":\"Emoji: Grinning Face\",\"\ufb33\":\"Hebrew Letter Dalet With Dagesh\"}";
+
+        assertEquals(expected, CanonicalJsonWriter.toCanonicalString(read(json)), "Members were not sorted by UTF-16 code units.");
+    }
+
+    @Test
+    public void test_toCanonicalString_nestedValues() {
+        String json = "{\"b\": [{\"z\": 1, \"y\": {\"d\": \"x\", \"c\": []}}], \"a\": {}}";
+
+        assertEquals("{\"a\":{},\"b\":[{\"y\":{\"c\":[],\"d\":\"x\"},\"z\":1}]}", CanonicalJsonWriter.toCanonicalString(read(json)), "Canonical text did not match.");
+    }
+
+    @Test
+    public void test_toCanonicalString_unpairedSurrogate() {
+        JsonValue value = Json.createValue("broken \ud83d text");
+
+        assertThrows(IllegalArgumentException.class, () -> CanonicalJsonWriter.toCanonicalString(value), "Should not have canonicalized an unpaired surrogate.");
+    }
+
+    @Test
+    public void test_toEcmaScriptNumber() {
+        assertEquals("0", CanonicalJsonWriter.toEcmaScriptNumber(-0.0), "Negative zero did not match.");
+        assertEquals("-1.5", CanonicalJsonWriter.toEcmaScriptNumber(-1.5), "Negative number did not match.");
+        assertEquals("100", CanonicalJsonWriter.toEcmaScriptNumber(100), "Integer did not match.");
+        assertEquals("1e+21", CanonicalJsonWriter.toEcmaScriptNumber(1e21), "Large number did not match.");
+        assertEquals("123456789012345680000", CanonicalJsonWriter.toEcmaScriptNumber(1.2345678901234568E20), "Largest number without an exponent did not match.");
+        assertEquals("0.000001", CanonicalJsonWriter.toEcmaScriptNumber(1e-6), "Smallest number without an exponent did not match.");
+        assertEquals("1.5e-7", CanonicalJsonWriter.toEcmaScriptNumber(1.5e-7), "Small number did not match.");
+        assertEquals("9007199254740992", CanonicalJsonWriter.toEcmaScriptNumber(9007199254740992.0), "Largest safe integer did not match.");
+    }
+
+    @Test
+    public void test_toEcmaScriptNumber_rfc8785Vectors() {
+        // Sample numbers from appendix B of RFC 8785, as IEEE 754 bit patterns
+        String[][] vectors = {
+                { "0000000000000000", "0" },
+                { "8000000000000000", "0" },
+                { "0000000000000001", "5e-324" },
+                { "8000000000000001", "-5e-324" },
+                { "7fefffffffffffff", "1.7976931348623157e+308" },
+                { "ffefffffffffffff", "-1.7976931348623157e+308" },
+                { "4340000000000000", "9007199254740992" },
+                { "c340000000000000", "-9007199254740992" },
+                { "4430000000000000", "295147905179352830000" },
+                { "44b52d02c7e14af5", "9.999999999999997e+22" },
+                { "44b52d02c7e14af6", "1e+23" },
+                { "44b52d02c7e14af7", "1.0000000000000001e+23" },
+                { "444b1ae4d6e2ef4e", "999999999999999700000" },
+                { "444b1ae4d6e2ef4f", "999999999999999900000" },
+                { "444b1ae4d6e2ef50", "1e+21" },
+                { "3eb0c6f7a0b5ed8c", "9.999999999999997e-7" },
+                { "3eb0c6f7a0b5ed8d", "0.000001" },
+                { "41b3de4355555553", "333333333.3333332" },
+                { "41b3de4355555554", "333333333.33333325" },
+                { "41b3de4355555555", "333333333.3333333" },
+                { "41b3de4355555556", "333333333.3333334" },
+                { "41b3de4355555557", "333333333.33333343" },
+                { "becbf647612f3696", "-0.0000033333333333333333" },
+                { "43143ff3c1cb0959", "1424953923781206.2" } };
+        for (String[] vector : vectors) {
+            double value = Double.longBitsToDouble(Long.parseUnsignedLong(vector[0], 16));
+
+            assertEquals(vector[1], CanonicalJsonWriter.toEcmaScriptNumber(value), "Number with the bits " + vector[0] + " did not match.");
+        }
+    }
+
+    @Test
+    public void test_toEcmaScriptNumber_notFinite() {
+        // NaN and Infinity from appendix B of RFC 8785
+        assertThrows(IllegalArgumentException.class, () -> CanonicalJsonWriter.toEcmaScriptNumber(Double.longBitsToDouble(0x7fffffffffffffffL)), "Should not have canonicalized NaN.");
+        assertThrows(IllegalArgumentException.class, () -> CanonicalJsonWriter.toEcmaScriptNumber(Double.longBitsToDouble(0x7ff0000000000000L)), "Should not have canonicalized Infinity.");
+    }
+
+    @Test
+    public void test_toEcmaScriptNumber_shortestDigits() {
+        // Numbers for which Double.toString() gives more digits than needed before Java 19
+        assertEquals("2e+23", CanonicalJsonWriter.toEcmaScriptNumber(2e23), "Number did not match.");
+        assertEquals("8.41e+21", CanonicalJsonWriter.toEcmaScriptNumber(8.41e21), "Number did not match.");
+        assertEquals("5e-324", CanonicalJsonWriter.toEcmaScriptNumber(Double.MIN_VALUE), "Smallest number did not match.");
+    }
+
+    private JsonValue read(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readValue();
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class OutputFormatTest {
+
+    @Test
+    public void test_fromName() {
+        assertEquals(OutputFormat.PRETTY, OutputFormat.fromName("pretty"), "Format did not match.");
+        assertEquals(OutputFormat.COMPACT, OutputFormat.fromName(" Compact "), "Format should have been matched ignoring case and whitespace.");
+        assertEquals(OutputFormat.CANONICAL, OutputFormat.fromName("CANONICAL"), "Format should have been matched ignoring case.");
+    }
+
+    @Test
+    public void test_fromName_unsupported() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> OutputFormat.fromName("yaml"), "Should not have found an unsupported format.");
+        assertEquals("Unsupported output format \"yaml\". Supported formats are: pretty, compact, canonical", e.getMessage(), "Exception message did not match.");
+    }
+
+}
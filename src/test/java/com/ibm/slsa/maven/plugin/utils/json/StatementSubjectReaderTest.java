@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.slsa.maven.plugin.utils.json.StatementSubjectReader.Subject;
+
+import jakarta.json.JsonException;
+
+public class StatementSubjectReaderTest {
+
+    private static final String TYPE = "\"_type\":\"https://in-toto.io/Statement/v1\"";
+    private static final String PREDICATE = "\"predicateType\":\"https://slsa.dev/provenance/v1\",\"predicate\":{\"buildDefinition\":{\"resolvedDependencies\":[{\"name\":\"a\",\"digest\":{\"sha256\":\"00\"}},[1,[2]]]}}";
+    private static final String SUBJECT = "\"subject\":[{\"name\":\"app.war\",\"uri\":\"file:app.war\",\"digest\":{\"sha256\":\"abc\",\"sha512\":\"def\"},\"annotations\":{\"a\":{\"b\":[1]}}},{\"digest\":{\"sha256\":\"123\"},\"name\":\"app-sources.jar\"}]";
+
+    @Test
+    public void test_read() {
+        List<Subject> subjects = read("{" + TYPE + "," + SUBJECT + "," + PREDICATE + "}");
+
+        assertEquals(2, subjects.size(), "Number of subjects did not match.");
+        assertEquals("app.war", subjects.get(0).getName(), "Name of the first subject did not match.");
+        assertEquals("abc", subjects.get(0).getDigests().get("sha256"), "SHA-256 digest did not match.");
+        assertEquals("def", subjects.get(0).getDigests().get("sha512"), "SHA-512 digest did not match.");
+        assertEquals("app-sources.jar", subjects.get(1).getName(), "Name of the second subject did not match.");
+        assertEquals(1, subjects.get(1).getDigests().size(), "Number of digests of the second subject did not match.");
+    }
+
+    @Test
+    public void test_read_predicateBeforeSubject() {
+        // The canonical format sorts the members, so the predicate has to be skipped to reach the subjects
+        List<Subject> subjects = read("{" + TYPE + "," + PREDICATE + "," + SUBJECT + "}");
+
+        assertEquals(2, subjects.size(), "Number of subjects did not match.");
+        assertEquals("app-sources.jar", subjects.get(1).getName(), "Name of the second subject did not match.");
+    }
+
+    @Test
+    public void test_read_stopsAfterSubjects() {
+        // Nothing after the subjects is parsed, so a truncated predicate goes unnoticed
+        List<Subject> subjects = read("{" + TYPE + "," + SUBJECT + ",\"predicate\":{\"buildDefinition\":[");
+
+        assertEquals(2, subjects.size(), "Number of subjects did not match.");
+    }
+
+    @Test
+    public void test_read_notAStatement() {
+        assertThrows(JsonException.class, () -> read("{\"_type\":\"https://example.com/Other\"," + SUBJECT + "}"), "A different type should have been rejected.");
+        assertThrows(JsonException.class, () -> read("{" + SUBJECT + "}"), "A missing type should have been rejected.");
+        assertThrows(JsonException.class, () -> read("[" + TYPE + "]"), "An array should have been rejected.");
+    }
+
+    @Test
+    public void test_read_invalidSubjects() {
+        assertThrows(JsonException.class, () -> read("{" + TYPE + "," + PREDICATE + "}"), "Missing subjects should have been rejected.");
+        assertThrows(JsonException.class, () -> read("{" + TYPE + ",\"subject\":[\"app.war\"]}"), "A subject that is not an object should have been rejected.");
+        assertThrows(JsonException.class, () -> read("{" + TYPE + ",\"subject\":[{\"digest\":{\"sha256\":\"abc\"}}]}"), "A subject without a name should have been rejected.");
+    }
+
+    private static List<Subject> read(String json) {
+        return new StatementSubjectReader(new StringReader(json)).read();
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.slsa.BuildDefinition;
+import com.ibm.slsa.BuildMetadata;
+import com.ibm.slsa.Builder;
+import com.ibm.slsa.RunDetails;
+import com.ibm.slsa.SlsaPredicate;
+import com.ibm.slsa.test.CommonTestUtils;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class StatementWriterTest {
+
+    private static final String BUILDER_ID = "https://localhost/slsa/v1";
+    private static final String BUILD_TYPE = "https://localhost/slsa/v1/buildType";
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_write() {
+        ResourceDescriptor war = createSubject("app.war", "3b2fc1b5d3d3c6aa1c8d3ad3a4b30e3d4f6f35c7f18b0b1b82e16a29dd5d1f7e");
+        ResourceDescriptor sources = createSubject("app-sources.jar", "7a1b3f2e0c6d5e4b3a2918f7e6d5c4b3a29180f7e6d5c4b3a29180f7e6d5c4b3");
+        JsonArray resolvedDependencies = Json.createArrayBuilder().add(Json.createObjectBuilder().add(ResourceDescriptor.KEY_NAME, "com.example:code-api:1.0.0")).build();
+        BuildDefinition buildDefinition = new BuildDefinition.Builder(BUILD_TYPE, Json.createObjectBuilder().add("ref", "refs/heads/main").build())
+                .resolvedDependencies(resolvedDependencies).build();
+        RunDetails runDetails = new RunDetails.Builder(new Builder.BuilderBuilder(BUILDER_ID).build())
+                .metadata(new BuildMetadata.Builder().startedOn("2023-01-01T00:00:00Z").build()).build();
+        SlsaPredicate predicate = new SlsaPredicate(buildDefinition, runDetails);
+
+        JsonObject statement = testUtils.writeToJsonObject(generator -> new StatementWriter(generator).write(Arrays.asList(war, sources), predicate));
+
+        testUtils.assertJsonOnlyContainsKeys("Statement", statement, Statement.KEY_TYPE, Statement.KEY_SUBJECT, Statement.KEY_PREDICATE_TYPE, Statement.KEY_PREDICATE);
+        testUtils.assertJsonStringEntryMatches("Statement", statement, Statement.KEY_TYPE, Statement.TYPE_IN_TOTO_STATEMENT);
+        assertEquals(Json.createArrayBuilder().add(war.toJson()).add(sources.toJson()).build(), statement.getJsonArray(Statement.KEY_SUBJECT), "Subject did not match.");
+        testUtils.assertJsonStringEntryMatches("Statement", statement, Statement.KEY_PREDICATE_TYPE, SlsaPredicate.PREDICATE_TYPE_SLSA_PROVENANCE_V1);
+        testUtils.assertJsonEntryMatches("Statement", statement, Statement.KEY_PREDICATE, predicate.getPredicateParameters());
+    }
+
+    private ResourceDescriptor createSubject(String name, String sha256) {
+        DigestSet digestSet = new DigestSet();
+        digestSet.put(DigestSet.ALG_SHA256, sha256);
+        return new ResourceDescriptor.Builder().name(name).digest(digestSet).build();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ArtifactCoordinateIndexTest {
+
+    @Test
+    public void test_add_duplicateCoordinates() {
+        ArtifactCoordinateIndex index = new ArtifactCoordinateIndex();
+        assertTrue(index.add("com.example", "code-api", "1.0.0", null, "jar", "compile"), "Should have added new coordinates.");
+        assertFalse(index.add(new String("com.example"), "code-api", "1.0.0", null, "jar", "compile"), "Should not have added the same coordinates twice.");
+        assertEquals(1, index.size(), "Number of coordinates did not match.");
+    }
+
+    @Test
+    public void test_add_differentComponents() {
+        ArtifactCoordinateIndex index = new ArtifactCoordinateIndex();
+        index.add("com.example", "code-api", "1.0.0", null, "jar", "compile");
+        assertTrue(index.add("com.example", "code-api", "1.0.1", null, "jar", "compile"), "Should have added a different version.");
+        assertTrue(index.add("com.example", "code-api", "1.0.0", "sources", "jar", "compile"), "Should have added a different classifier.");
+        assertTrue(index.add("com.example", "code-api", "1.0.0", null, "jar", "provided"), "Should have added a different scope.");
+        assertEquals(4, index.size(), "Number of coordinates did not match.");
+    }
+
+    @Test
+    public void test_add_emptyAndNullComponentsAreEqual() {
+        ArtifactCoordinateIndex index = new ArtifactCoordinateIndex();
+        index.add("com.example", "code-api", "1.0.0", null, "jar", "compile");
+        assertFalse(index.add("com.example", "code-api", "1.0.0", "", "jar", "compile"), "Should have treated an empty classifier as no classifier.");
+    }
+
+    @Test
+    public void test_add_sharesComponents() {
+        ArtifactCoordinateIndex index = new ArtifactCoordinateIndex();
+        for (int i = 0; i < 10000; i++) {
+            index.add("com.example", "module-" + (i % 100), "1.0." + (i / 1000), null, "jar", "compile");
+        }
+        assertEquals(1000, index.size(), "Number of coordinates did not match.");
+        // groupId, 100 artifactIds, 10 versions, type and scope
+        assertEquals(113, index.getSymbolCount(), "Each distinct component should have been stored once.");
+    }
+
+}
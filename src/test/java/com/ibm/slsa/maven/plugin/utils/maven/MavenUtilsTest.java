@@ -17,24 +17,44 @@
 package com.ibm.slsa.maven.plugin.utils.maven;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.logging.SystemStreamLog;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.slsa.maven.plugin.utils.digest.DependencyDigester;
+import com.ibm.slsa.maven.plugin.utils.digest.FileDigester;
 import com.ibm.slsa.test.CommonTestUtils;
 
 import jakarta.json.Json;
@@ -48,6 +68,9 @@ public class MavenUtilsTest {
     @Mock private MavenProject project;
     @Mock private MavenSession mavenSession;
 
+    @TempDir
+    Path tempDir;
+
     private CommonTestUtils testUtils = new CommonTestUtils();
 
     MavenUtils utils;
@@ -230,6 +253,154 @@ public class MavenUtilsTest {
         testUtils.assertDependencyJsonMatchesValues(providedDependency4, dependency4Json);
     }
 
+    @Test
+    public void test_addMavenProjectDependencies_notAggregated() {
+        MavenProject mp1 = createProjectParent();
+        MavenProject mp2 = createProjectChild1(mp1);
+        MavenProject mp3 = createProjectChild2(mp1);
+
+        final Dependency projectDependency = testUtils.createDependency("com.example", "code-api", "1.0.0", "provided", "jar");
+        final Dependency otherProjectDependency = testUtils.createDependency("org.rebels", "fulcrum", "0.9.9", "provided", "jar");
+
+        List<Dependency> dependencies = new ArrayList<>();
+        dependencies.add(projectDependency);
+        when(mp2.getDependencies()).thenReturn(dependencies);
+        List<Dependency> otherDependencies = new ArrayList<>();
+        otherDependencies.add(otherProjectDependency);
+        lenient().when(mp3.getDependencies()).thenReturn(otherDependencies);
+
+        List<MavenProject> projectList = Arrays.asList(mp1, mp2, mp3);
+        ProjectDependencyGraph pdg = mock(ProjectDependencyGraph.class);
+        when(mavenSession.getProjectDependencyGraph()).thenReturn(pdg);
+        when(pdg.getSortedProjects()).thenReturn(projectList);
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+
+        MavenUtils projectUtils = new MavenUtils(mp2, mavenSession, false);
+        projectUtils.addMavenProjectDependencies(builder);
+
+        JsonArray result = builder.build();
+        assertEquals(1, result.size(), "Should only have found the dependencies of the executing project, but didn't. Result was: " + result);
+        testUtils.assertDependencyJsonMatchesValues(projectDependency, result.getJsonObject(0));
+    }
+
+    @Test
+    public void test_addMavenProjectDependencies_withDigests() throws IOException {
+        MavenProject mp1 = createProjectParent();
+        MavenProject mp2 = createProjectChild1(mp1);
+
+        final Dependency dependency = testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar");
+        final Dependency missingDependency = testUtils.createDependency("org.rebels", "fulcrum", "0.9.9", "provided", "jar");
+        when(mp2.getDependencies()).thenReturn(Arrays.asList(dependency, missingDependency));
+
+        List<MavenProject> projectList = Arrays.asList(mp1, mp2);
+        ProjectDependencyGraph pdg = mock(ProjectDependencyGraph.class);
+        when(mavenSession.getProjectDependencyGraph()).thenReturn(pdg);
+        when(pdg.getSortedProjects()).thenReturn(projectList);
+
+        // Only the first dependency is in the local repository
+        Path jar = tempDir.resolve("com/example/code-api/1.0.0/code-api-1.0.0.jar");
+        Files.createDirectories(jar.getParent());
+        Files.write(jar, "content".getBytes(StandardCharsets.UTF_8));
+        RepositorySystemSession repositorySession = mock(RepositorySystemSession.class);
+        LocalRepositoryManager localRepositoryManager = mock(LocalRepositoryManager.class);
+        when(mavenSession.getRepositorySession()).thenReturn(repositorySession);
+        when(repositorySession.getLocalRepositoryManager()).thenReturn(localRepositoryManager);
+        when(localRepositoryManager.getRepository()).thenReturn(new LocalRepository(tempDir.toFile()));
+        when(localRepositoryManager.getPathForLocalArtifact(any(org.eclipse.aether.artifact.Artifact.class))).thenAnswer(invocation -> {
+            org.eclipse.aether.artifact.Artifact artifact = invocation.getArgument(0);
+            return artifact.getGroupId().replace('.', '/') + "/" + artifact.getArtifactId() + "/" + artifact.getVersion() + "/"
+                    + artifact.getArtifactId() + "-" + artifact.getVersion() + "." + artifact.getExtension();
+        });
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+
+        DependencyDigester dependencyDigester = new DependencyDigester(2, null, true, 0, new SystemStreamLog());
+        MavenUtils digestingUtils = new MavenUtils(mp2, mavenSession, true, dependencyDigester);
+        digestingUtils.addMavenProjectDependencies(builder);
+
+        JsonArray result = builder.build();
+        assertEquals(2, result.size(), "Should have found both dependencies, but didn't. Result was: " + result);
+        // SHA-256 of "content"
+        testUtils.assertDependencyJsonMatchesValues(dependency, result.getJsonObject(0), "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73");
+        testUtils.assertDependencyJsonMatchesValues(missingDependency, result.getJsonObject(1));
+    }
+
+    @Test
+    public void test_addMavenProjectDependencies_resolvedArtifacts() throws IOException {
+        MavenProject mp1 = createProjectParent();
+        MavenProject mp2 = createProjectChild1(mp1);
+        MavenProject mp3 = createProjectChild2(mp1);
+        lenient().when(mp2.getGroupId()).thenReturn("com.example");
+        lenient().when(mp2.getArtifactId()).thenReturn("code-api");
+        lenient().when(mp2.getVersion()).thenReturn("1.0.0");
+
+        Path jar = tempDir.resolve("jakarta.json-api-2.1.0.jar");
+        Files.write(jar, "content".getBytes(StandardCharsets.UTF_8));
+        Artifact directArtifact = createArtifact("jakarta.json", "jakarta.json-api", "2.1.0", "compile", "jar", jar.toFile());
+        Artifact transitiveArtifact = createArtifact("org.rebels", "fulcrum", "0.9.9", "runtime", "jar", null);
+        Artifact reactorArtifact = createArtifact("com.example", "code-api", "1.0.0", "compile", "jar", null);
+        Artifact testArtifact = createArtifact("org.junit", "junit", "5.10.0", "test", "jar", null);
+        // Both projects reference the same artifacts, which are only recorded once
+        when(mp2.getArtifacts()).thenReturn(new LinkedHashSet<>(Arrays.asList(directArtifact, transitiveArtifact, testArtifact)));
+        when(mp3.getArtifacts()).thenReturn(new LinkedHashSet<>(Arrays.asList(reactorArtifact, directArtifact, transitiveArtifact)));
+
+        List<MavenProject> projectList = Arrays.asList(mp1, mp2, mp3);
+        ProjectDependencyGraph pdg = mock(ProjectDependencyGraph.class);
+        when(mavenSession.getProjectDependencyGraph()).thenReturn(pdg);
+        when(pdg.getSortedProjects()).thenReturn(projectList);
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+
+        DependencyDigester dependencyDigester = new DependencyDigester(2, null, true, 0, new SystemStreamLog());
+        MavenUtils resolvingUtils = new MavenUtils(mp3, mavenSession, true, dependencyDigester);
+        resolvingUtils.addMavenProjectDependencies(builder);
+
+        JsonArray result = builder.build();
+        assertEquals(2, result.size(), "Should have found each non-test, non-reactor artifact once, but didn't. Result was: " + result);
+        // SHA-256 of "content"
+        testUtils.assertDependencyJsonMatchesValues(testUtils.createDependency("jakarta.json", "jakarta.json-api", "2.1.0", "compile", "jar"), result.getJsonObject(0), "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73");
+        testUtils.assertDependencyJsonMatchesValues(testUtils.createDependency("org.rebels", "fulcrum", "0.9.9", "runtime", "jar"), result.getJsonObject(1));
+    }
+
+    @Test
+    public void test_addMavenProjectDependencies_classifiers() throws IOException {
+        MavenProject mp1 = createProjectParent();
+        MavenProject mp2 = createProjectChild1(mp1);
+
+        Path jar = Files.write(tempDir.resolve("netty-transport-native-epoll-4.1.100.jar"), "content".getBytes(StandardCharsets.UTF_8));
+        Path nativeJar = Files.write(tempDir.resolve("netty-transport-native-epoll-4.1.100-linux-x86_64.jar"), "native".getBytes(StandardCharsets.UTF_8));
+        Artifact artifact = createArtifact("io.netty", "netty-transport-native-epoll", "4.1.100", "compile", "jar", null, jar.toFile());
+        Artifact nativeArtifact = createArtifact("io.netty", "netty-transport-native-epoll", "4.1.100", "compile", "jar", "linux-x86_64", nativeJar.toFile());
+        when(mp2.getArtifacts()).thenReturn(new LinkedHashSet<>(Arrays.asList(artifact, nativeArtifact)));
+
+        List<MavenProject> projectList = Arrays.asList(mp1, mp2);
+        ProjectDependencyGraph pdg = mock(ProjectDependencyGraph.class);
+        when(mavenSession.getProjectDependencyGraph()).thenReturn(pdg);
+        when(pdg.getSortedProjects()).thenReturn(projectList);
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+
+        DependencyDigester dependencyDigester = new DependencyDigester(2, null, true, 0, new SystemStreamLog());
+        MavenUtils resolvingUtils = new MavenUtils(mp2, mavenSession, true, dependencyDigester);
+        resolvingUtils.addMavenProjectDependencies(builder);
+
+        JsonArray result = builder.build();
+        assertEquals(2, result.size(), "Artifacts that only differ by classifier should both have been recorded. Result was: " + result);
+        // SHA-256 of "content"
+        testUtils.assertDependencyJsonMatchesValues(testUtils.createDependency("io.netty", "netty-transport-native-epoll", "4.1.100", "compile", "jar"), result.getJsonObject(0), "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73");
+        JsonObject nativeJson = result.getJsonObject(1);
+        assertEquals("linux-x86_64", nativeJson.getJsonObject(ResourceDescriptor.KEY_ANNOTATIONS).getString(MavenUtils.KEY_ANNOTATION_CLASSIFIER), "Classifier annotation did not match.");
+        assertEquals(new FileDigester().digest(nativeJar.toFile()).get(DigestSet.ALG_SHA256), nativeJson.getJsonObject(ResourceDescriptor.KEY_DIGEST).getString(DigestSet.ALG_SHA256),
+                "The classified artifact should have the digest of its own file.");
+    }
+
+    private Artifact createArtifact(String groupId, String artifactId, String version, String scope, String type, File file) {
+        return createArtifact(groupId, artifactId, version, scope, type, null, file);
+    }
+
+    private Artifact createArtifact(String groupId, String artifactId, String version, String scope, String type, String classifier, File file) {
+        Artifact artifact = new DefaultArtifact(groupId, artifactId, version, scope, type, classifier, new DefaultArtifactHandler(type));
+        artifact.setFile(file);
+        return artifact;
+    }
+
     private MavenProject createProjectParent() {
         MavenProject mp1 = mock(MavenProject.class);
         return mp1;
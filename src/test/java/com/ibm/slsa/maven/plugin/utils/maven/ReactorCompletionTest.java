@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+public class ReactorCompletionTest {
+
+    @Test
+    public void test_complete() {
+        MavenProject first = new MavenProject();
+        MavenProject second = new MavenProject();
+        MavenProject notExecuting = new MavenProject();
+        ReactorCompletion completion = new ReactorCompletion(Arrays.asList(first, second, notExecuting), project -> project != notExecuting);
+        assertEquals(2, completion.getRemainingProjects(), "Only the projects executing the plugin should be expected.");
+
+        // Projects complete out of reactor order
+        assertFalse(completion.complete(second), "The reactor should not be complete.");
+        assertTrue(completion.complete(first), "The last project to complete should complete the reactor.");
+        assertFalse(completion.complete(first), "The reactor should only be completed once.");
+        assertEquals(0, completion.getRemainingProjects(), "No project should remain.");
+    }
+
+    @Test
+    public void test_complete_concurrent() throws Exception {
+        List<MavenProject> projects = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            projects.add(new MavenProject());
+        }
+        ReactorCompletion completion = new ReactorCompletion(projects, project -> true);
+        AtomicInteger completions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (MavenProject project : projects) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (completion.complete(project)) {
+                        completions.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, completions.get(), "Exactly one project should have completed the reactor.");
+    }
+
+}
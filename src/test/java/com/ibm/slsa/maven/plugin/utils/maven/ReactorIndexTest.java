@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.slsa.test.CommonTestUtils;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+
+public class ReactorIndexTest {
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_getProject() {
+        MavenProject api = createProject("com.example", "code-api", "1.0.0");
+        MavenProject impl = createProject("com.example", "code-impl", "1.0.0");
+        ReactorIndex index = new ReactorIndex(Arrays.asList(api, impl));
+
+        assertSame(impl, index.getProject("com.example", "code-impl", "1.0.0"), "Should have found the reactor project.");
+        assertNull(index.getProject("com.example", "code-impl", "1.0.1"), "Should not have found a different version.");
+        assertNull(index.getProject("com.example", null, "1.0.0"), "Should not have found incomplete coordinates.");
+        assertTrue(index.contains("com.example", "code-api", "1.0.0"), "Should have contained the reactor project.");
+        assertFalse(index.contains("org.rebels", "fulcrum", "0.9.9"), "Should not have contained an external artifact.");
+    }
+
+    @Test
+    public void test_get_builtOncePerSession() {
+        List<MavenProject> projects = Arrays.asList(createProject("com.example", "code-api", "1.0.0"));
+        AtomicInteger sortCount = new AtomicInteger();
+        MavenSession session = createSession(projects, sortCount);
+        MavenSession otherSession = createSession(projects, sortCount);
+
+        ReactorIndex index = ReactorIndex.get(session);
+        assertSame(index, ReactorIndex.get(session), "Should have reused the index of the session.");
+        assertEquals(1, sortCount.get(), "Should have only read the reactor projects once.");
+        assertNotSame(index, ReactorIndex.get(otherSession), "Should have built a separate index for another session.");
+    }
+
+    @Test
+    public void test_addMavenProjectDependencies_largeReactor() {
+        // Each project depends on the five projects before it and five of fifty external artifacts. A scan of every project
+        // for every dependency would read the coordinates of the reactor projects 50000 times rather than once each.
+        int size = 5000;
+        AtomicInteger coordinateReads = new AtomicInteger();
+        List<MavenProject> projects = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MavenProject project = new MavenProject() {
+                @Override
+                public String getGroupId() {
+                    coordinateReads.incrementAndGet();
+                    return super.getGroupId();
+                }
+            };
+            project.setGroupId("com.example");
+            project.setArtifactId("module-" + i);
+            project.setVersion("1.0.0");
+            List<Dependency> dependencies = new ArrayList<>();
+            for (int j = Math.max(0, i - 5); j < i; j++) {
+                dependencies.add(testUtils.createDependency("com.example", "module-" + j, "1.0.0", "compile", "jar"));
+            }
+            for (int j = 0; j < 5; j++) {
+                dependencies.add(testUtils.createDependency("org.external", "library-" + ((i + j * 10) % 50), "2.0.0", "compile", "jar"));
+            }
+            project.setDependencies(dependencies);
+            projects.add(project);
+        }
+        MavenSession session = createSession(projects, new AtomicInteger());
+        coordinateReads.set(0);
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+
+        new MavenUtils(projects.get(size - 1), session, true).addMavenProjectDependencies(builder);
+
+        assertEquals(50, builder.build().size(), "Should have only recorded the external artifacts, once each.");
+        assertEquals(size, coordinateReads.get(), "The coordinates of each reactor project should only have been read once, to index it.");
+    }
+
+    private MavenProject createProject(String groupId, String artifactId, String version) {
+        MavenProject project = new MavenProject();
+        project.setGroupId(groupId);
+        project.setArtifactId(artifactId);
+        project.setVersion(version);
+        return project;
+    }
+
+    private MavenSession createSession(List<MavenProject> projects, AtomicInteger sortCount) {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getProjectDependencyGraph()).thenReturn(new ProjectDependencyGraph() {
+            @Override
+            public List<MavenProject> getAllProjects() {
+                return projects;
+            }
+
+            @Override
+            public List<MavenProject> getSortedProjects() {
+                sortCount.incrementAndGet();
+                return projects;
+            }
+
+            @Override
+            public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<MavenProject> getUpstreamProjects(MavenProject project, boolean transitive) {
+                return Collections.emptyList();
+            }
+        });
+        return session;
+    }
+
+}
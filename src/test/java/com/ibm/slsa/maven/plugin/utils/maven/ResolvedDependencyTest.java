@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.model.Dependency;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.slsa.test.CommonTestUtils;
+
+import jakarta.json.JsonObject;
+
+public class ResolvedDependencyTest {
+
+    private static final String SHA256 = "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_toJson_noClassifierOrDigest() {
+        Dependency dependency = testUtils.createDependency("io.netty", "netty-transport-native-epoll", "4.1.100", "compile", "jar");
+        JsonObject json = new ResolvedDependency(dependency, null).toJson();
+
+        testUtils.assertDependencyJsonMatchesValues(dependency, json);
+        assertFalse(json.getJsonObject(ResourceDescriptor.KEY_ANNOTATIONS).containsKey(MavenUtils.KEY_ANNOTATION_CLASSIFIER), "There should be no classifier annotation.");
+    }
+
+    @Test
+    public void test_toJson_classifierAndDigest() {
+        Dependency dependency = createClassifiedDependency();
+        JsonObject json = new ResolvedDependency(dependency, SHA256).toJson();
+
+        assertEquals("linux-x86_64", json.getJsonObject(ResourceDescriptor.KEY_ANNOTATIONS).getString(MavenUtils.KEY_ANNOTATION_CLASSIFIER), "Classifier annotation did not match.");
+        assertEquals(SHA256, json.getJsonObject(ResourceDescriptor.KEY_DIGEST).getString(DigestSet.ALG_SHA256), "Digest did not match.");
+    }
+
+    @Test
+    public void test_writeTo() {
+        Dependency dependency = testUtils.createDependency("io.netty", "netty-transport-native-epoll", "4.1.100", "compile", "jar");
+        for (ResolvedDependency resolvedDependency : Arrays.asList(new ResolvedDependency(dependency, null), new ResolvedDependency(dependency, SHA256),
+                new ResolvedDependency(createClassifiedDependency(), null), new ResolvedDependency(createClassifiedDependency(), SHA256))) {
+            JsonObject writtenJson = testUtils.writeToJsonObject(resolvedDependency::writeTo);
+
+            assertEquals(resolvedDependency.toJson().toString(), writtenJson.toString(), "Written dependency did not match its JSON object, including the order of its members.");
+        }
+    }
+
+    @Test
+    public void test_coordinateOrder() {
+        ResolvedDependency jar = new ResolvedDependency(testUtils.createDependency("io.netty", "netty-transport-native-epoll", "4.1.100", "compile", "jar"), null);
+        ResolvedDependency classified = new ResolvedDependency(createClassifiedDependency(), null);
+        ResolvedDependency otherGroup = new ResolvedDependency(testUtils.createDependency("com.example", "zeta", "2.0", "runtime", "jar"), SHA256);
+        ResolvedDependency olderVersion = new ResolvedDependency(testUtils.createDependency("io.netty", "netty-transport-native-epoll", "4.1.99", "compile", "jar"), null);
+        List<ResolvedDependency> dependencies = new ArrayList<>(Arrays.asList(classified, jar, olderVersion, otherGroup));
+
+        dependencies.sort(ResolvedDependency.COORDINATE_ORDER);
+
+        assertEquals(Arrays.asList(otherGroup, jar, classified, olderVersion), dependencies, "Dependencies were not sorted by their coordinates.");
+    }
+
+    private Dependency createClassifiedDependency() {
+        Dependency dependency = testUtils.createDependency("io.netty", "netty-transport-native-epoll", "4.1.100", "compile", "jar");
+        dependency.setClassifier("linux-x86_64");
+        return dependency;
+    }
+
+}
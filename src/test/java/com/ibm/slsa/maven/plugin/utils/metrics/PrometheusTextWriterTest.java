@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class PrometheusTextWriterTest {
+
+    // A comment, or a sample of a metric with labels and a floating point value
+    private static final Pattern LINE = Pattern.compile("# (HELP|TYPE) slsa_provenance_\\w+ .+|slsa_provenance_\\w+\\{project=\"[^\"]*\"(,phase=\"\\w+\")?\\} -?[0-9.E+-]+");
+
+    @Test
+    public void test_write() throws IOException {
+        ProvenanceMetrics metrics = new ProvenanceMetrics("com.example:app:war:1.0");
+        metrics.recordDigests(3, 2048, 5, 7);
+        metrics.finish();
+        StringWriter writer = new StringWriter();
+        new PrometheusTextWriter(writer).write(metrics);
+        String text = writer.toString();
+
+        assertTrue(text.endsWith("\n"), "The text format must end with a line feed.");
+        for (String line : text.split("\n")) {
+            assertTrue(LINE.matcher(line).matches(), "Unexpected line: " + line);
+        }
+        assertTrue(text.contains("slsa_provenance_hashed_bytes{project=\"com.example:app:war:1.0\"} 2048\n"), "Bytes hashed sample was missing: " + text);
+        assertTrue(text.contains("slsa_provenance_phase_duration_seconds{project=\"com.example:app:war:1.0\",phase=\"git_metadata\"} "), "Phase sample was missing: " + text);
+        assertTrue(text.contains("# TYPE slsa_provenance_checksum_file_hits gauge\n"), "Type of the metric was missing: " + text);
+    }
+
+    @Test
+    public void test_escapeLabelValue() {
+        assertEquals("a\\\\b\\\"c\\nd", PrometheusTextWriter.escapeLabelValue("a\\b\"c\nd"), "Label value was not escaped.");
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Phase;
+
+import jakarta.json.JsonObject;
+
+public class ProvenanceMetricsTest {
+
+    @Test
+    public void test_time_accumulates() throws InterruptedException {
+        ProvenanceMetrics metrics = new ProvenanceMetrics("com.example:app:war:1.0");
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.DIGESTING)) {
+            Thread.sleep(5);
+        }
+        long first = metrics.getPhaseNanos(Phase.DIGESTING);
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.DIGESTING)) {
+            Thread.sleep(5);
+        }
+
+        assertTrue(first >= 5000000L, "The phase should have been timed.");
+        assertTrue(metrics.getPhaseNanos(Phase.DIGESTING) >= first + 5000000L, "The time of the phase should have accumulated.");
+        assertEquals(0, metrics.getPhaseNanos(Phase.WRITE), "A phase that did not run should not have been timed.");
+    }
+
+    @Test
+    public void test_time_recordsIntervals() throws InterruptedException {
+        ProvenanceMetrics metrics = new ProvenanceMetrics("com.example:app:war:1.0");
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.SUBJECT_DISCOVERY)) {
+            Thread.sleep(1);
+        }
+        try (ProvenanceMetrics.Timer timer = metrics.time(Phase.DIGESTING)) {
+            Thread.sleep(1);
+        }
+
+        List<ProvenanceMetrics.Interval> intervals = metrics.getIntervals();
+        assertEquals(2, intervals.size(), "Each timed phase should have been recorded.");
+        assertEquals(Phase.SUBJECT_DISCOVERY, intervals.get(0).getPhase(), "Phases should be recorded in the order they ended.");
+        assertTrue(intervals.get(0).getStartEpochNanos() >= metrics.getStartEpochNanos(), "A phase should not start before the run.");
+        assertTrue(intervals.get(1).getStartEpochNanos() >= intervals.get(0).getEndEpochNanos(), "The phases should not overlap.");
+    }
+
+    @Test
+    public void test_finish_fixesDuration() throws InterruptedException {
+        ProvenanceMetrics metrics = new ProvenanceMetrics("com.example:app:war:1.0");
+        metrics.finish();
+        long duration = metrics.getDurationNanos();
+        Thread.sleep(5);
+        metrics.finish();
+
+        assertEquals(duration, metrics.getDurationNanos(), "The duration should not change once the run has finished.");
+    }
+
+    @Test
+    public void test_toJson() {
+        ProvenanceMetrics metrics = new ProvenanceMetrics("com.example:app:war:1.0");
+        metrics.recordDigests(3, 2048, 5, 7);
+        metrics.finish();
+        JsonObject json = metrics.toJson();
+
+        assertEquals("com.example:app:war:1.0", json.getString(ProvenanceMetrics.KEY_PROJECT), "Project did not match.");
+        assertEquals(3, json.getJsonNumber(ProvenanceMetrics.KEY_FILES_HASHED).longValue(), "Files hashed did not match.");
+        assertEquals(2048, json.getJsonNumber(ProvenanceMetrics.KEY_BYTES_HASHED).longValue(), "Bytes hashed did not match.");
+        assertEquals(5, json.getJsonNumber(ProvenanceMetrics.KEY_DIGEST_CACHE_HITS).longValue(), "Digest cache hits did not match.");
+        assertEquals(7, json.getJsonNumber(ProvenanceMetrics.KEY_CHECKSUM_FILE_HITS).longValue(), "Checksum file hits did not match.");
+        JsonObject phases = json.getJsonObject(ProvenanceMetrics.KEY_PHASES);
+        for (Phase phase : Phase.values()) {
+            assertTrue(phases.containsKey(phase.getKey()), "The phases should contain " + phase.getKey() + ".");
+        }
+    }
+
+    @Test
+    public void test_getSummary() {
+        ProvenanceMetrics metrics = new ProvenanceMetrics("com.example:app:war:1.0");
+        metrics.recordDigests(3, 3 * 1024 * 1024 / 2, 5, 0);
+        String summary = metrics.getSummary();
+
+        assertTrue(summary.startsWith("Provenance generated in "), "Unexpected summary: " + summary);
+        assertTrue(summary.contains("Git metadata "), "Summary should contain the Git metadata phase: " + summary);
+        assertTrue(summary.endsWith("Hashed 3 files (1.5 MiB), 5 digest cache hits, 0 checksum file hits."), "Unexpected summary: " + summary);
+    }
+
+    @Test
+    public void test_formatBytes() {
+        assertEquals("1023 B", ProvenanceMetrics.formatBytes(1023), "Bytes did not match.");
+        assertEquals("1.0 KiB", ProvenanceMetrics.formatBytes(1024), "Kibibytes did not match.");
+        assertEquals("2.0 GiB", ProvenanceMetrics.formatBytes(2L * 1024 * 1024 * 1024), "Gibibytes did not match.");
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.JsonObject;
+
+public class BatchSpanProcessorTest {
+
+    private static final long LONG_DELAY_MILLIS = 60000;
+
+    @Test
+    public void test_close_exportsQueuedSpansInBatches() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            BatchSpanProcessor processor = new BatchSpanProcessor(newExporter(receiver), 100, 2, LONG_DELAY_MILLIS, 10000, new SystemStreamLog());
+            List<String> spanIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Span span = newSpan();
+                spanIds.add(span.getSpanId());
+                assertTrue(processor.add(span), "The span should have been queued.");
+            }
+            processor.close();
+
+            assertTrue(processor.awaitTermination(10000), "The queued spans should have been exported.");
+            List<String> exportedIds = new ArrayList<>();
+            for (JsonObject request : receiver.getRequests()) {
+                assertTrue(OtlpReceiver.getSpans(request).size() <= 2, "A request should not exceed the batch size.");
+            }
+            for (JsonObject span : receiver.getSpans()) {
+                exportedIds.add(span.getString(Span.KEY_SPAN_ID));
+            }
+            assertEquals(spanIds, exportedIds, "Every span should have been exported once, in order.");
+            assertEquals(5, processor.getExportedSpans(), "Number of exported spans did not match.");
+        }
+    }
+
+    @Test
+    public void test_close_removesExitHookWhenStopped() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            BatchSpanProcessor processor = new BatchSpanProcessor(newExporter(receiver), 100, 100, LONG_DELAY_MILLIS, 10000, new SystemStreamLog());
+            processor.add(newSpan());
+            processor.close();
+
+            assertTrue(processor.awaitTermination(10000), "The processor should have stopped.");
+            assertNotNull(processor.getExitHook(), "Closing should have registered a shutdown hook.");
+            assertFalse(Runtime.getRuntime().removeShutdownHook(processor.getExitHook()), "The shutdown hook should have been removed when the processor stopped.");
+        }
+    }
+
+    @Test
+    public void test_add_exportsAfterScheduleDelay() throws Exception {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            BatchSpanProcessor processor = new BatchSpanProcessor(newExporter(receiver), 100, 100, 50, 10000, new SystemStreamLog());
+            processor.add(newSpan());
+            for (int i = 0; i < 200 && receiver.getRequests().isEmpty(); i++) {
+                Thread.sleep(50);
+            }
+            assertEquals(1, receiver.getSpans().size(), "The span should have been exported without closing the processor.");
+            processor.close();
+        }
+    }
+
+    @Test
+    public void test_add_afterClose() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            BatchSpanProcessor processor = new BatchSpanProcessor(newExporter(receiver), 100, 100, LONG_DELAY_MILLIS, 10000, new SystemStreamLog());
+            processor.close();
+
+            assertFalse(processor.add(newSpan()), "A span added after closing should have been dropped.");
+            assertTrue(processor.awaitTermination(10000), "The processor should have stopped.");
+            assertEquals(1, processor.getDroppedSpans(), "Number of dropped spans did not match.");
+            assertTrue(receiver.getRequests().isEmpty(), "Nothing should have been exported.");
+        }
+    }
+
+    @Test
+    public void test_export_failureLoggedOnce() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            receiver.setStatus(500);
+            AtomicInteger warnings = new AtomicInteger();
+            SystemStreamLog log = new SystemStreamLog() {
+                @Override
+                public void warn(CharSequence content) {
+                    warnings.incrementAndGet();
+                }
+            };
+            BatchSpanProcessor processor = new BatchSpanProcessor(newExporter(receiver), 100, 1, LONG_DELAY_MILLIS, 10000, log);
+            processor.add(newSpan());
+            processor.add(newSpan());
+            processor.close();
+
+            assertTrue(processor.awaitTermination(10000), "The processor should have stopped after the failed exports.");
+            assertEquals(2, receiver.getRequests().size(), "Each batch should have been attempted.");
+            assertEquals(2, processor.getDroppedSpans(), "The spans of failed exports should have been counted as dropped.");
+            assertEquals(1, warnings.get(), "Only the first failure should have been logged.");
+        }
+    }
+
+    private static OtlpHttpExporter newExporter(OtlpReceiver receiver) {
+        return new OtlpHttpExporter(receiver.getEndpoint(), Collections.<String, String> emptyMap(), Duration.ofSeconds(10));
+    }
+
+    private static Span newSpan() {
+        return new Span.Builder(Span.newTraceId(), Span.newSpanId(), "generate-provenance").time(1, 2).build();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.JsonObject;
+
+public class OtlpHttpExporterTest {
+
+    @Test
+    public void test_export() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            OtlpHttpExporter exporter = new OtlpHttpExporter(receiver.getEndpoint(), Collections.singletonMap("Authorization", "Bearer token"), Duration.ofSeconds(10));
+            String traceId = Span.newTraceId();
+            Span parent = new Span.Builder(traceId, Span.newSpanId(), "generate-provenance").time(1000, 5000).attribute("slsa.bytes_hashed", 12345678901L).build();
+            Span child = new Span.Builder(traceId, Span.newSpanId(), "digesting").parentSpanId(parent.getSpanId()).time(2000, 3000).attribute("cached", true).build();
+            exporter.export(Arrays.asList(parent, child));
+
+            assertEquals(1, receiver.getRequests().size(), "The spans should have been sent in one request.");
+            assertEquals("application/json", receiver.getRequestHeaders().get(0).getFirst("Content-Type"), "Content type did not match.");
+            assertEquals("Bearer token", receiver.getRequestHeaders().get(0).getFirst("Authorization"), "Configured header was not sent.");
+            JsonObject resource = receiver.getRequests().get(0).getJsonArray("resourceSpans").getJsonObject(0).getJsonObject("resource");
+            JsonObject serviceName = resource.getJsonArray("attributes").getJsonObject(0);
+            assertEquals(OtlpHttpExporter.ATTRIBUTE_SERVICE_NAME, serviceName.getString("key"), "Resource attribute did not match.");
+            assertEquals(OtlpHttpExporter.SERVICE_NAME, serviceName.getJsonObject("value").getString("stringValue"), "Service name did not match.");
+
+            JsonObject first = receiver.getSpans().get(0);
+            assertEquals(traceId, first.getString(Span.KEY_TRACE_ID), "Trace ID did not match.");
+            assertFalse(first.containsKey(Span.KEY_PARENT_SPAN_ID), "A root span should not have a parent.");
+            assertEquals("1000", first.getString(Span.KEY_START_TIME), "Start time should be a string.");
+            assertEquals(Span.KIND_INTERNAL, first.getInt(Span.KEY_KIND), "Span kind did not match.");
+            assertEquals("12345678901", first.getJsonArray(Span.KEY_ATTRIBUTES).getJsonObject(0).getJsonObject("value").getString("intValue"), "Integer attribute should be a string.");
+            JsonObject second = receiver.getSpans().get(1);
+            assertEquals(parent.getSpanId(), second.getString(Span.KEY_PARENT_SPAN_ID), "Parent span ID did not match.");
+            assertEquals(true, second.getJsonArray(Span.KEY_ATTRIBUTES).getJsonObject(0).getJsonObject("value").getBoolean("boolValue"), "Boolean attribute did not match.");
+        }
+    }
+
+    @Test
+    public void test_export_rejected() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            receiver.setStatus(503);
+            OtlpHttpExporter exporter = new OtlpHttpExporter(receiver.getEndpoint(), Collections.<String, String> emptyMap(), Duration.ofSeconds(10));
+            Span span = new Span.Builder(Span.newTraceId(), Span.newSpanId(), "write").build();
+
+            assertThrows(IOException.class, () -> exporter.export(Collections.singletonList(span)), "A rejected export should have failed.");
+        }
+    }
+
+    @Test
+    public void test_newIds() {
+        assertEquals(32, Span.newTraceId().length(), "A trace ID is 16 bytes.");
+        assertEquals(16, Span.newSpanId().length(), "A span ID is 8 bytes.");
+    }
+
+}
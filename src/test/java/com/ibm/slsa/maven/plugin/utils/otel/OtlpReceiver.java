@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+/**
+ * An in-process stand-in for the OTLP/HTTP traces receiver of an OpenTelemetry Collector, which records the requests it
+ * receives and responds with a configurable status.
+ */
+class OtlpReceiver implements AutoCloseable {
+
+    static final String PATH = "/v1/traces";
+
+    private final HttpServer server;
+    private final List<JsonObject> requests = new CopyOnWriteArrayList<>();
+    private final List<Headers> requestHeaders = new CopyOnWriteArrayList<>();
+    private volatile int status = 200;
+
+    OtlpReceiver() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    URI getEndpoint() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + PATH);
+    }
+
+    void setStatus(int status) {
+        this.status = status;
+    }
+
+    List<JsonObject> getRequests() {
+        return requests;
+    }
+
+    List<Headers> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    /**
+     * Returns the spans of every request received, in the order they were received.
+     */
+    List<JsonObject> getSpans() {
+        List<JsonObject> spans = new ArrayList<>();
+        for (JsonObject request : requests) {
+            spans.addAll(getSpans(request));
+        }
+        return spans;
+    }
+
+    static List<JsonObject> getSpans(JsonObject request) {
+        List<JsonObject> spans = new ArrayList<>();
+        for (JsonValue resourceSpans : request.getJsonArray("resourceSpans")) {
+            for (JsonValue scopeSpans : resourceSpans.asJsonObject().getJsonArray("scopeSpans")) {
+                JsonArray array = scopeSpans.asJsonObject().getJsonArray("spans");
+                for (JsonValue span : array) {
+                    spans.add(span.asJsonObject());
+                }
+            }
+        }
+        return spans;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody(); JsonReader reader = Json.createReader(in)) {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                requestHeaders.add(exchange.getRequestHeaders());
+                requests.add(reader.readObject());
+            }
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.otel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.metrics.ProvenanceMetrics.Phase;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+public class ProvenanceTracerTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    @Test
+    public void test_record() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            BatchSpanProcessor processor = newProcessor(receiver);
+            long start = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+            ProvenanceTracer tracer = new ProvenanceTracer(processor, start, null);
+            ProvenanceMetrics metrics = new ProvenanceMetrics("com.example:app:war:1.0");
+            try (ProvenanceMetrics.Timer timer = metrics.time(Phase.DIGESTING)) {
+                metrics.recordSubjectDigests(2, 300);
+            }
+            try (ProvenanceMetrics.Timer timer = metrics.time(Phase.DEPENDENCY_COLLECTION)) {
+                metrics.recordDigests(5, 1000, 1, 3);
+            }
+            metrics.finish();
+            tracer.record(metrics);
+            tracer.close();
+
+            assertTrue(processor.awaitTermination(10000), "The spans should have been exported.");
+            Map<String, JsonObject> spans = byName(receiver.getSpans());
+            assertEquals(4, spans.size(), "The build, run and phase spans should have been exported.");
+            JsonObject build = spans.get(ProvenanceTracer.SPAN_BUILD);
+            JsonObject run = spans.get(ProvenanceTracer.SPAN_RUN);
+            JsonObject digesting = spans.get(Phase.DIGESTING.getLabel());
+            JsonObject dependencies = spans.get(Phase.DEPENDENCY_COLLECTION.getLabel());
+            for (JsonObject span : spans.values()) {
+                assertEquals(tracer.getTraceId(), span.getString(Span.KEY_TRACE_ID), "Every span should be part of the trace.");
+            }
+            assertFalse(build.containsKey(Span.KEY_PARENT_SPAN_ID), "The build span should be the root of a new trace.");
+            assertEquals(build.getString(Span.KEY_SPAN_ID), run.getString(Span.KEY_PARENT_SPAN_ID), "The run should be a child of the build.");
+            assertEquals(run.getString(Span.KEY_SPAN_ID), digesting.getString(Span.KEY_PARENT_SPAN_ID), "The phase should be a child of the run.");
+            assertEquals(run.getString(Span.KEY_SPAN_ID), dependencies.getString(Span.KEY_PARENT_SPAN_ID), "The phase should be a child of the run.");
+
+            assertEquals("1", attributes(build).get(ProvenanceTracer.ATTRIBUTE_RUNS), "Number of runs did not match.");
+            assertEquals("com.example:app:war:1.0", attributes(run).get(ProvenanceTracer.ATTRIBUTE_PROJECT), "Project did not match.");
+            assertEquals("5", attributes(run).get(ProvenanceTracer.ATTRIBUTE_FILES_HASHED), "Files hashed by the run did not match.");
+            assertEquals("2", attributes(digesting).get(ProvenanceTracer.ATTRIBUTE_FILES_HASHED), "Subject files hashed did not match.");
+            assertEquals("300", attributes(digesting).get(ProvenanceTracer.ATTRIBUTE_BYTES_HASHED), "Subject bytes hashed did not match.");
+            assertEquals("3", attributes(dependencies).get(ProvenanceTracer.ATTRIBUTE_FILES_HASHED), "Dependency files hashed did not match.");
+            assertEquals("700", attributes(dependencies).get(ProvenanceTracer.ATTRIBUTE_BYTES_HASHED), "Dependency bytes hashed did not match.");
+            assertEquals("3", attributes(dependencies).get(ProvenanceTracer.ATTRIBUTE_CHECKSUM_FILE_HITS), "Checksum file hits did not match.");
+
+            long runStart = Long.parseLong(run.getString(Span.KEY_START_TIME));
+            assertTrue(runStart >= Long.parseLong(build.getString(Span.KEY_START_TIME)), "The run should not start before the build.");
+            assertTrue(Long.parseLong(digesting.getString(Span.KEY_START_TIME)) >= runStart, "The phase should not start before the run.");
+        }
+    }
+
+    @Test
+    public void test_traceparent() throws IOException {
+        try (OtlpReceiver receiver = new OtlpReceiver()) {
+            BatchSpanProcessor processor = newProcessor(receiver);
+            ProvenanceTracer tracer = new ProvenanceTracer(processor, 0, "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01");
+            tracer.close();
+
+            assertTrue(processor.awaitTermination(10000), "The build span should have been exported.");
+            JsonObject build = byName(receiver.getSpans()).get(ProvenanceTracer.SPAN_BUILD);
+            assertEquals(TRACE_ID, build.getString(Span.KEY_TRACE_ID), "The trace of the caller should have been joined.");
+            assertEquals(PARENT_SPAN_ID, build.getString(Span.KEY_PARENT_SPAN_ID), "The build span should be a child of the caller's span.");
+        }
+    }
+
+    @Test
+    public void test_traceparent_invalid() {
+        BatchSpanProcessor processor = new BatchSpanProcessor(null, 0, new SystemStreamLog());
+        ProvenanceTracer tracer = new ProvenanceTracer(processor, 0, "00-" + "0".repeat(32) + "-" + PARENT_SPAN_ID + "-01");
+        processor.close();
+
+        assertNotEquals("0".repeat(32), tracer.getTraceId(), "An invalid trace ID should have been replaced.");
+        assertEquals(32, tracer.getTraceId().length(), "A new trace should have been started.");
+    }
+
+    private static BatchSpanProcessor newProcessor(OtlpReceiver receiver) {
+        OtlpHttpExporter exporter = new OtlpHttpExporter(receiver.getEndpoint(), Collections.<String, String> emptyMap(), Duration.ofSeconds(10));
+        return new BatchSpanProcessor(exporter, 10000, new SystemStreamLog());
+    }
+
+    private static Map<String, JsonObject> byName(List<JsonObject> spans) {
+        Map<String, JsonObject> byName = new HashMap<>();
+        for (JsonObject span : spans) {
+            byName.put(span.getString(Span.KEY_NAME), span);
+        }
+        return byName;
+    }
+
+    private static Map<String, String> attributes(JsonObject span) {
+        Map<String, String> attributes = new HashMap<>();
+        for (JsonValue attribute : span.getJsonArray(Span.KEY_ATTRIBUTES)) {
+            JsonObject value = attribute.asJsonObject().getJsonObject("value");
+            String key = value.keySet().iterator().next();
+            attributes.put(attribute.asJsonObject().getString("key"), value.get(key) instanceof JsonString ? value.getString(key) : value.get(key).toString());
+        }
+        return attributes;
+    }
+
+}
@@ -78,6 +78,67 @@ public class PackageFileUtilsTest {
         }
     }
 
+    @Test
+    public void test_onePackageFile_notAggregated() {
+        PackageTypeUtils utils = new PackageTypeUtils(project, mavenSession, log, false);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(project.getArtifact()).thenReturn(artifact);
+        when(projectBuild.getFinalName()).thenReturn(Constants.FINAL_NAME_APP);
+
+        try {
+            List<File> packageFiles = utils.getBuiltPackage();
+            assertEquals(1, packageFiles.size(), "Should only have found the package of the executing project. Found: " + packageFiles);
+            assertEquals("app.ear", packageFiles.get(0).getName(), "Package file name did not match expected value.");
+        } catch (PackageFileException e) {
+            fail("Encountered unexpected exception: " + e);
+        }
+    }
+
+    @Test
+    public void test_attachedArtifacts() {
+        DefaultArtifact mainArtifact = createArtifact("war", null, "app.war");
+        DefaultArtifact sourcesArtifact = createArtifact("java-source", "sources", "app-sources.jar");
+        DefaultArtifact javadocArtifact = createArtifact("javadoc", "javadoc", "app-javadoc.jar");
+        DefaultArtifact unbuiltArtifact = new DefaultArtifact("com.example", "app", "1.0", null, "zip", "dist", new DefaultArtifactHandler("zip"));
+
+        when(project.getArtifact()).thenReturn(mainArtifact);
+        when(project.getAttachedArtifacts()).thenReturn(Arrays.asList(sourcesArtifact, javadocArtifact, unbuiltArtifact));
+
+        ArtifactFilter filter = new ArtifactFilter(null, "javadoc", null, null);
+        PackageTypeUtils utils = new PackageTypeUtils(project, mavenSession, log, false, filter);
+        try {
+            List<File> packageFiles = utils.getBuiltPackage();
+            assertEquals(Arrays.asList(mainArtifact.getFile(), sourcesArtifact.getFile()), packageFiles, "Package files did not match the main and included attached artifacts.");
+        } catch (PackageFileException e) {
+            fail("Encountered unexpected exception: " + e);
+        }
+    }
+
+    @Test
+    public void test_attachedArtifacts_typeFilter() {
+        DefaultArtifact mainArtifact = createArtifact("war", null, "app.war");
+        DefaultArtifact sourcesArtifact = createArtifact("java-source", "sources", "app-sources.jar");
+
+        when(project.getArtifact()).thenReturn(mainArtifact);
+        when(project.getAttachedArtifacts()).thenReturn(Arrays.asList(sourcesArtifact));
+
+        ArtifactFilter filter = new ArtifactFilter(null, null, "java-source", null);
+        PackageTypeUtils utils = new PackageTypeUtils(project, mavenSession, log, false, filter);
+        try {
+            List<File> packageFiles = utils.getBuiltPackage();
+            assertEquals(Arrays.asList(sourcesArtifact.getFile()), packageFiles, "Only the artifacts of the included type should have been found.");
+        } catch (PackageFileException e) {
+            fail("Encountered unexpected exception: " + e);
+        }
+    }
+
+    private DefaultArtifact createArtifact(String type, String classifier, String fileName) {
+        DefaultArtifact result = new DefaultArtifact("com.example", "app", "1.0", null, type, classifier, new DefaultArtifactHandler(type));
+        result.setFile(new File("target", fileName));
+        return result;
+    }
+
     private MavenProject createProjectParent() {
         MavenProject mp1 = mock(MavenProject.class);
         when(mp1.getBuild()).thenReturn(projectBuild);
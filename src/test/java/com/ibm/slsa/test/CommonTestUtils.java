@@ -20,16 +20,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.maven.model.Dependency;
 
+import com.ibm.intoto.attestation.DigestSet;
 import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
 
 public class CommonTestUtils {
 
@@ -43,6 +49,19 @@ public class CommonTestUtils {
         return dependency;
     }
 
+    /**
+     * Returns the object written by the writer, read back from its JSON text.
+     */
+    public JsonObject writeToJsonObject(Consumer<JsonGenerator> writer) {
+        StringWriter output = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(output)) {
+            writer.accept(generator);
+        }
+        try (JsonReader reader = Json.createReader(new StringReader(output.toString()))) {
+            return reader.readObject();
+        }
+    }
+
     public void assertExceptionMatchesPattern(Throwable e, String errorMsgRegex) {
         String errorMsg = e.toString();
         Pattern pattern = Pattern.compile(errorMsgRegex);
@@ -92,6 +111,10 @@ public class CommonTestUtils {
     }
 
     public void assertDependencyJsonMatchesValues(Dependency dependency, JsonObject dependencyJson) {
+        assertDependencyJsonMatchesValues(dependency, dependencyJson, null);
+    }
+
+    public void assertDependencyJsonMatchesValues(Dependency dependency, JsonObject dependencyJson, String expectedSha256) {
         String expectedGroupId = dependency.getGroupId();
         String expectedArtifactId = dependency.getArtifactId();
         String expectedVersion = dependency.getVersion();
@@ -113,7 +136,13 @@ public class CommonTestUtils {
         JsonObject expectedAnnotations = annotationsBuilder.build();
         assertEquals(expectedAnnotations, dependencyJson.getJsonObject(MavenArtifactResourceDescriptor.KEY_ANNOTATIONS), "Annotations did not match the expected value.");
 
-        assertJsonDoesNotContainKey("MavenArtifactResourceDescriptor", dependencyJson, MavenArtifactResourceDescriptor.KEY_DIGEST);
+        if (expectedSha256 == null) {
+            assertJsonDoesNotContainKey("MavenArtifactResourceDescriptor", dependencyJson, MavenArtifactResourceDescriptor.KEY_DIGEST);
+        } else {
+            assertJsonContainsKey("MavenArtifactResourceDescriptor", dependencyJson, MavenArtifactResourceDescriptor.KEY_DIGEST);
+            JsonObject expectedDigest = Json.createObjectBuilder().add(DigestSet.ALG_SHA256, expectedSha256).build();
+            assertEquals(expectedDigest, dependencyJson.getJsonObject(MavenArtifactResourceDescriptor.KEY_DIGEST), "Digest did not match the expected value.");
+        }
         assertJsonDoesNotContainKey("MavenArtifactResourceDescriptor", dependencyJson, MavenArtifactResourceDescriptor.KEY_CONTENT);
         assertJsonDoesNotContainKey("MavenArtifactResourceDescriptor", dependencyJson, MavenArtifactResourceDescriptor.KEY_DOWNLOAD_LOCATION);
         assertJsonDoesNotContainKey("MavenArtifactResourceDescriptor", dependencyJson, MavenArtifactResourceDescriptor.KEY_MEDIA_TYPE);